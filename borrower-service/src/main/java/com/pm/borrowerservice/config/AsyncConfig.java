@@ -0,0 +1,34 @@
+package com.pm.borrowerservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    @Value("${app.document.processing.workers:2}")
+    private int documentProcessingWorkers;
+
+    @Value("${app.document.processing.queue-capacity:100}")
+    private int documentProcessingQueueCapacity;
+
+    // Post-upload processing, kept off the Tomcat threads. The queue is bounded; documents that
+    // do not fit are rejected and picked up later by the processing pipeline's recovery sweep
+    @Bean(name = "documentProcessingExecutor")
+    public ThreadPoolTaskExecutor documentProcessingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(documentProcessingWorkers);
+        executor.setMaxPoolSize(documentProcessingWorkers);
+        executor.setQueueCapacity(documentProcessingQueueCapacity);
+        executor.setThreadNamePrefix("document-processing-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,55 @@
+package com.pm.borrowerservice.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Guards the service-to-service endpoints under {@code /internal}, which can export and republish
+ * every row. Callers present the shared secret {@code app.internal.token} in the {@value #HEADER}
+ * header; without a configured token every internal request is refused.
+ */
+@Component
+@Slf4j
+public class InternalTokenFilter extends OncePerRequestFilter {
+    public static final String HEADER = "X-Internal-Token";
+
+    private final byte[] token;
+
+    public InternalTokenFilter(@Value("${app.internal.token:}") String token) {
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+        if (token.isBlank()) {
+            log.warn("app.internal.token is not set, /internal endpoints will refuse every request");
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !(path.equals("/internal") || path.startsWith("/internal/"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String presented = request.getHeader(HEADER);
+        if (token.length == 0 || presented == null
+                || !MessageDigest.isEqual(token, presented.getBytes(StandardCharsets.UTF_8))) {
+            log.warn("Refused {} {} from {} without a valid internal token",
+                    request.getMethod(), request.getRequestURI(), request.getRemoteAddr());
+            response.sendError(HttpStatus.FORBIDDEN.value());
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+}
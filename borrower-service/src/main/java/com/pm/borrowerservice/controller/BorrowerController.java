@@ -3,25 +3,37 @@ package com.pm.borrowerservice.controller;
 import com.pm.borrowerservice.dto.BorrowerDto;
 import com.pm.borrowerservice.dto.CreateBorrowerRequest;
 import com.pm.borrowerservice.dto.LoanApplicationDto;
+import com.pm.borrowerservice.dto.LoanCalculationRequest;
+import com.pm.borrowerservice.dto.LoanQuoteDto;
+import com.pm.borrowerservice.dto.LoanQuoteRequest;
 import com.pm.borrowerservice.dto.DocumentDto;
 import com.pm.borrowerservice.entity.Document;
 import com.pm.borrowerservice.entity.LoanApplicationStatus;
 import com.pm.borrowerservice.service.BorrowerService;
+import com.pm.borrowerservice.service.DocumentContentService;
 import com.pm.borrowerservice.service.DocumentService;
 import com.pm.borrowerservice.service.LoanApplicationService;
 import com.pm.borrowerservice.service.LoanCalculatorService;
+import com.pm.borrowerservice.util.AmortizationSchedule;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.Map;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/api/borrowers")
@@ -32,6 +44,7 @@ public class BorrowerController {
     private final LoanApplicationService loanApplicationService;
     private final LoanCalculatorService loanCalculatorService;
     private final DocumentService documentService;
+    private final DocumentContentService documentContentService;
 
     // Borrower CRUD
     @PostMapping
@@ -89,6 +102,14 @@ public class BorrowerController {
         return ResponseEntity.ok(detailedApplication);
     }
 
+    @GetMapping("/{borrowerId}/loans/{applicationId}/schedule")
+    public ResponseEntity<StreamingResponseBody> getAmortizationSchedule(
+            @PathVariable Long borrowerId,
+            @PathVariable Long applicationId,
+            @RequestParam(defaultValue = "json") String format) {
+        return streamSchedule(loanApplicationService.getAmortizationSchedule(borrowerId, applicationId), format);
+    }
+
     @GetMapping("/{borrowerId}/loans")
     public ResponseEntity<List<LoanApplicationDto>> getLoanApplicationsForBorrower(@PathVariable Long borrowerId) {
         return ResponseEntity.ok(loanApplicationService.getLoanApplicationsForBorrower(borrowerId));
@@ -114,28 +135,63 @@ public class BorrowerController {
 
     // Loan Calculator
     @PostMapping("/loans/calculate")
-    public ResponseEntity<Map<String, Object>> calculateLoan(@RequestBody Map<String, Object> request) {
-        BigDecimal amount = new BigDecimal(request.get("amount").toString());
-        BigDecimal interest = new BigDecimal(request.get("interestRate").toString());
-        int term = Integer.parseInt(request.get("termMonths").toString());
-        BigDecimal monthly = loanCalculatorService.calculateMonthlyPayment(amount, interest, term);
-        BigDecimal total = loanCalculatorService.calculateTotalPayment(monthly, term);
-        return ResponseEntity.ok(Map.of(
-                "monthlyPayment", monthly,
-                "totalPayment", total
-        ));
+    public ResponseEntity<LoanQuoteDto> calculateLoan(@Valid @RequestBody LoanCalculationRequest request) {
+        BigDecimal monthly = loanCalculatorService.calculateMonthlyPayment(request.getAmount(), request.getInterestRate(), request.getTermMonths());
+        BigDecimal total = loanCalculatorService.calculateTotalPayment(monthly, request.getTermMonths());
+        return ResponseEntity.ok(LoanQuoteDto.builder()
+                .amount(request.getAmount())
+                .interestRate(request.getInterestRate())
+                .termMonths(request.getTermMonths())
+                .monthlyPayment(monthly)
+                .totalPayment(total)
+                .build());
+    }
+
+    // Every amount x rate x term combination in one call, for comparison views
+    @PostMapping("/loans/quotes")
+    public ResponseEntity<List<LoanQuoteDto>> quoteLoans(@Valid @RequestBody LoanQuoteRequest request) {
+        return ResponseEntity.ok(loanCalculatorService.quote(request));
+    }
+
+    @GetMapping("/loans/schedule")
+    public ResponseEntity<StreamingResponseBody> getQuoteSchedule(
+            @RequestParam BigDecimal amount,
+            @RequestParam BigDecimal interestRate,
+            @RequestParam int termMonths,
+            @RequestParam(defaultValue = "json") String format) {
+        return streamSchedule(loanCalculatorService.quoteSchedule(amount, interestRate, termMonths), format);
+    }
+
+    // Rows are generated while the response is written, never collected
+    private static ResponseEntity<StreamingResponseBody> streamSchedule(AmortizationSchedule schedule, String format) {
+        boolean csv = switch (format.toLowerCase(Locale.ROOT)) {
+            case "csv" -> true;
+            case "json" -> false;
+            default -> throw new IllegalArgumentException("Unsupported schedule format: " + format);
+        };
+        StreamingResponseBody body = out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            if (csv) {
+                schedule.writeCsv(writer);
+            } else {
+                schedule.writeJson(writer);
+            }
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
     // Document Upload & Management
+    // The multipart body is parsed by DocumentService while streaming the file to disk, so the
+    // form fields (file, documentType, description, loanApplicationId) are not bound here
     @PostMapping("/{borrowerId}/documents")
     public ResponseEntity<DocumentDto> uploadDocument(
             @PathVariable Long borrowerId,
-            @RequestParam("file") MultipartFile file,
-            @RequestParam("documentType") String documentType,
-            @RequestParam(value = "description", required = false) String description,
-            @RequestParam(value = "loanApplicationId", required = false) Long loanApplicationId
+            HttpServletRequest request
     ) throws IOException {
-        Document doc = documentService.uploadDocument(borrowerId, file, documentType, description, loanApplicationId);
+        Document doc = documentService.uploadDocument(borrowerId, request.getInputStream(), request.getContentType());
         return ResponseEntity.status(HttpStatus.CREATED).body(DocumentDto.fromEntity(doc));
     }
 
@@ -165,6 +221,17 @@ public class BorrowerController {
         return ResponseEntity.ok(DocumentDto.fromEntity(detailedDocument));
     }
 
+    // Answers Range, If-Range, If-None-Match and HEAD itself so the file can be sent zero-copy
+    @GetMapping("/{borrowerId}/documents/{documentId}/content")
+    public void getDocumentContent(
+            @PathVariable Long borrowerId,
+            @PathVariable Long documentId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        Document document = documentService.getDocument(borrowerId, documentId);
+        documentContentService.send(document, request, response);
+    }
+
     @DeleteMapping("/{borrowerId}/documents/{documentId}")
     public ResponseEntity<Void> deleteDocument(
             @PathVariable Long borrowerId,
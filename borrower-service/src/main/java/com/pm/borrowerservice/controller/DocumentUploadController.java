@@ -0,0 +1,71 @@
+package com.pm.borrowerservice.controller;
+
+import com.pm.borrowerservice.dto.CreateUploadRequest;
+import com.pm.borrowerservice.dto.UploadSessionDto;
+import com.pm.borrowerservice.entity.UploadSession;
+import com.pm.borrowerservice.service.UploadSessionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * Resumable document uploads: create an upload, PATCH its bytes in order with an
+ * {@code Upload-Offset} header, and on failure ask for the committed offset and continue from it.
+ */
+@RestController
+@RequestMapping("/api/borrowers/{borrowerId}/uploads")
+@RequiredArgsConstructor
+@Slf4j
+public class DocumentUploadController {
+    static final String UPLOAD_OFFSET = "Upload-Offset";
+
+    private final UploadSessionService uploadSessionService;
+
+    @PostMapping
+    public ResponseEntity<UploadSessionDto> createUpload(
+            @PathVariable Long borrowerId,
+            @Valid @RequestBody CreateUploadRequest request) throws IOException {
+        UploadSession session = uploadSessionService.create(borrowerId, request);
+        return ResponseEntity.created(URI.create("/api/borrowers/" + borrowerId + "/uploads/" + session.getId()))
+                .header(UPLOAD_OFFSET, String.valueOf(session.getCommittedOffset()))
+                .body(UploadSessionDto.fromEntity(session));
+    }
+
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<UploadSessionDto> getUpload(
+            @PathVariable Long borrowerId,
+            @PathVariable String uploadId) {
+        UploadSession session = uploadSessionService.getUpload(borrowerId, uploadId);
+        return ResponseEntity.ok()
+                .header(UPLOAD_OFFSET, String.valueOf(session.getCommittedOffset()))
+                .body(UploadSessionDto.fromEntity(session));
+    }
+
+    // The request body is the raw chunk; once the last byte is committed the response carries the documentId
+    @PatchMapping("/{uploadId}")
+    public ResponseEntity<UploadSessionDto> uploadChunk(
+            @PathVariable Long borrowerId,
+            @PathVariable String uploadId,
+            @RequestHeader(UPLOAD_OFFSET) long offset,
+            HttpServletRequest request) throws IOException {
+        UploadSession session = uploadSessionService.appendChunk(borrowerId, uploadId, offset, request.getInputStream());
+        return ResponseEntity.ok()
+                .header(UPLOAD_OFFSET, String.valueOf(session.getCommittedOffset()))
+                .body(UploadSessionDto.fromEntity(session));
+    }
+
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<Void> abortUpload(
+            @PathVariable Long borrowerId,
+            @PathVariable String uploadId) throws IOException {
+        uploadSessionService.abort(borrowerId, uploadId);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+}
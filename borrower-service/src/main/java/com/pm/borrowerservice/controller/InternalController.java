@@ -0,0 +1,58 @@
+package com.pm.borrowerservice.controller;
+
+import com.pm.borrowerservice.dto.DigestEntity;
+import com.pm.borrowerservice.dto.DigestResponse;
+import com.pm.borrowerservice.dto.RepublishRequest;
+import com.pm.borrowerservice.dto.RowHashDto;
+import com.pm.borrowerservice.service.DigestService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service-to-service endpoints used by officer-service's anti-entropy reconciliation.
+ */
+@RestController
+@RequestMapping("/internal")
+@RequiredArgsConstructor
+@Slf4j
+public class InternalController {
+    private static final int MAX_BUCKETS = 256;
+    private static final long MAX_ROW_RANGE = 10_000;
+
+    private final DigestService digestService;
+
+    @GetMapping("/digest")
+    public ResponseEntity<DigestResponse> getDigest(
+            @RequestParam DigestEntity entity,
+            @RequestParam long from,
+            @RequestParam long to,
+            @RequestParam(defaultValue = "1") int buckets) {
+        if (from > to || buckets < 1 || buckets > MAX_BUCKETS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(digestService.digest(entity, from, to, buckets));
+    }
+
+    @GetMapping("/digest/rows")
+    public ResponseEntity<List<RowHashDto>> getRowHashes(
+            @RequestParam DigestEntity entity,
+            @RequestParam long from,
+            @RequestParam long to) {
+        if (from > to || to - from >= MAX_ROW_RANGE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(digestService.rowHashes(entity, from, to));
+    }
+
+    @PostMapping("/republish")
+    public ResponseEntity<Map<String, Integer>> republish(@Valid @RequestBody RepublishRequest request) {
+        log.info("Republish requested for {} {} rows", request.getIds().size(), request.getEntity());
+        return ResponseEntity.ok(Map.of("published", digestService.republish(request.getEntity(), request.getIds())));
+    }
+}
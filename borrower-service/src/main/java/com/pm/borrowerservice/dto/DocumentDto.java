@@ -22,6 +22,7 @@ public class DocumentDto {
     private String fileName;
     private Long fileSize;
     private String contentType;
+    private String checksumSha256;
     private String description;
     private DocumentStatus status;
     private String statusUpdatedBy;
@@ -39,6 +40,7 @@ public class DocumentDto {
                 .fileName(document.getFileName())
                 .fileSize(document.getFileSize())
                 .contentType(document.getContentType())
+                .checksumSha256(document.getChecksumSha256())
                 .description(document.getDescription())
                 .status(document.getStatus())
                 .statusUpdatedBy(document.getStatusUpdatedBy())
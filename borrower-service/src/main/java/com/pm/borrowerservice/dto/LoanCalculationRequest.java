@@ -0,0 +1,29 @@
+package com.pm.borrowerservice.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanCalculationRequest {
+
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "0.0", inclusive = false, message = "Amount must be positive")
+    private BigDecimal amount;
+
+    @NotNull(message = "Interest rate is required")
+    @DecimalMin(value = "0.0", message = "Interest rate cannot be negative")
+    private BigDecimal interestRate;
+
+    @NotNull(message = "Term in months is required")
+    @Min(value = 1, message = "Term must be at least 1 month")
+    @Max(value = 600, message = "Term cannot exceed 600 months")
+    private Integer termMonths;
+}
@@ -0,0 +1,20 @@
+package com.pm.borrowerservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanQuoteDto {
+    private BigDecimal amount;
+    private BigDecimal interestRate;
+    private Integer termMonths;
+    private BigDecimal monthlyPayment;
+    private BigDecimal totalPayment;
+}
@@ -0,0 +1,33 @@
+package com.pm.borrowerservice.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * A grid of quotes: every combination of the given amounts, interest rates and terms.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanQuoteRequest {
+
+    @NotEmpty(message = "At least one amount is required")
+    @Size(max = 100, message = "At most 100 amounts can be quoted at once")
+    private List<@NotNull @DecimalMin(value = "0.0", inclusive = false, message = "Amounts must be positive") BigDecimal> amounts;
+
+    @NotEmpty(message = "At least one interest rate is required")
+    @Size(max = 100, message = "At most 100 interest rates can be quoted at once")
+    private List<@NotNull @DecimalMin(value = "0.0", message = "Interest rates cannot be negative") BigDecimal> interestRates;
+
+    @NotEmpty(message = "At least one term is required")
+    @Size(max = 50, message = "At most 50 terms can be quoted at once")
+    private List<@NotNull @Min(value = 1, message = "Terms must be at least 1 month")
+            @Max(value = 600, message = "Terms cannot exceed 600 months") Integer> termsMonths;
+}
@@ -0,0 +1,25 @@
+package com.pm.borrowerservice.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RepublishRequest {
+
+    @NotNull(message = "Entity is required")
+    private DigestEntity entity;
+
+    @NotEmpty(message = "IDs are required")
+    @Size(max = 1000, message = "At most 1000 IDs per request")
+    private List<Long> ids;
+}
@@ -0,0 +1,38 @@
+package com.pm.borrowerservice.dto;
+
+import com.pm.borrowerservice.entity.UploadSession;
+import com.pm.borrowerservice.entity.UploadSessionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSessionDto {
+    private String uploadId;
+    private Long borrowerId;
+    private String fileName;
+    private Long totalSize;
+    private Long offset; // Next byte the server expects
+    private UploadSessionStatus status;
+    private Long documentId;
+    private LocalDateTime expiresAt;
+
+    public static UploadSessionDto fromEntity(UploadSession session) {
+        return UploadSessionDto.builder()
+                .uploadId(session.getId())
+                .borrowerId(session.getBorrowerId())
+                .fileName(session.getFileName())
+                .totalSize(session.getTotalSize())
+                .offset(session.getCommittedOffset())
+                .status(session.getStatus())
+                .documentId(session.getDocumentId())
+                .expiresAt(session.getExpiresAt())
+                .build();
+    }
+}
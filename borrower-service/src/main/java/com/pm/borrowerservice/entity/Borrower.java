@@ -21,7 +21,8 @@ import java.util.List;
 public class Borrower {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "borrowers_seq")
+    @SequenceGenerator(name = "borrowers_seq", sequenceName = "borrowers_seq", allocationSize = 50)
     private Long id;
 
     // userId field and column fully removed
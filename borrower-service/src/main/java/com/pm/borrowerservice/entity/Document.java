@@ -21,7 +21,8 @@ import java.time.LocalDateTime;
 public class Document {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "documents_seq")
+    @SequenceGenerator(name = "documents_seq", sequenceName = "documents_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -58,6 +59,9 @@ public class Document {
     @Column(name = "content_type", nullable = false)
     private String contentType;
 
+    @Column(name = "checksum_sha256", length = 64)
+    private String checksumSha256; // Hex SHA-256 of the stored file, computed while uploading
+
     @Column(name = "description")
     private String description;
 
@@ -80,6 +84,9 @@ public class Document {
     @Column(name = "status_updated_at")
     private LocalDateTime statusUpdatedAt; // When the status was last updated
 
+    @Column(name = "processing_attempts")
+    private Integer processingAttempts; // Processing runs that failed a stage
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -1,6 +1,7 @@
 package com.pm.borrowerservice.entity;
 
 public enum DocumentStatus {
+    PROCESSING("Processing"),
     PENDING("Pending Review"),
     VERIFIED("Verified"),
     REJECTED("Rejected"),
@@ -21,7 +21,8 @@ import java.time.LocalDateTime;
 public class LoanApplication {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "loan_applications_seq")
+    @SequenceGenerator(name = "loan_applications_seq", sequenceName = "loan_applications_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -98,12 +99,6 @@ public class LoanApplication {
         if (status == null) {
             status = LoanApplicationStatus.PENDING;
         }
-        if (applicationNumber == null) {
-            applicationNumber = generateApplicationNumber();
-        }
-    }
-
-    private String generateApplicationNumber() {
-        return "LOAN-" + System.currentTimeMillis() + "-" + (int)(Math.random() * 1000);
+        // applicationNumber is assigned by the service, see ApplicationNumberGenerator
     }
 } 
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.pm.borrowerservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * A resumable document upload. Chunks are written at their offsets into a preallocated part file;
+ * once every byte is committed the upload is turned into a {@link Document}.
+ */
+@Entity
+@Table(name = "upload_sessions", indexes = {
+        @Index(name = "idx_upload_sessions_status_expires", columnList = "status, expires_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSession {
+
+    @Id
+    @Column(name = "id", length = 36)
+    private String id;
+
+    @Column(name = "borrower_id", nullable = false)
+    private Long borrowerId;
+
+    @Column(name = "loan_application_id")
+    private Long loanApplicationId;
+
+    @Column(name = "document_type", nullable = false)
+    private String documentType;
+
+    @Column(name = "description")
+    private String description;
+
+    @Column(name = "file_name", nullable = false)
+    private String fileName; // Original name as sent by the client
+
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+
+    @Column(name = "total_size", nullable = false)
+    private Long totalSize;
+
+    @Column(name = "committed_offset", nullable = false)
+    private Long committedOffset; // Bytes durably written from the start of the file
+
+    @Column(name = "part_path", nullable = false)
+    private String partPath;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private UploadSessionStatus status;
+
+    @Column(name = "document_id")
+    private Long documentId; // Set once the upload completed
+
+    @Column(name = "chunk_writer", length = 36)
+    private String chunkWriter; // Request writing a chunk now; only one may write at a time
+
+    @Column(name = "chunk_lease_until")
+    private LocalDateTime chunkLeaseUntil; // The writer is considered gone after this
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
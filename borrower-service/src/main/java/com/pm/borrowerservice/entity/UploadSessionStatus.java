@@ -0,0 +1,7 @@
+package com.pm.borrowerservice.entity;
+
+public enum UploadSessionStatus {
+    IN_PROGRESS,
+    COMPLETED,
+    ABORTED
+}
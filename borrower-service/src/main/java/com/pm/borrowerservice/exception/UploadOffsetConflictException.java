@@ -0,0 +1,17 @@
+package com.pm.borrowerservice.exception;
+
+import lombok.Getter;
+
+/**
+ * A chunk was sent for an offset other than the one the upload has committed, typically because
+ * an earlier chunk was partly received. The client resumes from {@link #getCommittedOffset()}.
+ */
+@Getter
+public class UploadOffsetConflictException extends RuntimeException {
+    private final long committedOffset;
+
+    public UploadOffsetConflictException(long committedOffset) {
+        super("Upload offset does not match, resume from offset " + committedOffset);
+        this.committedOffset = committedOffset;
+    }
+}
@@ -0,0 +1,82 @@
+package com.pm.borrowerservice.processing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Detects the content type from the file's leading bytes rather than trusting the one the client
+ * declared. Executables are rejected; other recognised formats replace the declared type, and
+ * content that is not recognised keeps it.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class ContentTypeSniffingStage implements DocumentProcessingStage {
+    private static final int HEADER_BYTES = 16;
+
+    private static final Map<byte[], String> SIGNATURES = new LinkedHashMap<>();
+    private static final byte[][] EXECUTABLE_SIGNATURES = {
+            {'M', 'Z'},
+            {0x7f, 'E', 'L', 'F'},
+            {'#', '!'},
+    };
+
+    static {
+        SIGNATURES.put("%PDF-".getBytes(StandardCharsets.US_ASCII), "application/pdf");
+        SIGNATURES.put(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'}, "image/png");
+        SIGNATURES.put(new byte[]{(byte) 0xff, (byte) 0xd8, (byte) 0xff}, "image/jpeg");
+        SIGNATURES.put("GIF8".getBytes(StandardCharsets.US_ASCII), "image/gif");
+        SIGNATURES.put(new byte[]{'I', 'I', '*', 0}, "image/tiff");
+        SIGNATURES.put(new byte[]{'M', 'M', 0, '*'}, "image/tiff");
+    }
+
+    @Override
+    public String name() {
+        return "content-type";
+    }
+
+    @Override
+    public void process(DocumentProcessingContext context) throws IOException {
+        byte[] header;
+        try (InputStream in = Files.newInputStream(context.getFile())) {
+            header = in.readNBytes(HEADER_BYTES);
+        }
+        for (byte[] signature : EXECUTABLE_SIGNATURES) {
+            if (startsWith(header, signature)) {
+                context.reject("Executable content is not allowed");
+                return;
+            }
+        }
+        for (Map.Entry<byte[], String> signature : SIGNATURES.entrySet()) {
+            if (startsWith(header, signature.getKey())) {
+                if (!signature.getValue().equals(context.getContentType())) {
+                    log.info("Document ID: {} declared as {} is {}", context.getDocumentId(),
+                            context.getContentType(), signature.getValue());
+                    context.setContentType(signature.getValue());
+                }
+                return;
+            }
+        }
+    }
+
+    private static boolean startsWith(byte[] header, byte[] signature) {
+        if (header.length < signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if (header[i] != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
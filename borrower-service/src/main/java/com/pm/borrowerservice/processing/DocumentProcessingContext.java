@@ -0,0 +1,32 @@
+package com.pm.borrowerservice.processing;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+import java.nio.file.Path;
+
+/**
+ * State of one document as it passes through the processing stages. Changes are applied to the
+ * document when the last stage has run.
+ */
+@Getter
+@RequiredArgsConstructor
+public class DocumentProcessingContext {
+    private final Long documentId;
+    private final Path file;
+    private final String fileName;
+
+    @Setter
+    private String contentType;
+
+    private String rejectionReason;
+
+    public void reject(String reason) {
+        this.rejectionReason = reason;
+    }
+
+    public boolean isRejected() {
+        return rejectionReason != null;
+    }
+}
@@ -0,0 +1,260 @@
+package com.pm.borrowerservice.processing;
+
+import com.pm.borrowerservice.entity.Document;
+import com.pm.borrowerservice.entity.DocumentStatus;
+import com.pm.borrowerservice.repository.DocumentRepository;
+import com.pm.borrowerservice.service.KafkaEventProducerService;
+import com.pm.borrowerservice.util.EventMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Post-upload processing, run after the upload has committed with status
+ * {@link DocumentStatus#PROCESSING}.
+ * <p>
+ * Each document runs through the {@link DocumentProcessingStage}s in order on the
+ * {@code documentProcessingExecutor}, whose queue is bounded. Every stage is a task of its own
+ * that queues the next one when it is done, so documents move through the stages interleaved
+ * and a full queue pushes back between stages as well as on submission. The last step applies
+ * the results: the document becomes {@link DocumentStatus#PENDING} and its
+ * {@code DocumentUploadEvent} is published, or it is rejected. Documents that could not be queued, failed a stage or were
+ * interrupted by a restart stay in processing and are resubmitted by the recovery sweep. Each failed
+ * run is counted on the document, and one that has failed {@code app.document.processing.max-attempts}
+ * times is rejected instead of being retried forever.
+ * Stage timings are recorded as {@code borrower.document.processing.stage}, tagged by stage and outcome.
+ */
+@Service
+@Slf4j
+public class DocumentProcessingPipeline {
+    public static final String SYSTEM_USER = "document-processing";
+
+    private final DocumentRepository documentRepository;
+    private final List<DocumentProcessingStage> stages;
+    private final ThreadPoolTaskExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+    private final KafkaEventProducerService kafkaEventProducerService;
+    private final EventMapper eventMapper;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejectedSubmissions;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.document.processing.stale-after-ms:300000}")
+    private long staleAfterMs;
+
+    @Value("${app.document.processing.max-attempts:5}")
+    private int maxAttempts;
+
+    public DocumentProcessingPipeline(DocumentRepository documentRepository,
+                                      List<DocumentProcessingStage> stages,
+                                      @Qualifier("documentProcessingExecutor") ThreadPoolTaskExecutor executor,
+                                      TransactionTemplate transactionTemplate,
+                                      KafkaEventProducerService kafkaEventProducerService,
+                                      EventMapper eventMapper,
+                                      MeterRegistry meterRegistry) {
+        this.documentRepository = documentRepository;
+        this.stages = stages;
+        this.executor = executor;
+        this.transactionTemplate = transactionTemplate;
+        this.kafkaEventProducerService = kafkaEventProducerService;
+        this.eventMapper = eventMapper;
+        this.meterRegistry = meterRegistry;
+        this.rejectedSubmissions = Counter.builder("borrower.document.processing.rejected")
+                .description("Documents or stages not queued for processing because the queue was full")
+                .register(meterRegistry);
+        Gauge.builder("borrower.document.processing.queued", executor,
+                        pool -> pool.getThreadPoolExecutor().getQueue().size())
+                .description("Processing stages waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("borrower.document.processing.in-flight", inFlight, Set::size)
+                .description("Documents queued or being processed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether the document has come through processing: it is no longer being processed and was
+     * not rejected by a stage. The same rule as {@code DocumentRepository.PUBLISHED_DOCUMENT}.
+     */
+    public static boolean isPublished(Document document) {
+        if (document.getStatus() == DocumentStatus.PROCESSING) {
+            return false;
+        }
+        return document.getStatus() != DocumentStatus.REJECTED || !SYSTEM_USER.equals(document.getStatusUpdatedBy());
+    }
+
+    /**
+     * Queue a document for processing once the current transaction commits, or right away
+     * outside a transaction.
+     */
+    public void submitAfterCommit(Long documentId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(documentId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(documentId);
+            }
+        });
+    }
+
+    /**
+     * Queue a document for processing. A document already queued is not queued twice; one that
+     * does not fit in the queue is left for the recovery sweep.
+     */
+    public void submit(Long documentId) {
+        if (!inFlight.add(documentId)) {
+            return;
+        }
+        if (!handOff(documentId, () -> start(documentId))) {
+            inFlight.remove(documentId);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.document.processing.recovery-initial-delay-ms:60000}",
+            fixedDelayString = "${app.document.processing.recovery-interval-ms:300000}")
+    public void resubmitStale() {
+        List<Long> stale = documentRepository.findIdsByStatusAndUpdatedAtBefore(DocumentStatus.PROCESSING,
+                LocalDateTime.now().minus(Duration.ofMillis(staleAfterMs)));
+        if (!stale.isEmpty()) {
+            log.info("Resubmitting {} documents stuck in processing", stale.size());
+            stale.forEach(this::submit);
+        }
+    }
+
+    private void start(Long documentId) {
+        DocumentProcessingContext context = null;
+        try {
+            Document document = documentRepository.findById(documentId).orElse(null);
+            if (document != null && document.getStatus() == DocumentStatus.PROCESSING) {
+                context = new DocumentProcessingContext(documentId, Paths.get(document.getFilePath()), document.getFileName());
+                context.setContentType(document.getContentType());
+            }
+        } finally {
+            if (context == null) {
+                inFlight.remove(documentId); // Deleted, finished by an earlier run, or not readable
+            }
+        }
+        if (context != null) {
+            runStage(context, 0);
+        }
+    }
+
+    // Runs one stage, then queues the next one as a task of its own; applying the results is the
+    // last task. A document that fails a stage or cannot be queued again stays in processing
+    // until it has failed too often
+    private void runStage(DocumentProcessingContext context, int index) {
+        Long documentId = context.getDocumentId();
+        boolean handedOff = false;
+        try {
+            if (index == stages.size()) {
+                complete(context);
+                return;
+            }
+            DocumentProcessingStage stage = stages.get(index);
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "error";
+            try {
+                stage.process(context);
+                outcome = context.isRejected() ? "rejected" : "ok";
+            } catch (Exception e) {
+                log.error("Processing stage {} failed for document ID: {}", stage.name(), documentId, e);
+                recordFailure(documentId, stage);
+                return;
+            } finally {
+                sample.stop(Timer.builder("borrower.document.processing.stage")
+                        .tag("stage", stage.name())
+                        .tag("outcome", outcome)
+                        .register(meterRegistry));
+            }
+            if (context.isRejected()) {
+                log.info("Document ID: {} rejected by stage {}: {}", documentId, stage.name(), context.getRejectionReason());
+                complete(context);
+                return;
+            }
+            handedOff = handOff(documentId, () -> runStage(context, index + 1));
+        } finally {
+            if (!handedOff) {
+                inFlight.remove(documentId);
+            }
+        }
+    }
+
+    private boolean handOff(Long documentId, Runnable task) {
+        try {
+            executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            rejectedSubmissions.increment();
+            log.warn("Document processing queue is full, document ID: {} is left for the recovery sweep", documentId);
+            return false;
+        }
+    }
+
+    // Applies the stage results; the status check under the row lock publishes each document once
+    private void complete(DocumentProcessingContext context) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Document document = documentRepository.lockById(context.getDocumentId()).orElse(null);
+            if (document == null || document.getStatus() != DocumentStatus.PROCESSING) {
+                return;
+            }
+            if (context.isRejected()) {
+                reject(document, context.getRejectionReason());
+                return;
+            }
+            document.setContentType(context.getContentType());
+            document.setStatus(DocumentStatus.PENDING);
+            documentRepository.flush();
+            kafkaEventProducerService.publishDocumentUploadEvent(eventMapper.toDocumentUploadEvent(document));
+            log.info("Processed document ID: {}, now pending review", document.getId());
+        });
+    }
+
+    // Counts the failed run; saving it also moves updatedAt, so the recovery sweep waits a full
+    // staleness period before retrying
+    private void recordFailure(Long documentId, DocumentProcessingStage stage) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Document document = documentRepository.lockById(documentId).orElse(null);
+                if (document == null || document.getStatus() != DocumentStatus.PROCESSING) {
+                    return;
+                }
+                int attempts = document.getProcessingAttempts() == null ? 1 : document.getProcessingAttempts() + 1;
+                document.setProcessingAttempts(attempts);
+                if (attempts >= maxAttempts) {
+                    log.warn("Document ID: {} failed processing {} times, rejecting it", documentId, attempts);
+                    reject(document, "Processing failed after " + attempts + " attempts, last at stage " + stage.name());
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to record processing failure for document ID: {}", documentId, e);
+        }
+    }
+
+    private static void reject(Document document, String reason) {
+        document.setStatus(DocumentStatus.REJECTED);
+        document.setRejectionReason(reason);
+        document.setStatusUpdatedBy(SYSTEM_USER);
+        document.setStatusUpdatedAt(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,21 @@
+package com.pm.borrowerservice.processing;
+
+import java.io.IOException;
+
+/**
+ * One step of post-upload document processing. Stages run in {@link org.springframework.core.annotation.Order}
+ * on a processing worker, never inside a transaction; a stage that finds the document unacceptable
+ * rejects it through the context, which stops the remaining stages.
+ */
+public interface DocumentProcessingStage {
+
+    /**
+     * Name used in logs and as the {@code stage} tag of the processing metrics.
+     */
+    String name();
+
+    /**
+     * @throws IOException if the stage could not run; the document stays in processing and is retried
+     */
+    void process(DocumentProcessingContext context) throws IOException;
+}
@@ -0,0 +1,66 @@
+package com.pm.borrowerservice.processing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scans the file with a local command, such as {@code clamdscan --no-summary}, given the file path
+ * as its last argument. Exit status 0 means clean and 1 means infected, as with ClamAV; anything
+ * else, or a timeout, is a failure and the document is retried. Disabled when no command is set.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@Slf4j
+public class MalwareScanStage implements DocumentProcessingStage {
+
+    @Value("${app.document.processing.scan-command:}")
+    private String scanCommand;
+
+    @Value("${app.document.processing.scan-timeout-seconds:60}")
+    private long scanTimeoutSeconds;
+
+    @Override
+    public String name() {
+        return "malware-scan";
+    }
+
+    @Override
+    public void process(DocumentProcessingContext context) throws IOException {
+        if (scanCommand == null || scanCommand.isBlank()) {
+            return;
+        }
+        List<String> command = new ArrayList<>(Arrays.asList(scanCommand.trim().split("\\s+")));
+        command.add(context.getFile().toAbsolutePath().toString());
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            if (!process.waitFor(scanTimeoutSeconds, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                throw new IOException("Malware scan timed out after " + scanTimeoutSeconds + "s");
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while scanning document ID: " + context.getDocumentId(), e);
+        }
+        switch (process.exitValue()) {
+            case 0 -> log.debug("Document ID: {} scanned clean", context.getDocumentId());
+            case 1 -> {
+                log.warn("Malware found in document ID: {}", context.getDocumentId());
+                context.reject("Malware detected");
+            }
+            default -> throw new IOException("Malware scan exited with status " + process.exitValue());
+        }
+    }
+}
@@ -2,13 +2,21 @@ package com.pm.borrowerservice.repository;
 
 import com.pm.borrowerservice.entity.Borrower;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface BorrowerRepository extends JpaRepository<Borrower, Long> {
     Optional<Borrower> findByEmail(String email);
     Optional<Borrower> findBySsn(String ssn);
     // Removed findByUserId
-} 
\ No newline at end of file
+
+    // Fields compared by the anti-entropy digest, see RangeDigest
+    @Query("select b.id, b.email, b.firstName, b.lastName, b.annualIncome from Borrower b " +
+           "where b.id between :from and :to order by b.id")
+    Stream<Object[]> streamDigestRows(@Param("from") Long from, @Param("to") Long to);
+}
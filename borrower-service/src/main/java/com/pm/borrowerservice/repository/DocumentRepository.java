@@ -1,13 +1,45 @@
 package com.pm.borrowerservice.repository;
 
 import com.pm.borrowerservice.entity.Document;
+import com.pm.borrowerservice.entity.DocumentStatus;
+import com.pm.borrowerservice.processing.DocumentProcessingPipeline;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface DocumentRepository extends JpaRepository<Document, Long> {
     List<Document> findByBorrowerId(Long borrowerId);
     List<Document> findByLoanApplicationId(Long loanApplicationId);
-} 
\ No newline at end of file
+
+    // Documents officer-service is meant to hold: those still being processed or rejected by the
+    // processing pipeline were never published, and must not be republished as pending review
+    String PUBLISHED_DOCUMENT = "d.status <> com.pm.borrowerservice.entity.DocumentStatus.PROCESSING " +
+            "and (d.status <> com.pm.borrowerservice.entity.DocumentStatus.REJECTED " +
+            "or d.statusUpdatedBy is null or d.statusUpdatedBy <> '" + DocumentProcessingPipeline.SYSTEM_USER + "')";
+
+    // Fields compared by the anti-entropy digest, see RangeDigest
+    @Query("select d.id, d.borrower.id, la.id, d.fileName, d.fileSize from Document d left join d.loanApplication la " +
+           "where d.id between :from and :to and " + PUBLISHED_DOCUMENT + " order by d.id")
+    Stream<Object[]> streamDigestRows(@Param("from") Long from, @Param("to") Long to);
+
+    @Query("select d from Document d join fetch d.borrower left join fetch d.loanApplication " +
+           "where d.id in :ids and " + PUBLISHED_DOCUMENT)
+    List<Document> findPublishedWithRelationsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select d from Document d where d.id = :id")
+    Optional<Document> lockById(@Param("id") Long id);
+
+    @Query("select d.id from Document d where d.status = :status and d.updatedAt < :before order by d.id")
+    List<Long> findIdsByStatusAndUpdatedAtBefore(@Param("status") DocumentStatus status, @Param("before") LocalDateTime before);
+}
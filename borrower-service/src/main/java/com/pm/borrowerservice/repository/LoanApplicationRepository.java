@@ -3,14 +3,26 @@ package com.pm.borrowerservice.repository;
 import com.pm.borrowerservice.entity.LoanApplication;
 import com.pm.borrowerservice.entity.LoanApplicationStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface LoanApplicationRepository extends JpaRepository<LoanApplication, Long> {
     List<LoanApplication> findByBorrowerId(Long borrowerId);
     Optional<LoanApplication> findByApplicationNumber(String applicationNumber);
     List<LoanApplication> findByBorrowerIdAndStatus(Long borrowerId, LoanApplicationStatus status);
-} 
\ No newline at end of file
+
+    // Fields compared by the anti-entropy digest, see RangeDigest
+    @Query("select la.id, la.borrower.id, la.loanAmount, la.loanTermMonths, la.interestRate from LoanApplication la " +
+           "where la.id between :from and :to order by la.id")
+    Stream<Object[]> streamDigestRows(@Param("from") Long from, @Param("to") Long to);
+
+    @Query("select la from LoanApplication la join fetch la.borrower where la.id in :ids")
+    List<LoanApplication> findWithBorrowerByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,28 @@
+package com.pm.borrowerservice.repository;
+
+import com.pm.borrowerservice.entity.StoredBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface StoredBlobRepository extends JpaRepository<StoredBlob, String> {
+
+    // Creates the row unreferenced if missing, so concurrent first uploads of the same content
+    // end up locking one row instead of failing on the primary key
+    @Modifying
+    @Query(value = "insert into stored_blobs (checksum_sha256, path, file_size, reference_count, created_at) " +
+                   "values (:checksum, :path, :fileSize, 0, current_timestamp) " +
+                   "on conflict (checksum_sha256) do nothing", nativeQuery = true)
+    int insertIfAbsent(@Param("checksum") String checksum, @Param("path") String path, @Param("fileSize") Long fileSize);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from StoredBlob b where b.checksumSha256 = :checksum")
+    Optional<StoredBlob> lockById(@Param("checksum") String checksum);
+}
@@ -0,0 +1,64 @@
+package com.pm.borrowerservice.repository;
+
+import com.pm.borrowerservice.entity.UploadSession;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+
+    // Claims the right to write the next chunk at the committed offset. Fails while another writer
+    // holds an unexpired lease, so two requests never write the same bytes of the part file
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("update UploadSession u set u.chunkWriter = :writer, u.chunkLeaseUntil = :leaseUntil " +
+           "where u.id = :id and u.committedOffset = :offset " +
+           "and u.status = com.pm.borrowerservice.entity.UploadSessionStatus.IN_PROGRESS " +
+           "and (u.chunkWriter is null or u.chunkLeaseUntil < :now)")
+    int claimChunk(@Param("id") String id, @Param("offset") Long offset, @Param("writer") String writer,
+                   @Param("leaseUntil") LocalDateTime leaseUntil, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("update UploadSession u set u.chunkLeaseUntil = :leaseUntil " +
+           "where u.id = :id and u.chunkWriter = :writer " +
+           "and u.status = com.pm.borrowerservice.entity.UploadSessionStatus.IN_PROGRESS")
+    int renewChunk(@Param("id") String id, @Param("writer") String writer, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // Commits what the claiming writer wrote and releases its claim
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("update UploadSession u set u.committedOffset = :newOffset, u.expiresAt = :expiresAt, " +
+           "u.chunkWriter = null, u.chunkLeaseUntil = null, u.updatedAt = CURRENT_TIMESTAMP " +
+           "where u.id = :id and u.chunkWriter = :writer and u.committedOffset = :expectedOffset " +
+           "and u.status = com.pm.borrowerservice.entity.UploadSessionStatus.IN_PROGRESS")
+    int advanceOffset(@Param("id") String id, @Param("writer") String writer, @Param("expectedOffset") Long expectedOffset,
+                      @Param("newOffset") Long newOffset, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("update UploadSession u set u.chunkWriter = null, u.chunkLeaseUntil = null " +
+           "where u.id = :id and u.chunkWriter = :writer")
+    int releaseChunk(@Param("id") String id, @Param("writer") String writer);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from UploadSession u where u.id = :id")
+    Optional<UploadSession> lockById(@Param("id") String id);
+
+    // Locked, so a chunk cannot be claimed while they are aborted; uploads being written are left alone
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from UploadSession u " +
+           "where u.status = com.pm.borrowerservice.entity.UploadSessionStatus.IN_PROGRESS " +
+           "and u.expiresAt < :now and (u.chunkWriter is null or u.chunkLeaseUntil < :now)")
+    List<UploadSession> lockExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,180 @@
+package com.pm.borrowerservice.service;
+
+import com.pm.borrowerservice.entity.StoredBlob;
+import com.pm.borrowerservice.repository.StoredBlobRepository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Content-addressed, reference-counted file store under {@code app.file.upload.path}.
+ * <p>
+ * A file is stored once per SHA-256, at {@code blobs/ab/cd/<sha256>}, however many documents
+ * hold the same content. Rows in {@code stored_blobs} count the references; they are locked while
+ * changing, so attaching and releasing the same content never interleave. Uploads are first
+ * written to a staging file, which is linked into place for new content and simply discarded
+ * once the transaction commits for content already stored. A blob whose last reference is released
+ * keeps its row with no references, and its file is deleted only after that release commits, under
+ * the row lock, so a rollback never loses a file and a concurrent attach either sees the file or
+ * stores it again. A file linked by an attach that rolls back is removed the same way.
+ */
+@Service
+@Slf4j
+public class BlobStore {
+    private final StoredBlobRepository storedBlobRepository;
+    private final TransactionTemplate cleanupTransaction;
+
+    @Value("${app.file.upload.path}")
+    private String uploadPath;
+
+    public BlobStore(StoredBlobRepository storedBlobRepository, PlatformTransactionManager transactionManager) {
+        this.storedBlobRepository = storedBlobRepository;
+        // Runs after the releasing transaction committed, so it needs a transaction of its own
+        this.cleanupTransaction = new TransactionTemplate(transactionManager);
+        this.cleanupTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public Path blobPath(String checksumSha256) {
+        return Paths.get(uploadPath, "blobs", checksumSha256.substring(0, 2), checksumSha256.substring(2, 4), checksumSha256);
+    }
+
+    public Path stagingDirectory() throws IOException {
+        return Files.createDirectories(Paths.get(uploadPath, ".staging"));
+    }
+
+    /**
+     * Add a reference to the blob with the staged file's content, storing it if it is new. The
+     * staged file is removed once the transaction commits and kept if it rolls back, so the caller
+     * can retry with it; a blob file this call stored is then removed again.
+     *
+     * @return the path of the blob
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Path attach(Path staged, String checksumSha256, long size) {
+        Path blob = blobPath(checksumSha256);
+        storedBlobRepository.insertIfAbsent(checksumSha256, blob.toString(), size);
+        StoredBlob stored = storedBlobRepository.lockById(checksumSha256)
+                .orElseThrow(() -> new IllegalStateException("Blob row " + checksumSha256 + " vanished"));
+        stored.setReferenceCount(stored.getReferenceCount() + 1);
+        boolean created = storeIfMissing(staged, blob);
+        if (!created) {
+            log.debug("Blob {} already stored, now referenced {} times", checksumSha256, stored.getReferenceCount());
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    Files.deleteIfExists(staged);
+                } catch (IOException e) {
+                    log.warn("Failed to delete staged upload {}", staged, e);
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (!created || status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+                // The reference went with the rollback; unless another attach has referenced the
+                // file since, it is deleted like a released blob. Inserting the row first waits for
+                // an attach of the same content that has not committed yet
+                try {
+                    cleanupTransaction.executeWithoutResult(tx -> {
+                        storedBlobRepository.insertIfAbsent(checksumSha256, blob.toString(), size);
+                        deleteIfUnreferenced(checksumSha256);
+                    });
+                } catch (RuntimeException e) {
+                    log.warn("Failed to delete blob {} linked by a rolled back attach", checksumSha256, e);
+                }
+            }
+        });
+        return blob;
+    }
+
+    /**
+     * Drop a reference to a blob. The file is deleted after the transaction commits if no reference
+     * is left by then; if the transaction rolls back the file stays.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(String checksumSha256) {
+        StoredBlob stored = storedBlobRepository.lockById(checksumSha256).orElse(null);
+        if (stored == null || stored.getReferenceCount() < 1) {
+            log.warn("Released blob {} has no reference count", checksumSha256);
+            return;
+        }
+        stored.setReferenceCount(stored.getReferenceCount() - 1);
+        if (stored.getReferenceCount() > 0) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    cleanupTransaction.executeWithoutResult(status -> deleteIfUnreferenced(checksumSha256));
+                } catch (RuntimeException e) {
+                    log.warn("Failed to delete unreferenced blob {}", checksumSha256, e);
+                }
+            }
+        });
+    }
+
+    // Under the row lock, so an attach of the same content waits or has already re-referenced it
+    void deleteIfUnreferenced(String checksumSha256) {
+        StoredBlob stored = storedBlobRepository.lockById(checksumSha256).orElse(null);
+        if (stored == null || stored.getReferenceCount() > 0) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(Paths.get(stored.getPath()));
+            log.info("Deleted blob {}, its last reference is gone", checksumSha256);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public boolean isBlob(String filePath, String checksumSha256) {
+        return checksumSha256 != null && blobPath(checksumSha256).toString().equals(filePath);
+    }
+
+    // Checked under the row lock; also restores a file lost after an interrupted release.
+    // Returns whether the file was created by this call
+    private static boolean storeIfMissing(Path staged, Path blob) {
+        try {
+            if (Files.exists(blob)) {
+                return false;
+            }
+            Files.createDirectories(blob.getParent());
+            return link(staged, blob);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // A hard link leaves the staged file in place until commit; falls back to a copy where unsupported
+    private static boolean link(Path staged, Path blob) throws IOException {
+        try {
+            Files.createLink(blob, staged);
+        } catch (FileAlreadyExistsException e) {
+            return false; // Left by an attach whose cleanup has not run yet; same content
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            Files.copy(staged, blob);
+        }
+        return true;
+    }
+}
@@ -39,12 +39,12 @@ public class BorrowerService {
             Borrower borrower = borrowerMapper.toEntity(request);
             borrower = borrowerRepository.save(borrower);
             
-            // Publish borrower created event to Kafka
+            // Publish borrower created event through the outbox
             var borrowerCreatedEvent = eventMapper.toBorrowerCreatedEvent(borrower);
             kafkaEventProducerService.publishBorrowerCreatedEvent(borrowerCreatedEvent);
 
             
-            log.info("Successfully created borrower with ID: {} and published event", borrower.getId());
+            log.info("Successfully created borrower with ID: {} and queued event", borrower.getId());
             
             return borrowerMapper.toDto(borrower);
         } catch (Exception e) {
@@ -0,0 +1,91 @@
+package com.pm.borrowerservice.service;
+
+import com.pm.borrowerservice.dto.DigestEntity;
+import com.pm.borrowerservice.dto.DigestResponse;
+import com.pm.borrowerservice.dto.RowHashDto;
+import com.pm.borrowerservice.repository.BorrowerRepository;
+import com.pm.borrowerservice.repository.DocumentRepository;
+import com.pm.borrowerservice.repository.LoanApplicationRepository;
+import com.pm.borrowerservice.util.EventMapper;
+import com.pm.borrowerservice.util.RangeDigest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Serves the anti-entropy digests officer-service compares its copy against, and republishes
+ * the events of rows it reports missing. Documents take part only once processing has published
+ * them, so an unscanned or pipeline-rejected document never reaches officer-service this way.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DigestService {
+    private final BorrowerRepository borrowerRepository;
+    private final LoanApplicationRepository loanApplicationRepository;
+    private final DocumentRepository documentRepository;
+    private final KafkaEventProducerService kafkaEventProducerService;
+    private final EventMapper eventMapper;
+
+    @Transactional(readOnly = true)
+    public DigestResponse digest(DigestEntity entity, long from, long to, int buckets) {
+        RangeDigest.Builder digest = new RangeDigest.Builder(from, to, buckets);
+        forEachRow(entity, from, to, row -> digest.add((Long) row[0], RangeDigest.rowHash(row)));
+        return digest.build(entity);
+    }
+
+    @Transactional(readOnly = true)
+    public List<RowHashDto> rowHashes(DigestEntity entity, long from, long to) {
+        List<RowHashDto> hashes = new ArrayList<>();
+        forEachRow(entity, from, to, row -> hashes.add(RowHashDto.builder()
+                .id((Long) row[0])
+                .hash(RangeDigest.rowHash(row))
+                .build()));
+        return hashes;
+    }
+
+    /**
+     * Publish the creation events of the given rows again.
+     *
+     * @return the number of events published
+     */
+    @Transactional
+    public int republish(DigestEntity entity, List<Long> ids) {
+        int published = switch (entity) {
+            case BORROWER -> {
+                var borrowers = borrowerRepository.findAllById(ids);
+                borrowers.forEach(borrower -> kafkaEventProducerService.publishBorrowerCreatedEvent(eventMapper.toBorrowerCreatedEvent(borrower)));
+                yield borrowers.size();
+            }
+            case LOAN_APPLICATION -> {
+                var applications = loanApplicationRepository.findWithBorrowerByIdIn(ids);
+                applications.forEach(application -> kafkaEventProducerService.publishLoanApplicationEvent(eventMapper.toLoanApplicationEvent(application)));
+                yield applications.size();
+            }
+            case DOCUMENT -> {
+                var documents = documentRepository.findPublishedWithRelationsByIdIn(ids);
+                documents.forEach(document -> kafkaEventProducerService.publishDocumentUploadEvent(eventMapper.toDocumentUploadEvent(document)));
+                yield documents.size();
+            }
+        };
+        log.info("Republished {} {} events of {} requested for anti-entropy repair", published, entity, ids.size());
+        return published;
+    }
+
+    private void forEachRow(DigestEntity entity, long from, long to, Consumer<Object[]> consumer) {
+        Stream<Object[]> rows = switch (entity) {
+            case BORROWER -> borrowerRepository.streamDigestRows(from, to);
+            case LOAN_APPLICATION -> loanApplicationRepository.streamDigestRows(from, to);
+            case DOCUMENT -> documentRepository.streamDigestRows(from, to);
+        };
+        try (rows) {
+            rows.forEach(consumer);
+        }
+    }
+}
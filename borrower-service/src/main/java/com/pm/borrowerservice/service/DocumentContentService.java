@@ -0,0 +1,143 @@
+package com.pm.borrowerservice.service;
+
+import com.pm.borrowerservice.entity.Document;
+import com.pm.borrowerservice.processing.DocumentProcessingPipeline;
+
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Serves stored document files without copying them through the heap.
+ * <p>
+ * Supports single byte ranges (with If-Range), If-None-Match and HEAD, using a strong ETag from
+ * the content checksum. On Tomcat the body is handed to the connector's sendfile support, so the
+ * kernel copies the file straight to the socket; elsewhere it falls back to
+ * {@link FileChannel#transferTo}. Multi-range requests are answered with the whole file.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DocumentContentService {
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final DocumentService documentService;
+
+    /**
+     * Documents still being processed or rejected by processing, such as those that failed the
+     * malware scan, are not served.
+     */
+    public void send(Document document, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!DocumentProcessingPipeline.isPublished(document)) {
+            throw new EntityNotFoundException("Document content not found");
+        }
+        Path path = Paths.get(document.getFilePath());
+        if (!Files.isReadable(path)) {
+            throw new EntityNotFoundException("Document content not found");
+        }
+        long total = Files.size(path);
+        String etag = "\"" + documentService.getContentVersion(document) + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setContentType(document.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                .filename(document.getDocumentName())
+                .build()
+                .toString());
+
+        if (matchesAny(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        long start = 0;
+        long end = total - 1;
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        List<HttpRange> ranges = ifRange == null || ifRange.trim().equals(etag) ? parseRanges(request) : List.of();
+        if (ranges.size() == 1) {
+            try {
+                start = ranges.get(0).getRangeStart(total);
+                end = ranges.get(0).getRangeEnd(total);
+            } catch (IllegalArgumentException e) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + total);
+                return;
+            }
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + total);
+        } else {
+            response.setStatus(HttpStatus.OK.value());
+        }
+        long length = end - start + 1;
+        response.setContentLengthLong(length);
+
+        if (HttpMethod.HEAD.matches(request.getMethod()) || length == 0) {
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // Tomcat writes the file after the servlet returns, with sendfile where the OS supports it
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        transfer(path, start, length, Channels.newChannel(response.getOutputStream()));
+    }
+
+    private static void transfer(Path path, long start, long length, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, target);
+                if (sent <= 0) {
+                    throw new IOException("File " + path + " ended before its expected length");
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    private static List<HttpRange> parseRanges(HttpServletRequest request) {
+        try {
+            return HttpRange.parseRanges(request.getHeader(HttpHeaders.RANGE));
+        } catch (IllegalArgumentException e) {
+            return List.of(); // Malformed Range headers are ignored
+        }
+    }
+
+    // Weak comparison, as used for If-None-Match
+    private static boolean matchesAny(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(etag));
+    }
+}
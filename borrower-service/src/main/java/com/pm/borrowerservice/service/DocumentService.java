@@ -3,41 +3,51 @@ package com.pm.borrowerservice.service;
 import com.pm.borrowerservice.entity.Borrower;
 import com.pm.borrowerservice.entity.Document;
 import com.pm.borrowerservice.entity.LoanApplication;
+import com.pm.borrowerservice.processing.DocumentProcessingPipeline;
 import com.pm.borrowerservice.repository.BorrowerRepository;
 import com.pm.borrowerservice.repository.DocumentRepository;
 import com.pm.borrowerservice.repository.LoanApplicationRepository;
-import com.pm.borrowerservice.service.KafkaEventProducerService;
-import com.pm.borrowerservice.util.EventMapper;
+import com.pm.borrowerservice.util.MultipartStream;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FilenameUtils;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class DocumentService {
+    private static final int MAX_FIELD_BYTES = 4096;
+
     private final DocumentRepository documentRepository;
     private final BorrowerRepository borrowerRepository;
     private final LoanApplicationRepository loanApplicationRepository;
-    private final KafkaEventProducerService kafkaEventProducerService;
-    private final EventMapper eventMapper;
-
-    @Value("${app.file.upload.path}")
-    private String uploadPath;
+    private final TransactionTemplate transactionTemplate;
+    private final BlobStore blobStore;
+    private final DocumentProcessingPipeline documentProcessingPipeline;
 
     @Value("${app.file.allowed-extensions}")
     private String allowedExtensions;
@@ -45,6 +55,9 @@ public class DocumentService {
     @Value("${app.file.max-size-mb}")
     private int maxSizeMb;
 
+    @Value("${app.file.upload.buffer-size-kb:64}")
+    private int bufferSizeKb;
+
     public List<Document> getDocumentsForBorrower(Long borrowerId) {
         return documentRepository.findByBorrowerId(borrowerId);
     }
@@ -58,46 +71,65 @@ public class DocumentService {
         return document;
     }
 
+    /**
+     * Version tag for a document's content: its checksum, or for documents stored before checksums
+     * were recorded the document ID and size, since uploaded files are never modified in place.
+     */
+    public String getContentVersion(Document document) {
+        if (document.getChecksumSha256() != null) {
+            return document.getChecksumSha256();
+        }
+        return document.getId() + "-" + document.getFileSize();
+    }
+
     public List<Document> getDocumentsForLoanApplication(Long loanApplicationId) {
         return documentRepository.findByLoanApplicationId(loanApplicationId);
     }
 
-    @Transactional
-    public Document uploadDocument(Long borrowerId, MultipartFile file, String documentType, String description, Long loanApplicationId) throws IOException {
+    /**
+     * Store a document sent as a multipart/form-data body with a {@code file} part and
+     * {@code documentType}, {@code description} and {@code loanApplicationId} fields. The file is
+     * streamed straight to its final location while its size and SHA-256 are computed, so it is
+     * written once, and an oversized upload is rejected as soon as it crosses the limit. The
+     * document is returned in {@code PROCESSING}; see {@link DocumentProcessingPipeline}.
+     */
+    public Document uploadDocument(Long borrowerId, InputStream body, String contentType) throws IOException {
+        log.info("Uploading document for borrower ID: {}", borrowerId);
+        Borrower borrower = borrowerRepository.findById(borrowerId)
+                .orElseThrow(() -> new EntityNotFoundException("Borrower not found"));
+        MultipartStream multipart = new MultipartStream(body, MultipartStream.boundary(contentType), bufferSizeKb * 1024);
+        Map<String, String> fields = new HashMap<>();
+        StoredFile stored = null;
         try {
-            log.info("Uploading document for borrower ID: {} with type: {}", borrowerId, documentType);
-            Borrower borrower = borrowerRepository.findById(borrowerId)
-                    .orElseThrow(() -> new EntityNotFoundException("Borrower not found"));
-            LoanApplication loanApplication = null;
-            if (loanApplicationId != null) {
-                loanApplication = loanApplicationRepository.findById(loanApplicationId)
-                        .orElseThrow(() -> new EntityNotFoundException("Loan application not found"));
+            MultipartStream.Part part;
+            while ((part = multipart.nextPart()) != null) {
+                if (part.isFile() && "file".equals(part.name())) {
+                    if (stored != null) {
+                        throw new IllegalArgumentException("Only one file can be uploaded per request");
+                    }
+                    String originalName = FilenameUtils.getName(part.fileName());
+                    validateUpload(originalName, 0);
+                    stored = store(part.content(), originalName, part.contentType());
+                } else if (!part.isFile() && part.name() != null) {
+                    fields.put(part.name(), part.readValue(MAX_FIELD_BYTES));
+                }
             }
-            validateFile(file);
-            String ext = FilenameUtils.getExtension(file.getOriginalFilename());
-            String fileName = System.currentTimeMillis() + "_" + file.getOriginalFilename();
-            Path dir = Paths.get(uploadPath, String.valueOf(borrowerId));
-            Files.createDirectories(dir);
-            Path filePath = dir.resolve(fileName);
-            file.transferTo(filePath);
-            Document document = Document.builder()
-                    .borrower(borrower)
-                    .loanApplication(loanApplication)
-                    .documentName(file.getOriginalFilename())
-                    .documentType(documentType)
-                    .filePath(filePath.toString())
-                    .fileName(fileName)
-                    .fileSize(file.getSize())
-                    .contentType(file.getContentType())
-                    .description(description)
-                    .status(com.pm.borrowerservice.entity.DocumentStatus.PENDING)
-                    .build();
-            document = documentRepository.save(document);
-            kafkaEventProducerService.publishDocumentUploadEvent(eventMapper.toDocumentUploadEvent(document));
-            log.info("Successfully uploaded document with ID: {} and published event", document.getId());
+            if (stored == null) {
+                throw new IllegalArgumentException("File is required");
+            }
+            StoredFile file = stored;
+            String loanApplicationId = fields.get("loanApplicationId");
+            Long applicationId = loanApplicationId != null && !loanApplicationId.isBlank() ? Long.valueOf(loanApplicationId.trim()) : null;
+            Document document = transactionTemplate.execute(status -> createDocument(borrower, file,
+                    fields.get("documentType"), fields.get("description"), applicationId));
+            log.info("Successfully uploaded document with ID: {} ({} bytes, sha256 {}), queued for processing",
+                    document.getId(), file.size(), file.checksumSha256());
             return document;
         } catch (Exception e) {
             log.error("Error uploading document for borrower ID: {}", borrowerId, e);
+            if (stored != null) {
+                Files.deleteIfExists(stored.path());
+            }
             throw e;
         }
     }
@@ -122,21 +154,98 @@ public class DocumentService {
         if (!document.getBorrower().getId().equals(borrowerId)) {
             throw new EntityNotFoundException("Document does not belong to this borrower");
         }
+        documentRepository.deleteById(documentId);
+        if (blobStore.isBlob(document.getFilePath(), document.getChecksumSha256())) {
+            documentRepository.flush();
+            blobStore.release(document.getChecksumSha256());
+            return;
+        }
+        // Stored before the blob store, the file belongs to this document alone
         File file = new File(document.getFilePath());
         if (file.exists()) {
             file.delete();
         }
-        documentRepository.deleteById(documentId);
     }
 
-    private void validateFile(MultipartFile file) {
-        String ext = FilenameUtils.getExtension(file.getOriginalFilename()).toLowerCase();
+    // Moves a staged file into the blob store and saves its document, which is queued for processing
+    // once the transaction commits; must run in a transaction
+    Document createDocument(Borrower borrower, StoredFile file, String documentType, String description,
+                            Long loanApplicationId) {
+        if (documentType == null || documentType.isBlank()) {
+            throw new IllegalArgumentException("Document type is required");
+        }
+        LoanApplication loanApplication = null;
+        if (loanApplicationId != null) {
+            loanApplication = loanApplicationRepository.findById(loanApplicationId)
+                    .orElseThrow(() -> new EntityNotFoundException("Loan application not found"));
+        }
+        Path blob = blobStore.attach(file.path(), file.checksumSha256(), file.size());
+        Document document = Document.builder()
+                .borrower(borrower)
+                .loanApplication(loanApplication)
+                .documentName(file.originalName())
+                .documentType(documentType)
+                .filePath(blob.toString())
+                .fileName(file.originalName())
+                .fileSize(file.size())
+                .contentType(file.contentType() != null ? file.contentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE)
+                .checksumSha256(file.checksumSha256())
+                .description(description)
+                .status(com.pm.borrowerservice.entity.DocumentStatus.PROCESSING)
+                .build();
+        document = documentRepository.save(document);
+        documentProcessingPipeline.submitAfterCommit(document.getId());
+        return document;
+    }
+
+    // Writes to a staging file through a FileChannel, hashing and counting the bytes as they pass
+    private StoredFile store(InputStream content, String originalName, String contentType) throws IOException {
+        Path target = blobStore.stagingDirectory().resolve(UUID.randomUUID() + ".upload");
+        MessageDigest sha256 = sha256();
+        long maxBytes = maxSizeMb * 1024L * 1024L;
+        long size = 0;
+        byte[] chunk = new byte[bufferSizeKb * 1024];
+        ByteBuffer buffer = ByteBuffer.wrap(chunk);
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            int read;
+            while ((read = content.read(chunk)) >= 0) {
+                size += read;
+                if (size > maxBytes) {
+                    throw new IllegalArgumentException("File size exceeds maximum allowed: " + maxSizeMb + "MB");
+                }
+                sha256.update(chunk, 0, read);
+                buffer.clear().limit(read);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(target);
+            throw e;
+        }
+        return new StoredFile(target, originalName, contentType, size, HexFormat.of().formatHex(sha256.digest()));
+    }
+
+    // Checks the extension and a declared size; streamed bytes are counted again as they are written
+    void validateUpload(String fileName, long size) {
+        String ext = FilenameUtils.getExtension(fileName).toLowerCase();
         Set<String> allowed = Set.of(allowedExtensions.split(","));
         if (!allowed.contains(ext)) {
             throw new IllegalArgumentException("File extension not allowed: " + ext);
         }
-        if (file.getSize() > maxSizeMb * 1024 * 1024) {
+        if (size > maxSizeMb * 1024L * 1024L) {
             throw new IllegalArgumentException("File size exceeds maximum allowed: " + maxSizeMb + "MB");
         }
     }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    record StoredFile(Path path, String originalName, String contentType, long size, String checksumSha256) {
+    }
 } 
\ No newline at end of file
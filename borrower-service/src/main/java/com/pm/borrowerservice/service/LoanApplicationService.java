@@ -7,6 +7,8 @@ import com.pm.borrowerservice.entity.LoanApplicationStatus;
 import com.pm.borrowerservice.mapper.LoanApplicationMapper;
 import com.pm.borrowerservice.repository.BorrowerRepository;
 import com.pm.borrowerservice.repository.LoanApplicationRepository;
+import com.pm.borrowerservice.util.AmortizationSchedule;
+import com.pm.borrowerservice.util.ApplicationNumberGenerator;
 import com.pm.borrowerservice.util.EventMapper;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -29,6 +31,7 @@ public class LoanApplicationService {
     private final LoanCalculatorService loanCalculatorService;
     private final KafkaEventProducerService kafkaEventProducerService;
     private final EventMapper eventMapper;
+    private final ApplicationNumberGenerator applicationNumberGenerator;
 
 
     @Transactional
@@ -54,14 +57,15 @@ public class LoanApplicationService {
                     loanCalculatorService.calculateTotalPayment(monthly, loanApplication.getLoanTermMonths())
             );
             loanApplication.setStatus(LoanApplicationStatus.PENDING);
+            loanApplication.setApplicationNumber(applicationNumberGenerator.next());
             loanApplication = loanApplicationRepository.save(loanApplication);
             
-            // Publish loan application event to Kafka
+            // Publish loan application event through the outbox
             var loanApplicationEvent = eventMapper.toLoanApplicationEvent(loanApplication);
             kafkaEventProducerService.publishLoanApplicationEvent(loanApplicationEvent);
 
             
-            log.info("Successfully created loan application with ID: {} and published event", loanApplication.getId());
+            log.info("Successfully created loan application with ID: {} and queued event", loanApplication.getId());
             
             return loanApplicationMapper.toDto(loanApplication);
         } catch (Exception e) {
@@ -79,6 +83,25 @@ public class LoanApplicationService {
         return loanApplicationMapper.toDto(loanApplication);
     }
 
+    /**
+     * Amortization schedule at the application's own monthly payment, so its payments add up to
+     * the stored total payment.
+     */
+    @Transactional(readOnly = true)
+    public AmortizationSchedule getAmortizationSchedule(Long borrowerId, Long applicationId) {
+        LoanApplication loanApplication = loanApplicationRepository.findById(applicationId)
+                .orElseThrow(() -> new EntityNotFoundException("Loan application not found"));
+        if (!loanApplication.getBorrower().getId().equals(borrowerId)) {
+            throw new EntityNotFoundException("Loan application does not belong to this borrower");
+        }
+        BigDecimal monthly = loanApplication.getMonthlyPayment() != null
+                ? loanApplication.getMonthlyPayment()
+                : loanCalculatorService.calculateMonthlyPayment(loanApplication.getLoanAmount(),
+                        loanApplication.getInterestRate(), loanApplication.getLoanTermMonths());
+        return new AmortizationSchedule(loanApplication.getLoanAmount(), loanApplication.getInterestRate(),
+                loanApplication.getLoanTermMonths(), monthly);
+    }
+
     public List<LoanApplicationDto> getLoanApplicationsForBorrower(Long borrowerId) {
         return loanApplicationRepository.findByBorrowerId(borrowerId).stream()
                 .map(loanApplicationMapper::toDto)
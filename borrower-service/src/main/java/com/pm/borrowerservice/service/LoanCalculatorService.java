@@ -1,12 +1,60 @@
 package com.pm.borrowerservice.service;
 
+import com.pm.borrowerservice.dto.LoanQuoteDto;
+import com.pm.borrowerservice.dto.LoanQuoteRequest;
+import com.pm.borrowerservice.util.AmortizationSchedule;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
 import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 
+/**
+ * Amortizing loan payments.
+ * <p>
+ * The annuity factor {@code r(1+r)^n / ((1+r)^n - 1)} depends only on the rate and term, so it is
+ * computed once per pair, to {@value #FACTOR_DIGITS} significant digits, and kept in a bounded LRU
+ * cache. A payment is then one multiplication. Payments are rounded exactly as the closed formula
+ * evaluated in full precision would be: when the approximate payment is too close to a rounding
+ * tie for the factor's error to be ruled out, the full-precision formula decides.
+ */
 @Service
 public class LoanCalculatorService {
+    static final int FACTOR_DIGITS = 40;
+    private static final MathContext FACTOR_CONTEXT = new MathContext(FACTOR_DIGITS, RoundingMode.HALF_EVEN);
+    private static final BigDecimal MONTHS_TIMES_PERCENT = BigDecimal.valueOf(12 * 100);
+    private static final BigDecimal HALF = new BigDecimal("0.5");
+    private static final BigDecimal MAX_SCHEDULE_AMOUNT = new BigDecimal("100000000");
+    private static final BigDecimal MAX_SCHEDULE_RATE = new BigDecimal("100");
+    private static final int MAX_SCHEDULE_TERM = 600;
+    // Relative error allowed for a factor rounded to FACTOR_DIGITS, with a wide margin
+    private static final BigDecimal FACTOR_TOLERANCE = BigDecimal.ONE.scaleByPowerOfTen(-(FACTOR_DIGITS - 2));
+
+    private final Map<FactorKey, BigDecimal> factors;
+
+    @Value("${app.loan-calculator.max-quotes:10000}")
+    private int maxQuotes;
+
+    @Value("${app.loan-calculator.parallel-threshold:2000}")
+    private int parallelThreshold;
+
+    public LoanCalculatorService(@Value("${app.loan-calculator.factor-cache-size:4096}") int factorCacheSize) {
+        this.factors = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<FactorKey, BigDecimal> eldest) {
+                return size() > factorCacheSize;
+            }
+        });
+    }
+
     /**
      * Calculate monthly payment using the formula for an amortizing loan:
      * M = P * (r(1+r)^n) / ((1+r)^n - 1)
@@ -19,13 +67,129 @@ public class LoanCalculatorService {
         if (annualInterestRate.compareTo(BigDecimal.ZERO) == 0) {
             return principal.divide(BigDecimal.valueOf(termMonths), 2, RoundingMode.HALF_UP);
         }
-        BigDecimal monthlyRate = annualInterestRate.divide(BigDecimal.valueOf(12 * 100), 10, RoundingMode.HALF_UP);
-        BigDecimal numerator = principal.multiply(monthlyRate).multiply((BigDecimal.ONE.add(monthlyRate)).pow(termMonths));
-        BigDecimal denominator = (BigDecimal.ONE.add(monthlyRate)).pow(termMonths).subtract(BigDecimal.ONE);
-        return numerator.divide(denominator, 2, RoundingMode.HALF_UP);
+        FactorKey key = new FactorKey(monthlyRate(annualInterestRate), termMonths);
+        return payment(principal, key, factor(key));
     }
 
     public BigDecimal calculateTotalPayment(BigDecimal monthlyPayment, int termMonths) {
         return monthlyPayment.multiply(BigDecimal.valueOf(termMonths)).setScale(2, RoundingMode.HALF_UP);
     }
-} 
\ No newline at end of file
+
+    /**
+     * Quote every combination of the requested amounts, rates and terms, ordered by amount, then
+     * rate, then term. Large grids are evaluated in parallel.
+     *
+     * @throws IllegalArgumentException if the grid has more than {@code app.loan-calculator.max-quotes} cells
+     */
+    public List<LoanQuoteDto> quote(LoanQuoteRequest request) {
+        List<BigDecimal> amounts = request.getAmounts();
+        List<BigDecimal> rates = request.getInterestRates();
+        List<Integer> terms = request.getTermsMonths();
+        long cells = (long) amounts.size() * rates.size() * terms.size();
+        if (cells > maxQuotes) {
+            throw new IllegalArgumentException("A quote request can cover at most " + maxQuotes + " combinations, got " + cells);
+        }
+
+        // One factor per rate and term, shared by every amount
+        FactorKey[] keys = new FactorKey[rates.size() * terms.size()];
+        BigDecimal[] rateFactors = new BigDecimal[keys.length];
+        for (int r = 0; r < rates.size(); r++) {
+            boolean zeroRate = rates.get(r).compareTo(BigDecimal.ZERO) == 0;
+            BigDecimal monthlyRate = zeroRate ? null : monthlyRate(rates.get(r));
+            for (int t = 0; t < terms.size(); t++) {
+                if (!zeroRate) {
+                    int index = r * terms.size() + t;
+                    keys[index] = new FactorKey(monthlyRate, terms.get(t));
+                    rateFactors[index] = factor(keys[index]);
+                }
+            }
+        }
+
+        LoanQuoteDto[] quotes = new LoanQuoteDto[(int) cells];
+        int perAmount = keys.length;
+        IntStream indexes = IntStream.range(0, quotes.length);
+        if (quotes.length >= parallelThreshold) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> {
+            BigDecimal amount = amounts.get(i / perAmount);
+            int rateTerm = i % perAmount;
+            BigDecimal rate = rates.get(rateTerm / terms.size());
+            int term = terms.get(rateTerm % terms.size());
+            BigDecimal monthly = keys[rateTerm] == null
+                    ? amount.divide(BigDecimal.valueOf(term), 2, RoundingMode.HALF_UP)
+                    : payment(amount, keys[rateTerm], rateFactors[rateTerm]);
+            quotes[i] = LoanQuoteDto.builder()
+                    .amount(amount)
+                    .interestRate(rate)
+                    .termMonths(term)
+                    .monthlyPayment(monthly)
+                    .totalPayment(calculateTotalPayment(monthly, term))
+                    .build();
+        });
+        return Arrays.asList(quotes);
+    }
+
+    /**
+     * Amortization schedule for a quote, at the monthly payment {@link #calculateMonthlyPayment} gives.
+     *
+     * @throws IllegalArgumentException if the amount, rate or term is out of range
+     */
+    public AmortizationSchedule quoteSchedule(BigDecimal amount, BigDecimal annualInterestRate, int termMonths) {
+        if (amount.signum() <= 0 || amount.compareTo(MAX_SCHEDULE_AMOUNT) > 0) {
+            throw new IllegalArgumentException("Amount must be positive and at most " + MAX_SCHEDULE_AMOUNT.toPlainString());
+        }
+        if (annualInterestRate.signum() < 0 || annualInterestRate.compareTo(MAX_SCHEDULE_RATE) > 0) {
+            throw new IllegalArgumentException("Interest rate must be between 0 and " + MAX_SCHEDULE_RATE.toPlainString());
+        }
+        if (termMonths < 1 || termMonths > MAX_SCHEDULE_TERM) {
+            throw new IllegalArgumentException("Term must be between 1 and " + MAX_SCHEDULE_TERM + " months");
+        }
+        return new AmortizationSchedule(amount, annualInterestRate, termMonths,
+                calculateMonthlyPayment(amount, annualInterestRate, termMonths));
+    }
+
+    int cachedFactors() {
+        return factors.size();
+    }
+
+    private static BigDecimal monthlyRate(BigDecimal annualInterestRate) {
+        return annualInterestRate.divide(MONTHS_TIMES_PERCENT, 10, RoundingMode.HALF_UP);
+    }
+
+    private BigDecimal factor(FactorKey key) {
+        BigDecimal cached = factors.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        BigDecimal growth = key.growth();
+        BigDecimal factor = key.monthlyRate().multiply(growth).divide(growth.subtract(BigDecimal.ONE), FACTOR_CONTEXT);
+        factors.put(key, factor);
+        return factor;
+    }
+
+    private static BigDecimal payment(BigDecimal principal, FactorKey key, BigDecimal factor) {
+        BigDecimal approximate = principal.multiply(factor);
+        BigDecimal cents = approximate.abs().movePointRight(2);
+        BigDecimal fraction = cents.subtract(new BigDecimal(cents.toBigInteger()));
+        if (fraction.subtract(HALF).abs().compareTo(cents.multiply(FACTOR_TOLERANCE)) <= 0) {
+            return exactPayment(principal, key);
+        }
+        return approximate.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    // The closed formula in full precision, for payments too close to a rounding tie
+    private static BigDecimal exactPayment(BigDecimal principal, FactorKey key) {
+        BigDecimal growth = key.growth();
+        BigDecimal numerator = principal.multiply(key.monthlyRate()).multiply(growth);
+        return numerator.divide(growth.subtract(BigDecimal.ONE), 2, RoundingMode.HALF_UP);
+    }
+
+    private record FactorKey(BigDecimal monthlyRate, int termMonths) {
+
+        // (1 + r)^n, exact
+        BigDecimal growth() {
+            return BigDecimal.ONE.add(monthlyRate).pow(termMonths);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.pm.borrowerservice.service;
+
+import com.pm.borrowerservice.entity.OutboxEvent;
+import com.pm.borrowerservice.repository.OutboxEventRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Sends outbox events to Kafka in ID order.
+ * <p>
+ * A batch is sent without waiting between records and then awaited as a whole; the events up to
+ * the first failure are deleted and the rest are retried on the next poll, still in order. Events
+ * share a Kafka key per aggregate and the producer is idempotent, so each aggregate's events reach
+ * its partition in the order they were committed. Delivery is at least once: an event after a
+ * failure may be sent again, which consumers already tolerate for anti-entropy republishes. A
+ * {@link ClusterLock} keeps the relay to one instance at a time; no transaction is open while the
+ * sends are awaited, only the deletes of the acknowledged events run in one.
+ * <p>
+ * The age of the oldest unsent event is reported as {@code borrower.outbox.lag} by every instance.
+ */
+@Service
+@Slf4j
+public class OutboxRelay {
+    static final long RELAY_LOCK_KEY = 0x6f7574626f78L; // "outbox"
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ClusterLock clusterLock;
+    private final Timer deliveryDelay;
+    private final Counter failures;
+
+    @Value("${app.outbox.batch-size:500}")
+    private int batchSize;
+
+    // Past the producer's delivery timeout, so a send normally completes or fails on its own
+    @Value("${app.outbox.send-timeout-ms:65000}")
+    private long sendTimeoutMs;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       KafkaTemplate<String, byte[]> kafkaTemplate,
+                       TransactionTemplate transactionTemplate,
+                       ClusterLock clusterLock,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.clusterLock = clusterLock;
+        this.deliveryDelay = Timer.builder("borrower.outbox.delivery.delay")
+                .description("Time from writing an event to the outbox to its acknowledgement by Kafka")
+                .register(meterRegistry);
+        this.failures = Counter.builder("borrower.outbox.failures")
+                .description("Outbox events that Kafka failed to acknowledge")
+                .register(meterRegistry);
+        Gauge.builder("borrower.outbox.lag", this, OutboxRelay::lagSeconds)
+                .description("Age in seconds of the oldest event waiting in the outbox")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:200}")
+    public void relay() {
+        clusterLock.runExclusively(RELAY_LOCK_KEY, () -> {
+            int published;
+            do {
+                published = relayBatch();
+            } while (published == batchSize);
+        });
+    }
+
+    // Returns how many events were published
+    private int relayBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.findByOrderByIdAsc(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<SendResult<String, byte[]>>> sends = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            sends.add(kafkaTemplate.send(event.getTopic(), event.getEventKey(), event.getPayload()));
+        }
+        kafkaTemplate.flush();
+
+        List<Long> published = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxEvent event = batch.get(i);
+            try {
+                sends.get(i).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (ExecutionException | TimeoutException e) {
+                failures.increment();
+                log.error("Failed to publish {} outbox event ID: {} with key {} to topic: {}, {} events left to retry",
+                        event.getEventType(), event.getId(), event.getEventKey(), event.getTopic(), batch.size() - i, e);
+                break;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            deliveryDelay.record(Duration.between(event.getCreatedAt(), LocalDateTime.now()));
+            published.add(event.getId());
+        }
+        if (!published.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.deleteByIdIn(published));
+            log.debug("Published {} outbox events", published.size());
+        }
+        return published.size();
+    }
+
+    private double lagSeconds() {
+        return outboxEventRepository.findOldestCreatedAt()
+                .map(oldest -> Duration.between(oldest, LocalDateTime.now()).toMillis() / 1000.0)
+                .orElse(0.0);
+    }
+}
@@ -0,0 +1,308 @@
+package com.pm.borrowerservice.service;
+
+import com.pm.borrowerservice.dto.CreateUploadRequest;
+import com.pm.borrowerservice.entity.Borrower;
+import com.pm.borrowerservice.entity.Document;
+import com.pm.borrowerservice.entity.UploadSession;
+import com.pm.borrowerservice.entity.UploadSessionStatus;
+import com.pm.borrowerservice.exception.UploadOffsetConflictException;
+import com.pm.borrowerservice.repository.BorrowerRepository;
+import com.pm.borrowerservice.repository.LoanApplicationRepository;
+import com.pm.borrowerservice.repository.UploadSessionRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FilenameUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resumable uploads for large documents.
+ * <p>
+ * An upload is created with its declared size, which is validated and preallocated up front.
+ * Chunks are then sent in order, each at the offset the server has committed and one at a time;
+ * whatever part of a chunk arrives before a connection drops is kept, so the client resumes from
+ * the committed offset instead of from zero. When the last byte is committed the file is
+ * checksummed, moved into the blob store and turned into a {@link Document} exactly once.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UploadSessionService {
+    private final UploadSessionRepository uploadSessionRepository;
+    private final BorrowerRepository borrowerRepository;
+    private final LoanApplicationRepository loanApplicationRepository;
+    private final DocumentService documentService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.file.upload.path}")
+    private String uploadPath;
+
+    @Value("${app.file.upload.buffer-size-kb:64}")
+    private int bufferSizeKb;
+
+    @Value("${app.file.upload.session-ttl-hours:24}")
+    private long sessionTtlHours;
+
+    @Value("${app.file.upload.chunk-lease-seconds:120}")
+    private long chunkLeaseSeconds;
+
+    @Transactional
+    public UploadSession create(Long borrowerId, CreateUploadRequest request) throws IOException {
+        if (!borrowerRepository.existsById(borrowerId)) {
+            throw new EntityNotFoundException("Borrower not found");
+        }
+        if (request.getLoanApplicationId() != null && !loanApplicationRepository.existsById(request.getLoanApplicationId())) {
+            throw new EntityNotFoundException("Loan application not found");
+        }
+        String fileName = FilenameUtils.getName(request.getFileName());
+        documentService.validateUpload(fileName, request.getTotalSize());
+
+        String id = UUID.randomUUID().toString();
+        Path part = Paths.get(uploadPath, ".uploads", id + ".part");
+        Files.createDirectories(part.getParent());
+        try (RandomAccessFile file = new RandomAccessFile(part.toFile(), "rw")) {
+            file.setLength(request.getTotalSize());
+        }
+
+        UploadSession session = uploadSessionRepository.save(UploadSession.builder()
+                .id(id)
+                .borrowerId(borrowerId)
+                .loanApplicationId(request.getLoanApplicationId())
+                .documentType(request.getDocumentType())
+                .description(request.getDescription())
+                .fileName(fileName)
+                .contentType(request.getContentType() != null && !request.getContentType().isBlank()
+                        ? request.getContentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE)
+                .totalSize(request.getTotalSize())
+                .committedOffset(0L)
+                .partPath(part.toString())
+                .status(UploadSessionStatus.IN_PROGRESS)
+                .expiresAt(LocalDateTime.now().plusHours(sessionTtlHours))
+                .build());
+        log.info("Created upload {} of {} bytes for borrower ID: {}", id, request.getTotalSize(), borrowerId);
+        return session;
+    }
+
+    public UploadSession getUpload(Long borrowerId, String uploadId) {
+        UploadSession session = uploadSessionRepository.findById(uploadId)
+                .orElseThrow(() -> new EntityNotFoundException("Upload not found"));
+        if (!session.getBorrowerId().equals(borrowerId)) {
+            throw new EntityNotFoundException("Upload does not belong to this borrower");
+        }
+        return session;
+    }
+
+    /**
+     * Write a chunk at the given offset, which must be the committed offset. Completes the upload
+     * once the last byte is committed. Not transactional, so no connection is held while the chunk
+     * is received; instead the chunk is claimed on the session row before the part file is opened,
+     * which re-checks the offset, and only the claiming request may write and commit. The claim is
+     * a lease renewed while the chunk arrives, so a writer that died does not block the upload.
+     *
+     * @throws UploadOffsetConflictException if the offset is not the committed one, or another
+     *                                       chunk is being written
+     */
+    public UploadSession appendChunk(Long borrowerId, String uploadId, long offset, InputStream chunk) throws IOException {
+        UploadSession session = getUpload(borrowerId, uploadId);
+        String writer = UUID.randomUUID().toString();
+        if (uploadSessionRepository.claimChunk(uploadId, offset, writer, leaseUntil(), LocalDateTime.now()) == 0) {
+            UploadSession current = getUpload(borrowerId, uploadId);
+            if (current.getStatus() == UploadSessionStatus.COMPLETED && offset == current.getTotalSize()) {
+                return current; // Retried last chunk of an upload that already completed
+            }
+            if (current.getStatus() != UploadSessionStatus.IN_PROGRESS) {
+                throw new IllegalStateException("Upload is " + current.getStatus().name().toLowerCase(Locale.ROOT));
+            }
+            throw new UploadOffsetConflictException(current.getCommittedOffset());
+        }
+
+        boolean committed = false;
+        try {
+            long remaining = session.getTotalSize() - offset;
+            long written = 0;
+            boolean overrun = false;
+            boolean leaseLost = false;
+            IOException interrupted = null;
+            byte[] bytes = new byte[bufferSizeKb * 1024];
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            long renewAt = System.nanoTime() + renewIntervalNanos();
+            try (FileChannel channel = FileChannel.open(Paths.get(session.getPartPath()), StandardOpenOption.WRITE)) {
+                try {
+                    int read;
+                    while ((read = chunk.read(bytes)) >= 0) {
+                        if (written + read > remaining) {
+                            overrun = true;
+                            break;
+                        }
+                        // Renewed before writing, so the lease cannot have passed to another writer
+                        if (System.nanoTime() - renewAt >= 0) {
+                            if (uploadSessionRepository.renewChunk(uploadId, writer, leaseUntil()) == 0) {
+                                leaseLost = true;
+                                break;
+                            }
+                            renewAt = System.nanoTime() + renewIntervalNanos();
+                        }
+                        buffer.clear().limit(read);
+                        while (buffer.hasRemaining()) {
+                            written += channel.write(buffer, offset + written);
+                        }
+                    }
+                } catch (IOException e) {
+                    // Typically the client went away mid-chunk; what arrived is kept so it can resume
+                    interrupted = e;
+                }
+                if (written > 0 && !leaseLost) {
+                    channel.force(false);
+                }
+            }
+
+            if (leaseLost) {
+                throw new UploadOffsetConflictException(getUpload(borrowerId, uploadId).getCommittedOffset());
+            }
+            if (written > 0) {
+                if (uploadSessionRepository.advanceOffset(uploadId, writer, offset, offset + written,
+                        LocalDateTime.now().plusHours(sessionTtlHours)) == 0) {
+                    throw new UploadOffsetConflictException(getUpload(borrowerId, uploadId).getCommittedOffset());
+                }
+                committed = true;
+            }
+            if (interrupted != null) {
+                log.warn("Upload {} interrupted after {} bytes at offset {}", uploadId, written, offset);
+                throw interrupted;
+            }
+            if (overrun) {
+                throw new IllegalArgumentException("Chunk runs past the declared upload size of " + session.getTotalSize() + " bytes");
+            }
+            if (offset + written == session.getTotalSize()) {
+                return complete(uploadId);
+            }
+            return getUpload(borrowerId, uploadId);
+        } finally {
+            if (!committed) {
+                uploadSessionRepository.releaseChunk(uploadId, writer);
+            }
+        }
+    }
+
+    @Transactional
+    public void abort(Long borrowerId, String uploadId) throws IOException {
+        UploadSession session = uploadSessionRepository.lockById(uploadId)
+                .filter(found -> found.getBorrowerId().equals(borrowerId))
+                .orElseThrow(() -> new EntityNotFoundException("Upload not found"));
+        if (session.getStatus() == UploadSessionStatus.COMPLETED) {
+            throw new IllegalStateException("Upload has already completed");
+        }
+        session.setStatus(UploadSessionStatus.ABORTED);
+        Files.deleteIfExists(Paths.get(session.getPartPath()));
+        log.info("Aborted upload {} for borrower ID: {}", uploadId, borrowerId);
+    }
+
+    // Expired uploads with a chunk being written are left for a later run. Part files are deleted
+    // once the sessions are marked aborted, so a failed run leaves every upload intact
+    @Scheduled(fixedDelayString = "${app.file.upload.cleanup-interval-ms:3600000}")
+    @Transactional
+    public void abortExpired() {
+        List<UploadSession> expired = uploadSessionRepository.lockExpired(LocalDateTime.now());
+        List<Path> parts = new ArrayList<>();
+        for (UploadSession session : expired) {
+            session.setStatus(UploadSessionStatus.ABORTED);
+            parts.add(Paths.get(session.getPartPath()));
+        }
+        if (expired.isEmpty()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                for (Path part : parts) {
+                    try {
+                        Files.deleteIfExists(part);
+                    } catch (IOException e) {
+                        log.warn("Failed to delete part file {} of an expired upload", part, e);
+                    }
+                }
+            }
+        });
+        log.info("Aborted {} expired uploads", expired.size());
+    }
+
+    private LocalDateTime leaseUntil() {
+        return LocalDateTime.now().plusSeconds(chunkLeaseSeconds);
+    }
+
+    private long renewIntervalNanos() {
+        return TimeUnit.SECONDS.toNanos(chunkLeaseSeconds) / 3;
+    }
+
+    // The session row is locked, so concurrent final chunks create a single document
+    private UploadSession complete(String uploadId) {
+        return transactionTemplate.execute(status -> {
+            UploadSession session = uploadSessionRepository.lockById(uploadId)
+                    .orElseThrow(() -> new EntityNotFoundException("Upload not found"));
+            if (session.getStatus() == UploadSessionStatus.COMPLETED) {
+                return session;
+            }
+            if (session.getStatus() != UploadSessionStatus.IN_PROGRESS
+                    || !session.getCommittedOffset().equals(session.getTotalSize())) {
+                throw new IllegalStateException("Upload " + uploadId + " is not ready to complete");
+            }
+            Borrower borrower = borrowerRepository.findById(session.getBorrowerId())
+                    .orElseThrow(() -> new EntityNotFoundException("Borrower not found"));
+            Path part = Paths.get(session.getPartPath());
+            String checksum;
+            try {
+                checksum = sha256Hex(part);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            // The part file is only removed once this commits, so a failed completion can be retried
+            Document document = documentService.createDocument(borrower,
+                    new DocumentService.StoredFile(part, session.getFileName(), session.getContentType(),
+                            session.getTotalSize(), checksum),
+                    session.getDocumentType(), session.getDescription(), session.getLoanApplicationId());
+            session.setStatus(UploadSessionStatus.COMPLETED);
+            session.setDocumentId(document.getId());
+            log.info("Completed upload {} as document ID: {} (sha256 {})", uploadId, document.getId(), checksum);
+            return session;
+        });
+    }
+
+    private String sha256Hex(Path file) throws IOException {
+        MessageDigest sha256 = DocumentService.sha256();
+        byte[] bytes = new byte[bufferSizeKb * 1024];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(bytes)) >= 0) {
+                sha256.update(bytes, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(sha256.digest());
+    }
+}
@@ -0,0 +1,199 @@
+package com.pm.borrowerservice.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Month-by-month amortization of a loan with a fixed monthly payment, generated one row at a time.
+ * <p>
+ * Every row pays exactly the monthly payment, so the payments add up to the loan's total payment.
+ * Each row's principal follows the exact annuity for the monthly rate (the annual percentage over
+ * 1200, to 10 decimal places, as in {@code LoanCalculatorService}); the running total of principal
+ * is rounded half up to the cent, so the rows repay exactly the loan amount, and the interest is
+ * the payment less the principal. Interest therefore stays within a cent of the balance times
+ * the rate, and the difference between the rounded payment and the exact annuity is spread over
+ * the term instead of piling up in the last row. The exception is a payment rounded below what
+ * the loan needs, such as 333.33 a month for 1000.00 over 3 months at 0%: a row never repays more
+ * principal than the payment, so interest is never negative, and the last row repays the shortfall
+ * with a payment that much larger. Rows are computed on demand and written through a reused
+ * buffer, so the memory held does not grow with the term.
+ */
+public final class AmortizationSchedule {
+    private static final MathContext PRECISION = MathContext.DECIMAL128;
+    private static final String CSV_HEADER = "month,payment,principal,interest,balance\n";
+
+    private final long principalCents;
+    private final long paymentCents;
+    private final int termMonths;
+    private final BigDecimal growth; // 1 + monthly rate
+    private final BigDecimal firstPrincipalCents; // Exact principal repaid in the first month
+
+    public AmortizationSchedule(BigDecimal principal, BigDecimal annualInterestRate, int termMonths, BigDecimal monthlyPayment) {
+        if (termMonths < 1) {
+            throw new IllegalArgumentException("Term must be at least 1 month");
+        }
+        this.principalCents = cents(principal);
+        this.paymentCents = cents(monthlyPayment);
+        this.termMonths = termMonths;
+        BigDecimal monthlyRate = annualInterestRate.divide(BigDecimal.valueOf(12 * 100), 10, RoundingMode.HALF_UP);
+        BigDecimal principalInCents = BigDecimal.valueOf(principalCents);
+        this.growth = BigDecimal.ONE.add(monthlyRate);
+        if (monthlyRate.signum() == 0) {
+            this.firstPrincipalCents = principalInCents.divide(BigDecimal.valueOf(termMonths), PRECISION);
+        } else {
+            // P r / ((1 + r)^n - 1); each later month repays (1 + r) times the month before
+            BigDecimal compounded = growth.pow(termMonths, PRECISION);
+            this.firstPrincipalCents = principalInCents.multiply(monthlyRate)
+                    .divide(compounded.subtract(BigDecimal.ONE), PRECISION);
+        }
+    }
+
+    public int getTermMonths() {
+        return termMonths;
+    }
+
+    public Row rows() {
+        return new Row();
+    }
+
+    public void writeCsv(Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        Row row = rows();
+        Output out = new Output(writer);
+        while (row.next()) {
+            out.number(row.month).comma()
+                    .cents(row.paymentCents).comma()
+                    .cents(row.principalCents).comma()
+                    .cents(row.interestCents).comma()
+                    .cents(row.balanceCents).text("\n")
+                    .flush();
+        }
+    }
+
+    public void writeJson(Writer writer) throws IOException {
+        Row row = rows();
+        Output out = new Output(writer);
+        out.text("[");
+        while (row.next()) {
+            out.text(row.month == 1 ? "{\"month\":" : ",{\"month\":").number(row.month)
+                    .text(",\"payment\":").cents(row.paymentCents)
+                    .text(",\"principal\":").cents(row.principalCents)
+                    .text(",\"interest\":").cents(row.interestCents)
+                    .text(",\"balance\":").cents(row.balanceCents).text("}")
+                    .flush();
+        }
+        out.text("]").flush();
+    }
+
+    private static long cents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Cursor over the schedule; {@link #next()} advances it to the following month.
+     */
+    public final class Row {
+        private int month;
+        private long paymentCents;
+        private long principalCents;
+        private long interestCents;
+        private long balanceCents = AmortizationSchedule.this.principalCents;
+        private BigDecimal exactPrincipal = firstPrincipalCents;
+        private BigDecimal exactRepaid = BigDecimal.ZERO;
+
+        private Row() {
+        }
+
+        public boolean next() {
+            if (month == termMonths) {
+                return false;
+            }
+            month++;
+            exactRepaid = exactRepaid.add(exactPrincipal, PRECISION);
+            exactPrincipal = exactPrincipal.multiply(growth, PRECISION);
+            long repaid = month == termMonths
+                    ? AmortizationSchedule.this.principalCents
+                    : exactRepaid.setScale(0, RoundingMode.HALF_UP).longValueExact();
+            principalCents = balanceCents - (AmortizationSchedule.this.principalCents - repaid);
+            if (month < termMonths) {
+                principalCents = Math.min(principalCents, AmortizationSchedule.this.paymentCents);
+            }
+            interestCents = Math.max(AmortizationSchedule.this.paymentCents - principalCents, 0);
+            paymentCents = principalCents + interestCents;
+            balanceCents -= principalCents;
+            return true;
+        }
+
+        public int getMonth() {
+            return month;
+        }
+
+        public BigDecimal getPayment() {
+            return BigDecimal.valueOf(paymentCents, 2);
+        }
+
+        public BigDecimal getPrincipal() {
+            return BigDecimal.valueOf(principalCents, 2);
+        }
+
+        public BigDecimal getInterest() {
+            return BigDecimal.valueOf(interestCents, 2);
+        }
+
+        public BigDecimal getBalance() {
+            return BigDecimal.valueOf(balanceCents, 2);
+        }
+    }
+
+    // Formats rows into a reused buffer, so formatting allocates nothing per row
+    private static final class Output {
+        private final Writer writer;
+        private final StringBuilder line = new StringBuilder(128);
+        private char[] chars = new char[128];
+
+        Output(Writer writer) {
+            this.writer = writer;
+        }
+
+        Output text(String text) {
+            line.append(text);
+            return this;
+        }
+
+        Output comma() {
+            line.append(',');
+            return this;
+        }
+
+        Output number(long value) {
+            line.append(value);
+            return this;
+        }
+
+        Output cents(long cents) {
+            if (cents < 0) {
+                line.append('-');
+            }
+            long magnitude = Math.abs(cents);
+            line.append(magnitude / 100).append('.');
+            long fraction = magnitude % 100;
+            if (fraction < 10) {
+                line.append('0');
+            }
+            line.append(fraction);
+            return this;
+        }
+
+        void flush() throws IOException {
+            if (chars.length < line.length()) {
+                chars = new char[line.length()];
+            }
+            line.getChars(0, line.length(), chars, 0);
+            writer.write(chars, 0, line.length());
+            line.setLength(0);
+        }
+    }
+}
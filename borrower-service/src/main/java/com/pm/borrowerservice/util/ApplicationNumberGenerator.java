@@ -0,0 +1,90 @@
+package com.pm.borrowerservice.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake-style loan application numbers, unique across instances without a database round trip
+ * or a lock.
+ * <p>
+ * Each number packs 41 bits of milliseconds since 2024-01-01 UTC, a 10-bit node ID and a 12-bit
+ * per-millisecond sequence, and is written as {@code LOAN-} followed by 13 Crockford base32 digits.
+ * The timestamp and sequence advance together in one compare-and-set, so numbers from one node are
+ * strictly increasing and sort in issue order. If the clock steps back, or more than 4096 numbers
+ * are issued in a millisecond, the sequence runs ahead of the clock until it catches up instead of
+ * waiting.
+ * <p>
+ * The node ID comes from {@code app.application-number.node-id}; when unset it is derived from the
+ * discovery instance ID, which is unique per instance but can collide after hashing, so deployments
+ * with several instances should configure it.
+ */
+@Component
+@Slf4j
+public class ApplicationNumberGenerator {
+    public static final String PREFIX = "LOAN-";
+    static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int DIGITS = 13; // 64 bits in base32
+    private static final char[] CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private final long nodeId;
+    private final Clock clock;
+    // Last issued (milliseconds since epoch << SEQUENCE_BITS) | sequence
+    private final AtomicLong state = new AtomicLong();
+
+    @Autowired
+    public ApplicationNumberGenerator(
+            @Value("${app.application-number.node-id:-1}") long nodeId,
+            @Value("${eureka.instance.instance-id:${spring.cloud.client.hostname:localhost}:${server.port:8080}}") String instanceId) {
+        this(nodeId >= 0 ? nodeId : deriveNodeId(instanceId), Clock.systemUTC());
+    }
+
+    ApplicationNumberGenerator(long nodeId, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Application number node ID must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    public String next() {
+        return PREFIX + format(nextId());
+    }
+
+    long nextId() {
+        long current;
+        long next;
+        do {
+            current = state.get();
+            long now = (clock.millis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+            next = now > current ? now : current + 1;
+        } while (!state.compareAndSet(current, next));
+        long millis = next >>> SEQUENCE_BITS;
+        return (millis << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | (next & SEQUENCE_MASK);
+    }
+
+    // Fixed width, so numbers sort as strings in the same order as the IDs
+    static String format(long id) {
+        char[] digits = new char[DIGITS];
+        for (int i = DIGITS - 1; i >= 0; i--) {
+            digits[i] = CROCKFORD[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(digits);
+    }
+
+    private static long deriveNodeId(String instanceId) {
+        long nodeId = Math.floorMod(instanceId.hashCode(), MAX_NODE_ID + 1);
+        log.warn("app.application-number.node-id is not set, using {} derived from instance {}", nodeId, instanceId);
+        return nodeId;
+    }
+}
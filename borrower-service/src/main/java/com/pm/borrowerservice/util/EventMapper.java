@@ -67,6 +67,7 @@ public class EventMapper {
                 .setFileSize(document.getFileSize())
                 .setContentType(document.getContentType())
                 .setStatus(document.getStatus().name())
+                .setChecksumSha256(document.getChecksumSha256() != null ? document.getChecksumSha256() : "")
                 .setEventId(UUID.randomUUID().toString())
                 .setEventTimestamp(formatDateTime(LocalDateTime.now()))
                 .build();
@@ -0,0 +1,259 @@
+package com.pm.borrowerservice.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Incremental reader for a multipart/form-data body. Parts are returned one at a time and their
+ * content is read straight from the request stream, so a file part is never buffered in memory
+ * or in a temporary file. Reading the next part skips whatever is left of the current one.
+ */
+public final class MultipartStream {
+
+    private static final int MAX_HEADER_LINE = 8 * 1024;
+    private static final int MAX_HEADERS = 32;
+
+    private final InputStream in;
+    private final byte[] delimiter;
+    private final byte[] buffer;
+    private int head;
+    private int tail;
+    private boolean endOfInput;
+    private boolean finished;
+    private PartInputStream current;
+
+    public MultipartStream(InputStream in, String boundary, int bufferSize) {
+        if (boundary == null || boundary.isEmpty() || boundary.length() > 70) {
+            throw new IllegalArgumentException("Invalid multipart boundary");
+        }
+        this.in = in;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.US_ASCII);
+        this.buffer = new byte[Math.max(bufferSize, delimiter.length * 4)];
+        // The first boundary has no leading line break; seeding one lets it match like the rest
+        buffer[0] = '\r';
+        buffer[1] = '\n';
+        this.tail = 2;
+    }
+
+    /**
+     * Extract the boundary parameter of a multipart/form-data Content-Type header.
+     *
+     * @throws IllegalArgumentException if the header is not multipart/form-data with a boundary
+     */
+    public static String boundary(String contentType) {
+        if (contentType == null || !contentType.toLowerCase(Locale.ROOT).startsWith("multipart/form-data")) {
+            throw new IllegalArgumentException("Expected a multipart/form-data request");
+        }
+        for (String parameter : contentType.split(";")) {
+            String trimmed = parameter.trim();
+            if (trimmed.toLowerCase(Locale.ROOT).startsWith("boundary=")) {
+                return unquote(trimmed.substring("boundary=".length()));
+            }
+        }
+        throw new IllegalArgumentException("Multipart request has no boundary");
+    }
+
+    /**
+     * Advance to the next part.
+     *
+     * @return the part, or null after the closing boundary
+     * @throws IllegalArgumentException if the body is malformed or truncated
+     */
+    public Part nextPart() throws IOException {
+        if (finished) {
+            return null;
+        }
+        // The preamble before the first boundary is skipped like the rest of a part
+        PartInputStream previous = current != null ? current : new PartInputStream();
+        previous.skipToEnd();
+
+        int first = readByte();
+        int second = readByte();
+        if (first == '-' && second == '-') {
+            finished = true;
+            current = null;
+            return null;
+        }
+        if (first != '\r' || second != '\n') {
+            throw new IllegalArgumentException("Malformed multipart body: unexpected bytes after boundary");
+        }
+
+        String name = null;
+        String fileName = null;
+        String contentType = null;
+        for (int headers = 0; ; headers++) {
+            String line = readLine();
+            if (line.isEmpty()) {
+                break;
+            }
+            if (headers >= MAX_HEADERS) {
+                throw new IllegalArgumentException("Malformed multipart body: too many part headers");
+            }
+            int colon = line.indexOf(':');
+            if (colon < 0) {
+                continue;
+            }
+            String header = line.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+            String value = line.substring(colon + 1).trim();
+            if (header.equals("content-disposition")) {
+                name = dispositionParameter(value, "name");
+                fileName = dispositionParameter(value, "filename");
+            } else if (header.equals("content-type")) {
+                contentType = value;
+            }
+        }
+        current = new PartInputStream();
+        return new Part(name, fileName, contentType, current);
+    }
+
+    private int readByte() throws IOException {
+        if (head == tail && fill() == 0) {
+            throw new IllegalArgumentException("Malformed multipart body: unexpected end of input");
+        }
+        return buffer[head++] & 0xff;
+    }
+
+    private String readLine() throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        while (true) {
+            int b = readByte();
+            if (b == '\r') {
+                if (readByte() != '\n') {
+                    throw new IllegalArgumentException("Malformed multipart body: bare carriage return in part headers");
+                }
+                return line.toString(StandardCharsets.UTF_8);
+            }
+            if (line.size() >= MAX_HEADER_LINE) {
+                throw new IllegalArgumentException("Malformed multipart body: part header too long");
+            }
+            line.write(b);
+        }
+    }
+
+    // Compacts the buffer and reads more input, returning the number of bytes added
+    private int fill() throws IOException {
+        if (endOfInput) {
+            return 0;
+        }
+        if (head > 0) {
+            System.arraycopy(buffer, head, buffer, 0, tail - head);
+            tail -= head;
+            head = 0;
+        }
+        int read = in.read(buffer, tail, buffer.length - tail);
+        if (read < 0) {
+            endOfInput = true;
+            return 0;
+        }
+        tail += read;
+        return read;
+    }
+
+    private int indexOfDelimiter() {
+        int last = tail - delimiter.length;
+        outer:
+        for (int i = head; i <= last; i++) {
+            for (int j = 0; j < delimiter.length; j++) {
+                if (buffer[i + j] != delimiter[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static String dispositionParameter(String disposition, String parameter) {
+        for (String part : disposition.split(";")) {
+            String trimmed = part.trim();
+            int equals = trimmed.indexOf('=');
+            if (equals > 0 && trimmed.substring(0, equals).trim().equalsIgnoreCase(parameter)) {
+                return unquote(trimmed.substring(equals + 1).trim());
+            }
+        }
+        return null;
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+
+    /**
+     * One part of the body. Its content must be read before advancing to the next part.
+     */
+    public record Part(String name, String fileName, String contentType, InputStream content) {
+
+        public boolean isFile() {
+            return fileName != null;
+        }
+
+        /**
+         * Read a form field's value as UTF-8.
+         *
+         * @throws IllegalArgumentException if the value is longer than maxBytes
+         */
+        public String readValue(int maxBytes) throws IOException {
+            byte[] value = content.readNBytes(maxBytes + 1);
+            if (value.length > maxBytes) {
+                throw new IllegalArgumentException("Form field " + name + " is too long");
+            }
+            return new String(value, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Content of the current part, ending just before the next delimiter.
+     */
+    private final class PartInputStream extends InputStream {
+
+        private boolean done;
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            int read = read(single, 0, 1);
+            return read < 0 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (done || current != this && current != null) {
+                return -1;
+            }
+            if (len == 0) {
+                return 0;
+            }
+            while (true) {
+                int found = indexOfDelimiter();
+                int available = found >= 0 ? found - head : tail - head - (delimiter.length - 1);
+                if (available > 0) {
+                    int count = Math.min(len, available);
+                    System.arraycopy(buffer, head, b, off, count);
+                    head += count;
+                    return count;
+                }
+                if (found >= 0) {
+                    head += delimiter.length;
+                    done = true;
+                    return -1;
+                }
+                if (fill() == 0 && endOfInput) {
+                    throw new IllegalArgumentException("Malformed multipart body: unexpected end of input");
+                }
+            }
+        }
+
+        void skipToEnd() throws IOException {
+            byte[] skip = new byte[4096];
+            while (read(skip, 0, skip.length) >= 0) {
+                // discard
+            }
+        }
+    }
+}
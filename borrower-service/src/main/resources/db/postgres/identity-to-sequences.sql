@@ -0,0 +1,28 @@
+-- Moves borrower-service entity IDs from identity columns to the pooled-lo sequences the entities
+-- now use, so Hibernate can batch inserts.
+--
+-- Run once against PostgreSQL with borrower-service stopped, before starting the version that
+-- uses sequences. Safe to run again. Without it, schema update would create the sequences starting
+-- at 1, below the existing IDs.
+--
+-- INCREMENT BY is the ID allocation size: each instance reserves that many IDs per sequence call,
+-- and Hibernate adopts it at startup. Tune it with ALTER SEQUENCE ... INCREMENT BY.
+
+BEGIN;
+
+ALTER TABLE borrowers ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE borrowers ALTER COLUMN id DROP DEFAULT;
+CREATE SEQUENCE IF NOT EXISTS borrowers_seq INCREMENT BY 50;
+SELECT setval('borrowers_seq', COALESCE((SELECT max(id) FROM borrowers), 0) + 1, false);
+
+ALTER TABLE loan_applications ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE loan_applications ALTER COLUMN id DROP DEFAULT;
+CREATE SEQUENCE IF NOT EXISTS loan_applications_seq INCREMENT BY 50;
+SELECT setval('loan_applications_seq', COALESCE((SELECT max(id) FROM loan_applications), 0) + 1, false);
+
+ALTER TABLE documents ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE documents ALTER COLUMN id DROP DEFAULT;
+CREATE SEQUENCE IF NOT EXISTS documents_seq INCREMENT BY 50;
+SELECT setval('documents_seq', COALESCE((SELECT max(id) FROM documents), 0) + 1, false);
+
+COMMIT;
@@ -0,0 +1,68 @@
+package com.pm.borrowerservice.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.*;
+
+class InternalTokenFilterTest {
+
+    @Test
+    void doFilter_ValidToken_PassesThrough() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/internal/republish");
+        request.addHeader(InternalTokenFilter.HEADER, "secret");
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        new InternalTokenFilter("secret").doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+
+    @Test
+    void doFilter_WrongToken_Forbidden() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/internal/digest");
+        request.addHeader(InternalTokenFilter.HEADER, "guess");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        new InternalTokenFilter("secret").doFilter(request, response, chain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(403);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void doFilter_NoTokenConfigured_RefusesEveryInternalRequest() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/internal/digest/rows");
+        request.addHeader(InternalTokenFilter.HEADER, "");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        new InternalTokenFilter("").doFilter(request, response, new MockFilterChain());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(403);
+    }
+
+    @Test
+    void doFilter_PublicPath_NotChecked() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/borrowers/1");
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        new InternalTokenFilter("secret").doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+}
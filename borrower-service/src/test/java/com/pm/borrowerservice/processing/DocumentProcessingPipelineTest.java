@@ -0,0 +1,230 @@
+package com.pm.borrowerservice.processing;
+
+import com.pm.borrowerservice.entity.Document;
+import com.pm.borrowerservice.entity.DocumentStatus;
+import com.pm.borrowerservice.repository.DocumentRepository;
+import com.pm.borrowerservice.service.KafkaEventProducerService;
+import com.pm.borrowerservice.util.EventMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentProcessingPipelineTest {
+
+    private static final Long DOCUMENT_ID = 7L;
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private DocumentProcessingStage sniffStage;
+
+    @Mock
+    private DocumentProcessingStage scanStage;
+
+    @Mock
+    private ThreadPoolTaskExecutor executor;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private KafkaEventProducerService kafkaEventProducerService;
+
+    @Mock
+    private EventMapper eventMapper;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private Document document;
+    private DocumentProcessingPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        pipeline = new DocumentProcessingPipeline(documentRepository, List.of(sniffStage, scanStage), executor,
+                transactionTemplate, kafkaEventProducerService, eventMapper, meterRegistry);
+        ReflectionTestUtils.setField(pipeline, "staleAfterMs", 300000L);
+        ReflectionTestUtils.setField(pipeline, "maxAttempts", 3);
+        document = Document.builder()
+                .id(DOCUMENT_ID)
+                .filePath("/uploads/payslip.pdf")
+                .fileName("payslip.pdf")
+                .contentType("application/octet-stream")
+                .status(DocumentStatus.PROCESSING)
+                .build();
+        lenient().when(sniffStage.name()).thenReturn("content-type");
+        lenient().when(scanStage.name()).thenReturn("malware-scan");
+        lenient().when(documentRepository.findById(DOCUMENT_ID)).thenReturn(Optional.of(document));
+        lenient().when(documentRepository.lockById(DOCUMENT_ID)).thenReturn(Optional.of(document));
+        // Tasks run on the calling thread, as if a worker picked each one up straight away
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void submit_AllStagesPass_EachStageQueuedSeparatelyAndDocumentPublished() throws IOException {
+        // Given
+        doAnswer(invocation -> {
+            invocation.<DocumentProcessingContext>getArgument(0).setContentType("application/pdf");
+            return null;
+        }).when(sniffStage).process(any());
+
+        // When
+        pipeline.submit(DOCUMENT_ID);
+
+        // Then
+        verify(executor, times(3)).execute(any(Runnable.class)); // Two stages and the completion
+        assertThat(document.getStatus()).isEqualTo(DocumentStatus.PENDING);
+        assertThat(document.getContentType()).isEqualTo("application/pdf");
+        verify(kafkaEventProducerService).publishDocumentUploadEvent(any());
+        assertThat(meterRegistry.get("borrower.document.processing.stage")
+                .tags("stage", "malware-scan", "outcome", "ok").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void submit_StageFails_StaysProcessingWithAttemptCountedAndCanBeResubmitted() throws IOException {
+        // Given
+        doThrow(new IOException("Scanner unavailable")).when(scanStage).process(any());
+
+        // When
+        pipeline.submit(DOCUMENT_ID);
+
+        // Then
+        assertThat(document.getStatus()).isEqualTo(DocumentStatus.PROCESSING);
+        assertThat(document.getProcessingAttempts()).isEqualTo(1);
+        verifyNoInteractions(kafkaEventProducerService);
+        assertThat(meterRegistry.get("borrower.document.processing.stage")
+                .tags("stage", "malware-scan", "outcome", "error").timer().count()).isEqualTo(1);
+
+        // And the recovery sweep can queue it again
+        pipeline.submit(DOCUMENT_ID);
+        verify(scanStage, times(2)).process(any());
+    }
+
+    @Test
+    void submit_StageAlwaysFails_RejectedBySystemAfterMaxAttempts() throws IOException {
+        // Given
+        doThrow(new IOException("Scanner crashed")).when(scanStage).process(any());
+
+        // When
+        pipeline.submit(DOCUMENT_ID);
+        pipeline.submit(DOCUMENT_ID);
+        assertThat(document.getStatus()).isEqualTo(DocumentStatus.PROCESSING);
+        pipeline.submit(DOCUMENT_ID);
+
+        // Then
+        assertThat(document.getProcessingAttempts()).isEqualTo(3);
+        assertThat(document.getStatus()).isEqualTo(DocumentStatus.REJECTED);
+        assertThat(document.getRejectionReason()).isEqualTo("Processing failed after 3 attempts, last at stage malware-scan");
+        assertThat(document.getStatusUpdatedBy()).isEqualTo(DocumentProcessingPipeline.SYSTEM_USER);
+        verifyNoInteractions(kafkaEventProducerService);
+
+        // And it is not picked up again
+        pipeline.submit(DOCUMENT_ID);
+        verify(scanStage, times(3)).process(any());
+    }
+
+    @Test
+    void submit_StageRejects_RejectedBySystemWithoutLaterStagesOrEvent() throws IOException {
+        // Given
+        doAnswer(invocation -> {
+            invocation.<DocumentProcessingContext>getArgument(0).reject("Content does not match a permitted type");
+            return null;
+        }).when(sniffStage).process(any());
+
+        // When
+        pipeline.submit(DOCUMENT_ID);
+
+        // Then
+        assertThat(document.getStatus()).isEqualTo(DocumentStatus.REJECTED);
+        assertThat(document.getRejectionReason()).isEqualTo("Content does not match a permitted type");
+        assertThat(document.getStatusUpdatedBy()).isEqualTo(DocumentProcessingPipeline.SYSTEM_USER);
+        verify(scanStage, never()).process(any());
+        verifyNoInteractions(kafkaEventProducerService);
+    }
+
+    @Test
+    void submit_QueueFullBetweenStages_StaysProcessingForRecovery() throws IOException {
+        // Given
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).doThrow(new RejectedExecutionException("Queue full"))
+                .doAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(0).run();
+                    return null;
+                })
+                .when(executor).execute(any(Runnable.class));
+
+        // When
+        pipeline.submit(DOCUMENT_ID);
+
+        // Then
+        verify(sniffStage).process(any());
+        verify(scanStage, never()).process(any());
+        assertThat(document.getStatus()).isEqualTo(DocumentStatus.PROCESSING);
+        assertThat(meterRegistry.get("borrower.document.processing.rejected").counter().count()).isEqualTo(1);
+
+        // And the recovery sweep can queue it again
+        pipeline.submit(DOCUMENT_ID);
+        verify(scanStage).process(any());
+    }
+
+    @Test
+    void submit_AlreadyFinished_StagesNotRun() throws IOException {
+        // Given
+        document.setStatus(DocumentStatus.PENDING);
+
+        // When
+        pipeline.submit(DOCUMENT_ID);
+
+        // Then
+        verify(sniffStage, never()).process(any());
+        verifyNoInteractions(kafkaEventProducerService);
+    }
+
+    @Test
+    void resubmitStale_StuckInProcessing_Resubmitted() throws IOException {
+        // Given
+        when(documentRepository.findIdsByStatusAndUpdatedAtBefore(eq(DocumentStatus.PROCESSING), any()))
+                .thenReturn(List.of(DOCUMENT_ID));
+        LocalDateTime before = LocalDateTime.now();
+
+        // When
+        pipeline.resubmitStale();
+
+        // Then
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(documentRepository).findIdsByStatusAndUpdatedAtBefore(eq(DocumentStatus.PROCESSING), cutoff.capture());
+        assertThat(cutoff.getValue()).isBetween(before.minusMinutes(5), LocalDateTime.now().minusMinutes(5));
+        verify(scanStage).process(any());
+        assertThat(document.getStatus()).isEqualTo(DocumentStatus.PENDING);
+    }
+}
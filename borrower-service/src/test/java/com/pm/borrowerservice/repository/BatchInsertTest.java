@@ -0,0 +1,113 @@
+package com.pm.borrowerservice.repository;
+
+import com.pm.borrowerservice.config.JpaConfig;
+import com.pm.borrowerservice.entity.Borrower;
+import com.pm.borrowerservice.entity.LoanApplication;
+import com.pm.borrowerservice.entity.LoanApplicationStatus;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.jpa.batch-size=50"
+})
+@Import(JpaConfig.class)
+class BatchInsertTest {
+
+    private static final int ROWS = 120;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private BorrowerRepository borrowerRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void saveAll_InsertsInBatchesWithPooledIds() {
+        // Given
+        List<Borrower> borrowers = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            borrowers.add(borrower(i));
+        }
+
+        // When
+        borrowerRepository.saveAll(borrowers);
+        entityManager.flush();
+
+        // Then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+        // 3 sequence calls for blocks of 50 IDs and 3 insert batches, instead of one insert per row
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+        assertThat(borrowers).extracting(Borrower::getId).doesNotHaveDuplicates().doesNotContainNull();
+    }
+
+    @Test
+    void persist_InterleavedEntities_InsertsOrderedIntoBatches() {
+        // Given
+        for (int i = 0; i < ROWS / 2; i++) {
+            Borrower borrower = borrower(i);
+            entityManager.persist(borrower);
+            entityManager.persist(loanApplication(borrower, i));
+        }
+
+        // When
+        entityManager.flush();
+
+        // Then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+        // Without order_inserts every switch between the two tables would start a new batch
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(8);
+    }
+
+    private static Borrower borrower(int i) {
+        return Borrower.builder()
+                .firstName("Borrower")
+                .lastName("Number" + i)
+                .email("borrower" + i + "@example.com")
+                .phoneNumber("1555000" + String.format("%04d", i))
+                .dateOfBirth("1990-01-01")
+                .ssn(String.format("123-45-%04d", i))
+                .address(i + " Main St")
+                .city("Springfield")
+                .state("IL")
+                .zipCode("62701")
+                .annualIncome(60000.0)
+                .employmentStatus("EMPLOYED")
+                .build();
+    }
+
+    private static LoanApplication loanApplication(Borrower borrower, int i) {
+        return LoanApplication.builder()
+                .borrower(borrower)
+                .loanType("PERSONAL")
+                .loanAmount(new BigDecimal("10000.00"))
+                .loanTermMonths(36)
+                .interestRate(new BigDecimal("7.50"))
+                .status(LoanApplicationStatus.PENDING)
+                .applicationNumber("LOAN-TEST-" + i)
+                .build();
+    }
+}
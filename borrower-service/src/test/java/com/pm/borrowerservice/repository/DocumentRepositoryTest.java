@@ -0,0 +1,96 @@
+package com.pm.borrowerservice.repository;
+
+import com.pm.borrowerservice.config.JpaConfig;
+import com.pm.borrowerservice.entity.Borrower;
+import com.pm.borrowerservice.entity.Document;
+import com.pm.borrowerservice.entity.DocumentStatus;
+import com.pm.borrowerservice.processing.DocumentProcessingPipeline;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.cloud.config.enabled=false")
+@Import(JpaConfig.class)
+class DocumentRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    private Document pending;
+    private Document processing;
+    private Document rejectedByPipeline;
+    private Document rejectedByOfficer;
+
+    @BeforeEach
+    void setUp() {
+        Borrower borrower = entityManager.persist(Borrower.builder()
+                .firstName("Jane")
+                .lastName("Smith")
+                .email("jane.smith@example.com")
+                .phoneNumber("15550001234")
+                .dateOfBirth("1990-01-01")
+                .ssn("123-45-6789")
+                .address("1 Main St")
+                .city("Springfield")
+                .state("IL")
+                .zipCode("62701")
+                .annualIncome(60000.0)
+                .employmentStatus("EMPLOYED")
+                .build());
+        pending = entityManager.persist(document(borrower, "payslip.pdf", DocumentStatus.PENDING, null));
+        processing = entityManager.persist(document(borrower, "unscanned.pdf", DocumentStatus.PROCESSING, null));
+        rejectedByPipeline = entityManager.persist(document(borrower, "infected.pdf", DocumentStatus.REJECTED,
+                DocumentProcessingPipeline.SYSTEM_USER));
+        rejectedByOfficer = entityManager.persist(document(borrower, "blurry.pdf", DocumentStatus.REJECTED, "officer1"));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void streamDigestRows_UnscannedAndPipelineRejected_Excluded() {
+        // When
+        List<Long> ids;
+        try (Stream<Object[]> rows = documentRepository.streamDigestRows(Long.MIN_VALUE, Long.MAX_VALUE)) {
+            ids = rows.map(row -> (Long) row[0]).toList();
+        }
+
+        // Then
+        assertThat(ids).containsExactly(pending.getId(), rejectedByOfficer.getId());
+    }
+
+    @Test
+    void findPublishedWithRelationsByIdIn_UnscannedAndPipelineRejected_NotReturned() {
+        // When
+        List<Document> documents = documentRepository.findPublishedWithRelationsByIdIn(List.of(
+                pending.getId(), processing.getId(), rejectedByPipeline.getId(), rejectedByOfficer.getId()));
+
+        // Then
+        assertThat(documents).extracting(Document::getId)
+                .containsExactlyInAnyOrder(pending.getId(), rejectedByOfficer.getId());
+    }
+
+    private static Document document(Borrower borrower, String fileName, DocumentStatus status, String statusUpdatedBy) {
+        return Document.builder()
+                .borrower(borrower)
+                .documentName(fileName)
+                .documentType("PAYSLIP")
+                .filePath("/uploads/" + fileName)
+                .fileName(fileName)
+                .fileSize(1024L)
+                .contentType("application/pdf")
+                .status(status)
+                .statusUpdatedBy(statusUpdatedBy)
+                .build();
+    }
+}
@@ -0,0 +1,250 @@
+package com.pm.borrowerservice.service;
+
+import com.pm.borrowerservice.entity.StoredBlob;
+import com.pm.borrowerservice.repository.StoredBlobRepository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BlobStoreTest {
+
+    private static final String CHECKSUM = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+
+    @Mock
+    private StoredBlobRepository storedBlobRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path uploadPath;
+
+    private final Map<String, StoredBlob> rows = new HashMap<>();
+    private BlobStore blobStore;
+
+    @BeforeEach
+    void setUp() {
+        blobStore = new BlobStore(storedBlobRepository, transactionManager);
+        ReflectionTestUtils.setField(blobStore, "uploadPath", uploadPath.toString());
+        // insertIfAbsent and lockById behave like the table: one row per checksum
+        lenient().when(storedBlobRepository.insertIfAbsent(anyString(), anyString(), anyLong())).thenAnswer(invocation -> {
+            String checksum = invocation.getArgument(0);
+            if (rows.containsKey(checksum)) {
+                return 0;
+            }
+            rows.put(checksum, StoredBlob.builder()
+                    .checksumSha256(checksum)
+                    .path(invocation.getArgument(1))
+                    .fileSize(invocation.getArgument(2))
+                    .referenceCount(0)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+            return 1;
+        });
+        lenient().when(storedBlobRepository.lockById(anyString())).thenAnswer(invocation ->
+                Optional.ofNullable(rows.get(invocation.<String>getArgument(0))));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void attach_SameContentTwice_StoredOnceAndReferencedTwice() throws IOException {
+        // Given
+        Path first = staged("first", "test");
+        Path second = staged("second", "test");
+
+        // When
+        Path blob = blobStore.attach(first, CHECKSUM, 4);
+        Path again = blobStore.attach(second, CHECKSUM, 4);
+        commit();
+
+        // Then
+        assertThat(again).isEqualTo(blob);
+        assertThat(rows.get(CHECKSUM).getReferenceCount()).isEqualTo(2);
+        assertThat(blob).hasContent("test");
+        assertThat(first).doesNotExist();
+        assertThat(second).doesNotExist();
+        verify(storedBlobRepository, times(2)).insertIfAbsent(CHECKSUM, blob.toString(), 4L);
+    }
+
+    @Test
+    void attach_RolledBack_KeepsStagedFile() throws IOException {
+        // Given
+        Path staged = staged("upload", "test");
+
+        // When
+        blobStore.attach(staged, CHECKSUM, 4);
+        rollBack();
+
+        // Then
+        assertThat(staged).exists();
+    }
+
+    @Test
+    void attach_NewContentRolledBack_DeletesLinkedBlob() throws IOException {
+        // Given
+        Path staged = staged("upload", "test");
+
+        // When
+        Path blob = blobStore.attach(staged, CHECKSUM, 4);
+        rows.remove(CHECKSUM); // What the rollback undoes
+        rollBack();
+
+        // Then
+        assertThat(blob).doesNotExist();
+        assertThat(staged).hasContent("test");
+    }
+
+    @Test
+    void attach_StoredContentRolledBack_KeepsBlob() throws IOException {
+        // Given
+        Path blob = givenStored(1);
+
+        // When
+        blobStore.attach(staged("upload", "test"), CHECKSUM, 4);
+        rows.get(CHECKSUM).setReferenceCount(1); // What the rollback restores
+        rollBack();
+
+        // Then
+        assertThat(blob).hasContent("test");
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    @Test
+    void attach_NewContentRolledBackAfterAnotherAttachCommitted_KeepsBlob() throws IOException {
+        // Given
+        Path blob = blobStore.attach(staged("upload", "test"), CHECKSUM, 4);
+        List<TransactionSynchronization> firstAttach = new ArrayList<>(TransactionSynchronizationManager.getSynchronizations());
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When the first attach rolls back after the same content was attached and committed again
+        blobStore.attach(staged("again", "test"), CHECKSUM, 4);
+        commit();
+        rows.get(CHECKSUM).setReferenceCount(1);
+        firstAttach.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        assertThat(blob).hasContent("test");
+    }
+
+    @Test
+    void release_NotLastReference_KeepsFile() throws IOException {
+        // Given
+        Path blob = givenStored(2);
+
+        // When
+        blobStore.release(CHECKSUM);
+        commit();
+
+        // Then
+        assertThat(rows.get(CHECKSUM).getReferenceCount()).isEqualTo(1);
+        assertThat(blob).exists();
+    }
+
+    @Test
+    void release_LastReference_DeletesFileOnlyAfterCommit() throws IOException {
+        // Given
+        Path blob = givenStored(1);
+
+        // When
+        blobStore.release(CHECKSUM);
+
+        // Then
+        assertThat(rows.get(CHECKSUM).getReferenceCount()).isZero();
+        assertThat(blob).exists();
+        commit();
+        assertThat(blob).doesNotExist();
+    }
+
+    @Test
+    void release_RolledBack_KeepsFile() throws IOException {
+        // Given
+        Path blob = givenStored(1);
+
+        // When
+        blobStore.release(CHECKSUM);
+        rows.get(CHECKSUM).setReferenceCount(1); // What the rollback restores
+        rollBack();
+
+        // Then
+        assertThat(blob).exists();
+    }
+
+    @Test
+    void release_ReattachedBeforeCleanup_KeepsFile() throws IOException {
+        // Given
+        Path blob = givenStored(1);
+        blobStore.release(CHECKSUM);
+        List<TransactionSynchronization> releaseCommit = new ArrayList<>(TransactionSynchronizationManager.getSynchronizations());
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When another document attaches the same content before the cleanup runs
+        blobStore.attach(staged("again", "test"), CHECKSUM, 4);
+        commit();
+        releaseCommit.forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertThat(rows.get(CHECKSUM).getReferenceCount()).isEqualTo(1);
+        assertThat(blob).hasContent("test");
+    }
+
+    private Path givenStored(int references) throws IOException {
+        Path blob = blobStore.blobPath(CHECKSUM);
+        Files.createDirectories(blob.getParent());
+        Files.writeString(blob, "test");
+        rows.put(CHECKSUM, StoredBlob.builder()
+                .checksumSha256(CHECKSUM)
+                .path(blob.toString())
+                .fileSize(4L)
+                .referenceCount(references)
+                .createdAt(LocalDateTime.now())
+                .build());
+        return blob;
+    }
+
+    private Path staged(String name, String content) throws IOException {
+        Path staged = blobStore.stagingDirectory().resolve(name);
+        Files.writeString(staged, content, StandardCharsets.UTF_8);
+        return staged;
+    }
+
+    private static void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private static void rollBack() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    }
+}
@@ -0,0 +1,257 @@
+package com.pm.borrowerservice.service;
+
+import com.pm.borrowerservice.entity.Document;
+import com.pm.borrowerservice.entity.DocumentStatus;
+import com.pm.borrowerservice.processing.DocumentProcessingPipeline;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentContentServiceTest {
+
+    private static final String CONTENT = "0123456789";
+    private static final String ETAG = "\"9f86d081\"";
+
+    @Mock
+    private DocumentService documentService;
+
+    @TempDir
+    private Path tempDir;
+
+    private Path file;
+    private Document document;
+    private DocumentContentService documentContentService;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        documentContentService = new DocumentContentService(documentService);
+        file = Files.writeString(tempDir.resolve("payslip.pdf"), CONTENT, StandardCharsets.US_ASCII);
+        document = Document.builder()
+                .id(1L)
+                .documentName("payslip.pdf")
+                .filePath(file.toString())
+                .contentType("application/pdf")
+                .checksumSha256("9f86d081")
+                .status(DocumentStatus.PENDING)
+                .build();
+        lenient().when(documentService.getContentVersion(document)).thenReturn("9f86d081");
+        request = new MockHttpServletRequest("GET", "/api/borrowers/1/documents/1/content");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void send_NoRange_FullContent() throws IOException {
+        // When
+        documentContentService.send(document, request, response);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+        assertThat(response.getContentLengthLong()).isEqualTo(10);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getContentType()).isEqualTo("application/pdf");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isNull();
+    }
+
+    @Test
+    void send_SingleRange_PartialContentWithContentRange() throws IOException {
+        // Given
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+
+        // When
+        documentContentService.send(document, request, response);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentLengthLong()).isEqualTo(4);
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+    }
+
+    @Test
+    void send_SuffixRange_LastBytes() throws IOException {
+        // Given
+        request.addHeader(HttpHeaders.RANGE, "bytes=-3");
+
+        // When
+        documentContentService.send(document, request, response);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 7-9/10");
+        assertThat(response.getContentAsString()).isEqualTo("789");
+    }
+
+    @Test
+    void send_RangeStartsPastEnd_NotSatisfiable() throws IOException {
+        // Given
+        request.addHeader(HttpHeaders.RANGE, "bytes=20-");
+
+        // When
+        documentContentService.send(document, request, response);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void send_IfRangeMatches_PartialContent() throws IOException {
+        // Given
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-1");
+        request.addHeader(HttpHeaders.IF_RANGE, ETAG);
+
+        // When
+        documentContentService.send(document, request, response);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("01");
+    }
+
+    @Test
+    void send_IfRangeMismatch_FullContent() throws IOException {
+        // Given
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-1");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"older-version\"");
+
+        // When
+        documentContentService.send(document, request, response);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void send_IfNoneMatchCurrentVersion_NotModifiedWithoutBody() throws IOException {
+        // Given
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + ETAG);
+
+        // When
+        documentContentService.send(document, request, response);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void send_Head_HeadersOnly() throws IOException {
+        // Given
+        request.setMethod("HEAD");
+
+        // When
+        documentContentService.send(document, request, response);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentLengthLong()).isEqualTo(10);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void send_MultipleRanges_FullContent() throws IOException {
+        // Given
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-1,4-5");
+
+        // When
+        documentContentService.send(document, request, response);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void send_SendfileSupported_HandsRangeToConnector() throws IOException {
+        // Given
+        request.setAttribute(DocumentContentService.SENDFILE_SUPPORT, Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+
+        // When
+        documentContentService.send(document, request, response);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(request.getAttribute(DocumentContentService.SENDFILE_FILENAME))
+                .isEqualTo(file.toAbsolutePath().toString());
+        assertThat(request.getAttribute(DocumentContentService.SENDFILE_START)).isEqualTo(2L);
+        assertThat(request.getAttribute(DocumentContentService.SENDFILE_END)).isEqualTo(6L);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void send_SendfileNotSupported_WritesBodyWithoutAttributes() throws IOException {
+        // When
+        documentContentService.send(document, request, response);
+
+        // Then
+        assertThat(request.getAttribute(DocumentContentService.SENDFILE_FILENAME)).isNull();
+        assertThat(request.getAttribute(DocumentContentService.SENDFILE_START)).isNull();
+        assertThat(request.getAttribute(DocumentContentService.SENDFILE_END)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void send_StillProcessing_NotFoundBeforeAnyHeader() {
+        // Given
+        document.setStatus(DocumentStatus.PROCESSING);
+
+        // When & Then
+        assertThatThrownBy(() -> documentContentService.send(document, request, response))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertThat(response.getHeaderNames()).isEmpty();
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void send_RejectedByProcessing_NotFoundBeforeAnyHeader() {
+        // Given
+        document.setStatus(DocumentStatus.REJECTED);
+        document.setStatusUpdatedBy(DocumentProcessingPipeline.SYSTEM_USER);
+
+        // When & Then
+        assertThatThrownBy(() -> documentContentService.send(document, request, response))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertThat(response.getHeaderNames()).isEmpty();
+    }
+
+    @Test
+    void send_RejectedByOfficer_Served() throws IOException {
+        // Given
+        document.setStatus(DocumentStatus.REJECTED);
+        document.setStatusUpdatedBy("officer1");
+
+        // When
+        documentContentService.send(document, request, response);
+
+        // Then
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+}
@@ -0,0 +1,124 @@
+package com.pm.borrowerservice.service;
+
+import com.pm.borrowerservice.dto.LoanQuoteDto;
+import com.pm.borrowerservice.dto.LoanQuoteRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LoanCalculatorServiceTest {
+
+    private LoanCalculatorService loanCalculatorService;
+
+    @BeforeEach
+    void setUp() {
+        loanCalculatorService = new LoanCalculatorService(16);
+        ReflectionTestUtils.setField(loanCalculatorService, "maxQuotes", 10000);
+        ReflectionTestUtils.setField(loanCalculatorService, "parallelThreshold", 100);
+    }
+
+    @Test
+    void calculateMonthlyPayment_RandomLoans_MatchesFullPrecisionFormula() {
+        // Given
+        Random random = new Random(42);
+
+        for (int i = 0; i < 5000; i++) {
+            BigDecimal principal = BigDecimal.valueOf(random.nextInt(100_000_000), 2);
+            BigDecimal rate = BigDecimal.valueOf(random.nextInt(2500), 2);
+            int term = 1 + random.nextInt(360);
+
+            // When
+            BigDecimal monthly = loanCalculatorService.calculateMonthlyPayment(principal, rate, term);
+
+            // Then
+            assertThat(monthly).isEqualTo(fullPrecisionPayment(principal, rate, term));
+        }
+    }
+
+    @Test
+    void calculateMonthlyPayment_ExactRoundingTie_RoundsHalfUp() {
+        // Given one month at 6% a year, so the payment is exactly 1.005 times the principal
+
+        // When
+        BigDecimal monthly = loanCalculatorService.calculateMonthlyPayment(new BigDecimal("1.00"), new BigDecimal("6.00"), 1);
+
+        // Then
+        assertThat(monthly).isEqualTo(new BigDecimal("1.01"));
+    }
+
+    @Test
+    void quote_Grid_OrderedByAmountRateTermAndMatchingSingleQuotes() {
+        // Given
+        LoanQuoteRequest request = LoanQuoteRequest.builder()
+                .amounts(List.of(new BigDecimal("10000"), new BigDecimal("250000.50")))
+                .interestRates(List.of(BigDecimal.ZERO, new BigDecimal("4.5"), new BigDecimal("7.25")))
+                .termsMonths(List.of(12, 60, 360))
+                .build();
+
+        // When
+        List<LoanQuoteDto> quotes = loanCalculatorService.quote(request);
+
+        // Then
+        assertThat(quotes).hasSize(18);
+        assertThat(quotes.get(0).getAmount()).isEqualTo(new BigDecimal("10000"));
+        assertThat(quotes.get(0).getInterestRate()).isEqualTo(BigDecimal.ZERO);
+        assertThat(quotes.get(1).getTermMonths()).isEqualTo(60);
+        assertThat(quotes.get(17).getAmount()).isEqualTo(new BigDecimal("250000.50"));
+        for (LoanQuoteDto quote : quotes) {
+            assertThat(quote.getMonthlyPayment()).isEqualTo(fullPrecisionPayment(quote.getAmount(), quote.getInterestRate(), quote.getTermMonths()));
+            assertThat(quote.getTotalPayment()).isEqualTo(loanCalculatorService.calculateTotalPayment(quote.getMonthlyPayment(), quote.getTermMonths()));
+        }
+        assertThat(loanCalculatorService.cachedFactors()).isEqualTo(6);
+    }
+
+    @Test
+    void quote_LargeGrid_EvaluatedInParallelWithBoundedCache() {
+        // Given
+        LoanQuoteRequest request = LoanQuoteRequest.builder()
+                .amounts(List.of(new BigDecimal("5000"), new BigDecimal("15000"), new BigDecimal("30000"), new BigDecimal("90000")))
+                .interestRates(List.of(new BigDecimal("3"), new BigDecimal("4"), new BigDecimal("5"), new BigDecimal("6"), new BigDecimal("7")))
+                .termsMonths(List.of(12, 24, 36, 48, 60, 120))
+                .build();
+
+        // When
+        List<LoanQuoteDto> quotes = loanCalculatorService.quote(request);
+
+        // Then
+        assertThat(quotes).hasSize(120).doesNotContainNull();
+        assertThat(quotes.get(119).getMonthlyPayment()).isEqualTo(fullPrecisionPayment(new BigDecimal("90000"), new BigDecimal("7"), 120));
+        assertThat(loanCalculatorService.cachedFactors()).isEqualTo(16);
+    }
+
+    @Test
+    void quote_TooManyCombinations_Rejected() {
+        // Given
+        ReflectionTestUtils.setField(loanCalculatorService, "maxQuotes", 10);
+        LoanQuoteRequest request = LoanQuoteRequest.builder()
+                .amounts(List.of(new BigDecimal("1000"), new BigDecimal("2000")))
+                .interestRates(List.of(new BigDecimal("5"), new BigDecimal("6")))
+                .termsMonths(List.of(12, 24, 36))
+                .build();
+
+        // When / Then
+        assertThatThrownBy(() -> loanCalculatorService.quote(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("at most 10");
+    }
+
+    // The closed formula evaluated with exact powers, as the calculator did before caching factors
+    private static BigDecimal fullPrecisionPayment(BigDecimal principal, BigDecimal annualRate, int term) {
+        if (annualRate.compareTo(BigDecimal.ZERO) == 0) {
+            return principal.divide(BigDecimal.valueOf(term), 2, RoundingMode.HALF_UP);
+        }
+        BigDecimal monthlyRate = annualRate.divide(BigDecimal.valueOf(1200), 10, RoundingMode.HALF_UP);
+        BigDecimal growth = BigDecimal.ONE.add(monthlyRate).pow(term);
+        return principal.multiply(monthlyRate).multiply(growth).divide(growth.subtract(BigDecimal.ONE), 2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,201 @@
+package com.pm.borrowerservice.service;
+
+import com.pm.borrowerservice.entity.OutboxEvent;
+import com.pm.borrowerservice.repository.OutboxEventRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ClusterLock clusterLock;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OutboxRelay outboxRelay;
+
+    private OutboxEvent first;
+    private OutboxEvent second;
+    private OutboxEvent third;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay = new OutboxRelay(outboxEventRepository, kafkaTemplate, transactionTemplate, clusterLock, meterRegistry);
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", 3);
+        ReflectionTestUtils.setField(outboxRelay, "sendTimeoutMs", 1000L);
+
+        first = outboxEvent(1L);
+        second = outboxEvent(2L);
+        third = outboxEvent(3L);
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void relay_AllSent_DeletesBatchAfterSends() {
+        // Given
+        givenLockAcquired();
+        when(outboxEventRepository.findByOrderByIdAsc(any(Pageable.class))).thenReturn(List.of(first, second));
+        when(kafkaTemplate.send(anyString(), anyString(), any(byte[].class))).thenReturn(sent());
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        InOrder inOrder = inOrder(kafkaTemplate, transactionTemplate, outboxEventRepository);
+        inOrder.verify(kafkaTemplate).send("borrower-events", "loan-application-1", first.getPayload());
+        inOrder.verify(kafkaTemplate).send("borrower-events", "loan-application-1", second.getPayload());
+        inOrder.verify(kafkaTemplate).flush();
+        inOrder.verify(transactionTemplate).executeWithoutResult(any());
+        inOrder.verify(outboxEventRepository).deleteByIdIn(List.of(1L, 2L));
+    }
+
+    @Test
+    void relay_SendFails_DeletesOnlyEventsBeforeFailure() {
+        // Given
+        givenLockAcquired();
+        when(outboxEventRepository.findByOrderByIdAsc(any(Pageable.class))).thenReturn(List.of(first, second, third));
+        when(kafkaTemplate.send(anyString(), anyString(), any(byte[].class))).thenReturn(sent(), failed(), sent());
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        verify(outboxEventRepository).deleteByIdIn(List.of(1L));
+        assertThat(meterRegistry.get("borrower.outbox.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void relay_RetryAfterFailure_ResendsFromFailedEventInOrder() {
+        // Given
+        givenLockAcquired();
+        when(outboxEventRepository.findByOrderByIdAsc(any(Pageable.class)))
+                .thenReturn(List.of(first, second, third), List.of(second, third));
+        when(kafkaTemplate.send(anyString(), anyString(), any(byte[].class))).thenReturn(sent(), failed(), sent(), sent(), sent());
+
+        // When
+        outboxRelay.relay();
+        outboxRelay.relay();
+
+        // Then
+        InOrder inOrder = inOrder(kafkaTemplate, outboxEventRepository);
+        inOrder.verify(kafkaTemplate).send("borrower-events", "loan-application-1", first.getPayload());
+        inOrder.verify(kafkaTemplate).send("borrower-events", "loan-application-1", second.getPayload());
+        inOrder.verify(kafkaTemplate).send("borrower-events", "loan-application-1", third.getPayload());
+        inOrder.verify(outboxEventRepository).deleteByIdIn(List.of(1L));
+        inOrder.verify(kafkaTemplate).send("borrower-events", "loan-application-1", second.getPayload());
+        inOrder.verify(kafkaTemplate).send("borrower-events", "loan-application-1", third.getPayload());
+        inOrder.verify(outboxEventRepository).deleteByIdIn(List.of(2L, 3L));
+    }
+
+    @Test
+    void relay_FullBatch_DrainsUntilPartialBatch() {
+        // Given
+        givenLockAcquired();
+        when(outboxEventRepository.findByOrderByIdAsc(any(Pageable.class)))
+                .thenReturn(List.of(first, second, third), List.of());
+        when(kafkaTemplate.send(anyString(), anyString(), any(byte[].class))).thenReturn(sent());
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        verify(outboxEventRepository, times(2)).findByOrderByIdAsc(any(Pageable.class));
+        verify(outboxEventRepository).deleteByIdIn(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void relay_LockHeldElsewhere_SendsNothing() {
+        // Given
+        when(clusterLock.runExclusively(eq(OutboxRelay.RELAY_LOCK_KEY), any())).thenReturn(false);
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        verify(outboxEventRepository, never()).findByOrderByIdAsc(any(Pageable.class));
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    void lag_OldestUnsentEvent_ReportedOnEveryInstance() {
+        // Given
+        when(outboxEventRepository.findOldestCreatedAt()).thenReturn(Optional.of(LocalDateTime.now().minusSeconds(30)));
+
+        // When
+        double lag = meterRegistry.get("borrower.outbox.lag").gauge().value();
+
+        // Then
+        assertThat(lag).isBetween(30.0, 31.0);
+        verifyNoInteractions(clusterLock);
+    }
+
+    @Test
+    void lag_EmptyOutbox_Zero() {
+        // Given
+        when(outboxEventRepository.findOldestCreatedAt()).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThat(meterRegistry.get("borrower.outbox.lag").gauge().value()).isZero();
+    }
+
+    private void givenLockAcquired() {
+        when(clusterLock.runExclusively(eq(OutboxRelay.RELAY_LOCK_KEY), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+    }
+
+    private static CompletableFuture<SendResult<String, byte[]>> sent() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private static CompletableFuture<SendResult<String, byte[]>> failed() {
+        return CompletableFuture.failedFuture(new RuntimeException("Broker down"));
+    }
+
+    private static OutboxEvent outboxEvent(Long id) {
+        return OutboxEvent.builder()
+                .id(id)
+                .topic("borrower-events")
+                .eventKey("loan-application-1")
+                .eventType("LoanApplicationEvent")
+                .payload(new byte[]{id.byteValue()})
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,247 @@
+package com.pm.borrowerservice.service;
+
+import com.pm.borrowerservice.entity.Borrower;
+import com.pm.borrowerservice.entity.Document;
+import com.pm.borrowerservice.entity.UploadSession;
+import com.pm.borrowerservice.entity.UploadSessionStatus;
+import com.pm.borrowerservice.exception.UploadOffsetConflictException;
+import com.pm.borrowerservice.repository.BorrowerRepository;
+import com.pm.borrowerservice.repository.LoanApplicationRepository;
+import com.pm.borrowerservice.repository.UploadSessionRepository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UploadSessionServiceTest {
+
+    private static final String UPLOAD_ID = "6f1c1f5e-8a8e-4c55-9d0a-2b8f1d7e3a10";
+
+    @Mock
+    private UploadSessionRepository uploadSessionRepository;
+
+    @Mock
+    private BorrowerRepository borrowerRepository;
+
+    @Mock
+    private LoanApplicationRepository loanApplicationRepository;
+
+    @Mock
+    private DocumentService documentService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @TempDir
+    private Path tempDir;
+
+    private Path part;
+    private UploadSessionService uploadSessionService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        uploadSessionService = new UploadSessionService(uploadSessionRepository, borrowerRepository,
+                loanApplicationRepository, documentService, transactionTemplate);
+        ReflectionTestUtils.setField(uploadSessionService, "bufferSizeKb", 1);
+        ReflectionTestUtils.setField(uploadSessionService, "sessionTtlHours", 24L);
+        ReflectionTestUtils.setField(uploadSessionService, "chunkLeaseSeconds", 120L);
+        part = tempDir.resolve(UPLOAD_ID + ".part");
+        Files.write(part, new byte[10]);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void appendChunk_OffsetNotCommitted_ConflictWithoutWriting() throws IOException {
+        // Given
+        when(uploadSessionRepository.findById(UPLOAD_ID)).thenReturn(Optional.of(session(4L)));
+        when(uploadSessionRepository.claimChunk(eq(UPLOAD_ID), eq(2L), anyString(), any(), any())).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> uploadSessionService.appendChunk(1L, UPLOAD_ID, 2L, chunk("xyz")))
+                .isInstanceOf(UploadOffsetConflictException.class)
+                .extracting("committedOffset").isEqualTo(4L);
+        assertThat(Files.readAllBytes(part)).containsOnly(0);
+        verify(uploadSessionRepository, never()).advanceOffset(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void appendChunk_ResumeAtCommittedOffset_WritesThereAndAdvancesUnderClaim() throws IOException {
+        // Given
+        when(uploadSessionRepository.findById(UPLOAD_ID)).thenReturn(Optional.of(session(4L)));
+        when(uploadSessionRepository.claimChunk(eq(UPLOAD_ID), eq(4L), anyString(), any(), any())).thenReturn(1);
+        when(uploadSessionRepository.advanceOffset(eq(UPLOAD_ID), anyString(), eq(4L), eq(7L), any())).thenReturn(1);
+
+        // When
+        uploadSessionService.appendChunk(1L, UPLOAD_ID, 4L, chunk("efg"));
+
+        // Then
+        byte[] content = Files.readAllBytes(part);
+        assertThat(new String(content, 4, 3, StandardCharsets.US_ASCII)).isEqualTo("efg");
+        assertThat(content[3]).isZero();
+        assertThat(content[7]).isZero();
+        ArgumentCaptor<String> claimedBy = ArgumentCaptor.forClass(String.class);
+        verify(uploadSessionRepository).claimChunk(eq(UPLOAD_ID), eq(4L), claimedBy.capture(), any(), any());
+        verify(uploadSessionRepository).advanceOffset(eq(UPLOAD_ID), eq(claimedBy.getValue()), eq(4L), eq(7L), any());
+        verify(uploadSessionRepository, never()).releaseChunk(any(), any());
+    }
+
+    @Test
+    void appendChunk_ClientDisconnects_CommitsReceivedBytesAndRethrows() throws IOException {
+        // Given
+        when(uploadSessionRepository.findById(UPLOAD_ID)).thenReturn(Optional.of(session(0L)));
+        when(uploadSessionRepository.claimChunk(eq(UPLOAD_ID), eq(0L), anyString(), any(), any())).thenReturn(1);
+        when(uploadSessionRepository.advanceOffset(eq(UPLOAD_ID), anyString(), eq(0L), eq(2L), any())).thenReturn(1);
+        InputStream dropped = new InputStream() {
+            private int sent;
+
+            @Override
+            public int read() throws IOException {
+                if (sent == 2) {
+                    throw new IOException("Connection reset");
+                }
+                return 'a' + sent++;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                b[off] = (byte) read();
+                return 1;
+            }
+        };
+
+        // When & Then
+        assertThatThrownBy(() -> uploadSessionService.appendChunk(1L, UPLOAD_ID, 0L, dropped))
+                .isInstanceOf(IOException.class);
+        assertThat(new String(Files.readAllBytes(part), 0, 2, StandardCharsets.US_ASCII)).isEqualTo("ab");
+        verify(uploadSessionRepository, never()).releaseChunk(any(), any());
+    }
+
+    @Test
+    void appendChunk_CommitRefused_ReleasesClaimAndConflicts() {
+        // Given
+        when(uploadSessionRepository.findById(UPLOAD_ID)).thenReturn(Optional.of(session(0L)));
+        when(uploadSessionRepository.claimChunk(eq(UPLOAD_ID), eq(0L), anyString(), any(), any())).thenReturn(1);
+        when(uploadSessionRepository.advanceOffset(eq(UPLOAD_ID), anyString(), eq(0L), eq(3L), any())).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> uploadSessionService.appendChunk(1L, UPLOAD_ID, 0L, chunk("abc")))
+                .isInstanceOf(UploadOffsetConflictException.class);
+        verify(uploadSessionRepository).releaseChunk(eq(UPLOAD_ID), anyString());
+    }
+
+    @Test
+    void appendChunk_LastChunk_CompletesUploadAsDocument() throws IOException {
+        // Given
+        UploadSession session = session(7L);
+        when(uploadSessionRepository.findById(UPLOAD_ID)).thenReturn(Optional.of(session));
+        when(uploadSessionRepository.claimChunk(eq(UPLOAD_ID), eq(7L), anyString(), any(), any())).thenReturn(1);
+        when(uploadSessionRepository.advanceOffset(eq(UPLOAD_ID), anyString(), eq(7L), eq(10L), any())).thenAnswer(invocation -> {
+            session.setCommittedOffset(10L);
+            return 1;
+        });
+        givenTransactionsRun();
+        when(uploadSessionRepository.lockById(UPLOAD_ID)).thenReturn(Optional.of(session));
+        when(borrowerRepository.findById(1L)).thenReturn(Optional.of(Borrower.builder().id(1L).build()));
+        when(documentService.createDocument(any(), any(), any(), any(), any())).thenReturn(Document.builder().id(9L).build());
+
+        // When
+        UploadSession completed = uploadSessionService.appendChunk(1L, UPLOAD_ID, 7L, chunk("hij"));
+
+        // Then
+        assertThat(completed.getStatus()).isEqualTo(UploadSessionStatus.COMPLETED);
+        assertThat(completed.getDocumentId()).isEqualTo(9L);
+        ArgumentCaptor<DocumentService.StoredFile> file = ArgumentCaptor.forClass(DocumentService.StoredFile.class);
+        verify(documentService).createDocument(any(), file.capture(), eq("BANK_STATEMENT"), any(), any());
+        assertThat(file.getValue().size()).isEqualTo(10L);
+        assertThat(file.getValue().checksumSha256()).hasSize(64);
+    }
+
+    @Test
+    void appendChunk_RetriedLastChunkOfCompletedUpload_ReturnsIt() throws IOException {
+        // Given
+        UploadSession session = session(10L);
+        session.setStatus(UploadSessionStatus.COMPLETED);
+        when(uploadSessionRepository.findById(UPLOAD_ID)).thenReturn(Optional.of(session));
+        when(uploadSessionRepository.claimChunk(eq(UPLOAD_ID), eq(10L), anyString(), any(), any())).thenReturn(0);
+
+        // When
+        UploadSession result = uploadSessionService.appendChunk(1L, UPLOAD_ID, 10L, chunk(""));
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(UploadSessionStatus.COMPLETED);
+        verifyNoInteractions(documentService);
+    }
+
+    @Test
+    void abortExpired_DeletesPartFilesOnlyAfterCommit() {
+        // Given
+        UploadSession session = session(4L);
+        when(uploadSessionRepository.lockExpired(any(LocalDateTime.class))).thenReturn(List.of(session));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        uploadSessionService.abortExpired();
+
+        // Then
+        assertThat(session.getStatus()).isEqualTo(UploadSessionStatus.ABORTED);
+        assertThat(part).exists();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(part).doesNotExist();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenTransactionsRun() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    private UploadSession session(long committedOffset) {
+        return UploadSession.builder()
+                .id(UPLOAD_ID)
+                .borrowerId(1L)
+                .documentType("BANK_STATEMENT")
+                .fileName("statement.pdf")
+                .contentType("application/pdf")
+                .totalSize(10L)
+                .committedOffset(committedOffset)
+                .partPath(part.toString())
+                .status(UploadSessionStatus.IN_PROGRESS)
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build();
+    }
+
+    private static InputStream chunk(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.US_ASCII));
+    }
+}
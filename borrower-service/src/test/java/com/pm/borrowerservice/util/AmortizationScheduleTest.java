@@ -0,0 +1,128 @@
+package com.pm.borrowerservice.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AmortizationScheduleTest {
+
+    @Test
+    void rows_RoundedPayment_ReconcilesToTotalsAndKeepsInterestNearBalanceTimesRate() {
+        // Given
+        BigDecimal principal = new BigDecimal("250000.00");
+        BigDecimal rate = new BigDecimal("6.75");
+        int term = 360;
+        BigDecimal monthly = new BigDecimal("1621.50");
+        BigDecimal monthlyRate = rate.divide(BigDecimal.valueOf(1200), 10, RoundingMode.HALF_UP);
+        AmortizationSchedule schedule = new AmortizationSchedule(principal, rate, term, monthly);
+
+        // When
+        AmortizationSchedule.Row row = schedule.rows();
+        BigDecimal payments = BigDecimal.ZERO;
+        BigDecimal repaid = BigDecimal.ZERO;
+        BigDecimal balance = principal;
+        int months = 0;
+        while (row.next()) {
+            months++;
+            BigDecimal expectedInterest = balance.multiply(monthlyRate).setScale(2, RoundingMode.HALF_UP);
+            assertThat(row.getInterest().subtract(expectedInterest).abs()).isLessThanOrEqualTo(new BigDecimal("0.01"));
+            assertThat(row.getPayment()).isEqualByComparingTo(monthly);
+            assertThat(row.getPrincipal().add(row.getInterest())).isEqualByComparingTo(monthly);
+            payments = payments.add(row.getPayment());
+            repaid = repaid.add(row.getPrincipal());
+            balance = row.getBalance();
+        }
+
+        // Then
+        assertThat(months).isEqualTo(term);
+        assertThat(payments).isEqualByComparingTo(monthly.multiply(BigDecimal.valueOf(term)));
+        assertThat(repaid).isEqualByComparingTo(principal);
+        assertThat(balance).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void rows_ZeroRate_RepaysPrincipalInEqualShares() {
+        // Given
+        AmortizationSchedule schedule = new AmortizationSchedule(
+                new BigDecimal("1200.00"), BigDecimal.ZERO, 12, new BigDecimal("100.00"));
+
+        // When
+        AmortizationSchedule.Row row = schedule.rows();
+
+        // Then
+        while (row.next()) {
+            assertThat(row.getPrincipal()).isEqualByComparingTo("100.00");
+            assertThat(row.getInterest()).isEqualByComparingTo("0.00");
+        }
+        assertThat(row.getMonth()).isEqualTo(12);
+        assertThat(row.getBalance()).isEqualByComparingTo("0.00");
+    }
+
+    @Test
+    void rows_PaymentRoundedBelowPrincipalOverTerm_InterestNeverNegativeAndLastRowRepaysShortfall() {
+        // Given
+        AmortizationSchedule schedule = new AmortizationSchedule(
+                new BigDecimal("1000.00"), BigDecimal.ZERO, 3, new BigDecimal("333.33"));
+
+        // When
+        AmortizationSchedule.Row row = schedule.rows();
+        BigDecimal repaid = BigDecimal.ZERO;
+        while (row.next()) {
+            assertThat(row.getInterest()).isEqualByComparingTo("0.00");
+            assertThat(row.getPrincipal().add(row.getInterest())).isEqualByComparingTo(row.getPayment());
+            repaid = repaid.add(row.getPrincipal());
+        }
+
+        // Then
+        assertThat(repaid).isEqualByComparingTo("1000.00");
+        assertThat(row.getPayment()).isEqualByComparingTo("333.34");
+        assertThat(row.getBalance()).isEqualByComparingTo("0.00");
+    }
+
+    @Test
+    void writeCsv_ShortLoan_WritesHeaderAndOneLinePerMonth() throws IOException {
+        // Given
+        AmortizationSchedule schedule = new AmortizationSchedule(
+                new BigDecimal("1000.00"), new BigDecimal("12"), 2, new BigDecimal("507.51"));
+        StringWriter out = new StringWriter();
+
+        // When
+        schedule.writeCsv(out);
+
+        // Then
+        assertThat(out.toString()).isEqualTo("""
+                month,payment,principal,interest,balance
+                1,507.51,497.51,10.00,502.49
+                2,507.51,502.49,5.02,0.00
+                """);
+    }
+
+    @Test
+    void writeJson_ShortLoan_WritesArrayOfRows() throws IOException {
+        // Given
+        AmortizationSchedule schedule = new AmortizationSchedule(
+                new BigDecimal("1000.00"), new BigDecimal("12"), 2, new BigDecimal("507.51"));
+        StringWriter out = new StringWriter();
+
+        // When
+        schedule.writeJson(out);
+
+        // Then
+        assertThat(out.toString()).isEqualTo("["
+                + "{\"month\":1,\"payment\":507.51,\"principal\":497.51,\"interest\":10.00,\"balance\":502.49},"
+                + "{\"month\":2,\"payment\":507.51,\"principal\":502.49,\"interest\":5.02,\"balance\":0.00}"
+                + "]");
+    }
+
+    @Test
+    void constructor_ZeroTerm_Throws() {
+        // When/Then
+        assertThatThrownBy(() -> new AmortizationSchedule(BigDecimal.TEN, BigDecimal.ONE, 0, BigDecimal.TEN))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
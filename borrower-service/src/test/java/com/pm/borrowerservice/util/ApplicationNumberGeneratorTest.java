@@ -0,0 +1,141 @@
+package com.pm.borrowerservice.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ApplicationNumberGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 250_000;
+
+    @Test
+    void nextId_ConcurrentCallers_NoDuplicatesAndIncreasingPerThread() throws Exception {
+        // Given
+        ApplicationNumberGenerator generator = new ApplicationNumberGenerator(7, Clock.systemUTC());
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> results = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            results.add(pool.submit(() -> {
+                long[] ids = new long[IDS_PER_THREAD];
+                start.await();
+                for (int i = 0; i < ids.length; i++) {
+                    ids[i] = generator.nextId();
+                }
+                return ids;
+            }));
+        }
+
+        // When
+        start.countDown();
+        long[] all = new long[THREADS * IDS_PER_THREAD];
+        for (int t = 0; t < THREADS; t++) {
+            long[] ids = results.get(t).get(60, TimeUnit.SECONDS);
+            for (int i = 1; i < ids.length; i++) {
+                assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+            }
+            System.arraycopy(ids, 0, all, t * IDS_PER_THREAD, IDS_PER_THREAD);
+        }
+        pool.shutdown();
+
+        // Then
+        Arrays.sort(all);
+        for (int i = 1; i < all.length; i++) {
+            assertThat(all[i]).as("duplicate ID").isNotEqualTo(all[i - 1]);
+        }
+    }
+
+    @Test
+    void nextId_ClockStepsBack_KeepsIncreasing() {
+        // Given
+        MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z").toEpochMilli());
+        ApplicationNumberGenerator generator = new ApplicationNumberGenerator(1, clock);
+        long before = generator.nextId();
+
+        // When
+        clock.millis.addAndGet(-5_000);
+        long after = generator.nextId();
+
+        // Then
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    void nextId_MoreThanSequenceInOneMillisecond_StaysUnique() {
+        // Given
+        ApplicationNumberGenerator generator = new ApplicationNumberGenerator(3,
+                Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC));
+        long previous = generator.nextId();
+
+        // When / Then
+        for (int i = 0; i < 10_000; i++) {
+            long next = generator.nextId();
+            assertThat(next).isGreaterThan(previous);
+            assertThat((next >>> ApplicationNumberGenerator.SEQUENCE_BITS) & ApplicationNumberGenerator.MAX_NODE_ID).isEqualTo(3);
+            previous = next;
+        }
+    }
+
+    @Test
+    void next_FormatsFixedWidthNumbersThatSortInIssueOrder() {
+        // Given
+        ApplicationNumberGenerator generator = new ApplicationNumberGenerator(0, Clock.systemUTC());
+
+        // When
+        String first = generator.next();
+        String second = generator.next();
+
+        // Then
+        assertThat(first).startsWith(ApplicationNumberGenerator.PREFIX).hasSize(18).matches("LOAN-[0-9A-HJKMNP-TV-Z]{13}");
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    void constructor_NodeIdOutOfRange_Rejected() {
+        assertThatThrownBy(() -> new ApplicationNumberGenerator(1024, Clock.systemUTC()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final class MutableClock extends Clock {
+        private final AtomicLong millis;
+
+        MutableClock(long millis) {
+            this.millis = new AtomicLong(millis);
+        }
+
+        @Override
+        public long millis() {
+            return millis.get();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.pm.borrowerservice.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MultipartStreamTest {
+
+    private static final String BOUNDARY = "----FormBoundary7MA4YWxkTrZu0gW";
+
+    @Test
+    void nextPart_BoundarySplitAcrossReads_ReturnsExactContent() throws IOException {
+        // Given
+        StringBuilder payload = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            payload.append("chunk-").append(i).append(';');
+        }
+        byte[] body = body(filePart("file", "big.txt", payload.toString()), field("documentType", "ID"));
+
+        // When & Then: every read size moves the delimiter to a different offset of a read
+        for (int readSize = 1; readSize <= 97; readSize += 3) {
+            MultipartStream multipart = new MultipartStream(new TrickleInputStream(body, readSize), BOUNDARY, 1);
+
+            MultipartStream.Part file = multipart.nextPart();
+            assertThat(file.fileName()).isEqualTo("big.txt");
+            assertThat(new String(file.content().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(payload.toString());
+
+            MultipartStream.Part field = multipart.nextPart();
+            assertThat(field.readValue(64)).isEqualTo("ID");
+            assertThat(multipart.nextPart()).isNull();
+        }
+    }
+
+    @Test
+    void nextPart_CrlfAndPartialDelimiterInPayload_KeptInContent() throws IOException {
+        // Given
+        String payload = "line one\r\nline two\r\n\r\n--" + BOUNDARY.substring(0, 10) + "\r\n--not-the-boundary\r\n";
+        byte[] body = body(filePart("file", "notes.txt", payload));
+
+        // When
+        MultipartStream multipart = new MultipartStream(new TrickleInputStream(body, 5), BOUNDARY, 1);
+        MultipartStream.Part part = multipart.nextPart();
+
+        // Then
+        assertThat(new String(part.content().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(payload);
+        assertThat(multipart.nextPart()).isNull();
+    }
+
+    @Test
+    void nextPart_MissingClosingBoundary_Rejected() throws IOException {
+        // Given
+        byte[] body = ("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"description\"\r\n\r\n"
+                + "cut off before the closing boundary").getBytes(StandardCharsets.UTF_8);
+        MultipartStream multipart = new MultipartStream(new ByteArrayInputStream(body), BOUNDARY, 1024);
+        MultipartStream.Part part = multipart.nextPart();
+
+        // When & Then
+        assertThatThrownBy(() -> part.content().readAllBytes())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("unexpected end of input");
+    }
+
+    @Test
+    void nextPart_DelimiterWithoutClosingDashes_Rejected() throws IOException {
+        // Given
+        byte[] body = ("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"description\"\r\n\r\n"
+                + "value\r\n--" + BOUNDARY).getBytes(StandardCharsets.UTF_8);
+        MultipartStream multipart = new MultipartStream(new ByteArrayInputStream(body), BOUNDARY, 1024);
+        assertThat(multipart.nextPart().readValue(64)).isEqualTo("value");
+
+        // When & Then
+        assertThatThrownBy(multipart::nextPart)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("unexpected end of input");
+    }
+
+    @Test
+    void nextPart_HeaderLineTooLong_Rejected() {
+        // Given
+        byte[] body = body("Content-Disposition: form-data; name=\"" + "x".repeat(9 * 1024) + "\"\r\n\r\nvalue");
+        MultipartStream multipart = new MultipartStream(new ByteArrayInputStream(body), BOUNDARY, 1024);
+
+        // When & Then
+        assertThatThrownBy(multipart::nextPart)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("part header too long");
+    }
+
+    @Test
+    void nextPart_TooManyHeaders_Rejected() {
+        // Given
+        StringBuilder part = new StringBuilder("Content-Disposition: form-data; name=\"description\"\r\n");
+        for (int i = 0; i < 40; i++) {
+            part.append("X-Padding-").append(i).append(": ").append(i).append("\r\n");
+        }
+        byte[] body = body(part.append("\r\nvalue").toString());
+        MultipartStream multipart = new MultipartStream(new ByteArrayInputStream(body), BOUNDARY, 1024);
+
+        // When & Then
+        assertThatThrownBy(multipart::nextPart)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("too many part headers");
+    }
+
+    @Test
+    void nextPart_FilePartBeforeFormFields_ReadsEveryPartInOrder() throws IOException {
+        // Given
+        byte[] body = body(
+                filePart("file", "payslip.pdf", "%PDF-1.7 file content"),
+                field("documentType", "PAYSLIP"),
+                field("description", "March payslip"),
+                field("loanApplicationId", "42"));
+        MultipartStream multipart = new MultipartStream(new ByteArrayInputStream(body), BOUNDARY, 1024);
+
+        // When
+        MultipartStream.Part file = multipart.nextPart();
+        String content = new String(file.content().readAllBytes(), StandardCharsets.UTF_8);
+        MultipartStream.Part documentType = multipart.nextPart();
+        String documentTypeValue = documentType.readValue(64);
+        MultipartStream.Part description = multipart.nextPart();
+        MultipartStream.Part loanApplicationId = multipart.nextPart();
+
+        // Then
+        assertThat(file.isFile()).isTrue();
+        assertThat(file.name()).isEqualTo("file");
+        assertThat(file.contentType()).isEqualTo("application/octet-stream");
+        assertThat(content).isEqualTo("%PDF-1.7 file content");
+        assertThat(documentType.isFile()).isFalse();
+        assertThat(documentTypeValue).isEqualTo("PAYSLIP");
+        assertThat(description.readValue(64)).isEqualTo("March payslip");
+        assertThat(loanApplicationId.readValue(64)).isEqualTo("42");
+        assertThat(multipart.nextPart()).isNull();
+    }
+
+    @Test
+    void nextPart_UnreadPart_SkippedWhenAdvancing() throws IOException {
+        // Given
+        byte[] body = body(filePart("file", "skipped.bin", "x".repeat(5000)), field("documentType", "ID"));
+        MultipartStream multipart = new MultipartStream(new TrickleInputStream(body, 7), BOUNDARY, 1);
+
+        // When
+        MultipartStream.Part file = multipart.nextPart();
+        MultipartStream.Part field = multipart.nextPart();
+
+        // Then
+        assertThat(file.content().read()).isEqualTo(-1);
+        assertThat(field.readValue(64)).isEqualTo("ID");
+    }
+
+    @Test
+    void readValue_LongerThanLimit_Rejected() throws IOException {
+        // Given
+        MultipartStream multipart = new MultipartStream(
+                new ByteArrayInputStream(body(field("description", "x".repeat(65)))), BOUNDARY, 1024);
+        MultipartStream.Part part = multipart.nextPart();
+
+        // When & Then
+        assertThatThrownBy(() -> part.readValue(64))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("description");
+    }
+
+    @Test
+    void boundary_QuotedParameter_Unquoted() {
+        // When & Then
+        assertThat(MultipartStream.boundary("multipart/form-data; charset=UTF-8; boundary=\"" + BOUNDARY + "\""))
+                .isEqualTo(BOUNDARY);
+        assertThatThrownBy(() -> MultipartStream.boundary("application/json"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MultipartStream.boundary("multipart/form-data"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String field(String name, String value) {
+        return "Content-Disposition: form-data; name=\"" + name + "\"\r\n\r\n" + value;
+    }
+
+    private static String filePart(String name, String fileName, String content) {
+        return "Content-Disposition: form-data; name=\"" + name + "\"; filename=\"" + fileName + "\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n" + content;
+    }
+
+    // Each part is its headers, a blank line and its content
+    private static byte[] body(String... parts) {
+        StringBuilder body = new StringBuilder("preamble to ignore\r\n");
+        for (String part : parts) {
+            body.append("--").append(BOUNDARY).append("\r\n").append(part).append("\r\n");
+        }
+        body.append("--").append(BOUNDARY).append("--\r\n");
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Hands out at most a few bytes per read, like a slow client
+    private static final class TrickleInputStream extends InputStream {
+
+        private final ByteArrayInputStream in;
+        private final int maxRead;
+
+        TrickleInputStream(byte[] data, int maxRead) {
+            this.in = new ByteArrayInputStream(data);
+            this.maxRead = maxRead;
+        }
+
+        @Override
+        public int read() {
+            return in.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            return in.read(b, off, Math.min(len, maxRead));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.pm.officerservice.client;
+
+import com.pm.officerservice.dto.DigestEntity;
+import com.pm.officerservice.dto.DigestResponse;
+import com.pm.officerservice.dto.RepublishRequest;
+import com.pm.officerservice.dto.RowHashDto;
+import feign.Response;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Feign client for reading document content from the Borrower Service and for the
+ * anti-entropy digests compared against it. The internal endpoints are called with the shared
+ * token added by {@link BorrowerServiceClientConfig}.
+ */
+@FeignClient(
+    name = "borrower-service",
+    url = "${services.borrower-service.url}",
+    configuration = BorrowerServiceClientConfig.class
+)
+public interface BorrowerServiceClient {
+
+    /**
+     * Fetch the stored file of a document. The raw response is returned so the body can be
+     * streamed, and so 206 and 304 answers to forwarded Range and conditional headers pass through.
+     * The caller must close the response.
+     * 
+     * @param borrowerId the borrower ID
+     * @param documentId the document ID
+     * @param headers request headers to forward, such as Range or If-None-Match
+     * @return the upstream response
+     */
+    @GetMapping("/api/borrowers/{borrowerId}/documents/{documentId}/content")
+    Response getDocumentContent(@PathVariable("borrowerId") Long borrowerId,
+                                @PathVariable("documentId") Long documentId,
+                                @RequestHeader Map<String, String> headers);
+
+    /**
+     * Digest of an ID range of the source table, split into equal-width buckets.
+     */
+    @GetMapping("/internal/digest")
+    DigestResponse getDigest(@RequestParam("entity") DigestEntity entity,
+                             @RequestParam("from") long from,
+                             @RequestParam("to") long to,
+                             @RequestParam("buckets") int buckets);
+
+    /**
+     * Per-row hashes of a small ID range of the source table.
+     */
+    @GetMapping("/internal/digest/rows")
+    List<RowHashDto> getRowHashes(@RequestParam("entity") DigestEntity entity,
+                                  @RequestParam("from") long from,
+                                  @RequestParam("to") long to);
+
+    /**
+     * Ask the Borrower Service to publish the creation events of the given rows again.
+     */
+    @PostMapping("/internal/republish")
+    Map<String, Integer> republish(@RequestBody RepublishRequest request);
+}
@@ -0,0 +1,27 @@
+package com.pm.officerservice.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+
+import com.pm.officerservice.config.InternalTokenFilter;
+
+import feign.RequestInterceptor;
+
+/**
+ * Feign configuration of {@link BorrowerServiceClient} only, deliberately not a
+ * {@code @Configuration} so it is not picked up for the other clients. Calls to borrower-service's
+ * {@code /internal} endpoints carry the shared secret it checks,
+ * {@code services.borrower-service.internal-token}, which defaults to {@code officer.internal.token}.
+ */
+public class BorrowerServiceClientConfig {
+
+    @Bean
+    public RequestInterceptor internalTokenInterceptor(
+            @Value("${services.borrower-service.internal-token:${officer.internal.token:}}") String token) {
+        return template -> {
+            if (template.path().startsWith("/internal/") && !token.isBlank()) {
+                template.header(InternalTokenFilter.HEADER, token);
+            }
+        };
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Feign client for communicating with the Loan Score Service.
@@ -52,4 +53,12 @@ public interface LoanScoreClient {
      */
     @GetMapping("/api/loan-scores/risk/{risk}")
     List<LoanScoreResponse> getScoresByRisk(@PathVariable("risk") String risk);
+
+    /**
+     * Lightweight liveness check against the loan score service health endpoint.
+     * 
+     * @return health payload, with "status" set to UP when the service is running
+     */
+    @GetMapping("/api/health")
+    Map<String, Object> getHealth();
 }
@@ -0,0 +1,153 @@
+package com.pm.officerservice.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Dedicated executors for officer-service fan-out work, kept apart from the Tomcat
+ * request threads and from ForkJoinPool.commonPool.
+ */
+@Configuration
+public class AsyncConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncConfig.class);
+
+    @Value("${officer.scheduling.pool-size:4}")
+    private int schedulingPoolSize;
+
+    @Value("${officer.events.executor.core-size:4}")
+    private int eventStreamCoreSize;
+
+    @Value("${officer.events.executor.max-size:16}")
+    private int eventStreamMaxSize;
+
+    @Value("${officer.events.executor.queue-capacity:1000}")
+    private int eventStreamQueueCapacity;
+
+    @Value("${officer.documents.prefetch.max-concurrent:2}")
+    private int documentPrefetchConcurrency;
+
+    @Value("${officer.documents.prefetch.queue-capacity:20}")
+    private int documentPrefetchQueueCapacity;
+
+    @Value("${officer.overview.executor.core-size:8}")
+    private int overviewCoreSize;
+
+    @Value("${officer.overview.executor.max-size:32}")
+    private int overviewMaxSize;
+
+    @Value("${officer.overview.executor.queue-capacity:200}")
+    private int overviewQueueCapacity;
+
+    @Value("${services.loan-score-service.executor.core-size:10}")
+    private int loanScoreCoreSize;
+
+    @Value("${services.loan-score-service.executor.max-size:20}")
+    private int loanScoreMaxSize;
+
+    @Value("${services.loan-score-service.executor.queue-capacity:100}")
+    private int loanScoreQueueCapacity;
+
+    /**
+     * Executor for the parallel parts of the application overview.
+     * When saturated, the caller runs the part itself, so the overview degrades to
+     * sequential loading instead of failing.
+     */
+    @Bean(name = "overviewTaskExecutor")
+    public Executor overviewTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(overviewCoreSize);
+        executor.setMaxPoolSize(overviewMaxSize);
+        executor.setQueueCapacity(overviewQueueCapacity);
+        executor.setThreadNamePrefix("overview-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Bulkhead for the blocking Feign calls to loan-score-service.
+     * The pool and its queue are bounded; once both are full the call is rejected
+     * immediately. The rejection is counted and surfaces as a failure to the
+     * loan-score-service circuit breaker instead of piling up threads.
+     * Pool metrics are published as executor.* with name=loanScoreExecutor.
+     */
+    @Bean(name = "loanScoreExecutor")
+    public Executor loanScoreExecutor(MeterRegistry meterRegistry) {
+        Counter rejected = Counter.builder("officer.loan-score.executor.rejected")
+                .description("Loan score calls rejected because the bulkhead was full")
+                .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(loanScoreCoreSize);
+        executor.setMaxPoolSize(loanScoreMaxSize);
+        executor.setQueueCapacity(loanScoreQueueCapacity);
+        executor.setThreadNamePrefix("loan-score-");
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            log.warn("Loan score executor saturated (active: {}, queued: {}), rejecting call",
+                    pool.getActiveCount(), pool.getQueue().size());
+            throw new RejectedExecutionException("Loan score executor is saturated");
+        });
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor that writes buffered events to the officer SSE connections. A client whose
+     * drain cannot be scheduled is disconnected by the stream service, so rejection aborts.
+     */
+    @Bean(name = "eventStreamExecutor")
+    public Executor eventStreamExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(eventStreamCoreSize);
+        executor.setMaxPoolSize(eventStreamMaxSize);
+        executor.setQueueCapacity(eventStreamQueueCapacity);
+        executor.setThreadNamePrefix("event-stream-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Background downloads that fill the document content cache. Kept small so prefetching
+     * never competes with officers' own downloads from borrower-service; surplus requests
+     * are rejected and simply not prefetched.
+     */
+    @Bean(name = "documentPrefetchExecutor")
+    public Executor documentPrefetchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(documentPrefetchConcurrency);
+        executor.setMaxPoolSize(documentPrefetchConcurrency);
+        executor.setQueueCapacity(documentPrefetchQueueCapacity);
+        executor.setThreadNamePrefix("document-prefetch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Scheduler for the @Scheduled jobs. Several threads, so a long statistics reconcile
+     * does not hold up the outbox relay or the health probe.
+     */
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(schedulingPoolSize);
+        scheduler.setThreadNamePrefix("officer-scheduling-");
+        scheduler.initialize();
+        return scheduler;
+    }
+}
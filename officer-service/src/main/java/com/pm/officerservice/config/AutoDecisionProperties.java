@@ -0,0 +1,50 @@
+package com.pm.officerservice.config;
+
+import com.pm.officerservice.model.LoanApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Policies for deciding clear-cut loan applications from their score without an officer.
+ * Policies are evaluated in order and the first match wins; applications matching none stay
+ * PENDING for a human. Configured under officer.auto-decision, e.g.
+ * officer.auto-decision.policies[0].grades=EXCELLENT.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "officer.auto-decision")
+@Data
+public class AutoDecisionProperties {
+
+    private boolean enabled = false;
+    private boolean dryRun = true; // Evaluate and audit, but leave the status unchanged
+    private int batchSize = 50;
+    private List<Policy> policies = new ArrayList<>(List.of(
+            new Policy("approve-excellent-low-risk", LoanApplicationStatus.APPROVED,
+                    Set.of("EXCELLENT"), Set.of("LOW"), null, null, null),
+            new Policy("reject-poor-high-risk", LoanApplicationStatus.REJECTED,
+                    Set.of("POOR"), Set.of("HIGH"), null, null,
+                    "Automatically declined: credit score grade POOR with HIGH risk")));
+
+    /**
+     * Empty or null criteria match any value; at least one criterion must be set.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Policy {
+        private String name;
+        private LoanApplicationStatus targetStatus; // APPROVED, REJECTED, or a routing status such as UNDER_REVIEW
+        private Set<String> grades;
+        private Set<String> risks;
+        private Integer minScore;
+        private Integer maxScore;
+        private String rejectionReason;
+    }
+}
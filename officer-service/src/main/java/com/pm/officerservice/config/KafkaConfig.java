@@ -17,8 +17,14 @@ import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.pm.officerservice.listener.TrackedOffsetRebalanceListener;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Configuration
@@ -31,11 +37,39 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
+    @Value("${kafka.topics.borrower-created}")
+    private String borrowerCreatedTopic;
+
+    @Value("${kafka.topics.loan-application}")
+    private String loanApplicationTopic;
+
+    @Value("${kafka.topics.documents-upload}")
+    private String documentsUploadTopic;
+
+    @Value("${kafka.retry.max-attempts:4}")
+    private int retryMaxAttempts;
+
+    @Value("${kafka.retry.initial-interval-ms:2000}")
+    private long retryInitialIntervalMs;
+
+    @Value("${kafka.retry.multiplier:3.0}")
+    private double retryMultiplier;
+
+    @Value("${kafka.retry.max-interval-ms:300000}")
+    private long retryMaxIntervalMs;
+
+    @Value("${kafka.topics.retry-suffix:-retry}")
+    private String retryTopicSuffix;
+
+    @Value("${kafka.topics.dlt-suffix:-dlt}")
+    private String dltTopicSuffix;
+
     @Bean
     public ConsumerFactory<String, byte[]> consumerFactory() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        // Only applies to partitions with neither a committed nor a stored offset, see TrackedOffsetRebalanceListener
         configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
         configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
@@ -45,11 +79,13 @@ public class KafkaConfig {
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, byte[]> kafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> kafkaListenerContainerFactory(
+            TrackedOffsetRebalanceListener trackedOffsetRebalanceListener) {
         ConcurrentKafkaListenerContainerFactory<String, byte[]> factory = 
             new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+        factory.getContainerProperties().setConsumerRebalanceListener(trackedOffsetRebalanceListener);
         return factory;
     }
 
@@ -60,8 +96,12 @@ public class KafkaConfig {
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
         configProps.put(ProducerConfig.ACKS_CONFIG, "all");
-        configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
-        configProps.put(ProducerConfig.LINGER_MS_CONFIG, 1);
+        // Idempotent producer: broker-side retries keep per-partition order and add no duplicates
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        configProps.put(ProducerConfig.RETRIES_CONFIG, Integer.MAX_VALUE);
+        configProps.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, 30000);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, 5);
         configProps.put(ProducerConfig.BUFFER_MEMORY_CONFIG, 33554432);
         
         return new DefaultKafkaProducerFactory<>(configProps);
@@ -71,4 +111,25 @@ public class KafkaConfig {
     public KafkaTemplate<String, byte[]> kafkaTemplate() {
         return new KafkaTemplate<>(producerFactory());
     }
+
+    /**
+     * Non-blocking retries for the borrower-service event listeners.
+     * A failed record is forwarded to a retry topic with exponential back-off so the
+     * main partition keeps flowing, and ends up in a per-topic DLT (with the standard
+     * kafka_dlt-* exception headers) once the attempts are exhausted.
+     * Unparseable payloads skip the retries and go straight to the DLT.
+     */
+    @Bean
+    public RetryTopicConfiguration borrowerEventsRetryTopicConfiguration(KafkaTemplate<String, byte[]> kafkaTemplate) {
+        return RetryTopicConfigurationBuilder.newInstance()
+                .includeTopics(List.of(borrowerCreatedTopic, loanApplicationTopic, documentsUploadTopic))
+                .maxAttempts(retryMaxAttempts)
+                .exponentialBackoff(retryInitialIntervalMs, retryMultiplier, retryMaxIntervalMs)
+                .notRetryOn(InvalidProtocolBufferException.class)
+                .traversingCauses()
+                .retryTopicSuffix(retryTopicSuffix)
+                .dltSuffix(dltTopicSuffix)
+                .listenerFactory("kafkaListenerContainerFactory")
+                .create(kafkaTemplate);
+    }
 }
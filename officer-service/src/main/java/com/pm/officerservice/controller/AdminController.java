@@ -1,30 +1,67 @@
 package com.pm.officerservice.controller;
 
+import com.pm.officerservice.dto.AntiEntropyResponse;
+import com.pm.officerservice.dto.ApplicationViewRebuildResponse;
+import com.pm.officerservice.dto.AutoDecisionResponse;
+import com.pm.officerservice.dto.DeadLetterReplayResponse;
 import com.pm.officerservice.dto.DocumentResponse;
 import com.pm.officerservice.dto.DocumentStatusUpdateRequest;
+import com.pm.officerservice.dto.LoanApplicationOverviewResponse;
 import com.pm.officerservice.dto.LoanApplicationResponse;
+import com.pm.officerservice.dto.LoanExportFilter;
 import com.pm.officerservice.dto.LoanScoreResponse;
 import com.pm.officerservice.dto.LoanStatusUpdateRequest;
+import com.pm.officerservice.dto.OfficerChangeEvent;
+import com.pm.officerservice.dto.QueueClaimResponse;
+import com.pm.officerservice.dto.StatusHistoryResponse;
+import com.pm.officerservice.dto.StatusStatisticsResponse;
 import com.pm.officerservice.model.Document;
 import com.pm.officerservice.model.DocumentStatus;
-import com.pm.officerservice.model.LoanApplication;
+import com.pm.officerservice.model.ApplicationView;
 import com.pm.officerservice.model.LoanApplicationStatus;
+import com.pm.officerservice.model.RollupGranularity;
+import com.pm.officerservice.repository.ApplicationViewRepository;
+import com.pm.officerservice.repository.AutoDecisionAuditRepository;
 import com.pm.officerservice.repository.DocumentRepository;
-import com.pm.officerservice.repository.LoanApplicationRepository;
+import com.pm.officerservice.service.AntiEntropyService;
+import com.pm.officerservice.service.ApplicationClaimedException;
+import com.pm.officerservice.service.ApplicationOverviewService;
+import com.pm.officerservice.service.ApplicationViewProjector;
+import com.pm.officerservice.service.DeadLetterReplayService;
+import com.pm.officerservice.service.DocumentContentService;
 import com.pm.officerservice.service.DocumentService;
 import com.pm.officerservice.service.LoanApplicationService;
+import com.pm.officerservice.service.LoanExportService;
 import com.pm.officerservice.service.LoanScoreService;
+import com.pm.officerservice.service.OfficerEventStreamService;
+import com.pm.officerservice.service.StatusHistoryService;
+import com.pm.officerservice.service.StatusStatisticsService;
+import com.pm.officerservice.service.WorkQueueService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @RestController
@@ -35,9 +72,25 @@ public class AdminController {
     private final LoanApplicationService loanApplicationService;
     private final DocumentService documentService;
     private final LoanScoreService loanScoreService;
-    private final LoanApplicationRepository loanApplicationRepository;
+    private final ApplicationViewRepository applicationViewRepository;
+    private final ApplicationViewProjector applicationViewProjector;
     private final DocumentRepository documentRepository;
+    private final DeadLetterReplayService deadLetterReplayService;
+    private final ApplicationOverviewService applicationOverviewService;
+    private final StatusStatisticsService statusStatisticsService;
+    private final OfficerEventStreamService officerEventStreamService;
+    private final DocumentContentService documentContentService;
+    private final AutoDecisionAuditRepository autoDecisionAuditRepository;
+    private final WorkQueueService workQueueService;
+    private final StatusHistoryService statusHistoryService;
+    private final LoanExportService loanExportService;
+    private final AntiEntropyService antiEntropyService;
     private static final Logger log = LoggerFactory.getLogger(LoanApplicationService.class);
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "appliedAtSource");
+    private static final int MAX_SEARCH_PAGE_SIZE = 500;
+    private static final int MAX_AUTO_DECISIONS = 200;
+    private static final int MAX_CLAIM_SIZE = 50;
+    private static final int MAX_HISTORY_BUCKETS = 1000;
 
     // Loan Application Management
 
@@ -47,20 +100,68 @@ public class AdminController {
                description = "Retrieve all loan applications in the system")
     public ResponseEntity<List<LoanApplicationResponse>> getAllLoanApplications() {
         log.info("Admin request to get all loan applications");
-        List<LoanApplicationResponse> applications = loanApplicationRepository.findAll()
+        List<LoanApplicationResponse> applications = applicationViewRepository.findAll(NEWEST_FIRST)
                 .stream()
-                .map(LoanApplicationResponse::fromEntity)
+                .map(LoanApplicationResponse::fromView)
                 .collect(Collectors.toList());
         return ResponseEntity.ok(applications);
     }
 
+    @GetMapping("/loans/export")
+    @Operation(summary = "Export loan applications",
+               description = "Stream matching loan applications as CSV or XLSX, ordered by ID. Columns are selected by name, e.g. columns=applicationId,status,loanAmount; all columns by default")
+    public ResponseEntity<StreamingResponseBody> exportLoanApplications(
+            @RequestParam(defaultValue = "CSV") LoanExportService.Format format,
+            @RequestParam(required = false) String columns,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long borrowerId,
+            @RequestParam(required = false) Integer minScore,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime appliedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime appliedTo) {
+        log.info("Admin request to export loan applications as {} (status: {}, borrowerId: {}, minScore: {}, applied: {} - {})",
+                format, status, borrowerId, minScore, appliedFrom, appliedTo);
+        List<LoanExportService.Column> selected;
+        String statusFilter = null;
+        try {
+            selected = LoanExportService.Column.parse(columns);
+            if (status != null && !status.isBlank()) {
+                statusFilter = LoanApplicationStatus.valueOf(status.toUpperCase()).name();
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid export request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        LoanExportFilter filter = LoanExportFilter.builder()
+                .status(statusFilter)
+                .borrowerId(borrowerId)
+                .minScore(minScore)
+                .appliedFrom(appliedFrom)
+                .appliedTo(appliedTo)
+                .build();
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(LoanExportService.fileName(format)).build().toString())
+                .body(out -> loanExportService.export(filter, selected, format, out));
+    }
+
     @GetMapping("/loans/{applicationId}")
     @Operation(summary = "Get loan application by ID", 
                description = "Retrieve a specific loan application by its ID")
     public ResponseEntity<LoanApplicationResponse> getLoanApplication(@PathVariable Long applicationId) {
         log.info("Admin request to get loan application with ID: {}", applicationId);
-        Optional<LoanApplication> application = loanApplicationRepository.findById(applicationId);
-        return application.map(LoanApplicationResponse::fromEntity)
+        Optional<ApplicationView> application = applicationViewRepository.findById(applicationId);
+        return application.map(LoanApplicationResponse::fromView)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/loans/{applicationId}/overview")
+    @Operation(summary = "Get loan application overview",
+               description = "Retrieve the application, borrower, documents and score in one call, loaded in parallel")
+    public ResponseEntity<LoanApplicationOverviewResponse> getLoanApplicationOverview(@PathVariable Long applicationId) {
+        log.info("Admin request to get overview for loan application ID: {}", applicationId);
+        return applicationOverviewService.getOverview(applicationId)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -72,9 +173,9 @@ public class AdminController {
         log.info("Admin request to get loan applications with status: {}", status);
         try {
             LoanApplicationStatus loanStatus = LoanApplicationStatus.valueOf(status.toUpperCase());
-            List<LoanApplicationResponse> applications = loanApplicationRepository.findByStatus(loanStatus.name())
+            List<LoanApplicationResponse> applications = applicationViewRepository.findByStatus(loanStatus.name(), NEWEST_FIRST)
                     .stream()
-                    .map(LoanApplicationResponse::fromEntity)
+                    .map(LoanApplicationResponse::fromView)
                     .collect(Collectors.toList());
             return ResponseEntity.ok(applications);
         } catch (IllegalArgumentException e) {
@@ -83,6 +184,82 @@ public class AdminController {
         }
     }
 
+    @GetMapping("/loans/search")
+    @Operation(summary = "Search loan applications",
+               description = "Page through loan applications filtered by status, borrower, borrower name and minimum score, newest first. The total is returned in X-Total-Count")
+    public ResponseEntity<List<LoanApplicationResponse>> searchLoanApplications(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long borrowerId,
+            @RequestParam(required = false) String borrowerName,
+            @RequestParam(required = false) Integer minScore,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        log.info("Admin request to search loan applications (status: {}, borrowerId: {}, borrowerName: {}, minScore: {}, page: {}, size: {})",
+                status, borrowerId, borrowerName, minScore, page, size);
+        if (page < 0 || size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        String statusFilter = null;
+        if (status != null) {
+            try {
+                statusFilter = LoanApplicationStatus.valueOf(status.toUpperCase()).name();
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid loan status: {}", status);
+                return ResponseEntity.badRequest().build();
+            }
+        }
+        String namePattern = borrowerName == null || borrowerName.isBlank()
+                ? null : "%" + borrowerName.trim().toLowerCase() + "%";
+
+        Page<ApplicationView> result = applicationViewRepository.search(statusFilter, borrowerId, minScore, namePattern,
+                PageRequest.of(page, size, NEWEST_FIRST));
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(result.getTotalElements()))
+                .body(result.getContent().stream()
+                        .map(LoanApplicationResponse::fromView)
+                        .collect(Collectors.toList()));
+    }
+
+    @PostMapping("/application-view/rebuild")
+    @Operation(summary = "Rebuild application view",
+               description = "Recreate the denormalised application view used by the list and search endpoints from the source tables")
+    public ResponseEntity<ApplicationViewRebuildResponse> rebuildApplicationView() {
+        log.info("Admin request to rebuild the application view");
+        try {
+            return ResponseEntity.ok(applicationViewProjector.rebuild());
+        } catch (IllegalStateException e) {
+            log.warn("Application view rebuild rejected: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @PostMapping("/anti-entropy/run")
+    @Operation(summary = "Run anti-entropy pass",
+               description = "Compare the projected tables with borrower-service and have the events of missing rows republished")
+    public ResponseEntity<AntiEntropyResponse> runAntiEntropy() {
+        log.info("Admin request to run an anti-entropy pass");
+        try {
+            return ResponseEntity.ok(antiEntropyService.run());
+        } catch (IllegalStateException e) {
+            log.warn("Anti-entropy pass rejected: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @GetMapping("/auto-decisions")
+    @Operation(summary = "Get auto-decision audit",
+               description = "Retrieve the auto-decision evaluations for an application, or the most recent ones across all applications")
+    public ResponseEntity<List<AutoDecisionResponse>> getAutoDecisions(@RequestParam(required = false) Long applicationId) {
+        log.info("Admin request to get auto-decisions (applicationId: {})", applicationId);
+        List<AutoDecisionResponse> decisions = (applicationId != null
+                ? autoDecisionAuditRepository.findByApplicationIdOrderByIdDesc(applicationId)
+                : autoDecisionAuditRepository.findAllByOrderByIdDesc(PageRequest.of(0, MAX_AUTO_DECISIONS)))
+                .stream()
+                .map(AutoDecisionResponse::fromEntity)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(decisions);
+    }
+
     @PutMapping("/loans/{applicationId}/status")
     @Operation(summary = "Update loan application status", 
                description = "Update the status of a loan application and publish event to Kafka")
@@ -92,11 +269,49 @@ public class AdminController {
         
 
         
-        loanApplicationService.updateLoanStatus(applicationId, request);
+        try {
+            loanApplicationService.updateLoanStatus(applicationId, request);
+        } catch (ApplicationClaimedException e) {
+            log.warn("Rejected status update by {}: {}", request.getUpdatedBy(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
         
         return ResponseEntity.ok().build();
     }
 
+    // Work Queue
+
+    @PostMapping("/queue/claim")
+    @Operation(summary = "Claim pending applications",
+               description = "Claim up to n of the oldest unclaimed pending applications for an officer. Concurrent claims never return the same application; the claim expires after the lease unless renewed")
+    public ResponseEntity<QueueClaimResponse> claimApplications(
+            @RequestParam String officer,
+            @RequestParam(defaultValue = "1") int n) {
+        log.info("Officer {} claiming {} applications", officer, n);
+        if (officer.isBlank() || n < 1 || n > MAX_CLAIM_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(workQueueService.claim(officer, n));
+    }
+
+    @PostMapping("/queue/{applicationId}/renew")
+    @Operation(summary = "Renew a claim",
+               description = "Extend the officer's live claim on an application by another lease")
+    public ResponseEntity<Void> renewClaim(@PathVariable Long applicationId, @RequestParam String officer) {
+        return workQueueService.renew(applicationId, officer)
+                ? ResponseEntity.ok().build()
+                : ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
+    @DeleteMapping("/queue/{applicationId}/claim")
+    @Operation(summary = "Release a claim",
+               description = "Return a claimed application to the queue without deciding it")
+    public ResponseEntity<Void> releaseClaim(@PathVariable Long applicationId, @RequestParam String officer) {
+        return workQueueService.release(applicationId, officer)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
     // Document Management
 
     @GetMapping("/documents")
@@ -122,6 +337,18 @@ public class AdminController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/documents/{documentId}/content")
+    @Operation(summary = "Get document content",
+               description = "Stream the uploaded file of a document from borrower-service, with Range and If-None-Match support")
+    public ResponseEntity<StreamingResponseBody> getDocumentContent(
+            @PathVariable Long documentId,
+            @RequestHeader HttpHeaders headers) {
+        log.info("Admin request to get content of document ID: {} (range: {})", documentId, headers.getFirst(HttpHeaders.RANGE));
+
+        return documentContentService.getContent(documentId, headers)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @GetMapping("/documents/status/{status}")
     @Operation(summary = "Get documents by status", 
                description = "Retrieve all documents with a specific status")
@@ -185,17 +412,44 @@ public class AdminController {
         return ResponseEntity.ok(DocumentStatus.values());
     }
 
+    @GetMapping("/stats")
+    @Operation(summary = "Get dashboard statistics",
+               description = "Retrieve per-status counts and the aging histogram of pending loan applications and documents")
+    public ResponseEntity<StatusStatisticsResponse> getStatistics() {
+        log.info("Admin request to get status statistics");
+        return ResponseEntity.ok(statusStatisticsService.getStatistics());
+    }
+
+    @GetMapping("/stats/history")
+    @Operation(summary = "Get status history analytics",
+               description = "Retrieve per-hour or per-day transition counts and p50/p95 time-to-decision for a time range, served from precomputed rollups")
+    public ResponseEntity<List<StatusHistoryResponse>> getStatusHistory(
+            @RequestParam(defaultValue = "HOUR") RollupGranularity granularity,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        log.info("Admin request to get {} status history from {} to {}", granularity, from, to);
+        long buckets = granularity == RollupGranularity.HOUR
+                ? Duration.between(from, to).toHours()
+                : Duration.between(from, to).toDays();
+        if (!from.isBefore(to) || buckets > MAX_HISTORY_BUCKETS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(statusHistoryService.getHistory(granularity, from, to));
+    }
+
     // Loan Score Management
 
     @GetMapping("/loans/{applicationId}/score")
     @Operation(summary = "Get loan score for application", 
                description = "Retrieve the calculated loan score for a specific loan application")
-    public ResponseEntity<LoanScoreResponse> getLoanScore(@PathVariable Long applicationId) {
+    public CompletableFuture<ResponseEntity<LoanScoreResponse>> getLoanScore(@PathVariable Long applicationId) {
         log.info("Admin request to get loan score for application ID: {}", applicationId);
         
-        return loanScoreService.getLoanScoreSync(applicationId)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+        // Returned asynchronously so the request thread is released while the score service is called
+        return loanScoreService.getLoanScore(applicationId)
+                .thenApply(score -> score
+                        .map(ResponseEntity::ok)
+                        .orElse(ResponseEntity.notFound().build()));
     }
 
     @GetMapping("/borrowers/{borrowerId}/scores")
@@ -249,4 +503,38 @@ public class AdminController {
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.status(503).build()); // Service Unavailable
     }
-} 
\ No newline at end of file
+
+    // Dead Letter Management
+
+    @PostMapping("/dlt/{topic}/replay")
+    @Operation(summary = "Replay dead-letter topic",
+               description = "Re-publish records parked in the DLT of a borrower-service topic back onto that topic at a controlled rate")
+    public ResponseEntity<DeadLetterReplayResponse> replayDeadLetters(
+            @PathVariable String topic,
+            @RequestParam(defaultValue = "1000") int maxRecords,
+            @RequestParam(defaultValue = "50") int recordsPerSecond) {
+        log.info("Admin request to replay up to {} dead-letter records for topic: {}", maxRecords, topic);
+        try {
+            return ResponseEntity.ok(deadLetterReplayService.replay(topic, maxRecords, recordsPerSecond));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid dead-letter replay request for topic {}: {}", topic, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Live Updates
+
+    @GetMapping(value = "/events/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream application and document changes",
+               description = "Server-Sent Events stream of new applications, new documents and status changes, optionally filtered by type, borrower or application. Reconnecting clients resume with Last-Event-ID")
+    public SseEmitter streamEvents(
+            @RequestParam(required = false) Set<OfficerChangeEvent.Type> types,
+            @RequestParam(required = false) Long borrowerId,
+            @RequestParam(required = false) Long applicationId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        log.info("Admin request to open event stream (types: {}, borrowerId: {}, applicationId: {}, lastEventId: {})",
+                types, borrowerId, applicationId, lastEventId);
+        return officerEventStreamService.subscribe(
+                new OfficerEventStreamService.Filter(types, borrowerId, applicationId), lastEventId);
+    }
+}
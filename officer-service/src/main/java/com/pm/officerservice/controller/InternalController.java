@@ -0,0 +1,78 @@
+package com.pm.officerservice.controller;
+
+import com.pm.officerservice.dto.DigestEntity;
+import com.pm.officerservice.dto.DigestResponse;
+import com.pm.officerservice.dto.RowHashDto;
+import com.pm.officerservice.service.DigestService;
+import com.pm.officerservice.service.SnapshotService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+/**
+ * Endpoints used by other services and officer-service instances rather than by officers.
+ */
+@RestController
+@RequestMapping("/internal")
+@RequiredArgsConstructor
+@Tag(name = "Internal Operations", description = "Service-to-service endpoints")
+public class InternalController {
+
+    private static final Logger log = LoggerFactory.getLogger(InternalController.class);
+
+    private static final int MAX_BUCKETS = 256;
+    private static final long MAX_ROW_RANGE = 10_000;
+
+    private final SnapshotService snapshotService;
+    private final DigestService digestService;
+
+    @GetMapping("/snapshot")
+    @Operation(summary = "Export projection snapshot",
+               description = "Stream a consistent gzipped snapshot of the projection tables and the Kafka offsets they include, used to bootstrap new instances")
+    public ResponseEntity<StreamingResponseBody> exportSnapshot() {
+        log.info("Request to export a projection snapshot");
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("officer-snapshot.jsonl.gz").build().toString())
+                .body(snapshotService::export);
+    }
+
+    @GetMapping("/digest")
+    @Operation(summary = "Get range digest",
+               description = "Digest of an ID range of a projected table split into equal-width buckets, comparable with borrower-service's")
+    public ResponseEntity<DigestResponse> getDigest(@RequestParam DigestEntity entity,
+                                                    @RequestParam long from,
+                                                    @RequestParam long to,
+                                                    @RequestParam(defaultValue = "1") int buckets) {
+        if (from > to || buckets < 1 || buckets > MAX_BUCKETS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(digestService.digest(entity, from, to, buckets));
+    }
+
+    @GetMapping("/digest/rows")
+    @Operation(summary = "Get row hashes",
+               description = "Per-row hashes of a small ID range of a projected table")
+    public ResponseEntity<List<RowHashDto>> getRowHashes(@RequestParam DigestEntity entity,
+                                                         @RequestParam long from,
+                                                         @RequestParam long to) {
+        if (from > to || to - from >= MAX_ROW_RANGE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(digestService.rowHashes(entity, from, to));
+    }
+}
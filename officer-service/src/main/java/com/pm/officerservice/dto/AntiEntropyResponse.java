@@ -0,0 +1,37 @@
+package com.pm.officerservice.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of one anti-entropy pass against borrower-service.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AntiEntropyResponse {
+
+    private List<EntityResult> entities;
+    private long durationMs;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class EntityResult {
+
+        private DigestEntity entity;
+        private boolean inSync; // Root digests matched, nothing was drilled into
+        private int rangesCompared;
+        private int rowsCompared;
+        private int missing; // Rows only in borrower-service, republished
+        private int conflicting; // Rows whose fields differ, reported only
+        private int orphaned; // Rows only in officer-service, reported only
+        private int republished;
+    }
+}
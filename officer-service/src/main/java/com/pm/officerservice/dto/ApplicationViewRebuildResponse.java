@@ -0,0 +1,20 @@
+package com.pm.officerservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of rebuilding the application view from the source tables.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationViewRebuildResponse {
+
+    private int rebuiltCount;
+    private int removedCount; // View rows whose application no longer exists
+    private long durationMs;
+}
@@ -0,0 +1,49 @@
+package com.pm.officerservice.dto;
+
+import java.time.LocalDateTime;
+
+import com.pm.officerservice.model.AutoDecisionAudit;
+import com.pm.officerservice.model.AutoDecisionOutcome;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One audited auto-decision evaluation, with the score it was based on.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutoDecisionResponse {
+
+    private Long id;
+    private Long applicationId;
+    private AutoDecisionOutcome outcome;
+    private boolean dryRun;
+    private String policyName;
+    private String previousStatus;
+    private String targetStatus;
+    private Integer score;
+    private String scoreGrade;
+    private String riskAssessment;
+    private LocalDateTime evaluatedAt;
+
+    public static AutoDecisionResponse fromEntity(AutoDecisionAudit audit) {
+        return AutoDecisionResponse.builder()
+                .id(audit.getId())
+                .applicationId(audit.getApplicationId())
+                .outcome(audit.getOutcome())
+                .dryRun(audit.isDryRun())
+                .policyName(audit.getPolicyName())
+                .previousStatus(audit.getPreviousStatus())
+                .targetStatus(audit.getTargetStatus())
+                .score(audit.getScore())
+                .scoreGrade(audit.getScoreGrade())
+                .riskAssessment(audit.getRiskAssessment())
+                .evaluatedAt(audit.getEvaluatedAt())
+                .build();
+    }
+}
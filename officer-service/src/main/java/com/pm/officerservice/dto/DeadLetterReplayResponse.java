@@ -0,0 +1,23 @@
+package com.pm.officerservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of a bulk replay of a dead-letter topic back onto its source topic.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeadLetterReplayResponse {
+
+    private String sourceTopic;
+    private String deadLetterTopic;
+    private int replayedCount;
+    private int failedCount;
+    private boolean drained; // True when the DLT had no more records after this run
+    private long durationMs;
+}
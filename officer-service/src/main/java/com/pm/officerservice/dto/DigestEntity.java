@@ -0,0 +1,10 @@
+package com.pm.officerservice.dto;
+
+/**
+ * Tables compared by the anti-entropy digests, in the order they must be repaired.
+ */
+public enum DigestEntity {
+    BORROWER,
+    LOAN_APPLICATION,
+    DOCUMENT
+}
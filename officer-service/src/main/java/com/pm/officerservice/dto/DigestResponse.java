@@ -0,0 +1,35 @@
+package com.pm.officerservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Digests of an ID range split into equal-width buckets, compared by officer-service's
+ * anti-entropy job. A bucket with no rows has a count of 0 and no digest.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DigestResponse {
+    private DigestEntity entity;
+    private long from;
+    private long to;
+    private Long maxId; // Highest ID present in the range, null if empty
+    private List<Bucket> buckets;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        private long from;
+        private long to;
+        private long count;
+        private String digest;
+    }
+}
@@ -0,0 +1,26 @@
+package com.pm.officerservice.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Everything the officer UI needs to open an application, loaded in parallel.
+ * Parts that missed their deadline are listed in {@code unavailableParts} and left null.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanApplicationOverviewResponse {
+
+    private LoanApplicationResponse application; // Includes the borrower details
+    private List<DocumentResponse> documents;
+    private LoanScoreResponse score;
+    private List<String> unavailableParts;
+    private boolean complete;
+    private long elapsedMs;
+}
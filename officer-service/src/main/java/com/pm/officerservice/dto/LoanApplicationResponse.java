@@ -3,6 +3,7 @@ package com.pm.officerservice.dto;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import com.pm.officerservice.model.ApplicationView;
 import com.pm.officerservice.model.Borrower;
 import com.pm.officerservice.model.LoanApplication;
 import com.pm.officerservice.model.LoanApplicationStatus;
@@ -36,6 +37,15 @@ public class LoanApplicationResponse {
     private LocalDateTime appliedAtSource;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Integer pendingDocuments; // Document counts and score are only filled when read from the application view
+    private Integer verifiedDocuments;
+    private Integer rejectedDocuments;
+    private Integer expiredDocuments;
+    private Integer totalDocuments;
+    private Integer latestScore;
+    private String latestScoreGrade;
+    private String latestRiskAssessment;
+    private LocalDateTime scoreCalculatedAt;
     
     public static LoanApplicationResponse fromEntity(LoanApplication entity) {
     Borrower borrower = entity.getBorrower();
@@ -60,4 +70,36 @@ public class LoanApplicationResponse {
         .updatedAt(entity.getUpdatedAt())
         .build();
     }
-} 
\ No newline at end of file
+
+    public static LoanApplicationResponse fromView(ApplicationView view) {
+        return LoanApplicationResponse.builder()
+                .applicationId(view.getApplicationId())
+                .borrowerId(view.getBorrowerId())
+                .borrowerName(view.getBorrowerName())
+                .borrowerEmail(view.getBorrowerEmail())
+                .borrowerPhoneNumber(view.getBorrowerPhoneNumber())
+                .borrowerAnnualIncome(view.getBorrowerAnnualIncome())
+                .borrowerEmploymentStatus(view.getBorrowerEmploymentStatus())
+                .loanAmount(view.getLoanAmount())
+                .loanTermMonths(view.getLoanTermMonths())
+                .loanPurpose(view.getLoanPurpose())
+                .interestRate(view.getInterestRate())
+                .monthlyPayment(view.getMonthlyPayment())
+                .status(LoanApplicationStatus.valueOf(view.getStatus()))
+                .statusUpdatedBy(view.getStatusUpdatedBy())
+                .statusUpdatedAt(view.getStatusUpdatedAt())
+                .appliedAtSource(view.getAppliedAtSource())
+                .createdAt(view.getCreatedAt())
+                .updatedAt(view.getApplicationUpdatedAt())
+                .pendingDocuments(view.getPendingDocuments())
+                .verifiedDocuments(view.getVerifiedDocuments())
+                .rejectedDocuments(view.getRejectedDocuments())
+                .expiredDocuments(view.getExpiredDocuments())
+                .totalDocuments(view.getTotalDocuments())
+                .latestScore(view.getLatestScore())
+                .latestScoreGrade(view.getLatestScoreGrade())
+                .latestRiskAssessment(view.getLatestRiskAssessment())
+                .scoreCalculatedAt(view.getScoreCalculatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.pm.officerservice.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Filters for the loan application export; null fields match everything.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanExportFilter {
+
+    private String status;
+    private Long borrowerId;
+    private Integer minScore;
+    private LocalDateTime appliedFrom; // Inclusive
+    private LocalDateTime appliedTo; // Exclusive
+}
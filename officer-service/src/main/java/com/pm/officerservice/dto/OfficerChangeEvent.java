@@ -0,0 +1,38 @@
+package com.pm.officerservice.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Compact change notification pushed to officer screens over the event stream.
+ * Published as a Spring application event by the services and delivered after commit.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OfficerChangeEvent {
+
+    public enum Type {
+        APPLICATION_CREATED,
+        DOCUMENT_CREATED,
+        LOAN_STATUS_CHANGED,
+        DOCUMENT_STATUS_CHANGED
+    }
+
+    private Type type;
+    private Long applicationId;
+    private Long documentId;
+    private Long borrowerId;
+    private String oldStatus;
+    private String newStatus;
+    private String updatedBy;
+    private LocalDateTime occurredAt;
+}
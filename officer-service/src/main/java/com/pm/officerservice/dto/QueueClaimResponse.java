@@ -0,0 +1,23 @@
+package com.pm.officerservice.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Applications claimed from the work queue for one officer, held until the lease expires.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueueClaimResponse {
+
+    private String claimedBy;
+    private LocalDateTime claimExpiresAt;
+    private List<LoanApplicationResponse> applications;
+}
@@ -0,0 +1,21 @@
+package com.pm.officerservice.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Asks borrower-service to publish the creation events of rows missing here once more.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RepublishRequest {
+
+    private DigestEntity entity;
+    private List<Long> ids;
+}
@@ -0,0 +1,15 @@
+package com.pm.officerservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RowHashDto {
+    private Long id;
+    private String hash;
+}
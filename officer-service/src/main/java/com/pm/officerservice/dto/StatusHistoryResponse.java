@@ -0,0 +1,28 @@
+package com.pm.officerservice.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import com.pm.officerservice.model.RollupGranularity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Status transitions in one hour or day, read from the precomputed rollups.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusHistoryResponse {
+
+    private RollupGranularity granularity;
+    private LocalDateTime bucketStart;
+    private Map<String, Long> transitionCounts; // New status -> number of applications moved into it
+    private long decisionCount; // APPROVED plus REJECTED
+    private Long p50DecisionSeconds; // Time from application to decision
+    private Long p95DecisionSeconds;
+}
@@ -0,0 +1,26 @@
+package com.pm.officerservice.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Dashboard statistics served from the maintained counters rather than from scans of the entity tables.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusStatisticsResponse {
+
+    private Map<String, Long> loanApplicationStatusCounts;
+    private Map<String, Long> documentStatusCounts;
+    private Map<String, Long> pendingLoanApplicationAging; // Age range -> number of PENDING applications
+    private Map<String, Long> pendingDocumentAging; // Age range -> number of PENDING documents
+    private LocalDateTime lastReconciledAt;
+    private LocalDateTime generatedAt;
+}
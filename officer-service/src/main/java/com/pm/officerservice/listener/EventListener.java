@@ -8,17 +8,23 @@ import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.pm.borrowerservice.events.BorrowerCreatedEvent;
 import com.pm.borrowerservice.events.DocumentUploadEvent;
 import com.pm.borrowerservice.events.LoanApplicationEvent;
 import com.pm.officerservice.service.BorrowerService;
+import com.pm.officerservice.service.ConsumerOffsetTracker;
 import com.pm.officerservice.service.DocumentService;
 import com.pm.officerservice.service.LoanApplicationService;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * Applies borrower-service events to the projection tables. Each record is applied in one
+ * transaction together with its offset, so the tables always know which events they include.
+ */
 @Component
 @RequiredArgsConstructor
 public class EventListener {
@@ -28,13 +34,17 @@ public class EventListener {
     private final BorrowerService borrowerService;
     private final LoanApplicationService loanApplicationService;
     private final DocumentService documentService;
+    private final ConsumerOffsetTracker consumerOffsetTracker;
 
+    @Transactional
     @KafkaListener(topics = "${kafka.topics.borrower-created}", groupId = "${spring.kafka.consumer.group-id}")
     public void handleBorrowerCreatedEvent(
             @Payload byte[] eventData,
             @Header(KafkaHeaders.RECEIVED_KEY) String key,
             @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
-            Acknowledgment acknowledgment) {
+            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
+            @Header(KafkaHeaders.OFFSET) long offset,
+            Acknowledgment acknowledgment) throws InvalidProtocolBufferException {
         
         try {
             log.info("Received borrower created event from topic: {}, key: {}", topic, key);
@@ -44,25 +54,29 @@ public class EventListener {
                      event.getBorrowerId(), event.getEmail());
             
             borrowerService.processBorrowerCreatedEvent(event);
+            consumerOffsetTracker.record(topic, partition, offset);
             
             acknowledgment.acknowledge();
             log.info("Successfully processed borrower created event for borrowerId: {}", event.getBorrowerId());
             
         } catch (InvalidProtocolBufferException e) {
-            log.error("Failed to parse borrower created event from topic: {}, key: {}", topic, key, e);
-            acknowledgment.acknowledge(); // Acknowledge to avoid infinite retry
+            log.error("Failed to parse borrower created event from topic: {}, key: {}, forwarding to DLT", topic, key, e);
+            throw e; // Not retryable, the retry topic configuration sends it straight to the DLT
         } catch (Exception e) {
-            log.error("Failed to process borrower created event from topic: {}, key: {}", topic, key, e);
-            acknowledgment.acknowledge(); // For now, acknowledge all to avoid blocking
+            log.error("Failed to process borrower created event from topic: {}, key: {}, scheduling retry", topic, key, e);
+            throw e; // Retried through the retry topics, then parked in the DLT
         }
     }
 
+    @Transactional
     @KafkaListener(topics = "${kafka.topics.loan-application}", groupId = "${spring.kafka.consumer.group-id}")
     public void handleLoanApplicationEvent(
             @Payload byte[] eventData,
             @Header(KafkaHeaders.RECEIVED_KEY) String key,
             @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
-            Acknowledgment acknowledgment) {
+            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
+            @Header(KafkaHeaders.OFFSET) long offset,
+            Acknowledgment acknowledgment) throws InvalidProtocolBufferException {
         
         try {
             log.info("Received loan application event from topic: {}, key: {}", topic, key);
@@ -72,25 +86,29 @@ public class EventListener {
                      event.getApplicationId(), event.getBorrowerId(), event.getLoanAmount());
             
             loanApplicationService.processLoanApplicationEvent(event);
+            consumerOffsetTracker.record(topic, partition, offset);
             
             acknowledgment.acknowledge();
             log.info("Successfully processed loan application event for applicationId: {}", event.getApplicationId());
             
         } catch (InvalidProtocolBufferException e) {
-            log.error("Failed to parse loan application event from topic: {}, key: {}", topic, key, e);
-            acknowledgment.acknowledge();
+            log.error("Failed to parse loan application event from topic: {}, key: {}, forwarding to DLT", topic, key, e);
+            throw e; // Not retryable, the retry topic configuration sends it straight to the DLT
         } catch (Exception e) {
-            log.error("Failed to process loan application event from topic: {}, key: {}", topic, key, e);
-            acknowledgment.acknowledge();
+            log.error("Failed to process loan application event from topic: {}, key: {}, scheduling retry", topic, key, e);
+            throw e; // Retried through the retry topics, then parked in the DLT
         }
     }
 
+    @Transactional
     @KafkaListener(topics = "${kafka.topics.documents-upload}", groupId = "${spring.kafka.consumer.group-id}")
     public void handleDocumentUploadEvent(
             @Payload byte[] eventData,
             @Header(KafkaHeaders.RECEIVED_KEY) String key,
             @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
-            Acknowledgment acknowledgment) {
+            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
+            @Header(KafkaHeaders.OFFSET) long offset,
+            Acknowledgment acknowledgment) throws InvalidProtocolBufferException {
         
         try {
             log.info("Received document upload event from topic: {}, key: {}", topic, key);
@@ -100,16 +118,17 @@ public class EventListener {
                      event.getDocumentId(), event.getBorrowerId(), event.getFileName());
             
             documentService.processDocumentUploadEvent(event);
+            consumerOffsetTracker.record(topic, partition, offset);
             
             acknowledgment.acknowledge();
             log.info("Successfully processed document upload event for documentId: {}", event.getDocumentId());
             
         } catch (InvalidProtocolBufferException e) {
-            log.error("Failed to parse document upload event from topic: {}, key: {}", topic, key, e);
-            acknowledgment.acknowledge();
+            log.error("Failed to parse document upload event from topic: {}, key: {}, forwarding to DLT", topic, key, e);
+            throw e; // Not retryable, the retry topic configuration sends it straight to the DLT
         } catch (Exception e) {
-            log.error("Failed to process document upload event from topic: {}, key: {}", topic, key, e);
-            acknowledgment.acknowledge();
+            log.error("Failed to process document upload event from topic: {}, key: {}, scheduling retry", topic, key, e);
+            throw e; // Retried through the retry topics, then parked in the DLT
         }
     }
 }
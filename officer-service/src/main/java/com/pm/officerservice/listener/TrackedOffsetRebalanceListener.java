@@ -0,0 +1,57 @@
+package com.pm.officerservice.listener;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Component;
+
+import com.pm.officerservice.service.ConsumerOffsetTracker;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Resumes assigned partitions from the offsets stored with the projection tables when those are
+ * ahead of the consumer group's committed position. This is what lets an instance bootstrapped
+ * from a snapshot, or a brand new consumer group, skip the history the tables already contain
+ * instead of replaying it from the earliest offset. Partitions without a stored offset keep the
+ * normal committed/auto-offset-reset behaviour.
+ */
+@Component
+@RequiredArgsConstructor
+public class TrackedOffsetRebalanceListener implements ConsumerAwareRebalanceListener {
+
+    private static final Logger log = LoggerFactory.getLogger(TrackedOffsetRebalanceListener.class);
+
+    private final ConsumerOffsetTracker consumerOffsetTracker;
+
+    @Override
+    public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        if (partitions.isEmpty()) {
+            return;
+        }
+        Set<String> topics = partitions.stream().map(TopicPartition::topic).collect(Collectors.toSet());
+        Map<TopicPartition, Long> stored = consumerOffsetTracker.getPositions(topics);
+        if (stored.isEmpty()) {
+            return;
+        }
+        Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(new HashSet<>(partitions));
+        for (TopicPartition partition : partitions) {
+            Long position = stored.get(partition);
+            OffsetAndMetadata groupPosition = committed.get(partition);
+            if (position != null && (groupPosition == null || groupPosition.offset() < position)) {
+                log.info("Resuming {} from stored offset {} (group committed: {})", partition, position,
+                        groupPosition != null ? groupPosition.offset() : "none");
+                consumer.seek(partition, position);
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.pm.officerservice.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.UpdateTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Denormalised read model of a loan application with its borrower, document counts and latest score,
+ * so officer list and search screens read one row per application without joins.
+ * Maintained by {@code ApplicationViewProjector}; the loan_applications, borrowers and documents
+ * tables stay the source of truth.
+ */
+@Entity
+@Table(name = "application_view", indexes = {
+        @Index(name = "idx_application_view_status_applied", columnList = "status, applied_at_source"),
+        @Index(name = "idx_application_view_borrower", columnList = "borrower_id"),
+        @Index(name = "idx_application_view_applied", columnList = "applied_at_source")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationView {
+
+    @Id
+    @Column(name = "application_id")
+    private Long applicationId;
+
+    @Column(name = "borrower_id", nullable = false)
+    private Long borrowerId;
+
+    @Column(name = "borrower_name")
+    private String borrowerName;
+
+    @Column(name = "borrower_email")
+    private String borrowerEmail;
+
+    @Column(name = "borrower_phone_number")
+    private String borrowerPhoneNumber;
+
+    @Column(name = "borrower_annual_income")
+    private Double borrowerAnnualIncome;
+
+    @Column(name = "borrower_employment_status")
+    private String borrowerEmploymentStatus;
+
+    @Column(name = "loan_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal loanAmount;
+
+    @Column(name = "loan_term_months", nullable = false)
+    private Integer loanTermMonths;
+
+    @Column(name = "loan_purpose")
+    private String loanPurpose;
+
+    @Column(name = "interest_rate", nullable = false, precision = 5, scale = 2)
+    private BigDecimal interestRate;
+
+    @Column(name = "monthly_payment", precision = 19, scale = 2)
+    private BigDecimal monthlyPayment;
+
+    @Column(name = "status", nullable = false)
+    private String status;
+
+    @Column(name = "status_updated_by")
+    private String statusUpdatedBy;
+
+    @Column(name = "status_updated_at")
+    private LocalDateTime statusUpdatedAt;
+
+    @Column(name = "applied_at_source", nullable = false)
+    private LocalDateTime appliedAtSource;
+
+    @Column(name = "pending_documents", nullable = false)
+    private int pendingDocuments;
+
+    @Column(name = "verified_documents", nullable = false)
+    private int verifiedDocuments;
+
+    @Column(name = "rejected_documents", nullable = false)
+    private int rejectedDocuments;
+
+    @Column(name = "expired_documents", nullable = false)
+    private int expiredDocuments;
+
+    @Column(name = "latest_score")
+    private Integer latestScore;
+
+    @Column(name = "latest_score_grade")
+    private String latestScoreGrade;
+
+    @Column(name = "latest_risk_assessment")
+    private String latestRiskAssessment;
+
+    @Column(name = "score_calculated_at")
+    private LocalDateTime scoreCalculatedAt;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt; // When officer-service ingested the application
+
+    @Column(name = "application_updated_at")
+    private LocalDateTime applicationUpdatedAt; // The application row's own updated_at
+
+    @UpdateTimestamp
+    @Column(name = "view_updated_at", nullable = false)
+    private LocalDateTime viewUpdatedAt;
+
+    public int getTotalDocuments() {
+        return pendingDocuments + verifiedDocuments + rejectedDocuments + expiredDocuments;
+    }
+}
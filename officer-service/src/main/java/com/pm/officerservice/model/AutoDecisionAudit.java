@@ -0,0 +1,73 @@
+package com.pm.officerservice.model;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One evaluation of the auto-decision policies for an application, with the score it was based on.
+ */
+@Entity
+@Table(name = "auto_decision_audit", indexes = {
+        @Index(name = "idx_auto_decision_audit_application", columnList = "application_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutoDecisionAudit {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "outcome", nullable = false)
+    private AutoDecisionOutcome outcome;
+
+    @Column(name = "dry_run", nullable = false)
+    private boolean dryRun;
+
+    @Column(name = "policy_name")
+    private String policyName;
+
+    @Column(name = "previous_status", nullable = false)
+    private String previousStatus;
+
+    @Column(name = "target_status")
+    private String targetStatus;
+
+    @Column(name = "score")
+    private Integer score;
+
+    @Column(name = "score_grade")
+    private String scoreGrade;
+
+    @Column(name = "risk_assessment")
+    private String riskAssessment;
+
+    // viewUpdatedAt of the application view the evaluation was based on; a later view change re-evaluates
+    @Column(name = "view_updated_at")
+    private LocalDateTime viewUpdatedAt;
+
+    @CreationTimestamp
+    @Column(name = "evaluated_at", nullable = false, updatable = false)
+    private LocalDateTime evaluatedAt;
+}
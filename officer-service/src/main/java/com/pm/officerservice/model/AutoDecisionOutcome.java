@@ -0,0 +1,7 @@
+package com.pm.officerservice.model;
+
+public enum AutoDecisionOutcome {
+    APPLIED,  // Status changed by the policy
+    DRY_RUN,  // Policy matched, status left unchanged because dry-run mode is on
+    NO_MATCH  // No policy matched, left for an officer
+}
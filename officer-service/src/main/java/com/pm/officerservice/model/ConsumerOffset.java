@@ -0,0 +1,44 @@
+package com.pm.officerservice.model;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.UpdateTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Next Kafka offset to consume per partition, written in the same transaction as the records it covers.
+ * The projection tables therefore always state exactly which events they include.
+ */
+@Entity
+@Table(name = "consumer_offsets")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConsumerOffset {
+
+    @Id
+    @Column(name = "offset_key")
+    private String offsetKey; // TOPIC:PARTITION, e.g. loan-application:0
+
+    @Column(name = "topic", nullable = false)
+    private String topic;
+
+    @Column(name = "partition_id", nullable = false)
+    private int partitionId;
+
+    @Column(name = "next_offset", nullable = false)
+    private long nextOffset;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -12,6 +12,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -22,7 +23,9 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "loan_applications")
+@Table(name = "loan_applications", indexes = {
+        @Index(name = "idx_loan_applications_status_applied", columnList = "status, applied_at_source")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -60,6 +63,12 @@ public class LoanApplication {
     @Column(name = "status_updated_at")
     private LocalDateTime statusUpdatedAt; // When the status was last updated
 
+    @Column(name = "claimed_by")
+    private String claimedBy; // Officer currently working the application, see WorkQueueService
+
+    @Column(name = "claim_expires_at")
+    private LocalDateTime claimExpiresAt;
+
     @Column(name = "applied_at_source", nullable = false)
     private LocalDateTime appliedAtSource;
 
@@ -73,4 +82,12 @@ public class LoanApplication {
 
     @OneToMany(mappedBy = "loanApplication", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Document> documents;
+
+    /**
+     * Whether another officer holds an unexpired claim on this application.
+     */
+    public boolean isClaimedByOtherThan(String officer, LocalDateTime now) {
+        return claimedBy != null && !claimedBy.equals(officer)
+                && claimExpiresAt != null && claimExpiresAt.isAfter(now);
+    }
 }
@@ -0,0 +1,47 @@
+package com.pm.officerservice.model;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.UpdateTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of pending items that started waiting within one hour. Ages are derived at read time
+ * from the bucket start, so rows never need to move as time passes.
+ */
+@Entity
+@Table(name = "pending_age_buckets")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingAgeBucket {
+
+    @Id
+    @Column(name = "bucket_key")
+    private String bucketKey; // CATEGORY:yyyy-MM-ddTHH:00
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", nullable = false)
+    private StatsCategory category;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "item_count", nullable = false)
+    private long itemCount;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,6 @@
+package com.pm.officerservice.model;
+
+public enum StatsCategory {
+    LOAN_APPLICATION,
+    DOCUMENT
+}
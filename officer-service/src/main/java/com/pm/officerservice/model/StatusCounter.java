@@ -0,0 +1,46 @@
+package com.pm.officerservice.model;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.UpdateTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Running count of items currently in a status, maintained in the same transaction as the status change.
+ */
+@Entity
+@Table(name = "status_counters")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusCounter {
+
+    @Id
+    @Column(name = "counter_key")
+    private String counterKey; // CATEGORY:STATUS, e.g. LOAN_APPLICATION:PENDING
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", nullable = false)
+    private StatsCategory category;
+
+    @Column(name = "status", nullable = false)
+    private String status;
+
+    @Column(name = "item_count", nullable = false)
+    private long itemCount;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
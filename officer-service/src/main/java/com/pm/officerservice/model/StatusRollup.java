@@ -0,0 +1,65 @@
+package com.pm.officerservice.model;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.UpdateTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Precomputed transition count and time-to-decision percentiles for one status in one hour or day,
+ * so analytics never scan the status transition log.
+ */
+@Entity
+@Table(name = "status_rollups", indexes = {
+        @Index(name = "idx_status_rollups_bucket", columnList = "granularity, bucket_start")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusRollup {
+
+    public static final String DECIDED = "DECIDED"; // Pseudo status aggregating APPROVED and REJECTED
+
+    @Id
+    @Column(name = "rollup_key")
+    private String rollupKey; // GRANULARITY:BUCKET_START:STATUS, e.g. HOUR:2024-03-01T09:00:APPROVED
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "status", nullable = false)
+    private String status;
+
+    @Column(name = "transition_count", nullable = false)
+    private long transitionCount;
+
+    @Column(name = "p50_decision_seconds")
+    private Long p50DecisionSeconds;
+
+    @Column(name = "p95_decision_seconds")
+    private Long p95DecisionSeconds;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static String rollupKey(RollupGranularity granularity, LocalDateTime bucketStart, String status) {
+        return granularity + ":" + bucketStart + ":" + status;
+    }
+}
@@ -0,0 +1,59 @@
+package com.pm.officerservice.model;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Append-only log of loan application status changes, written in the transaction that changes the status.
+ */
+@Entity
+@Table(name = "status_transitions", indexes = {
+        @Index(name = "idx_status_transitions_changed_at", columnList = "changed_at"),
+        @Index(name = "idx_status_transitions_application", columnList = "application_id, changed_at"),
+        @Index(name = "idx_status_transitions_recorded_at", columnList = "recorded_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusTransition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "application_id", nullable = false, updatable = false)
+    private Long applicationId;
+
+    @Column(name = "from_status", updatable = false)
+    private String fromStatus; // Null when the application was created
+
+    @Column(name = "to_status", nullable = false, updatable = false)
+    private String toStatus;
+
+    @Column(name = "changed_by", updatable = false)
+    private String changedBy;
+
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    private LocalDateTime changedAt;
+
+    @Column(name = "decision_seconds", updatable = false)
+    private Long decisionSeconds; // Time from application to this decision, only for APPROVED/REJECTED
+
+    @CreationTimestamp
+    @Column(name = "recorded_at", updatable = false)
+    private LocalDateTime recordedAt; // When the transition was logged, which can be long after changedAt
+}
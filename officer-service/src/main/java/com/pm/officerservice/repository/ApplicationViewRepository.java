@@ -0,0 +1,120 @@
+package com.pm.officerservice.repository;
+
+import com.pm.officerservice.model.ApplicationView;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface ApplicationViewRepository extends JpaRepository<ApplicationView, Long> {
+
+    List<ApplicationView> findByStatus(String status, Sort sort);
+
+    List<ApplicationView> findByBorrowerId(Long borrowerId, Sort sort);
+
+    // Null filters match everything; borrowerName is a lower-case LIKE pattern
+    @Query("select v from ApplicationView v " +
+           "where (:status is null or v.status = :status) " +
+           "and (:borrowerId is null or v.borrowerId = :borrowerId) " +
+           "and (:minScore is null or v.latestScore >= :minScore) " +
+           "and (:borrowerName is null or lower(v.borrowerName) like :borrowerName)")
+    Page<ApplicationView> search(@Param("status") String status,
+                                 @Param("borrowerId") Long borrowerId,
+                                 @Param("minScore") Integer minScore,
+                                 @Param("borrowerName") String borrowerName,
+                                 Pageable pageable);
+
+    // Rebuilds lock the rows they overwrite, so concurrent increments wait instead of being lost
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select v from ApplicationView v where v.applicationId in :ids")
+    List<ApplicationView> lockAllById(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update ApplicationView v set v.status = :status, v.statusUpdatedBy = :updatedBy, " +
+           "v.statusUpdatedAt = :updatedAt, v.applicationUpdatedAt = :updatedAt, v.viewUpdatedAt = CURRENT_TIMESTAMP " +
+           "where v.applicationId = :applicationId")
+    int updateStatus(@Param("applicationId") Long applicationId, @Param("status") String status,
+                     @Param("updatedBy") String updatedBy, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("update ApplicationView v set v.pendingDocuments = v.pendingDocuments + :pending, " +
+           "v.verifiedDocuments = v.verifiedDocuments + :verified, " +
+           "v.rejectedDocuments = v.rejectedDocuments + :rejected, " +
+           "v.expiredDocuments = v.expiredDocuments + :expired, v.viewUpdatedAt = CURRENT_TIMESTAMP " +
+           "where v.applicationId = :applicationId")
+    int adjustDocumentCounts(@Param("applicationId") Long applicationId, @Param("pending") int pending,
+                             @Param("verified") int verified, @Param("rejected") int rejected,
+                             @Param("expired") int expired);
+
+    @Modifying
+    @Query("update ApplicationView v set v.borrowerName = :name, v.borrowerEmail = :email, " +
+           "v.borrowerPhoneNumber = :phoneNumber, v.borrowerAnnualIncome = :annualIncome, " +
+           "v.borrowerEmploymentStatus = :employmentStatus, v.viewUpdatedAt = CURRENT_TIMESTAMP " +
+           "where v.borrowerId = :borrowerId")
+    int updateBorrower(@Param("borrowerId") Long borrowerId, @Param("name") String name,
+                       @Param("email") String email, @Param("phoneNumber") String phoneNumber,
+                       @Param("annualIncome") Double annualIncome,
+                       @Param("employmentStatus") String employmentStatus);
+
+    // Borrowers with recent applications that have no score yet, most recent first
+    @Query("select v.borrowerId from ApplicationView v where v.latestScore is null " +
+           "and v.appliedAtSource >= :since group by v.borrowerId order by max(v.appliedAtSource) desc")
+    List<Long> findBorrowersAwaitingScore(@Param("since") LocalDateTime since, Pageable pageable);
+
+    // Ignores scores older than the one already recorded, so out-of-order responses cannot regress it
+    @Modifying
+    @Query("update ApplicationView v set v.latestScore = :score, v.latestScoreGrade = :grade, " +
+           "v.latestRiskAssessment = :risk, v.scoreCalculatedAt = :calculatedAt, v.viewUpdatedAt = CURRENT_TIMESTAMP " +
+           "where v.applicationId = :applicationId " +
+           "and (v.scoreCalculatedAt is null or v.scoreCalculatedAt <= :calculatedAt)")
+    int recordScore(@Param("applicationId") Long applicationId, @Param("score") Integer score,
+                    @Param("grade") String grade, @Param("risk") String risk,
+                    @Param("calculatedAt") LocalDateTime calculatedAt);
+
+    @Modifying
+    @Query("delete from ApplicationView v where v.applicationId not in " +
+           "(select la.applicationId from LoanApplication la)")
+    int deleteOrphans();
+
+    // Pending applications the auto-decision engine has not evaluated in their current state. In
+    // dry-run mode any evaluation counts; in live mode only live ones, so switching dry-run off
+    // re-evaluates. A view changed since its last evaluation (new score, documents) is evaluated again
+    @Query("select v from ApplicationView v where v.status = 'PENDING' and not exists " +
+           "(select a.id from AutoDecisionAudit a where a.applicationId = v.applicationId " +
+           "and (a.dryRun = false or a.dryRun = :dryRun) " +
+           "and coalesce(a.viewUpdatedAt, a.evaluatedAt) >= v.viewUpdatedAt) order by v.appliedAtSource")
+    List<ApplicationView> findPendingForAutoDecision(@Param("dryRun") boolean dryRun, Pageable pageable);
+
+    // Cursor over the matching rows for exports; must be consumed inside a transaction and closed
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select v from ApplicationView v " +
+           "where (:status is null or v.status = :status) " +
+           "and (:borrowerId is null or v.borrowerId = :borrowerId) " +
+           "and (:minScore is null or v.latestScore >= :minScore) " +
+           "and (:appliedFrom is null or v.appliedAtSource >= :appliedFrom) " +
+           "and (:appliedTo is null or v.appliedAtSource < :appliedTo) " +
+           "order by v.applicationId")
+    Stream<ApplicationView> streamForExport(@Param("status") String status,
+                                            @Param("borrowerId") Long borrowerId,
+                                            @Param("minScore") Integer minScore,
+                                            @Param("appliedFrom") LocalDateTime appliedFrom,
+                                            @Param("appliedTo") LocalDateTime appliedTo);
+}
@@ -0,0 +1,16 @@
+package com.pm.officerservice.repository;
+
+import com.pm.officerservice.model.AutoDecisionAudit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AutoDecisionAuditRepository extends JpaRepository<AutoDecisionAudit, Long> {
+
+    List<AutoDecisionAudit> findByApplicationIdOrderByIdDesc(Long applicationId);
+
+    List<AutoDecisionAudit> findAllByOrderByIdDesc(Pageable pageable);
+}
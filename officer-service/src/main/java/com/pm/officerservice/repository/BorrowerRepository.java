@@ -2,9 +2,12 @@ package com.pm.officerservice.repository;
 
 import com.pm.officerservice.model.Borrower;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface BorrowerRepository extends JpaRepository<Borrower, Long> {
@@ -12,4 +15,9 @@ public interface BorrowerRepository extends JpaRepository<Borrower, Long> {
     Optional<Borrower> findByEmail(String email);
     
     Optional<Borrower> findBySsn(String ssn);
+
+    // Fields compared by the anti-entropy digest, in the same order as borrower-service
+    @Query("select b.borrowerId, b.email, b.firstName, b.lastName, b.annualIncome from Borrower b " +
+           "where b.borrowerId between :from and :to order by b.borrowerId")
+    Stream<Object[]> streamDigestRows(@Param("from") Long from, @Param("to") Long to);
 }
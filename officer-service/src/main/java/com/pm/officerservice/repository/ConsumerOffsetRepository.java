@@ -0,0 +1,23 @@
+package com.pm.officerservice.repository;
+
+import com.pm.officerservice.model.ConsumerOffset;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ConsumerOffsetRepository extends JpaRepository<ConsumerOffset, String> {
+
+    List<ConsumerOffset> findByTopicIn(Collection<String> topics);
+
+    // Only moves forward, so a redelivered record cannot rewind the position
+    @Modifying
+    @Query("update ConsumerOffset o set o.nextOffset = :nextOffset, o.updatedAt = CURRENT_TIMESTAMP " +
+           "where o.offsetKey = :offsetKey and o.nextOffset < :nextOffset")
+    int advance(@Param("offsetKey") String offsetKey, @Param("nextOffset") long nextOffset);
+}
@@ -3,9 +3,14 @@ package com.pm.officerservice.repository;
 import com.pm.officerservice.model.Document;
 import com.pm.officerservice.model.DocumentStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface DocumentRepository extends JpaRepository<Document, Long> {
@@ -15,4 +20,27 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
     List<Document> findByLoanApplicationApplicationId(Long applicationId);
     
     List<Document> findByStatus(DocumentStatus status);
+
+    @Query("select d from Document d join fetch d.borrower join fetch d.loanApplication la " +
+           "where la.applicationId = :applicationId")
+    List<Document> findWithBorrowerByLoanApplicationId(@Param("applicationId") Long applicationId);
+
+    @Query("select d.status, count(d) from Document d group by d.status")
+    List<Object[]> countGroupedByStatus();
+
+    // Documents without a status are treated as PENDING, matching DocumentService
+    @Query("select coalesce(d.statusUpdatedAt, d.uploadedAtSource) from Document d " +
+           "where d.status = com.pm.officerservice.model.DocumentStatus.PENDING or d.status is null")
+    List<LocalDateTime> findPendingWaitingSince();
+
+    @Query("select d.loanApplication.applicationId, d.status, count(d) from Document d " +
+           "where d.loanApplication.applicationId in :applicationIds " +
+           "group by d.loanApplication.applicationId, d.status")
+    List<Object[]> countByApplicationAndStatus(@Param("applicationIds") Collection<Long> applicationIds);
+
+    // Fields compared by the anti-entropy digest, in the same order as borrower-service
+    @Query("select d.documentId, d.borrower.borrowerId, la.applicationId, d.fileName, d.fileSize " +
+           "from Document d left join d.loanApplication la " +
+           "where d.documentId between :from and :to order by d.documentId")
+    Stream<Object[]> streamDigestRows(@Param("from") Long from, @Param("to") Long to);
 }
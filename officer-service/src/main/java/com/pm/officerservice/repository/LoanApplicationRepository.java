@@ -1,10 +1,19 @@
 package com.pm.officerservice.repository;
 
 import com.pm.officerservice.model.LoanApplication;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface LoanApplicationRepository extends JpaRepository<LoanApplication, Long> {
@@ -12,4 +21,46 @@ public interface LoanApplicationRepository extends JpaRepository<LoanApplication
     List<LoanApplication> findByBorrowerBorrowerId(Long borrowerId);
     
     List<LoanApplication> findByStatus(String status);
+
+    @Query("select la from LoanApplication la join fetch la.borrower where la.applicationId = :applicationId")
+    Optional<LoanApplication> findWithBorrowerById(@Param("applicationId") Long applicationId);
+
+    @Query("select la.status, count(la) from LoanApplication la group by la.status")
+    List<Object[]> countGroupedByStatus();
+
+    @Query("select coalesce(la.statusUpdatedAt, la.appliedAtSource) from LoanApplication la where la.status = 'PENDING'")
+    List<LocalDateTime> findPendingWaitingSince();
+
+    // Keyset page for rebuilding the application view
+    @Query("select la from LoanApplication la join fetch la.borrower " +
+           "where la.applicationId > :afterId order by la.applicationId")
+    List<LoanApplication> findPageWithBorrower(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select la from LoanApplication la where la.applicationId = :applicationId")
+    Optional<LoanApplication> lockById(@Param("applicationId") Long applicationId);
+
+    // Oldest unclaimed (or lease-expired) pending applications. Rows another officer is claiming
+    // right now are skipped rather than waited on, so concurrent claims return disjoint work
+    @Query(value = "select * from loan_applications where status = 'PENDING' " +
+                   "and (claim_expires_at is null or claim_expires_at < :now) " +
+                   "order by applied_at_source, application_id limit :limit for update skip locked",
+           nativeQuery = true)
+    List<LoanApplication> lockClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("update LoanApplication la set la.claimExpiresAt = :expiresAt " +
+           "where la.applicationId = :applicationId and la.claimedBy = :officer and la.claimExpiresAt > :now")
+    int renewClaim(@Param("applicationId") Long applicationId, @Param("officer") String officer,
+                   @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("update LoanApplication la set la.claimedBy = null, la.claimExpiresAt = null " +
+           "where la.applicationId = :applicationId and la.claimedBy = :officer")
+    int releaseClaim(@Param("applicationId") Long applicationId, @Param("officer") String officer);
+
+    // Fields compared by the anti-entropy digest, in the same order as borrower-service
+    @Query("select la.applicationId, la.borrower.borrowerId, la.loanAmount, la.loanTermMonths, la.interestRate " +
+           "from LoanApplication la where la.applicationId between :from and :to order by la.applicationId")
+    Stream<Object[]> streamDigestRows(@Param("from") Long from, @Param("to") Long to);
 }
@@ -0,0 +1,44 @@
+package com.pm.officerservice.repository;
+
+import com.pm.officerservice.model.PendingAgeBucket;
+import com.pm.officerservice.model.StatsCategory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PendingAgeBucketRepository extends JpaRepository<PendingAgeBucket, String> {
+
+    List<PendingAgeBucket> findByCategoryAndItemCountGreaterThan(StatsCategory category, long itemCount);
+
+    // Adds to the bucket, creating it on first use; see StatusCounterRepository.upsertCount
+    @Modifying
+    @Query(value = "insert into pending_age_buckets (bucket_key, category, bucket_start, item_count, updated_at) " +
+                   "values (:bucketKey, :category, :bucketStart, :delta, CURRENT_TIMESTAMP) " +
+                   "on conflict (bucket_key) do update " +
+                   "set item_count = pending_age_buckets.item_count + excluded.item_count, updated_at = excluded.updated_at",
+           nativeQuery = true)
+    int upsertCount(@Param("bucketKey") String bucketKey, @Param("category") String category,
+                    @Param("bucketStart") LocalDateTime bucketStart, @Param("delta") long delta);
+
+    // The same for databases without ON CONFLICT, such as the H2 test database
+    @Modifying
+    @Query(value = "merge into pending_age_buckets b " +
+                   "using (values (:bucketKey, :category, :bucketStart, :delta)) v (bucket_key, category, bucket_start, delta) " +
+                   "on b.bucket_key = v.bucket_key " +
+                   "when matched then update set item_count = b.item_count + v.delta, updated_at = CURRENT_TIMESTAMP " +
+                   "when not matched then insert (bucket_key, category, bucket_start, item_count, updated_at) " +
+                   "values (v.bucket_key, v.category, v.bucket_start, v.delta, CURRENT_TIMESTAMP)",
+           nativeQuery = true)
+    int mergeCount(@Param("bucketKey") String bucketKey, @Param("category") String category,
+                   @Param("bucketStart") LocalDateTime bucketStart, @Param("delta") long delta);
+
+    @Modifying
+    @Query("delete from PendingAgeBucket b where b.category = :category")
+    int deleteByCategory(@Param("category") StatsCategory category);
+}
@@ -0,0 +1,46 @@
+package com.pm.officerservice.repository;
+
+import com.pm.officerservice.model.StatsCategory;
+import com.pm.officerservice.model.StatusCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface StatusCounterRepository extends JpaRepository<StatusCounter, String> {
+
+    List<StatusCounter> findByCategory(StatsCategory category);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from StatusCounter c where c.category = :category order by c.counterKey")
+    List<StatusCounter> lockByCategory(@Param("category") StatsCategory category);
+
+    // Adds to the counter, creating it on first use. One statement, so two transactions that both
+    // count a new key first cannot both try to insert it
+    @Modifying
+    @Query(value = "insert into status_counters (counter_key, category, status, item_count, updated_at) " +
+                   "values (:counterKey, :category, :status, :delta, CURRENT_TIMESTAMP) " +
+                   "on conflict (counter_key) do update " +
+                   "set item_count = status_counters.item_count + excluded.item_count, updated_at = excluded.updated_at",
+           nativeQuery = true)
+    int upsertCount(@Param("counterKey") String counterKey, @Param("category") String category,
+                    @Param("status") String status, @Param("delta") long delta);
+
+    // The same for databases without ON CONFLICT, such as the H2 test database
+    @Modifying
+    @Query(value = "merge into status_counters c " +
+                   "using (values (:counterKey, :category, :status, :delta)) v (counter_key, category, status, delta) " +
+                   "on c.counter_key = v.counter_key " +
+                   "when matched then update set item_count = c.item_count + v.delta, updated_at = CURRENT_TIMESTAMP " +
+                   "when not matched then insert (counter_key, category, status, item_count, updated_at) " +
+                   "values (v.counter_key, v.category, v.status, v.delta, CURRENT_TIMESTAMP)",
+           nativeQuery = true)
+    int mergeCount(@Param("counterKey") String counterKey, @Param("category") String category,
+                   @Param("status") String status, @Param("delta") long delta);
+}
@@ -0,0 +1,30 @@
+package com.pm.officerservice.repository;
+
+import com.pm.officerservice.model.RollupGranularity;
+import com.pm.officerservice.model.StatusRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StatusRollupRepository extends JpaRepository<StatusRollup, String> {
+
+    @Query("select r from StatusRollup r where r.granularity = :granularity " +
+           "and r.bucketStart >= :from and r.bucketStart < :to order by r.bucketStart, r.status")
+    List<StatusRollup> findBuckets(@Param("granularity") RollupGranularity granularity,
+                                   @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // When the rollup job last wrote this granularity, its watermark over the transition log
+    @Query("select max(r.updatedAt) from StatusRollup r where r.granularity = :granularity")
+    Optional<LocalDateTime> findLastUpdatedAt(@Param("granularity") RollupGranularity granularity);
+
+    @Modifying
+    @Query("delete from StatusRollup r where r.granularity = :granularity and r.bucketStart = :bucketStart")
+    int deleteBucket(@Param("granularity") RollupGranularity granularity, @Param("bucketStart") LocalDateTime bucketStart);
+}
@@ -0,0 +1,34 @@
+package com.pm.officerservice.repository;
+
+import com.pm.officerservice.model.StatusTransition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StatusTransitionRepository extends JpaRepository<StatusTransition, Long> {
+
+    List<StatusTransition> findByApplicationIdOrderByChangedAtAscIdAsc(Long applicationId);
+
+    @Query("select min(t.changedAt) from StatusTransition t")
+    Optional<LocalDateTime> findEarliestChangedAt();
+
+    // Transitions logged since the given time, late ones included, to find the buckets to roll up again
+    @Query("select distinct t.changedAt from StatusTransition t where t.recordedAt >= :since")
+    List<LocalDateTime> findChangedAtRecordedSince(@Param("since") LocalDateTime since);
+
+    // Range scans on the changed_at index, used only by the rollup job
+    @Query("select t.toStatus, count(t) from StatusTransition t " +
+           "where t.changedAt >= :from and t.changedAt < :to group by t.toStatus")
+    List<Object[]> countByStatusBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("select t.toStatus, t.decisionSeconds from StatusTransition t " +
+           "where t.changedAt >= :from and t.changedAt < :to and t.decisionSeconds is not null " +
+           "order by t.decisionSeconds")
+    List<Object[]> findDecisionSecondsBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
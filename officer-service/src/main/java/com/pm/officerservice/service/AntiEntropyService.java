@@ -0,0 +1,191 @@
+package com.pm.officerservice.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.pm.officerservice.client.BorrowerServiceClient;
+import com.pm.officerservice.dto.AntiEntropyResponse;
+import com.pm.officerservice.dto.DigestEntity;
+import com.pm.officerservice.dto.DigestResponse;
+import com.pm.officerservice.dto.RepublishRequest;
+import com.pm.officerservice.dto.RowHashDto;
+
+/**
+ * Finds rows borrower-service holds that never reached the projection tables, for example when an
+ * event was lost, and has their events published again.
+ * <p>
+ * Each table is compared top down: one digest over every ID first, and only if that differs the
+ * range is split into {@code officer.anti-entropy.fanout} buckets, descending into the buckets
+ * whose digests differ until a range holds at most {@code officer.anti-entropy.leaf-size} IDs.
+ * Those ranges are compared row by row. In-sync data therefore costs one request per table.
+ * Rows missing here are republished by borrower-service; rows whose fields differ, or that exist
+ * only here, are reported but not repaired since the event handlers never overwrite a row. A pass
+ * runs on one instance at a time.
+ */
+@Service
+public class AntiEntropyService {
+
+    private static final Logger log = LoggerFactory.getLogger(AntiEntropyService.class);
+
+    static final long MIN_ID = 1;
+    static final int REPUBLISH_BATCH_SIZE = 500;
+    static final long LOCK_KEY = 0x656e74726f7079L; // "entropy"
+
+    private final DigestService digestService;
+    private final BorrowerServiceClient borrowerServiceClient;
+    private final ClusterLock clusterLock;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${officer.anti-entropy.enabled:true}")
+    private boolean enabled;
+
+    @Value("${officer.anti-entropy.fanout:16}")
+    private int fanout;
+
+    @Value("${officer.anti-entropy.leaf-size:256}")
+    private long leafSize;
+
+    public AntiEntropyService(DigestService digestService, BorrowerServiceClient borrowerServiceClient,
+                              ClusterLock clusterLock) {
+        this.digestService = digestService;
+        this.borrowerServiceClient = borrowerServiceClient;
+        this.clusterLock = clusterLock;
+    }
+
+    @Scheduled(initialDelayString = "${officer.anti-entropy.initial-delay-ms:300000}",
+               fixedDelayString = "${officer.anti-entropy.interval-ms:3600000}")
+    public void scheduledRun() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            run();
+        } catch (IllegalStateException e) {
+            log.info("Skipping scheduled anti-entropy pass: {}", e.getMessage());
+        } catch (Exception e) {
+            log.error("Anti-entropy pass against borrower-service failed", e);
+        }
+    }
+
+    /**
+     * Compare every table with borrower-service and repair the missing rows. Parents are compared
+     * before children so republished applications find their borrower.
+     *
+     * @throws IllegalStateException if a pass is already running here or on another instance
+     */
+    public AntiEntropyResponse run() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("Anti-entropy pass is already running");
+        }
+        try {
+            AtomicReference<AntiEntropyResponse> response = new AtomicReference<>();
+            if (!clusterLock.runExclusively(LOCK_KEY, () -> response.set(reconcileAll()))) {
+                throw new IllegalStateException("Anti-entropy pass is already running on another instance");
+            }
+            return response.get();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private AntiEntropyResponse reconcileAll() {
+        long started = System.currentTimeMillis();
+        List<AntiEntropyResponse.EntityResult> results = new ArrayList<>();
+        for (DigestEntity entity : DigestEntity.values()) {
+            results.add(reconcile(entity));
+        }
+        long durationMs = System.currentTimeMillis() - started;
+        log.info("Anti-entropy pass finished in {} ms: {}", durationMs, results);
+        return AntiEntropyResponse.builder()
+                .entities(results)
+                .durationMs(durationMs)
+                .build();
+    }
+
+    AntiEntropyResponse.EntityResult reconcile(DigestEntity entity) {
+        AntiEntropyResponse.EntityResult result = AntiEntropyResponse.EntityResult.builder()
+                .entity(entity)
+                .build();
+
+        DigestResponse localRoot = digestService.digest(entity, MIN_ID, Long.MAX_VALUE, 1);
+        DigestResponse remoteRoot = borrowerServiceClient.getDigest(entity, MIN_ID, Long.MAX_VALUE, 1);
+        result.setRangesCompared(1);
+        if (localRoot.getBuckets().equals(remoteRoot.getBuckets())) {
+            result.setInSync(true);
+            return result;
+        }
+
+        long maxId = Math.max(maxId(localRoot), maxId(remoteRoot));
+        List<Long> missing = new ArrayList<>();
+        Deque<long[]> ranges = new ArrayDeque<>();
+        ranges.push(new long[]{MIN_ID, maxId});
+        while (!ranges.isEmpty()) {
+            long[] range = ranges.pop();
+            if (range[1] - range[0] < leafSize) {
+                compareRows(entity, range[0], range[1], result, missing);
+                continue;
+            }
+            List<DigestResponse.Bucket> local = digestService.digest(entity, range[0], range[1], fanout).getBuckets();
+            List<DigestResponse.Bucket> remote = borrowerServiceClient.getDigest(entity, range[0], range[1], fanout).getBuckets();
+            result.setRangesCompared(result.getRangesCompared() + 1);
+            for (int i = local.size() - 1; i >= 0; i--) {
+                if (!local.get(i).equals(remote.get(i))) {
+                    ranges.push(new long[]{local.get(i).getFrom(), local.get(i).getTo()});
+                }
+            }
+        }
+
+        for (int i = 0; i < missing.size(); i += REPUBLISH_BATCH_SIZE) {
+            List<Long> batch = missing.subList(i, Math.min(i + REPUBLISH_BATCH_SIZE, missing.size()));
+            Integer published = borrowerServiceClient.republish(RepublishRequest.builder()
+                    .entity(entity)
+                    .ids(new ArrayList<>(batch))
+                    .build()).get("published");
+            result.setRepublished(result.getRepublished() + (published != null ? published : 0));
+        }
+        log.info("Reconciled {}: {} ranges and {} rows compared, {} missing ({} republished), {} conflicting, {} orphaned",
+                entity, result.getRangesCompared(), result.getRowsCompared(), result.getMissing(),
+                result.getRepublished(), result.getConflicting(), result.getOrphaned());
+        return result;
+    }
+
+    private void compareRows(DigestEntity entity, long from, long to, AntiEntropyResponse.EntityResult result,
+                             List<Long> missing) {
+        Map<Long, String> local = new HashMap<>();
+        for (RowHashDto row : digestService.rowHashes(entity, from, to)) {
+            local.put(row.getId(), row.getHash());
+        }
+        for (RowHashDto row : borrowerServiceClient.getRowHashes(entity, from, to)) {
+            result.setRowsCompared(result.getRowsCompared() + 1);
+            String localHash = local.remove(row.getId());
+            if (localHash == null) {
+                missing.add(row.getId());
+                result.setMissing(result.getMissing() + 1);
+            } else if (!localHash.equals(row.getHash())) {
+                log.warn("{} {} differs from borrower-service, not repaired", entity, row.getId());
+                result.setConflicting(result.getConflicting() + 1);
+            }
+        }
+        for (Long orphan : local.keySet()) {
+            log.warn("{} {} does not exist in borrower-service", entity, orphan);
+        }
+        result.setRowsCompared(result.getRowsCompared() + local.size());
+        result.setOrphaned(result.getOrphaned() + local.size());
+    }
+
+    private static long maxId(DigestResponse digest) {
+        return digest.getMaxId() != null ? digest.getMaxId() : MIN_ID;
+    }
+}
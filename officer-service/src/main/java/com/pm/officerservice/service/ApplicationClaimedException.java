@@ -0,0 +1,11 @@
+package com.pm.officerservice.service;
+
+/**
+ * Thrown when an officer acts on an application another officer currently holds a claim on.
+ */
+public class ApplicationClaimedException extends RuntimeException {
+
+    public ApplicationClaimedException(Long applicationId, String claimedBy) {
+        super("Loan application " + applicationId + " is claimed by " + claimedBy);
+    }
+}
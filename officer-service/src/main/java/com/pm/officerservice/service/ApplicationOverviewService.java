@@ -0,0 +1,133 @@
+package com.pm.officerservice.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.pm.officerservice.dto.DocumentResponse;
+import com.pm.officerservice.dto.LoanApplicationOverviewResponse;
+import com.pm.officerservice.dto.LoanApplicationResponse;
+import com.pm.officerservice.dto.LoanScoreResponse;
+import com.pm.officerservice.repository.DocumentRepository;
+import com.pm.officerservice.repository.LoanApplicationRepository;
+
+/**
+ * Builds the officer overview of a loan application.
+ * The application (with its borrower), the documents and the remote score are fetched
+ * concurrently, each with its own deadline, so the page costs the slowest dependency
+ * instead of the sum of all of them. A slow score service yields a partial response.
+ */
+@Service
+public class ApplicationOverviewService {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationOverviewService.class);
+
+    static final String DOCUMENTS_PART = "documents";
+    static final String SCORE_PART = "score";
+
+    private final LoanApplicationRepository loanApplicationRepository;
+    private final DocumentRepository documentRepository;
+    private final LoanScoreService loanScoreService;
+    private final Executor overviewTaskExecutor;
+
+    @Value("${officer.overview.application-timeout-ms:2000}")
+    private long applicationTimeoutMs;
+
+    @Value("${officer.overview.documents-timeout-ms:2000}")
+    private long documentsTimeoutMs;
+
+    @Value("${officer.overview.score-timeout-ms:1500}")
+    private long scoreTimeoutMs;
+
+    public ApplicationOverviewService(LoanApplicationRepository loanApplicationRepository,
+                                      DocumentRepository documentRepository,
+                                      LoanScoreService loanScoreService,
+                                      @Qualifier("overviewTaskExecutor") Executor overviewTaskExecutor) {
+        this.loanApplicationRepository = loanApplicationRepository;
+        this.documentRepository = documentRepository;
+        this.loanScoreService = loanScoreService;
+        this.overviewTaskExecutor = overviewTaskExecutor;
+    }
+
+    /**
+     * Load the overview of a loan application.
+     *
+     * @param applicationId the loan application ID
+     * @return the overview, or empty if the application does not exist
+     */
+    public Optional<LoanApplicationOverviewResponse> getOverview(Long applicationId) {
+        long started = System.nanoTime();
+
+        CompletableFuture<Optional<LoanApplicationResponse>> application = CompletableFuture
+                .supplyAsync(() -> loanApplicationRepository.findWithBorrowerById(applicationId)
+                        .map(LoanApplicationResponse::fromEntity), overviewTaskExecutor)
+                .orTimeout(applicationTimeoutMs, TimeUnit.MILLISECONDS);
+        CompletableFuture<List<DocumentResponse>> documents = CompletableFuture
+                .supplyAsync(() -> documentRepository.findWithBorrowerByLoanApplicationId(applicationId)
+                        .stream()
+                        .map(DocumentResponse::fromEntity)
+                        .toList(), overviewTaskExecutor)
+                .orTimeout(documentsTimeoutMs, TimeUnit.MILLISECONDS);
+        CompletableFuture<Optional<LoanScoreResponse>> score = loanScoreService.getLoanScore(applicationId)
+                .orTimeout(scoreTimeoutMs, TimeUnit.MILLISECONDS);
+
+        Optional<LoanApplicationResponse> loanApplication;
+        try {
+            loanApplication = application.join();
+        } catch (CompletionException e) {
+            log.error("Failed to load loan application {} for overview", applicationId, e);
+            cancel(documents, score);
+            throw e;
+        }
+        if (loanApplication.isEmpty()) {
+            cancel(documents, score);
+            return Optional.empty();
+        }
+
+        List<String> unavailableParts = new ArrayList<>();
+        List<DocumentResponse> documentResponses = awaitPart(applicationId, DOCUMENTS_PART, documents, unavailableParts);
+        Optional<LoanScoreResponse> scoreResponse = awaitPart(applicationId, SCORE_PART, score, unavailableParts);
+        if (scoreResponse != null && scoreResponse.isPresent() && !scoreResponse.get().isServiceAvailable()) {
+            unavailableParts.add(SCORE_PART);
+        }
+
+        LoanApplicationOverviewResponse overview = LoanApplicationOverviewResponse.builder()
+                .application(loanApplication.get())
+                .documents(documentResponses)
+                .score(scoreResponse != null ? scoreResponse.orElse(null) : null)
+                .unavailableParts(unavailableParts)
+                .complete(unavailableParts.isEmpty())
+                .elapsedMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started))
+                .build();
+        log.info("Built overview for application {} in {} ms (unavailable parts: {})",
+                applicationId, overview.getElapsedMs(), unavailableParts);
+        return Optional.of(overview);
+    }
+
+    private <T> T awaitPart(Long applicationId, String part, CompletableFuture<T> future, List<String> unavailableParts) {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            log.warn("Overview part '{}' for application {} unavailable: {}", part, applicationId, e.toString());
+            unavailableParts.add(part);
+            return null;
+        }
+    }
+
+    private void cancel(CompletableFuture<?>... futures) {
+        for (CompletableFuture<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+}
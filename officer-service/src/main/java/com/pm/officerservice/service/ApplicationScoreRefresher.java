@@ -0,0 +1,113 @@
+package com.pm.officerservice.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.pm.officerservice.dto.LoanScoreResponse;
+import com.pm.officerservice.dto.OfficerChangeEvent;
+import com.pm.officerservice.repository.ApplicationViewRepository;
+
+/**
+ * Brings loan scores into the application view without waiting for an officer to read them.
+ * <p>
+ * loan-score-service scores an application when it consumes the same event officer-service does,
+ * so a new application's score is asked for as soon as the application is ingested and again by
+ * a periodic sweep over recent applications that still have none. Scores are fetched per borrower,
+ * which answers with every scored application and no error for the ones not scored yet. The sweep
+ * runs on one instance at a time and stops while loan-score-service is unavailable.
+ */
+@Service
+public class ApplicationScoreRefresher {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationScoreRefresher.class);
+
+    static final long SWEEP_LOCK_KEY = 0x73636f7265L; // "score"
+
+    private final LoanScoreService loanScoreService;
+    private final ApplicationViewProjector applicationViewProjector;
+    private final ApplicationViewRepository applicationViewRepository;
+    private final ClusterLock clusterLock;
+    private final Executor loanScoreExecutor;
+
+    @Value("${officer.application-view.score-sweep.window-hours:24}")
+    private long windowHours;
+
+    @Value("${officer.application-view.score-sweep.batch-size:200}")
+    private int batchSize;
+
+    public ApplicationScoreRefresher(LoanScoreService loanScoreService,
+                                     ApplicationViewProjector applicationViewProjector,
+                                     ApplicationViewRepository applicationViewRepository,
+                                     ClusterLock clusterLock,
+                                     @Qualifier("loanScoreExecutor") Executor loanScoreExecutor) {
+        this.loanScoreService = loanScoreService;
+        this.applicationViewProjector = applicationViewProjector;
+        this.applicationViewRepository = applicationViewRepository;
+        this.clusterLock = clusterLock;
+        this.loanScoreExecutor = loanScoreExecutor;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onChange(OfficerChangeEvent change) {
+        if (change.getType() != OfficerChangeEvent.Type.APPLICATION_CREATED || change.getBorrowerId() == null) {
+            return;
+        }
+        try {
+            loanScoreExecutor.execute(() -> refreshBorrower(change.getBorrowerId()));
+        } catch (RejectedExecutionException e) {
+            log.debug("Score executor is saturated, leaving application {} to the sweep", change.getApplicationId());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${officer.application-view.score-sweep.initial-delay-ms:60000}",
+               fixedDelayString = "${officer.application-view.score-sweep.interval-ms:60000}")
+    public void sweep() {
+        try {
+            if (!clusterLock.runExclusively(SWEEP_LOCK_KEY, this::refreshAwaitingScores)) {
+                log.debug("Score sweep is running on another instance");
+            }
+        } catch (Exception e) {
+            log.warn("Score sweep failed: {}", e.getMessage());
+        }
+    }
+
+    void refreshAwaitingScores() {
+        List<Long> borrowerIds = applicationViewRepository.findBorrowersAwaitingScore(
+                LocalDateTime.now().minusHours(windowHours), PageRequest.of(0, batchSize));
+        int refreshed = 0;
+        for (Long borrowerId : borrowerIds) {
+            if (!loanScoreService.isLoanScoreServiceAvailable()) {
+                log.info("Loan score service is unavailable, stopping score sweep after {} of {} borrowers",
+                        refreshed, borrowerIds.size());
+                return;
+            }
+            refreshBorrower(borrowerId);
+            refreshed++;
+        }
+        if (refreshed > 0) {
+            log.debug("Score sweep refreshed {} borrowers", refreshed);
+        }
+    }
+
+    void refreshBorrower(Long borrowerId) {
+        try {
+            for (LoanScoreResponse score : loanScoreService.getBorrowerScores(borrowerId)) {
+                applicationViewProjector.recordScore(score);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to refresh scores of borrower ID: {} in the application view: {}", borrowerId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.pm.officerservice.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.pm.officerservice.dto.ApplicationViewRebuildResponse;
+import com.pm.officerservice.dto.LoanScoreResponse;
+import com.pm.officerservice.dto.OfficerChangeEvent;
+import com.pm.officerservice.model.ApplicationView;
+import com.pm.officerservice.model.Borrower;
+import com.pm.officerservice.model.DocumentStatus;
+import com.pm.officerservice.model.LoanApplication;
+import com.pm.officerservice.repository.ApplicationViewRepository;
+import com.pm.officerservice.repository.DocumentRepository;
+import com.pm.officerservice.repository.LoanApplicationRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Keeps the application view in step with the source tables.
+ * <p>
+ * Change events are applied synchronously inside the transaction that published them, so the
+ * view commits or rolls back together with the ingested application, document or status change.
+ * Document changes become counter increments on the owning application's row, and borrower changes
+ * are copied onto every row of the borrower. Scores are recorded by {@code ApplicationScoreRefresher}
+ * and whenever one is fetched from loan-score-service. A row that turns out to be missing is
+ * projected from the source tables, and {@link #rebuild()} recreates the whole view in id-ordered
+ * batches, locking each batch's rows so concurrent increments are not overwritten.
+ */
+@Service
+@RequiredArgsConstructor
+public class ApplicationViewProjector {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationViewProjector.class);
+
+    private final ApplicationViewRepository applicationViewRepository;
+    private final LoanApplicationRepository loanApplicationRepository;
+    private final DocumentRepository documentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    @Value("${officer.application-view.rebuild-batch-size:500}")
+    private int rebuildBatchSize;
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onChange(OfficerChangeEvent change) {
+        Long applicationId = change.getApplicationId();
+        if (applicationId == null) {
+            return; // Documents not attached to an application have no view row
+        }
+        int updated = switch (change.getType()) {
+            case APPLICATION_CREATED -> 0;
+            case LOAN_STATUS_CHANGED -> applicationViewRepository.updateStatus(applicationId,
+                    change.getNewStatus(), change.getUpdatedBy(), change.getOccurredAt());
+            case DOCUMENT_CREATED -> adjustDocumentCounts(applicationId, null, change.getNewStatus());
+            case DOCUMENT_STATUS_CHANGED -> adjustDocumentCounts(applicationId, change.getOldStatus(), change.getNewStatus());
+        };
+        if (updated == 0) {
+            project(applicationId);
+        }
+    }
+
+    /**
+     * Store the latest score of an application. Service-down placeholders are ignored.
+     */
+    @Transactional
+    public void recordScore(LoanScoreResponse score) {
+        if (score == null || !score.isServiceAvailable() || score.getLoanApplicationId() == null
+                || score.getTotalScore() == null) {
+            return;
+        }
+        LocalDateTime calculatedAt = score.getCalculatedAt() != null ? score.getCalculatedAt() : LocalDateTime.now();
+        applicationViewRepository.recordScore(score.getLoanApplicationId(), score.getTotalScore(),
+                score.getScoreGrade(), score.getRiskAssessment(), calculatedAt);
+    }
+
+    /**
+     * Copy a borrower's profile onto the view rows of all their applications.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onBorrowerChanged(Borrower borrower) {
+        applicationViewRepository.updateBorrower(borrower.getBorrowerId(),
+                borrower.getFirstName() + " " + borrower.getLastName(), borrower.getEmail(),
+                borrower.getPhoneNumber(), borrower.getAnnualIncome(), borrower.getEmploymentStatus());
+    }
+
+    /**
+     * Builds the view on first start, e.g. after upgrading a service that already holds applications.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        try {
+            if (applicationViewRepository.count() == 0 && loanApplicationRepository.count() > 0) {
+                log.info("Application view is empty, building it from the source tables");
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.error("Failed to build the application view on startup", e);
+        }
+    }
+
+    /**
+     * Recreate every view row from the source tables, keeping recorded scores.
+     * Each batch commits on its own, so the view stays readable throughout.
+     *
+     * @throws IllegalStateException if a rebuild is already running
+     */
+    public ApplicationViewRebuildResponse rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new IllegalStateException("Application view rebuild is already running");
+        }
+        long started = System.currentTimeMillis();
+        try {
+            int rebuilt = 0;
+            Long afterId = Long.MIN_VALUE;
+            List<Long> batch;
+            do {
+                Long from = afterId;
+                batch = transactionTemplate.execute(status -> rebuildBatch(from));
+                if (batch == null || batch.isEmpty()) {
+                    break;
+                }
+                rebuilt += batch.size();
+                afterId = batch.get(batch.size() - 1);
+            } while (batch.size() == rebuildBatchSize);
+
+            Integer removed = transactionTemplate.execute(status -> applicationViewRepository.deleteOrphans());
+            long durationMs = System.currentTimeMillis() - started;
+            log.info("Rebuilt application view: {} applications, {} stale rows removed in {} ms", rebuilt, removed, durationMs);
+            return ApplicationViewRebuildResponse.builder()
+                    .rebuiltCount(rebuilt)
+                    .removedCount(removed != null ? removed : 0)
+                    .durationMs(durationMs)
+                    .build();
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    List<Long> rebuildBatch(Long afterId) {
+        List<LoanApplication> applications = loanApplicationRepository.findPageWithBorrower(
+                afterId, PageRequest.of(0, rebuildBatchSize));
+        if (applications.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = applications.stream().map(LoanApplication::getApplicationId).collect(Collectors.toList());
+        // Lock before counting: increments committed earlier are in the counts, later ones wait for this batch
+        Map<Long, ApplicationView> existing = applicationViewRepository.lockAllById(ids).stream()
+                .collect(Collectors.toMap(ApplicationView::getApplicationId, Function.identity()));
+        Map<Long, Map<DocumentStatus, Integer>> documentCounts = countDocuments(ids);
+
+        applicationViewRepository.saveAll(applications.stream()
+                .map(application -> toView(application,
+                        documentCounts.getOrDefault(application.getApplicationId(), Map.of()),
+                        existing.get(application.getApplicationId())))
+                .collect(Collectors.toList()));
+        return ids;
+    }
+
+    private void project(Long applicationId) {
+        loanApplicationRepository.findWithBorrowerById(applicationId).ifPresent(application ->
+                applicationViewRepository.save(toView(application,
+                        countDocuments(List.of(applicationId)).getOrDefault(applicationId, Map.of()),
+                        applicationViewRepository.findById(applicationId).orElse(null))));
+    }
+
+    private int adjustDocumentCounts(Long applicationId, String oldStatus, String newStatus) {
+        Map<DocumentStatus, Integer> deltas = new EnumMap<>(DocumentStatus.class);
+        if (oldStatus != null) {
+            deltas.merge(DocumentStatus.valueOf(oldStatus), -1, Integer::sum);
+        }
+        deltas.merge(newStatus != null ? DocumentStatus.valueOf(newStatus) : DocumentStatus.PENDING, 1, Integer::sum);
+        return applicationViewRepository.adjustDocumentCounts(applicationId,
+                deltas.getOrDefault(DocumentStatus.PENDING, 0),
+                deltas.getOrDefault(DocumentStatus.VERIFIED, 0),
+                deltas.getOrDefault(DocumentStatus.REJECTED, 0),
+                deltas.getOrDefault(DocumentStatus.EXPIRED, 0));
+    }
+
+    // Documents without a status are counted as PENDING, matching DocumentService
+    private Map<Long, Map<DocumentStatus, Integer>> countDocuments(Collection<Long> applicationIds) {
+        Map<Long, Map<DocumentStatus, Integer>> counts = new HashMap<>();
+        for (Object[] row : documentRepository.countByApplicationAndStatus(applicationIds)) {
+            DocumentStatus status = row[1] != null ? (DocumentStatus) row[1] : DocumentStatus.PENDING;
+            counts.computeIfAbsent((Long) row[0], id -> new EnumMap<>(DocumentStatus.class))
+                    .merge(status, ((Number) row[2]).intValue(), Integer::sum);
+        }
+        return counts;
+    }
+
+    private static ApplicationView toView(LoanApplication application, Map<DocumentStatus, Integer> documentCounts,
+                                          ApplicationView existing) {
+        Borrower borrower = application.getBorrower();
+        ApplicationView.ApplicationViewBuilder view = ApplicationView.builder()
+                .applicationId(application.getApplicationId())
+                .borrowerId(borrower.getBorrowerId())
+                .borrowerName(borrower.getFirstName() + " " + borrower.getLastName())
+                .borrowerEmail(borrower.getEmail())
+                .borrowerPhoneNumber(borrower.getPhoneNumber())
+                .borrowerAnnualIncome(borrower.getAnnualIncome())
+                .borrowerEmploymentStatus(borrower.getEmploymentStatus())
+                .loanAmount(application.getLoanAmount())
+                .loanTermMonths(application.getLoanTermMonths())
+                .loanPurpose(application.getLoanPurpose())
+                .interestRate(application.getInterestRate())
+                .monthlyPayment(application.getMonthlyPayment())
+                .status(application.getStatus())
+                .statusUpdatedBy(application.getStatusUpdatedBy())
+                .statusUpdatedAt(application.getStatusUpdatedAt())
+                .appliedAtSource(application.getAppliedAtSource())
+                .createdAt(application.getCreatedAt())
+                .applicationUpdatedAt(application.getUpdatedAt())
+                .pendingDocuments(documentCounts.getOrDefault(DocumentStatus.PENDING, 0))
+                .verifiedDocuments(documentCounts.getOrDefault(DocumentStatus.VERIFIED, 0))
+                .rejectedDocuments(documentCounts.getOrDefault(DocumentStatus.REJECTED, 0))
+                .expiredDocuments(documentCounts.getOrDefault(DocumentStatus.EXPIRED, 0));
+        if (existing != null) {
+            view.latestScore(existing.getLatestScore())
+                    .latestScoreGrade(existing.getLatestScoreGrade())
+                    .latestRiskAssessment(existing.getLatestRiskAssessment())
+                    .scoreCalculatedAt(existing.getScoreCalculatedAt());
+        }
+        return view.build();
+    }
+}
@@ -0,0 +1,285 @@
+package com.pm.officerservice.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.pm.officerservice.config.AutoDecisionProperties;
+import com.pm.officerservice.config.AutoDecisionProperties.Policy;
+import com.pm.officerservice.dto.LoanScoreResponse;
+import com.pm.officerservice.dto.LoanStatusUpdateRequest;
+import com.pm.officerservice.model.ApplicationView;
+import com.pm.officerservice.model.AutoDecisionAudit;
+import com.pm.officerservice.model.AutoDecisionOutcome;
+import com.pm.officerservice.model.LoanApplication;
+import com.pm.officerservice.model.LoanApplicationStatus;
+import com.pm.officerservice.repository.ApplicationViewRepository;
+import com.pm.officerservice.repository.AutoDecisionAuditRepository;
+import com.pm.officerservice.repository.LoanApplicationRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Decides clear-cut PENDING applications from their credit score using the configured
+ * {@link AutoDecisionProperties} policies, so officers only see the borderline ones.
+ * <p>
+ * A sweep takes the oldest pending applications not evaluated since their view last changed, uses
+ * the score already recorded in the application view or fetches it, and applies the first matching policy
+ * through {@link LoanApplicationService#updateLoanStatus}, so the outbox event, statistics and view
+ * are updated exactly as for an officer decision. Every evaluation is audited with the score it was
+ * based on. Applications whose score is unavailable are left for the next sweep. In dry-run mode
+ * the matched decision is only audited. The sweep runs on one instance at a time.
+ */
+@Service
+public class AutoDecisionService {
+
+    private static final Logger log = LoggerFactory.getLogger(AutoDecisionService.class);
+
+    static final String DECIDED_BY = "system";
+
+    static final long SWEEP_LOCK_KEY = 0x6175746f646563L; // "autodec"
+
+    private final AutoDecisionProperties properties;
+    private final ApplicationViewRepository applicationViewRepository;
+    private final LoanApplicationRepository loanApplicationRepository;
+    private final AutoDecisionAuditRepository autoDecisionAuditRepository;
+    private final LoanApplicationService loanApplicationService;
+    private final LoanScoreService loanScoreService;
+    private final TransactionTemplate transactionTemplate;
+    private final ClusterLock clusterLock;
+    private final Map<AutoDecisionOutcome, Counter> evaluations = new EnumMap<>(AutoDecisionOutcome.class);
+    private final Counter scoreUnavailable;
+    private final Timer sweepTimer;
+
+    @Value("${officer.auto-decision.score-timeout-ms:10000}")
+    private long scoreTimeoutMs;
+
+    public AutoDecisionService(AutoDecisionProperties properties,
+                               ApplicationViewRepository applicationViewRepository,
+                               LoanApplicationRepository loanApplicationRepository,
+                               AutoDecisionAuditRepository autoDecisionAuditRepository,
+                               LoanApplicationService loanApplicationService,
+                               LoanScoreService loanScoreService,
+                               TransactionTemplate transactionTemplate,
+                               ClusterLock clusterLock,
+                               MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.applicationViewRepository = applicationViewRepository;
+        this.loanApplicationRepository = loanApplicationRepository;
+        this.autoDecisionAuditRepository = autoDecisionAuditRepository;
+        this.loanApplicationService = loanApplicationService;
+        this.loanScoreService = loanScoreService;
+        this.transactionTemplate = transactionTemplate;
+        this.clusterLock = clusterLock;
+        for (AutoDecisionOutcome outcome : AutoDecisionOutcome.values()) {
+            evaluations.put(outcome, Counter.builder("officer.auto-decision.evaluations")
+                    .description("Loan applications evaluated by the auto-decision policies")
+                    .tag("outcome", outcome.name())
+                    .register(meterRegistry));
+        }
+        this.scoreUnavailable = Counter.builder("officer.auto-decision.score-unavailable")
+                .description("Pending applications skipped because their score could not be obtained")
+                .register(meterRegistry);
+        this.sweepTimer = Timer.builder("officer.auto-decision.sweep")
+                .description("Time taken by one auto-decision sweep")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void validatePolicies() {
+        for (Policy policy : properties.getPolicies()) {
+            if (policy.getName() == null || policy.getName().isBlank()) {
+                throw new IllegalStateException("Auto-decision policy without a name");
+            }
+            if (policy.getTargetStatus() == null || policy.getTargetStatus() == LoanApplicationStatus.PENDING) {
+                throw new IllegalStateException("Auto-decision policy " + policy.getName()
+                        + " needs a target status other than PENDING");
+            }
+            if (isEmpty(policy.getGrades()) && isEmpty(policy.getRisks())
+                    && policy.getMinScore() == null && policy.getMaxScore() == null) {
+                throw new IllegalStateException("Auto-decision policy " + policy.getName()
+                        + " has no criteria and would match every application");
+            }
+        }
+    }
+
+    @Scheduled(initialDelayString = "${officer.auto-decision.initial-delay-ms:60000}",
+               fixedDelayString = "${officer.auto-decision.interval-ms:30000}")
+    public void sweep() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            if (!clusterLock.runExclusively(SWEEP_LOCK_KEY, () -> sweepTimer.record(this::sweepOnce))) {
+                log.debug("Auto-decision sweep is running on another instance");
+            }
+        } catch (Exception e) {
+            log.warn("Auto-decision sweep failed, will retry on the next run: {}", e.getMessage());
+        }
+    }
+
+    private void sweepOnce() {
+        int evaluated = evaluatePending();
+        if (evaluated > 0) {
+            log.info("Auto-decision sweep evaluated {} pending applications (dry run: {})",
+                    evaluated, properties.isDryRun());
+        }
+    }
+
+    /**
+     * Evaluate one batch of pending applications.
+     *
+     * @return the number of applications evaluated (audited)
+     */
+    int evaluatePending() {
+        boolean dryRun = properties.isDryRun();
+        List<ApplicationView> pending = applicationViewRepository.findPendingForAutoDecision(
+                dryRun, PageRequest.of(0, properties.getBatchSize()));
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, LoanScoreResponse> scores = resolveScores(pending);
+        int evaluated = 0;
+        for (ApplicationView view : pending) {
+            LoanScoreResponse score = scores.get(view.getApplicationId());
+            if (score == null) {
+                scoreUnavailable.increment();
+                continue;
+            }
+            try {
+                AutoDecisionOutcome outcome = transactionTemplate.execute(status -> evaluate(view, score, dryRun));
+                if (outcome != null) {
+                    evaluations.get(outcome).increment();
+                    evaluated++;
+                }
+            } catch (Exception e) {
+                log.warn("Auto-decision failed for application ID: {}, will retry: {}", view.getApplicationId(), e.getMessage());
+            }
+        }
+        return evaluated;
+    }
+
+    /**
+     * Runs inside a transaction holding the application row lock, so a concurrent officer decision
+     * either happens first (and the application is skipped) or waits for this one.
+     *
+     * @return the outcome, or null if the application is no longer pending
+     */
+    AutoDecisionOutcome evaluate(ApplicationView view, LoanScoreResponse score, boolean dryRun) {
+        Long applicationId = view.getApplicationId();
+        Optional<LoanApplication> locked = loanApplicationRepository.lockById(applicationId);
+        if (locked.isEmpty() || !LoanApplicationStatus.PENDING.name().equals(locked.get().getStatus())) {
+            return null;
+        }
+        if (locked.get().isClaimedByOtherThan(DECIDED_BY, LocalDateTime.now())) {
+            return null; // An officer is reviewing it; evaluated on a later sweep if still pending
+        }
+
+        Optional<Policy> match = properties.getPolicies().stream()
+                .filter(policy -> matches(policy, score))
+                .findFirst();
+        AutoDecisionOutcome outcome = match.isEmpty() ? AutoDecisionOutcome.NO_MATCH
+                : dryRun ? AutoDecisionOutcome.DRY_RUN : AutoDecisionOutcome.APPLIED;
+
+        if (outcome == AutoDecisionOutcome.APPLIED) {
+            Policy policy = match.get();
+            loanApplicationService.updateLoanStatus(applicationId, LoanStatusUpdateRequest.builder()
+                    .newStatus(policy.getTargetStatus())
+                    .rejectionReason(policy.getRejectionReason())
+                    .updatedBy(DECIDED_BY)
+                    .build());
+            log.info("Auto-decided application ID: {} as {} by policy {} (score {}, grade {}, risk {})",
+                    applicationId, policy.getTargetStatus(), policy.getName(),
+                    score.getTotalScore(), score.getScoreGrade(), score.getRiskAssessment());
+        }
+
+        autoDecisionAuditRepository.save(AutoDecisionAudit.builder()
+                .applicationId(applicationId)
+                .outcome(outcome)
+                .dryRun(dryRun)
+                .policyName(match.map(Policy::getName).orElse(null))
+                .previousStatus(LoanApplicationStatus.PENDING.name())
+                .targetStatus(match.map(policy -> policy.getTargetStatus().name()).orElse(null))
+                .score(score.getTotalScore())
+                .scoreGrade(score.getScoreGrade())
+                .riskAssessment(score.getRiskAssessment())
+                .viewUpdatedAt(view.getViewUpdatedAt())
+                .build());
+        return outcome;
+    }
+
+    static boolean matches(Policy policy, LoanScoreResponse score) {
+        if (!isEmpty(policy.getGrades()) && !policy.getGrades().contains(score.getScoreGrade())) {
+            return false;
+        }
+        if (!isEmpty(policy.getRisks()) && !policy.getRisks().contains(score.getRiskAssessment())) {
+            return false;
+        }
+        Integer total = score.getTotalScore();
+        if (policy.getMinScore() != null && (total == null || total < policy.getMinScore())) {
+            return false;
+        }
+        return policy.getMaxScore() == null || (total != null && total <= policy.getMaxScore());
+    }
+
+    // Scores already in the view are used as is; the rest are fetched in parallel
+    private Map<Long, LoanScoreResponse> resolveScores(List<ApplicationView> pending) {
+        Map<Long, LoanScoreResponse> scores = new LinkedHashMap<>();
+        Map<Long, CompletableFuture<Optional<LoanScoreResponse>>> fetches = new LinkedHashMap<>();
+        for (ApplicationView view : pending) {
+            if (view.getLatestScore() != null && view.getLatestScoreGrade() != null) {
+                scores.put(view.getApplicationId(), LoanScoreResponse.builder()
+                        .loanApplicationId(view.getApplicationId())
+                        .totalScore(view.getLatestScore())
+                        .scoreGrade(view.getLatestScoreGrade())
+                        .riskAssessment(view.getLatestRiskAssessment())
+                        .calculatedAt(view.getScoreCalculatedAt())
+                        .serviceAvailable(true)
+                        .build());
+            } else {
+                fetches.put(view.getApplicationId(), loanScoreService.getLoanScore(view.getApplicationId()));
+            }
+        }
+
+        List<Long> failed = new ArrayList<>();
+        fetches.forEach((applicationId, fetch) -> {
+            try {
+                fetch.get(scoreTimeoutMs, TimeUnit.MILLISECONDS)
+                        .filter(LoanScoreResponse::isServiceAvailable)
+                        .ifPresent(score -> scores.put(applicationId, score));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failed.add(applicationId);
+            } catch (Exception e) {
+                failed.add(applicationId);
+            }
+        });
+        if (!failed.isEmpty()) {
+            log.debug("Could not fetch scores for applications {}", failed);
+        }
+        return scores;
+    }
+
+    private static boolean isEmpty(Collection<?> values) {
+        return values == null || values.isEmpty();
+    }
+}
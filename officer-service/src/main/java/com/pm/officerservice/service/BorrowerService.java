@@ -2,6 +2,9 @@ package com.pm.officerservice.service;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,6 +24,7 @@ public class BorrowerService {
     private static final Logger log = LoggerFactory.getLogger(BorrowerService.class);
 
     private final BorrowerRepository borrowerRepository;
+    private final ApplicationViewProjector applicationViewProjector;
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
     @Transactional
@@ -28,36 +32,26 @@ public class BorrowerService {
         try {
             log.info("Processing borrower created event for borrowerId: {}", event.getBorrowerId());
 
-            // Check if borrower already exists
-            if (borrowerRepository.existsById(event.getBorrowerId())) {
-                log.warn("Borrower with ID {} already exists, skipping", event.getBorrowerId());
+            Optional<Borrower> existing = borrowerRepository.findById(event.getBorrowerId());
+            if (existing.isPresent()) {
+                Borrower borrower = existing.get();
+                if (profileOf(borrower).equals(profileOf(toBorrower(event)))) {
+                    log.warn("Borrower with ID {} already exists, skipping", event.getBorrowerId());
+                    return;
+                }
+                // A redelivered event carries the borrower as borrower-service holds it now
+                applyProfile(borrower, event);
+                applicationViewProjector.onBorrowerChanged(borrower);
+                log.info("Updated borrower with ID: {} from a redelivered event", event.getBorrowerId());
                 return;
             }
 
-            // Parse the timestamp
-            LocalDateTime createdAtSource = parseTimestamp(event.getCreatedAt());
-
-            // Create and save borrower
-            Borrower borrower = Borrower.builder()
-                    .borrowerId(event.getBorrowerId())
-                    .firstName(event.getFirstName())
-                    .lastName(event.getLastName())
-                    .email(event.getEmail())
-                    .phoneNumber(event.getPhoneNumber())
-                    .dateOfBirth(event.getDateOfBirth())
-                    .ssn(event.getSsn())
-                    .address(event.getAddress())
-                    .city(event.getCity())
-                    .state(event.getState())
-                    .zipCode(event.getZipCode())
-                    .annualIncome(event.getAnnualIncome())
-                    .employmentStatus(event.getEmploymentStatus())
-                    .employerName(event.getEmployerName())
-                    .employmentYears(event.getEmploymentYears())
-                    .createdAtSource(createdAtSource)
-                    .build();
+            Borrower borrower = toBorrower(event);
+            borrower.setBorrowerId(event.getBorrowerId());
+            borrower.setCreatedAtSource(parseTimestamp(event.getCreatedAt()));
 
             borrowerRepository.save(borrower);
+            applicationViewProjector.onBorrowerChanged(borrower);
             log.info("Successfully saved borrower with ID: {}", event.getBorrowerId());
 
         } catch (Exception e) {
@@ -66,6 +60,36 @@ public class BorrowerService {
         }
     }
 
+    private static Borrower toBorrower(BorrowerCreatedEvent event) {
+        Borrower borrower = new Borrower();
+        applyProfile(borrower, event);
+        return borrower;
+    }
+
+    private static void applyProfile(Borrower borrower, BorrowerCreatedEvent event) {
+        borrower.setFirstName(event.getFirstName());
+        borrower.setLastName(event.getLastName());
+        borrower.setEmail(event.getEmail());
+        borrower.setPhoneNumber(event.getPhoneNumber());
+        borrower.setDateOfBirth(event.getDateOfBirth());
+        borrower.setSsn(event.getSsn());
+        borrower.setAddress(event.getAddress());
+        borrower.setCity(event.getCity());
+        borrower.setState(event.getState());
+        borrower.setZipCode(event.getZipCode());
+        borrower.setAnnualIncome(event.getAnnualIncome());
+        borrower.setEmploymentStatus(event.getEmploymentStatus());
+        borrower.setEmployerName(event.getEmployerName());
+        borrower.setEmploymentYears(event.getEmploymentYears());
+    }
+
+    private static List<Object> profileOf(Borrower borrower) {
+        return Arrays.asList(borrower.getFirstName(), borrower.getLastName(), borrower.getEmail(),
+                borrower.getPhoneNumber(), borrower.getDateOfBirth(), borrower.getSsn(), borrower.getAddress(),
+                borrower.getCity(), borrower.getState(), borrower.getZipCode(), borrower.getAnnualIncome(),
+                borrower.getEmploymentStatus(), borrower.getEmployerName(), borrower.getEmploymentYears());
+    }
+
     private LocalDateTime parseTimestamp(String timestamp) {
         try {
             return LocalDateTime.parse(timestamp, FORMATTER);
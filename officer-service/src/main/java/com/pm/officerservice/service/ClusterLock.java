@@ -0,0 +1,60 @@
+package com.pm.officerservice.service;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Runs scheduled jobs on one officer-service instance at a time.
+ * <p>
+ * The job runs while a session-level Postgres advisory lock is held on a dedicated connection, so
+ * it can use as many transactions of its own as it needs. Instances that cannot take the lock skip
+ * the run instead of waiting; the lock is released when the job ends or the connection drops.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClusterLock {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterLock.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Run the task if no other instance holds the lock.
+     *
+     * @return whether the task ran
+     */
+    public boolean runExclusively(long key, Runnable task) {
+        Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            if (!call(connection.prepareStatement("select pg_try_advisory_lock(?)"), key)) {
+                return false;
+            }
+            try {
+                task.run();
+                return true;
+            } finally {
+                if (!call(connection.prepareStatement("select pg_advisory_unlock(?)"), key)) {
+                    log.warn("Advisory lock {} was not held when releasing it", key);
+                }
+            }
+        });
+        return Boolean.TRUE.equals(ran);
+    }
+
+    private static boolean call(PreparedStatement statement, long key) throws SQLException {
+        try (statement) {
+            statement.setLong(1, key);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+}
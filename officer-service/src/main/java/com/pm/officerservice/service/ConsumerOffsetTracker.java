@@ -0,0 +1,56 @@
+package com.pm.officerservice.service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.pm.officerservice.model.ConsumerOffset;
+import com.pm.officerservice.repository.ConsumerOffsetRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Records how far the projection tables have consumed each partition. Because the position is
+ * stored with the data, a snapshot of the tables carries the exact offsets to resume from.
+ */
+@Service
+@RequiredArgsConstructor
+public class ConsumerOffsetTracker {
+
+    private final ConsumerOffsetRepository consumerOffsetRepository;
+
+    /**
+     * Mark a record as applied. Must be called from the transaction that applied it.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(String topic, int partition, long offset) {
+        String key = key(topic, partition);
+        if (consumerOffsetRepository.advance(key, offset + 1) == 0 && !consumerOffsetRepository.existsById(key)) {
+            consumerOffsetRepository.save(ConsumerOffset.builder()
+                    .offsetKey(key)
+                    .topic(topic)
+                    .partitionId(partition)
+                    .nextOffset(offset + 1)
+                    .build());
+        }
+    }
+
+    /**
+     * Stored positions for the given topics; partitions never consumed are absent.
+     */
+    public Map<TopicPartition, Long> getPositions(Collection<String> topics) {
+        return consumerOffsetRepository.findByTopicIn(topics).stream()
+                .collect(Collectors.toMap(
+                        offset -> new TopicPartition(offset.getTopic(), offset.getPartitionId()),
+                        ConsumerOffset::getNextOffset));
+    }
+
+    static String key(String topic, int partition) {
+        return topic + ":" + partition;
+    }
+}
@@ -0,0 +1,192 @@
+package com.pm.officerservice.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Service;
+
+import com.pm.officerservice.dto.DeadLetterReplayResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Replays records parked in the per-topic DLTs back onto their original topic once
+ * the missing dependency (usually the borrower) has arrived.
+ * Uses its own consumer group so every DLT record is replayed at most once, and
+ * paces the re-publishing so a large backlog does not flood the listeners.
+ */
+@Service
+@RequiredArgsConstructor
+public class DeadLetterReplayService {
+
+    private static final Logger log = LoggerFactory.getLogger(DeadLetterReplayService.class);
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(2);
+    private static final String DLT_HEADER_PREFIX = "kafka_dlt-";
+    private static final String RETRY_HEADER_PREFIX = "retry_topic-";
+
+    private final ConsumerFactory<String, byte[]> consumerFactory;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Value("${spring.kafka.consumer.group-id}")
+    private String groupId;
+
+    @Value("${kafka.topics.borrower-created}")
+    private String borrowerCreatedTopic;
+
+    @Value("${kafka.topics.loan-application}")
+    private String loanApplicationTopic;
+
+    @Value("${kafka.topics.documents-upload}")
+    private String documentsUploadTopic;
+
+    @Value("${kafka.topics.dlt-suffix:-dlt}")
+    private String dltTopicSuffix;
+
+    /**
+     * Replay up to {@code maxRecords} records from the DLT of {@code sourceTopic}.
+     *
+     * @param sourceTopic      the original topic (e.g. loan-application)
+     * @param maxRecords       upper bound of records replayed in this run
+     * @param recordsPerSecond publishing rate limit
+     * @return replay summary
+     */
+    public synchronized DeadLetterReplayResponse replay(String sourceTopic, int maxRecords, int recordsPerSecond) {
+        if (!List.of(borrowerCreatedTopic, loanApplicationTopic, documentsUploadTopic).contains(sourceTopic)) {
+            throw new IllegalArgumentException("Unknown source topic: " + sourceTopic);
+        }
+        if (maxRecords <= 0 || recordsPerSecond <= 0) {
+            throw new IllegalArgumentException("maxRecords and recordsPerSecond must be positive");
+        }
+
+        String deadLetterTopic = sourceTopic + dltTopicSuffix;
+        long started = System.nanoTime();
+        long pacingNanos = TimeUnit.SECONDS.toNanos(1) / recordsPerSecond;
+        long nextSendAt = started;
+        int replayed = 0;
+        int failed = 0;
+        boolean drained = false;
+
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(Math.min(maxRecords, 500)));
+        overrides.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        log.info("Replaying up to {} records from {} to {} at {} records/s",
+                maxRecords, deadLetterTopic, sourceTopic, recordsPerSecond);
+
+        try (Consumer<String, byte[]> consumer =
+                     consumerFactory.createConsumer(groupId + "-dlt-replay", "dlt-replay", null, overrides)) {
+
+            List<PartitionInfo> partitions = consumer.partitionsFor(deadLetterTopic);
+            if (partitions == null || partitions.isEmpty()) {
+                log.info("Dead-letter topic {} does not exist yet, nothing to replay", deadLetterTopic);
+                return buildResponse(sourceTopic, deadLetterTopic, 0, 0, true, started);
+            }
+            consumer.assign(partitions.stream()
+                    .map(p -> new TopicPartition(p.topic(), p.partition()))
+                    .toList());
+
+            while (replayed + failed < maxRecords) {
+                ConsumerRecords<String, byte[]> records = consumer.poll(POLL_TIMEOUT);
+                if (records.isEmpty()) {
+                    drained = true;
+                    break;
+                }
+
+                Map<TopicPartition, OffsetAndMetadata> processed = new HashMap<>();
+                List<CompletableFuture<SendResult<String, byte[]>>> sends = new ArrayList<>();
+                for (ConsumerRecord<String, byte[]> record : records) {
+                    if (replayed + failed + sends.size() >= maxRecords) {
+                        break; // Only processed offsets are committed, the rest is left for the next run
+                    }
+                    nextSendAt = pace(nextSendAt, pacingNanos);
+                    sends.add(kafkaTemplate.send(toReplayRecord(record, sourceTopic)));
+                    processed.put(new TopicPartition(record.topic(), record.partition()),
+                            new OffsetAndMetadata(record.offset() + 1));
+                }
+
+                kafkaTemplate.flush();
+                for (CompletableFuture<SendResult<String, byte[]>> send : sends) {
+                    try {
+                        send.join();
+                        replayed++;
+                    } catch (Exception e) {
+                        failed++;
+                        log.error("Failed to replay record from {} to {}", deadLetterTopic, sourceTopic, e);
+                    }
+                }
+                if (failed > 0) {
+                    // Keep the batch in the DLT; the listeners skip entities that already exist,
+                    // so replaying the successful part again next run is harmless
+                    break;
+                }
+                consumer.commitSync(processed);
+            }
+        }
+
+        log.info("Replayed {} records from {} to {} ({} failed, drained: {})",
+                replayed, deadLetterTopic, sourceTopic, failed, drained);
+        return buildResponse(sourceTopic, deadLetterTopic, replayed, failed, drained, started);
+    }
+
+    /**
+     * Build the record published back to the source topic. The DLT and retry-topic
+     * headers are dropped so the record starts a fresh retry cycle.
+     */
+    private ProducerRecord<String, byte[]> toReplayRecord(ConsumerRecord<String, byte[]> record, String sourceTopic) {
+        RecordHeaders headers = new RecordHeaders();
+        for (Header header : record.headers()) {
+            if (!header.key().startsWith(DLT_HEADER_PREFIX) && !header.key().startsWith(RETRY_HEADER_PREFIX)) {
+                headers.add(header);
+            }
+        }
+        return new ProducerRecord<>(sourceTopic, null, record.key(), record.value(), headers);
+    }
+
+    private long pace(long nextSendAt, long pacingNanos) {
+        long waitNanos = nextSendAt - System.nanoTime();
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Dead-letter replay interrupted", e);
+            }
+        }
+        return Math.max(nextSendAt, System.nanoTime()) + pacingNanos;
+    }
+
+    private DeadLetterReplayResponse buildResponse(String sourceTopic, String deadLetterTopic,
+                                                   int replayed, int failed, boolean drained, long started) {
+        return DeadLetterReplayResponse.builder()
+                .sourceTopic(sourceTopic)
+                .deadLetterTopic(deadLetterTopic)
+                .replayedCount(replayed)
+                .failedCount(failed)
+                .drained(drained)
+                .durationMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started))
+                .build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.pm.officerservice.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.pm.officerservice.dto.DigestEntity;
+import com.pm.officerservice.dto.DigestResponse;
+import com.pm.officerservice.dto.RowHashDto;
+import com.pm.officerservice.repository.BorrowerRepository;
+import com.pm.officerservice.repository.DocumentRepository;
+import com.pm.officerservice.repository.LoanApplicationRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Digests of the projected source tables, computed the same way as borrower-service's so the two
+ * can be compared range by range, see {@link RangeDigest}.
+ */
+@Service
+@RequiredArgsConstructor
+public class DigestService {
+
+    private final BorrowerRepository borrowerRepository;
+    private final LoanApplicationRepository loanApplicationRepository;
+    private final DocumentRepository documentRepository;
+
+    @Transactional(readOnly = true)
+    public DigestResponse digest(DigestEntity entity, long from, long to, int buckets) {
+        RangeDigest.Builder digest = new RangeDigest.Builder(from, to, buckets);
+        forEachRow(entity, from, to, row -> digest.add((Long) row[0], RangeDigest.rowHash(row)));
+        return digest.build(entity);
+    }
+
+    @Transactional(readOnly = true)
+    public List<RowHashDto> rowHashes(DigestEntity entity, long from, long to) {
+        List<RowHashDto> hashes = new ArrayList<>();
+        forEachRow(entity, from, to, row -> hashes.add(RowHashDto.builder()
+                .id((Long) row[0])
+                .hash(RangeDigest.rowHash(row))
+                .build()));
+        return hashes;
+    }
+
+    private void forEachRow(DigestEntity entity, long from, long to, Consumer<Object[]> consumer) {
+        Stream<Object[]> rows = switch (entity) {
+            case BORROWER -> borrowerRepository.streamDigestRows(from, to);
+            case LOAN_APPLICATION -> loanApplicationRepository.streamDigestRows(from, to);
+            case DOCUMENT -> documentRepository.streamDigestRows(from, to);
+        };
+        try (rows) {
+            rows.forEach(consumer);
+        }
+    }
+}
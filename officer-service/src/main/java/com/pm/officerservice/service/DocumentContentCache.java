@@ -0,0 +1,137 @@
+package com.pm.officerservice.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Bounded on-disk LRU cache of document content fetched from borrower-service.
+ * Entries are keyed by document ID and upstream ETag. The index is kept in memory and
+ * evicted files are deleted once the total size exceeds the limit.
+ */
+@Component
+public class DocumentContentCache {
+
+    private static final Logger log = LoggerFactory.getLogger(DocumentContentCache.class);
+
+    private static final long MB = 1024L * 1024L;
+
+    @Value("${officer.documents.cache.dir:${java.io.tmpdir}/officer-document-cache}")
+    private String cacheDir;
+
+    @Value("${officer.documents.cache.max-size-mb:1024}")
+    private long maxSizeMb;
+
+    @Value("${officer.documents.cache.max-entry-size-mb:100}")
+    private long maxEntrySizeMb;
+
+    private final LinkedHashMap<Long, CachedContent> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes; // Guarded by entries
+    private Path directory;
+
+    @PostConstruct
+    void init() throws IOException {
+        directory = Paths.get(cacheDir);
+        Files.createDirectories(directory);
+        // The index does not survive a restart, so files from a previous run can never be hit again
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(this::deleteQuietly);
+        }
+        log.info("Document content cache at {} (max {} MB)", directory, maxSizeMb);
+    }
+
+    public Optional<CachedContent> get(Long documentId) {
+        synchronized (entries) {
+            CachedContent content = entries.get(documentId);
+            if (content != null && !Files.exists(content.path())) {
+                entries.remove(documentId);
+                totalBytes -= content.size();
+                return Optional.empty();
+            }
+            return Optional.ofNullable(content);
+        }
+    }
+
+    public boolean accepts(long size) {
+        return size >= 0 && size <= maxEntrySizeMb * MB;
+    }
+
+    public Path createTempFile() throws IOException {
+        return Files.createTempFile(directory, "download-", ".part");
+    }
+
+    /**
+     * Move a fully downloaded temp file into the cache, evicting least recently used entries.
+     */
+    public CachedContent put(Long documentId, String etag, Path tempFile) throws IOException {
+        long size = Files.size(tempFile);
+        if (!accepts(size)) {
+            discard(tempFile);
+            throw new IOException("Document " + documentId + " is too large to cache: " + size + " bytes");
+        }
+        Path target = directory.resolve(documentId + "-" + Integer.toHexString(etag.hashCode()) + ".bin");
+        Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        CachedContent content = new CachedContent(documentId, etag, target, size);
+
+        List<Path> evicted = new ArrayList<>();
+        synchronized (entries) {
+            CachedContent previous = entries.put(documentId, content);
+            if (previous != null) {
+                totalBytes -= previous.size();
+                if (!previous.path().equals(target)) {
+                    evicted.add(previous.path());
+                }
+            }
+            totalBytes += size;
+            Iterator<CachedContent> eldest = entries.values().iterator();
+            while (totalBytes > maxSizeMb * MB && eldest.hasNext()) {
+                CachedContent candidate = eldest.next();
+                if (candidate == content) {
+                    break;
+                }
+                eldest.remove();
+                totalBytes -= candidate.size();
+                evicted.add(candidate.path());
+            }
+        }
+        // Readers that already opened an evicted file keep streaming it
+        evicted.forEach(this::deleteQuietly);
+        return content;
+    }
+
+    public void discard(Path tempFile) {
+        deleteQuietly(tempFile);
+    }
+
+    public long getTotalBytes() {
+        synchronized (entries) {
+            return totalBytes;
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete cached document file {}: {}", path, e.getMessage());
+        }
+    }
+
+    public record CachedContent(Long documentId, String etag, Path path, long size) {
+    }
+}
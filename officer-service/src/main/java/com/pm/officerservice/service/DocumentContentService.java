@@ -0,0 +1,342 @@
+package com.pm.officerservice.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.pm.officerservice.client.BorrowerServiceClient;
+import com.pm.officerservice.model.Document;
+import com.pm.officerservice.repository.DocumentRepository;
+
+import feign.FeignException;
+import feign.Response;
+
+/**
+ * Serves document files to officers without buffering them in memory.
+ * <p>
+ * Cached files are served from disk with Range and If-None-Match support. On a miss the
+ * request, including its Range and conditional headers, is proxied to borrower-service and
+ * the body streamed through. A full download is written to the cache as it streams. A ranged
+ * miss, typically a PDF viewer paging through a large file, starts a background download
+ * so later pages are served locally. Uploaded files never change, so hits are not revalidated.
+ */
+@Service
+public class DocumentContentService {
+
+    private static final Logger log = LoggerFactory.getLogger(DocumentContentService.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final List<String> FORWARDED_REQUEST_HEADERS = List.of(
+            HttpHeaders.RANGE, HttpHeaders.IF_RANGE, HttpHeaders.IF_NONE_MATCH, HttpHeaders.IF_MODIFIED_SINCE);
+    private static final List<String> RELAYED_RESPONSE_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE, HttpHeaders.CONTENT_LENGTH, HttpHeaders.CONTENT_RANGE,
+            HttpHeaders.ACCEPT_RANGES, HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED);
+
+    private final DocumentRepository documentRepository;
+    private final BorrowerServiceClient borrowerServiceClient;
+    private final DocumentContentCache documentContentCache;
+    private final Executor documentPrefetchExecutor;
+    private final Set<Long> prefetching = ConcurrentHashMap.newKeySet();
+
+    public DocumentContentService(DocumentRepository documentRepository,
+                                  BorrowerServiceClient borrowerServiceClient,
+                                  DocumentContentCache documentContentCache,
+                                  @Qualifier("documentPrefetchExecutor") Executor documentPrefetchExecutor) {
+        this.documentRepository = documentRepository;
+        this.borrowerServiceClient = borrowerServiceClient;
+        this.documentContentCache = documentContentCache;
+        this.documentPrefetchExecutor = documentPrefetchExecutor;
+    }
+
+    /**
+     * Get the content of a document.
+     *
+     * @param documentId     the document ID
+     * @param requestHeaders the officer's request headers (Range, If-Range, If-None-Match)
+     * @return the streaming response, or empty if the document is unknown
+     */
+    public Optional<ResponseEntity<StreamingResponseBody>> getContent(Long documentId, HttpHeaders requestHeaders) {
+        return documentRepository.findById(documentId)
+                .map(document -> documentContentCache.get(documentId)
+                        .map(cached -> serveCached(document, cached, requestHeaders))
+                        .orElseGet(() -> proxy(document, requestHeaders)));
+    }
+
+    private ResponseEntity<StreamingResponseBody> serveCached(Document document,
+                                                              DocumentContentCache.CachedContent cached,
+                                                              HttpHeaders requestHeaders) {
+        HttpHeaders headers = documentHeaders(document);
+        headers.setETag(cached.etag());
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (matchesAny(requestHeaders.getIfNoneMatch(), cached.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+
+        long total = cached.size();
+        String ifRange = requestHeaders.getFirst(HttpHeaders.IF_RANGE);
+        boolean rangeApplies = ifRange == null || strongMatch(ifRange, cached.etag());
+        List<HttpRange> ranges;
+        try {
+            ranges = rangeApplies ? requestHeaders.getRange() : List.of();
+        } catch (IllegalArgumentException e) {
+            ranges = List.of(); // Malformed Range headers are ignored
+        }
+
+        // Multi-range requests are rare for documents; answering them with the whole file is allowed
+        if (ranges.size() == 1) {
+            long start;
+            long end;
+            try {
+                start = ranges.get(0).getRangeStart(total);
+                end = ranges.get(0).getRangeEnd(total);
+            } catch (IllegalArgumentException e) {
+                headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + total);
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).headers(headers).build();
+            }
+            long length = end - start + 1;
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + total);
+            headers.setContentLength(length);
+            return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                    .headers(headers)
+                    .body(out -> transfer(cached.path(), start, length, out));
+        }
+
+        headers.setContentLength(total);
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(out -> transfer(cached.path(), 0, total, out));
+    }
+
+    private ResponseEntity<StreamingResponseBody> proxy(Document document, HttpHeaders requestHeaders) {
+        Long documentId = document.getDocumentId();
+        Long borrowerId = document.getBorrower().getBorrowerId();
+
+        Map<String, String> forwarded = new HashMap<>();
+        for (String name : FORWARDED_REQUEST_HEADERS) {
+            String value = requestHeaders.getFirst(name);
+            if (value != null) {
+                forwarded.put(name, value);
+            }
+        }
+
+        Response upstream;
+        try {
+            upstream = borrowerServiceClient.getDocumentContent(borrowerId, documentId, forwarded);
+        } catch (FeignException e) {
+            log.error("Failed to fetch content of document {} from borrower-service", documentId, e);
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).build();
+        }
+
+        int status = upstream.status();
+        if (status == HttpStatus.NOT_FOUND.value()) {
+            upstream.close();
+            return ResponseEntity.notFound().build();
+        }
+        if (status >= 400 && status != HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value()) {
+            log.error("Borrower-service answered {} for content of document {}", status, documentId);
+            upstream.close();
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).build();
+        }
+
+        HttpHeaders headers = documentHeaders(document);
+        for (String name : RELAYED_RESPONSE_HEADERS) {
+            String value = firstHeader(upstream, name);
+            if (value != null) {
+                headers.set(name, value);
+            }
+        }
+        if (upstream.body() == null) {
+            upstream.close();
+            return ResponseEntity.status(status).headers(headers).build();
+        }
+
+        String etag = firstHeader(upstream, HttpHeaders.ETAG);
+        Integer length = upstream.body().length();
+        boolean cacheWhileStreaming = status == HttpStatus.OK.value() && etag != null
+                && length != null && documentContentCache.accepts(length);
+        if (status == HttpStatus.PARTIAL_CONTENT.value()) {
+            prefetch(borrowerId, documentId);
+        }
+
+        return ResponseEntity.status(status)
+                .headers(headers)
+                .body(out -> {
+                    try (Response response = upstream; InputStream in = response.body().asInputStream()) {
+                        if (cacheWhileStreaming) {
+                            writeToCache(documentId, etag, length, in, out);
+                        } else {
+                            in.transferTo(out);
+                        }
+                    }
+                });
+    }
+
+    private void prefetch(Long borrowerId, Long documentId) {
+        if (!prefetching.add(documentId)) {
+            return;
+        }
+        try {
+            documentPrefetchExecutor.execute(() -> {
+                try {
+                    fetchIntoCache(borrowerId, documentId);
+                } finally {
+                    prefetching.remove(documentId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            prefetching.remove(documentId);
+            log.debug("Prefetch of document {} skipped, executor is busy", documentId);
+        }
+    }
+
+    void fetchIntoCache(Long borrowerId, Long documentId) {
+        if (documentContentCache.get(documentId).isPresent()) {
+            return;
+        }
+        try (Response response = borrowerServiceClient.getDocumentContent(borrowerId, documentId, Map.of())) {
+            String etag = firstHeader(response, HttpHeaders.ETAG);
+            if (response.status() != HttpStatus.OK.value() || response.body() == null || etag == null) {
+                return;
+            }
+            Integer length = response.body().length();
+            if (length != null && !documentContentCache.accepts(length)) {
+                return;
+            }
+            try (InputStream in = response.body().asInputStream()) {
+                writeToCache(documentId, etag, length, in, null);
+            }
+        } catch (IOException | FeignException e) {
+            log.warn("Prefetch of document {} failed: {}", documentId, e.getMessage());
+        }
+    }
+
+    /**
+     * Copy the upstream body into a cache temp file, mirroring it to the client when one is given.
+     * The file only enters the cache if the body arrived complete.
+     */
+    private void writeToCache(Long documentId, String etag, Integer expectedLength,
+                              InputStream in, OutputStream mirror) throws IOException {
+        Path temp = documentContentCache.createTempFile();
+        long written = 0;
+        boolean complete = false;
+        try (OutputStream file = Files.newOutputStream(temp)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                if (mirror != null) {
+                    mirror.write(buffer, 0, read);
+                }
+                file.write(buffer, 0, read);
+                written += read;
+            }
+            complete = expectedLength == null || written == expectedLength;
+        } finally {
+            if (!complete) {
+                documentContentCache.discard(temp);
+            }
+        }
+        if (!complete) {
+            log.warn("Content of document {} ended after {} of {} bytes, not caching", documentId, written, expectedLength);
+            return;
+        }
+        try {
+            documentContentCache.put(documentId, etag, temp);
+        } catch (IOException e) {
+            log.warn("Failed to cache content of document {}: {}", documentId, e.getMessage());
+            documentContentCache.discard(temp);
+        }
+    }
+
+    private static void transfer(Path path, long position, long count, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long sent = 0;
+            while (sent < count) {
+                long transferred = channel.transferTo(position + sent, count - sent, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                sent += transferred;
+            }
+        }
+    }
+
+    private static HttpHeaders documentHeaders(Document document) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(contentType(document));
+        headers.setContentDisposition(ContentDisposition.inline().filename(document.getFileName()).build());
+        headers.setCacheControl(CacheControl.maxAge(Duration.ofHours(1)).cachePrivate());
+        return headers;
+    }
+
+    // Legacy rows can have no content type or one that does not parse
+    private static MediaType contentType(Document document) {
+        String contentType = document.getContentType();
+        if (contentType == null || contentType.isBlank()) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+        try {
+            return MediaType.parseMediaType(contentType);
+        } catch (InvalidMediaTypeException e) {
+            log.warn("Document {} has invalid content type '{}', serving it as {}",
+                    document.getId(), contentType, MediaType.APPLICATION_OCTET_STREAM_VALUE);
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+
+    private static String firstHeader(Response response, String name) {
+        Collection<String> values = response.headers().get(name);
+        return values == null || values.isEmpty() ? null : values.iterator().next();
+    }
+
+    private static boolean matchesAny(List<String> candidates, String etag) {
+        return candidates.stream().anyMatch(candidate -> "*".equals(candidate) || sameTag(candidate, etag));
+    }
+
+    // Weak comparison, as used for If-None-Match
+    private static boolean sameTag(String candidate, String etag) {
+        return stripWeak(candidate).equals(stripWeak(etag));
+    }
+
+    // Strong comparison, as If-Range requires: a weak tag never matches
+    private static boolean strongMatch(String candidate, String etag) {
+        String trimmed = candidate.trim();
+        return !trimmed.startsWith("W/") && !etag.startsWith("W/") && trimmed.equals(etag);
+    }
+
+    private static String stripWeak(String tag) {
+        String trimmed = tag.trim();
+        return trimmed.startsWith("W/") ? trimmed.substring(2) : trimmed;
+    }
+}
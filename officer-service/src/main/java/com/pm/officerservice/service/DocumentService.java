@@ -8,17 +8,20 @@ import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.pm.borrowerservice.events.DocumentUploadEvent;
 import com.pm.officerservice.dto.DocumentResponse;
 import com.pm.officerservice.dto.DocumentStatusUpdateRequest;
+import com.pm.officerservice.dto.OfficerChangeEvent;
 import com.pm.officerservice.events.DocumentStatusUpdateEvent;
 import com.pm.officerservice.model.Borrower;
 import com.pm.officerservice.model.Document;
 import com.pm.officerservice.model.DocumentStatus;
 import com.pm.officerservice.model.LoanApplication;
+import com.pm.officerservice.model.StatsCategory;
 import com.pm.officerservice.repository.BorrowerRepository;
 import com.pm.officerservice.repository.DocumentRepository;
 import com.pm.officerservice.repository.LoanApplicationRepository;
@@ -35,6 +38,8 @@ public class DocumentService {
     private final BorrowerRepository borrowerRepository;
     private final LoanApplicationRepository loanApplicationRepository;
     private final KafkaEventProducerService kafkaEventProducerService;
+    private final StatusStatisticsService statusStatisticsService;
+    private final ApplicationEventPublisher eventPublisher;
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
     @Transactional
@@ -87,6 +92,15 @@ public class DocumentService {
                     .build();
 
             documentRepository.save(document);
+            statusStatisticsService.recordCreated(StatsCategory.DOCUMENT, status.name(), uploadedAtSource);
+            eventPublisher.publishEvent(OfficerChangeEvent.builder()
+                    .type(OfficerChangeEvent.Type.DOCUMENT_CREATED)
+                    .documentId(event.getDocumentId())
+                    .applicationId(loanApplication != null ? loanApplication.getApplicationId() : null)
+                    .borrowerId(event.getBorrowerId())
+                    .newStatus(status.name())
+                    .occurredAt(uploadedAtSource)
+                    .build());
             log.info("Successfully saved document with ID: {}", event.getDocumentId());
 
         } catch (Exception e) {
@@ -105,12 +119,17 @@ public class DocumentService {
 
             String oldStatus = document.getStatus() != null ? document.getStatus().name() : "PENDING";
             String newStatus = request.getNewStatus().name();
+            LocalDateTime oldWaitingSince = StatusStatisticsService.waitingSince(
+                    document.getStatusUpdatedAt(), document.getUploadedAtSource());
+            LocalDateTime statusUpdatedAt = LocalDateTime.now();
 
             // Update the document status (overwrite, not concatenate)
             document.setStatus(request.getNewStatus());
             document.setStatusUpdatedBy(request.getUpdatedBy());
-            document.setStatusUpdatedAt(LocalDateTime.now());
+            document.setStatusUpdatedAt(statusUpdatedAt);
             documentRepository.save(document);
+            statusStatisticsService.recordTransition(StatsCategory.DOCUMENT,
+                    oldStatus, oldWaitingSince, newStatus, statusUpdatedAt);
 
             // Create and publish status update event
             DocumentStatusUpdateEvent.Builder eventBuilder = DocumentStatusUpdateEvent.newBuilder()
@@ -135,6 +154,16 @@ public class DocumentService {
 
             DocumentStatusUpdateEvent event = eventBuilder.build();
             kafkaEventProducerService.publishDocumentStatusUpdateEvent(event);
+            eventPublisher.publishEvent(OfficerChangeEvent.builder()
+                    .type(OfficerChangeEvent.Type.DOCUMENT_STATUS_CHANGED)
+                    .documentId(documentId)
+                    .applicationId(document.getLoanApplication() != null ? document.getLoanApplication().getApplicationId() : null)
+                    .borrowerId(document.getBorrower().getBorrowerId())
+                    .oldStatus(oldStatus)
+                    .newStatus(newStatus)
+                    .updatedBy(request.getUpdatedBy())
+                    .occurredAt(statusUpdatedAt)
+                    .build());
 
             log.info("Successfully updated document status for document ID: {} from {} to {}", 
                     documentId, oldStatus, newStatus);
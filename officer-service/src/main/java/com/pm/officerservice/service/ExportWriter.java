@@ -0,0 +1,19 @@
+package com.pm.officerservice.service;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes tabular rows straight to an output stream without holding them in memory.
+ */
+interface ExportWriter {
+
+    void header(List<String> names) throws IOException;
+
+    void row(List<?> values) throws IOException;
+
+    /**
+     * Completes the document and flushes it; the underlying stream is left open.
+     */
+    void finish() throws IOException;
+}
@@ -1,27 +1,33 @@
 package com.pm.officerservice.service;
 
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.pm.officerservice.events.DocumentStatusUpdateEvent;
 import com.pm.officerservice.events.LoanStatusUpdateEvent;
+import com.pm.officerservice.model.OutboxEvent;
+import com.pm.officerservice.repository.OutboxEventRepository;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * Publishes officer status events through the transactional outbox. Events are stored in the
+ * caller's transaction, so they are only published if the status change commits, and the
+ * request never waits on the broker. {@link OutboxRelay} sends them to Kafka.
+ */
 @Service
 @RequiredArgsConstructor
 public class KafkaEventProducerService {
 
     private static final Logger log = LoggerFactory.getLogger(KafkaEventProducerService.class);
 
-    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final OutboxEventRepository outboxEventRepository;
 
     @Value("${kafka.topics.loan-status:loan-status}")
     private String loanStatusTopic;
@@ -29,43 +35,41 @@ public class KafkaEventProducerService {
     @Value("${kafka.topics.document-status:documents-status}")
     private String documentStatusTopic;
 
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publishLoanStatusUpdateEvent(LoanStatusUpdateEvent event) {
         try {
             String key = "loan-status-" + event.getApplicationId();
-            CompletableFuture<SendResult<String, byte[]>> future = kafkaTemplate.send(loanStatusTopic, key, event.toByteArray());
-            
-            future.whenComplete((result, ex) -> {
-                if (ex == null) {
-                    log.info("Successfully published loan status update event for application ID: {} to topic: {}", 
-                            event.getApplicationId(), loanStatusTopic);
-                } else {
-                    log.error("Failed to publish loan status update event for application ID: {}", 
-                            event.getApplicationId(), ex);
-                }
-            });
+            outboxEventRepository.save(OutboxEvent.builder()
+                    .topic(loanStatusTopic)
+                    .messageKey(key)
+                    .eventType(LoanStatusUpdateEvent.class.getSimpleName())
+                    .eventId(event.getEventId())
+                    .payload(event.toByteArray())
+                    .build());
+            log.info("Queued loan status update event for application ID: {} to topic: {}",
+                    event.getApplicationId(), loanStatusTopic);
         } catch (Exception e) {
-            log.error("Error publishing loan status update event for application ID: {}", 
+            log.error("Error queueing loan status update event for application ID: {}",
                     event.getApplicationId(), e);
             throw e;
         }
     }
 
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publishDocumentStatusUpdateEvent(DocumentStatusUpdateEvent event) {
         try {
             String key = "document-status-" + event.getDocumentId();
-            CompletableFuture<SendResult<String, byte[]>> future = kafkaTemplate.send(documentStatusTopic, key, event.toByteArray());
-            
-            future.whenComplete((result, ex) -> {
-                if (ex == null) {
-                    log.info("Successfully published document status update event for document ID: {} to topic: {}", 
-                            event.getDocumentId(), documentStatusTopic);
-                } else {
-                    log.error("Failed to publish document status update event for document ID: {}", 
-                            event.getDocumentId(), ex);
-                }
-            });
+            outboxEventRepository.save(OutboxEvent.builder()
+                    .topic(documentStatusTopic)
+                    .messageKey(key)
+                    .eventType(DocumentStatusUpdateEvent.class.getSimpleName())
+                    .eventId(event.getEventId())
+                    .payload(event.toByteArray())
+                    .build());
+            log.info("Queued document status update event for document ID: {} to topic: {}",
+                    event.getDocumentId(), documentStatusTopic);
         } catch (Exception e) {
-            log.error("Error publishing document status update event for document ID: {}", 
+            log.error("Error queueing document status update event for document ID: {}",
                     event.getDocumentId(), e);
             throw e;
         }
@@ -74,4 +78,4 @@ public class KafkaEventProducerService {
     public String generateEventId() {
         return UUID.randomUUID().toString();
     }
-} 
\ No newline at end of file
+}
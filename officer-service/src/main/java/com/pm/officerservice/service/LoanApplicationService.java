@@ -9,16 +9,19 @@ import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.pm.borrowerservice.events.LoanApplicationEvent;
 import com.pm.officerservice.dto.LoanApplicationResponse;
 import com.pm.officerservice.dto.LoanStatusUpdateRequest;
+import com.pm.officerservice.dto.OfficerChangeEvent;
 import com.pm.officerservice.events.LoanStatusUpdateEvent;
 import com.pm.officerservice.model.Borrower;
 import com.pm.officerservice.model.LoanApplication;
 import com.pm.officerservice.model.LoanApplicationStatus;
+import com.pm.officerservice.model.StatsCategory;
 import com.pm.officerservice.repository.BorrowerRepository;
 import com.pm.officerservice.repository.LoanApplicationRepository;
 
@@ -33,6 +36,9 @@ public class LoanApplicationService {
     private final LoanApplicationRepository loanApplicationRepository;
     private final BorrowerRepository borrowerRepository;
     private final KafkaEventProducerService kafkaEventProducerService;
+    private final StatusStatisticsService statusStatisticsService;
+    private final StatusHistoryService statusHistoryService;
+    private final ApplicationEventPublisher eventPublisher;
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
     @Transactional
@@ -67,6 +73,16 @@ public class LoanApplicationService {
                     .build();
 
             loanApplicationRepository.save(loanApplication);
+            statusStatisticsService.recordCreated(StatsCategory.LOAN_APPLICATION, loanApplication.getStatus(), appliedAtSource);
+            statusHistoryService.record(event.getApplicationId(), null, loanApplication.getStatus(), null,
+                    appliedAtSource, appliedAtSource);
+            eventPublisher.publishEvent(OfficerChangeEvent.builder()
+                    .type(OfficerChangeEvent.Type.APPLICATION_CREATED)
+                    .applicationId(event.getApplicationId())
+                    .borrowerId(event.getBorrowerId())
+                    .newStatus(loanApplication.getStatus())
+                    .occurredAt(appliedAtSource)
+                    .build());
             log.info("Successfully saved loan application with ID: {}", event.getApplicationId());
 
         } catch (Exception e) {
@@ -80,17 +96,31 @@ public class LoanApplicationService {
         try {
             log.info("Updating loan status for application ID: {} to status: {}", applicationId, request.getNewStatus());
 
-            LoanApplication loanApplication = loanApplicationRepository.findById(applicationId)
+            // Row lock serialises concurrent decisions on the same application
+            LoanApplication loanApplication = loanApplicationRepository.lockById(applicationId)
                     .orElseThrow(() -> new RuntimeException("Loan application not found with ID: " + applicationId));
 
+            LocalDateTime statusUpdatedAt = LocalDateTime.now();
+            if (loanApplication.isClaimedByOtherThan(request.getUpdatedBy(), statusUpdatedAt)) {
+                throw new ApplicationClaimedException(applicationId, loanApplication.getClaimedBy());
+            }
+
             String oldStatus = loanApplication.getStatus();
             String newStatus = request.getNewStatus().name();
+            LocalDateTime oldWaitingSince = StatusStatisticsService.waitingSince(
+                    loanApplication.getStatusUpdatedAt(), loanApplication.getAppliedAtSource());
 
-            // Update the loan application status (overwrite, not concatenate)
+            // Update the loan application status (overwrite, not concatenate) and end any claim
             loanApplication.setStatus(newStatus);
             loanApplication.setStatusUpdatedBy(request.getUpdatedBy());
-            loanApplication.setStatusUpdatedAt(LocalDateTime.now());
+            loanApplication.setStatusUpdatedAt(statusUpdatedAt);
+            loanApplication.setClaimedBy(null);
+            loanApplication.setClaimExpiresAt(null);
             loanApplicationRepository.save(loanApplication);
+            statusStatisticsService.recordTransition(StatsCategory.LOAN_APPLICATION,
+                    oldStatus, oldWaitingSince, newStatus, statusUpdatedAt);
+            statusHistoryService.record(applicationId, oldStatus, newStatus, request.getUpdatedBy(),
+                    statusUpdatedAt, loanApplication.getAppliedAtSource());
 
             // Create and publish status update event
             LoanStatusUpdateEvent event = LoanStatusUpdateEvent.newBuilder()
@@ -110,6 +140,15 @@ public class LoanApplicationService {
             }
 
             kafkaEventProducerService.publishLoanStatusUpdateEvent(event);
+            eventPublisher.publishEvent(OfficerChangeEvent.builder()
+                    .type(OfficerChangeEvent.Type.LOAN_STATUS_CHANGED)
+                    .applicationId(applicationId)
+                    .borrowerId(loanApplication.getBorrower().getBorrowerId())
+                    .oldStatus(oldStatus)
+                    .newStatus(newStatus)
+                    .updatedBy(request.getUpdatedBy())
+                    .occurredAt(statusUpdatedAt)
+                    .build());
 
             log.info("Successfully updated loan status for application ID: {} from {} to {}", 
                     applicationId, oldStatus, newStatus);
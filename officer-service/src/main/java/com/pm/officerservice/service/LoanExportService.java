@@ -0,0 +1,159 @@
+package com.pm.officerservice.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.pm.officerservice.dto.LoanExportFilter;
+import com.pm.officerservice.model.ApplicationView;
+import com.pm.officerservice.repository.ApplicationViewRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Streams loan applications from the application view to CSV or XLSX in constant memory.
+ * <p>
+ * Rows are read through a database cursor with a fixed fetch size and written as they arrive; the
+ * persistence context is cleared every {@code officer.export.clear-interval} rows so already
+ * written entities can be collected. Nothing is buffered beyond the writer's output buffer.
+ */
+@Service
+@RequiredArgsConstructor
+public class LoanExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(LoanExportService.class);
+
+    private final ApplicationViewRepository applicationViewRepository;
+    private final EntityManager entityManager;
+
+    @Value("${officer.export.clear-interval:500}")
+    private int clearInterval;
+
+    public enum Format {
+        CSV("csv", new MediaType("text", "csv")),
+        XLSX("xlsx", MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
+
+        private final String extension;
+        private final MediaType mediaType;
+
+        Format(String extension, MediaType mediaType) {
+            this.extension = extension;
+            this.mediaType = mediaType;
+        }
+
+        public String getExtension() { return extension; }
+        public MediaType getMediaType() { return mediaType; }
+    }
+
+    public enum Column {
+        APPLICATION_ID("applicationId", ApplicationView::getApplicationId),
+        BORROWER_ID("borrowerId", ApplicationView::getBorrowerId),
+        BORROWER_NAME("borrowerName", ApplicationView::getBorrowerName),
+        BORROWER_EMAIL("borrowerEmail", ApplicationView::getBorrowerEmail),
+        BORROWER_PHONE_NUMBER("borrowerPhoneNumber", ApplicationView::getBorrowerPhoneNumber),
+        BORROWER_ANNUAL_INCOME("borrowerAnnualIncome", ApplicationView::getBorrowerAnnualIncome),
+        BORROWER_EMPLOYMENT_STATUS("borrowerEmploymentStatus", ApplicationView::getBorrowerEmploymentStatus),
+        LOAN_AMOUNT("loanAmount", ApplicationView::getLoanAmount),
+        LOAN_TERM_MONTHS("loanTermMonths", ApplicationView::getLoanTermMonths),
+        LOAN_PURPOSE("loanPurpose", ApplicationView::getLoanPurpose),
+        INTEREST_RATE("interestRate", ApplicationView::getInterestRate),
+        MONTHLY_PAYMENT("monthlyPayment", ApplicationView::getMonthlyPayment),
+        STATUS("status", ApplicationView::getStatus),
+        STATUS_UPDATED_BY("statusUpdatedBy", ApplicationView::getStatusUpdatedBy),
+        STATUS_UPDATED_AT("statusUpdatedAt", ApplicationView::getStatusUpdatedAt),
+        APPLIED_AT("appliedAt", ApplicationView::getAppliedAtSource),
+        LATEST_SCORE("latestScore", ApplicationView::getLatestScore),
+        LATEST_SCORE_GRADE("latestScoreGrade", ApplicationView::getLatestScoreGrade),
+        LATEST_RISK_ASSESSMENT("latestRiskAssessment", ApplicationView::getLatestRiskAssessment),
+        TOTAL_DOCUMENTS("totalDocuments", ApplicationView::getTotalDocuments),
+        VERIFIED_DOCUMENTS("verifiedDocuments", ApplicationView::getVerifiedDocuments);
+
+        private final String header;
+        private final Function<ApplicationView, Object> extractor;
+
+        Column(String header, Function<ApplicationView, Object> extractor) {
+            this.header = header;
+            this.extractor = extractor;
+        }
+
+        public String getHeader() { return header; }
+
+        Object valueOf(ApplicationView view) {
+            Object value = extractor.apply(view);
+            // Dates as ISO text so both formats read the same
+            return value instanceof Temporal ? value.toString() : value;
+        }
+
+        /**
+         * Parse comma-separated column headers, e.g. {@code applicationId,status,loanAmount}.
+         *
+         * @throws IllegalArgumentException for an unknown column
+         */
+        public static List<Column> parse(String headers) {
+            if (headers == null || headers.isBlank()) {
+                return List.of(values());
+            }
+            List<Column> columns = new ArrayList<>();
+            for (String header : headers.split(",")) {
+                String name = header.trim();
+                columns.add(Arrays.stream(values())
+                        .filter(column -> column.header.equalsIgnoreCase(name))
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalArgumentException("Unknown export column: " + name)));
+            }
+            return columns;
+        }
+    }
+
+    /**
+     * Write the matching applications, ordered by ID, to the output stream.
+     *
+     * @return the number of rows written
+     */
+    @Transactional(readOnly = true)
+    public long export(LoanExportFilter filter, List<Column> columns, Format format, OutputStream out) throws IOException {
+        long started = System.currentTimeMillis();
+        ExportWriter writer = format == Format.XLSX ? new XlsxExportWriter(out, "Loan applications") : new CsvExportWriter(out);
+        writer.header(columns.stream().map(Column::getHeader).collect(Collectors.toList()));
+
+        long rows = 0;
+        try (Stream<ApplicationView> views = applicationViewRepository.streamForExport(filter.getStatus(),
+                filter.getBorrowerId(), filter.getMinScore(), filter.getAppliedFrom(), filter.getAppliedTo())) {
+            Iterator<ApplicationView> iterator = views.iterator();
+            List<Object> values = new ArrayList<>(columns.size());
+            while (iterator.hasNext()) {
+                ApplicationView view = iterator.next();
+                values.clear();
+                for (Column column : columns) {
+                    values.add(column.valueOf(view));
+                }
+                writer.row(values);
+                if (++rows % clearInterval == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        writer.finish();
+        log.info("Exported {} loan applications as {} in {} ms", rows, format, System.currentTimeMillis() - started);
+        return rows;
+    }
+
+    public static String fileName(Format format) {
+        return "loan-applications." + format.getExtension();
+    }
+}
@@ -0,0 +1,90 @@
+package com.pm.officerservice.service;
+
+import com.pm.officerservice.client.LoanScoreClient;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Keeps a cached view of loan score service availability.
+ * The health endpoint of loan-score-service is probed in the background and the
+ * result is combined with the loan-score-service circuit breaker state, so reading
+ * the availability is just a volatile read and never touches the score tables.
+ */
+@Component
+@Slf4j
+public class LoanScoreHealthMonitor {
+
+    private static final String CIRCUIT_BREAKER_NAME = "loan-score-service";
+
+    private final LoanScoreClient loanScoreClient;
+    private final CircuitBreaker circuitBreaker;
+
+    private volatile ProbeResult lastProbe = new ProbeResult(false, null, "Not probed yet");
+
+    public LoanScoreHealthMonitor(LoanScoreClient loanScoreClient, CircuitBreakerRegistry circuitBreakerRegistry) {
+        this.loanScoreClient = loanScoreClient;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+    }
+
+    /**
+     * Probe the loan score service health endpoint and cache the result.
+     * When the service is back up while the circuit breaker is still open, the breaker
+     * is moved to half-open so real traffic can confirm the recovery straight away.
+     */
+    @Scheduled(fixedDelayString = "${services.loan-score-service.health-probe.interval-ms:10000}")
+    public void refresh() {
+        ProbeResult result;
+        try {
+            Map<String, Object> health = loanScoreClient.getHealth();
+            Object status = health != null ? health.get("status") : null;
+            boolean up = "UP".equals(status);
+            result = new ProbeResult(up, LocalDateTime.now(), up ? null : "Reported status: " + status);
+        } catch (Exception e) {
+            result = new ProbeResult(false, LocalDateTime.now(), e.getMessage());
+        }
+
+        if (result.reachable() != lastProbe.reachable()) {
+            log.info("Loan score service health changed: {} ({})",
+                    result.reachable() ? "UP" : "DOWN", result.error() != null ? result.error() : "ok");
+        }
+        lastProbe = result;
+
+        if (result.reachable() && circuitBreaker.getState() == CircuitBreaker.State.OPEN) {
+            log.info("Loan score service is healthy again, moving circuit breaker to half-open");
+            circuitBreaker.transitionToHalfOpenState();
+        }
+    }
+
+    /**
+     * @return true if the last probe succeeded and the circuit breaker lets calls through
+     */
+    public boolean isAvailable() {
+        return lastProbe.reachable() && isCircuitBreakerPermitting();
+    }
+
+    public CircuitBreaker.State getCircuitBreakerState() {
+        return circuitBreaker.getState();
+    }
+
+    public LocalDateTime getLastCheckedAt() {
+        return lastProbe.checkedAt();
+    }
+
+    public String getLastError() {
+        return lastProbe.error();
+    }
+
+    private boolean isCircuitBreakerPermitting() {
+        CircuitBreaker.State state = circuitBreaker.getState();
+        return state != CircuitBreaker.State.OPEN && state != CircuitBreaker.State.FORCED_OPEN;
+    }
+
+    private record ProbeResult(boolean reachable, LocalDateTime checkedAt, String error) {
+    }
+}
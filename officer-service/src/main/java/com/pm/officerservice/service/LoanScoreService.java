@@ -5,14 +5,15 @@ import com.pm.officerservice.dto.LoanScoreResponse;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Service for handling loan score operations using Feign client with circuit breaker pattern.
@@ -20,17 +21,31 @@ import java.util.concurrent.CompletableFuture;
  * Implements resilience patterns including circuit breaker, retry, and timeout.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class LoanScoreService {
 
     private final LoanScoreClient loanScoreClient;
+    private final Executor loanScoreExecutor;
+    private final LoanScoreHealthMonitor loanScoreHealthMonitor;
+    private final ApplicationViewProjector applicationViewProjector;
     
     private static final String CIRCUIT_BREAKER_NAME = "loan-score-service";
     private static final String SERVICE_UNAVAILABLE_MESSAGE = "Loan Score Service is currently unavailable. Please try again later.";
 
+    public LoanScoreService(LoanScoreClient loanScoreClient,
+                            @Qualifier("loanScoreExecutor") Executor loanScoreExecutor,
+                            LoanScoreHealthMonitor loanScoreHealthMonitor,
+                            ApplicationViewProjector applicationViewProjector) {
+        this.loanScoreClient = loanScoreClient;
+        this.loanScoreExecutor = loanScoreExecutor;
+        this.loanScoreHealthMonitor = loanScoreHealthMonitor;
+        this.applicationViewProjector = applicationViewProjector;
+    }
+
     /**
      * Get loan score for a specific loan application with circuit breaker protection.
+     * The Feign call runs on the bounded loanScoreExecutor; a saturated executor
+     * rejects the call, which counts as a circuit breaker failure.
      * 
      * @param applicationId the loan application ID
      * @return Optional containing loan score if found, or error response if service is down
@@ -45,13 +60,26 @@ public class LoanScoreService {
                 LoanScoreResponse score = loanScoreClient.getLoanScore(applicationId);
                 log.info("Successfully retrieved loan score for application ID: {}. Score: {} ({})", 
                         applicationId, score.getTotalScore(), score.getScoreGrade());
+                recordInView(score);
                 return Optional.of(score);
             } catch (Exception e) {
                 log.warn("Failed to retrieve loan score for application ID: {}. Error: {}", 
                         applicationId, e.getMessage());
                 throw e; // Let circuit breaker handle the exception
             }
-        });
+        }, loanScoreExecutor);
+    }
+
+    /**
+     * Keep the latest score on the application view for list screens. A failure here must not fail the score call.
+     */
+    private void recordInView(LoanScoreResponse score) {
+        try {
+            applicationViewProjector.recordScore(score);
+        } catch (Exception e) {
+            log.warn("Failed to record score of application ID: {} in the application view: {}",
+                    score.getLoanApplicationId(), e.getMessage());
+        }
     }
 
     /**
@@ -68,6 +96,7 @@ public class LoanScoreService {
 
     /**
      * Get loan score synchronously for simpler use cases.
+     * Blocks the calling thread; request handlers should prefer {@link #getLoanScore(Long)}.
      */
     public Optional<LoanScoreResponse> getLoanScoreSync(Long applicationId) {
         try {
@@ -167,29 +196,14 @@ public class LoanScoreService {
     }
 
     /**
-     * Check if loan score service is available with circuit breaker protection.
+     * Check if loan score service is available.
+     * Served from the background health probe and the circuit breaker state,
+     * so it never calls the loan score service itself.
      * 
      * @return true if service is available
      */
-    @CircuitBreaker(name = CIRCUIT_BREAKER_NAME, fallbackMethod = "isLoanScoreServiceAvailableFallback")
     public boolean isLoanScoreServiceAvailable() {
-        try {
-            // Try a lightweight health check endpoint
-            loanScoreClient.getScoresByGrade("EXCELLENT");
-            log.info("Loan score service is available");
-            return true;
-        } catch (Exception e) {
-            log.warn("Loan score service health check failed: {}", e.getMessage());
-            throw e; // Let circuit breaker handle
-        }
-    }
-
-    /**
-     * Fallback method for service availability check.
-     */
-    public boolean isLoanScoreServiceAvailableFallback(Exception ex) {
-        log.warn("Circuit breaker activated for service availability check: {}", ex.getMessage());
-        return false;
+        return loanScoreHealthMonitor.isAvailable();
     }
 
     /**
@@ -212,8 +226,10 @@ public class LoanScoreService {
      */
     public ServiceStatus getServiceStatus() {
         boolean available = isLoanScoreServiceAvailable();
-        return new ServiceStatus(available, 
-                available ? "Service is running normally" : SERVICE_UNAVAILABLE_MESSAGE);
+        String message = available ? "Service is running normally" : SERVICE_UNAVAILABLE_MESSAGE;
+        return new ServiceStatus(available, message,
+                loanScoreHealthMonitor.getCircuitBreakerState().name(),
+                loanScoreHealthMonitor.getLastCheckedAt());
     }
 
     /**
@@ -222,13 +238,23 @@ public class LoanScoreService {
     public static class ServiceStatus {
         private final boolean available;
         private final String message;
+        private final String circuitBreakerState;
+        private final LocalDateTime lastCheckedAt;
 
         public ServiceStatus(boolean available, String message) {
+            this(available, message, null, null);
+        }
+
+        public ServiceStatus(boolean available, String message, String circuitBreakerState, LocalDateTime lastCheckedAt) {
             this.available = available;
             this.message = message;
+            this.circuitBreakerState = circuitBreakerState;
+            this.lastCheckedAt = lastCheckedAt;
         }
 
         public boolean isAvailable() { return available; }
         public String getMessage() { return message; }
+        public String getCircuitBreakerState() { return circuitBreakerState; }
+        public LocalDateTime getLastCheckedAt() { return lastCheckedAt; }
     }
 }
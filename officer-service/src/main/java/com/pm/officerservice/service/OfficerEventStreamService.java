@@ -0,0 +1,246 @@
+package com.pm.officerservice.service;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.pm.officerservice.dto.OfficerChangeEvent;
+
+/**
+ * Pushes committed loan application and document changes to officer screens over Server-Sent Events.
+ * <p>
+ * Every connection has its own bounded buffer drained on a shared executor. A client whose buffer
+ * fills up is disconnected instead of slowing down everyone else; it reconnects with
+ * {@code Last-Event-ID} and the missed events are replayed from a bounded in-memory history.
+ * Event IDs carry a per-process epoch, so a client resuming across a restart (or from beyond the
+ * history) gets a {@code reset} event telling it to reload instead of a silent gap.
+ */
+@Service
+public class OfficerEventStreamService {
+
+    private static final Logger log = LoggerFactory.getLogger(OfficerEventStreamService.class);
+
+    static final String RESET_EVENT = "reset";
+    private static final StreamedEvent HEARTBEAT = new StreamedEvent(null, null, null);
+
+    private final Executor eventStreamExecutor;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Deque<StreamedEvent> history = new ArrayDeque<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private long sequence; // Guarded by history
+
+    @Value("${officer.events.client-buffer-size:256}")
+    private int clientBufferSize;
+
+    @Value("${officer.events.history-size:1000}")
+    private int historySize;
+
+    @Value("${officer.events.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    public OfficerEventStreamService(@Qualifier("eventStreamExecutor") Executor eventStreamExecutor) {
+        this.eventStreamExecutor = eventStreamExecutor;
+    }
+
+    /**
+     * Open a stream for one officer screen.
+     *
+     * @param filter      which changes the client wants
+     * @param lastEventId the {@code Last-Event-ID} header of a reconnecting client, or null
+     * @return the emitter to return from the controller
+     */
+    public SseEmitter subscribe(Filter filter, String lastEventId) {
+        SseEmitter emitter = createEmitter();
+        Subscriber subscriber = new Subscriber(emitter, filter, new ArrayBlockingQueue<>(clientBufferSize));
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        // Replay and registration happen under the same lock as publishing, so no event is missed or sent twice
+        synchronized (history) {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                replayMissed(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        }
+        log.info("Officer event stream opened (filter: {}, subscribers: {})", filter, subscribers.size());
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onChange(OfficerChangeEvent change) {
+        synchronized (history) {
+            StreamedEvent event = new StreamedEvent(epoch + "-" + (++sequence), change.getType().name(), change);
+            history.addLast(event);
+            while (history.size() > historySize) {
+                history.removeFirst();
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.filter.matches(change)) {
+                    subscriber.enqueue(event);
+                }
+            }
+        }
+    }
+
+    /**
+     * Keeps idle connections open through proxies and detects clients that went away.
+     */
+    @Scheduled(fixedDelayString = "${officer.events.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> subscriber.enqueue(HEARTBEAT));
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(emitterTimeoutMs);
+    }
+
+    private void replayMissed(Subscriber subscriber, String lastEventId) {
+        int separator = lastEventId.lastIndexOf('-');
+        long lastSequence = -1;
+        if (separator > 0 && lastEventId.substring(0, separator).equals(epoch)) {
+            try {
+                lastSequence = Long.parseLong(lastEventId.substring(separator + 1));
+            } catch (NumberFormatException e) {
+                lastSequence = -1;
+            }
+        }
+
+        long oldestRetained = history.isEmpty() ? sequence + 1 : sequenceOf(history.peekFirst());
+        if (lastSequence < 0 || lastSequence > sequence || lastSequence < oldestRetained - 1) {
+            log.info("Cannot resume officer event stream from {}, asking client to reload", lastEventId);
+            subscriber.enqueue(new StreamedEvent(null, RESET_EVENT, "reload"));
+            return;
+        }
+        for (StreamedEvent event : history) {
+            if (sequenceOf(event) > lastSequence && subscriber.filter.matches((OfficerChangeEvent) event.data())) {
+                subscriber.enqueue(event);
+            }
+        }
+    }
+
+    private long sequenceOf(StreamedEvent event) {
+        return Long.parseLong(event.id().substring(epoch.length() + 1));
+    }
+
+    /**
+     * Per-connection filter. Null fields match everything.
+     */
+    public record Filter(Set<OfficerChangeEvent.Type> types, Long borrowerId, Long applicationId) {
+
+        public static Filter all() {
+            return new Filter(null, null, null);
+        }
+
+        boolean matches(OfficerChangeEvent change) {
+            return (types == null || types.isEmpty() || types.contains(change.getType()))
+                    && (borrowerId == null || borrowerId.equals(change.getBorrowerId()))
+                    && (applicationId == null || applicationId.equals(change.getApplicationId()));
+        }
+    }
+
+    private record StreamedEvent(String id, String name, Object data) {
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Filter filter;
+        private final BlockingQueue<StreamedEvent> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, Filter filter, BlockingQueue<StreamedEvent> buffer) {
+            this.emitter = emitter;
+            this.filter = filter;
+            this.buffer = buffer;
+        }
+
+        void enqueue(StreamedEvent event) {
+            if (closed) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                disconnect("buffer full");
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    eventStreamExecutor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                    disconnect("event stream executor saturated");
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                StreamedEvent event;
+                while (!closed && (event = buffer.poll()) != null) {
+                    send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Officer event stream client went away: {}", e.getMessage());
+                close();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // An event may have been queued after the loop saw an empty buffer
+            if (!closed && !buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void send(StreamedEvent event) throws IOException {
+            if (event == HEARTBEAT) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+                return;
+            }
+            SseEmitter.SseEventBuilder builder = SseEmitter.event().name(event.name());
+            if (event.id() != null) {
+                builder.id(event.id());
+            }
+            emitter.send(builder.data(event.data(), MediaType.APPLICATION_JSON));
+        }
+
+        private void disconnect(String reason) {
+            log.warn("Disconnecting slow officer event stream client ({}), it can resume with Last-Event-ID", reason);
+            close();
+            emitter.complete();
+        }
+
+        void close() {
+            closed = true;
+            subscribers.remove(this);
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.pm.officerservice.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.pm.officerservice.model.OutboxEvent;
+import com.pm.officerservice.repository.OutboxEventRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Drains the outbox table to Kafka in id order. Each batch is read, sent, flushed and deleted in
+ * one transaction that holds a Postgres advisory lock, so only one instance relays at a time and
+ * events of an application are never published out of order by two relays. If any send fails the
+ * transaction rolls back and the whole batch is retried on the next poll, so delivery is
+ * at-least-once and consumers dedupe on the event ID. The producer is idempotent, so broker-side
+ * retries do not add duplicates.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    static final long RELAY_LOCK_KEY = 0x6f7574626f78L; // "outbox"
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${officer.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${officer.outbox.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    /**
+     * Publishes full batches back to back until the outbox is drained, then waits for the next poll.
+     */
+    @Scheduled(fixedDelayString = "${officer.outbox.poll-interval-ms:200}")
+    public void relay() {
+        try {
+            Integer published;
+            do {
+                published = transactionTemplate.execute(status -> publishBatch());
+            } while (published != null && published == batchSize);
+        } catch (Exception e) {
+            log.warn("Outbox relay failed, batch will be retried: {}", e.getMessage());
+        }
+    }
+
+    int publishBatch() {
+        if (!outboxEventRepository.tryAdvisoryLock(RELAY_LOCK_KEY)) {
+            return 0; // Another instance is relaying
+        }
+        List<OutboxEvent> batch = outboxEventRepository.findNextBatch(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        CompletableFuture<?>[] sends = batch.stream()
+                .map(event -> kafkaTemplate.send(event.getTopic(), event.getMessageKey(), event.getPayload()))
+                .toArray(CompletableFuture[]::new);
+        kafkaTemplate.flush();
+
+        try {
+            CompletableFuture.allOf(sends).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while publishing outbox batch", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Failed to publish outbox batch starting at id " + batch.get(0).getId(), e);
+        }
+
+        outboxEventRepository.deleteAllInBatch(batch);
+        log.debug("Published {} outbox events", batch.size());
+        return batch.size();
+    }
+}
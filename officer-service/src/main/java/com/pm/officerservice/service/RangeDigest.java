@@ -0,0 +1,142 @@
+package com.pm.officerservice.service;
+
+import com.pm.officerservice.dto.DigestEntity;
+import com.pm.officerservice.dto.DigestResponse;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Hashing used by the anti-entropy digests. borrower-service has an identical copy; both must
+ * produce the same row hashes and bucket digests for the same data, so change them together.
+ * <p>
+ * A row hash is a truncated SHA-256 of the row's canonical field values. A range is split into
+ * equal-width ID buckets and each bucket digest is a SHA-256 over its (id, row hash) pairs in ID
+ * order, so two sides agree on a bucket exactly when they hold the same rows.
+ */
+public final class RangeDigest {
+
+    private static final HexFormat HEX = HexFormat.of();
+    private static final char SEPARATOR = '\u001f';
+
+    private RangeDigest() {
+    }
+
+    public static String rowHash(Object... fields) {
+        StringBuilder canonical = new StringBuilder();
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                canonical.append(SEPARATOR);
+            }
+            canonical.append(canonical(fields[i]));
+        }
+        byte[] hash = sha256().digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+        return HEX.formatHex(hash, 0, 8);
+    }
+
+    // Numbers are compared by value so scale differences between the two schemas do not matter
+    static String canonical(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.stripTrailingZeros().toPlainString();
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return BigDecimal.valueOf(((Number) value).doubleValue()).stripTrailingZeros().toPlainString();
+        }
+        if (value instanceof Enum<?> constant) {
+            return constant.name();
+        }
+        return value.toString();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Accumulates rows, fed in ascending ID order, into the buckets of {@code [from, to]}.
+     */
+    public static final class Builder {
+
+        private final long from;
+        private final long to;
+        private final long width;
+        private final long lastIndex;
+        private final List<DigestResponse.Bucket> buckets = new ArrayList<>();
+        private final ByteBuffer idBytes = ByteBuffer.allocate(Long.BYTES);
+        private MessageDigest current;
+        private long currentIndex = -1;
+        private long currentCount;
+        private Long maxId;
+
+        public Builder(long from, long to, int bucketCount) {
+            if (from > to || bucketCount < 1) {
+                throw new IllegalArgumentException("Invalid digest range " + from + "-" + to + " with " + bucketCount + " buckets");
+            }
+            this.from = from;
+            this.to = to;
+            this.width = (to - from) / bucketCount + 1;
+            this.lastIndex = (to - from) / width;
+        }
+
+        public void add(long id, String rowHash) {
+            long index = (id - from) / width;
+            if (index != currentIndex) {
+                closeUpTo(index);
+                currentIndex = index;
+                current = sha256();
+                currentCount = 0;
+            }
+            idBytes.clear();
+            current.update(idBytes.putLong(id).array());
+            current.update(rowHash.getBytes(StandardCharsets.US_ASCII));
+            currentCount++;
+            maxId = id;
+        }
+
+        public DigestResponse build(DigestEntity entity) {
+            closeUpTo(Long.MAX_VALUE);
+            return DigestResponse.builder()
+                    .entity(entity)
+                    .from(from)
+                    .to(to)
+                    .maxId(maxId)
+                    .buckets(buckets)
+                    .build();
+        }
+
+        // Emits the open bucket and empty buckets before the given index
+        private void closeUpTo(long index) {
+            if (current != null) {
+                buckets.add(bucket(currentIndex, currentCount, HEX.formatHex(current.digest(), 0, 16)));
+                current = null;
+            }
+            for (long next = buckets.size(); next < index && next <= lastIndex; next++) {
+                buckets.add(bucket(next, 0, null));
+            }
+        }
+
+        private DigestResponse.Bucket bucket(long index, long count, String digest) {
+            long start = from + index * width;
+            long end = width - 1 > to - start ? to : start + width - 1;
+            return DigestResponse.Bucket.builder()
+                    .from(start)
+                    .to(end)
+                    .count(count)
+                    .digest(digest)
+                    .build();
+        }
+    }
+}
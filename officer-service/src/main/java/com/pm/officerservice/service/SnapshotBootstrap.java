@@ -0,0 +1,96 @@
+package com.pm.officerservice.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.pm.officerservice.config.InternalTokenFilter;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Seeds an empty instance from a snapshot before the Kafka listeners start.
+ * <p>
+ * When {@code officer.bootstrap.snapshot-location} is set (a {@code file:} path or the
+ * {@code /internal/snapshot} URL of a running instance, which is sent the internal token) and the
+ * projection tables are empty, the snapshot is imported and the derived tables rebuilt. The
+ * listeners then resume from the offsets it contains, see {@code TrackedOffsetRebalanceListener}.
+ * If the import fails the instance falls back to consuming the full history.
+ */
+@Component
+@RequiredArgsConstructor
+public class SnapshotBootstrap implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotBootstrap.class);
+
+    private final SnapshotService snapshotService;
+    private final StatusStatisticsService statusStatisticsService;
+    private final ApplicationViewProjector applicationViewProjector;
+    private final ResourceLoader resourceLoader;
+
+    @Value("${officer.bootstrap.snapshot-location:}")
+    private String snapshotLocation;
+
+    @Value("${officer.internal.token:}")
+    private String internalToken;
+
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        running = true;
+        if (snapshotLocation == null || snapshotLocation.isBlank()) {
+            return;
+        }
+        if (!snapshotService.isEmpty()) {
+            log.info("Projection tables already hold data, not bootstrapping from snapshot {}", snapshotLocation);
+            return;
+        }
+
+        log.info("Bootstrapping projection tables from snapshot {}", snapshotLocation);
+        Resource snapshot = resourceLoader.getResource(snapshotLocation);
+        try (InputStream in = open(snapshot)) {
+            long rows = snapshotService.importSnapshot(in);
+            statusStatisticsService.reconcile();
+            applicationViewProjector.rebuild();
+            log.info("Bootstrapped {} rows from snapshot, resuming consumption from its offsets", rows);
+        } catch (Exception e) {
+            log.error("Failed to bootstrap from snapshot {}, consuming the full event history instead", snapshotLocation, e);
+        }
+    }
+
+    // A running instance's /internal/snapshot requires the internal token
+    private InputStream open(Resource snapshot) throws IOException {
+        if (snapshotLocation.startsWith("http:") || snapshotLocation.startsWith("https:")) {
+            URLConnection connection = snapshot.getURL().openConnection();
+            connection.setRequestProperty(InternalTokenFilter.HEADER, internalToken);
+            return connection.getInputStream();
+        }
+        return snapshot.getInputStream();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Runs just before the listener containers, so no record is consumed while importing
+    @Override
+    public int getPhase() {
+        return AbstractMessageListenerContainer.DEFAULT_PHASE - 1;
+    }
+}
@@ -0,0 +1,335 @@
+package com.pm.officerservice.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Exports and imports a consistent snapshot of the projection tables.
+ * <p>
+ * The export reads every table inside one repeatable-read transaction, so the rows and the stored
+ * consumer offsets describe the same point in the event streams. The format is gzipped JSON lines:
+ * a header, then per table a line with the column names and SQL types followed by one line per row,
+ * and an end marker with the row count so a truncated file is rejected. Derived tables (status
+ * counters, application view) are not exported; they are rebuilt from these after an import.
+ * Offsets are exported for the main topics only: retry topics hold records in flight for the
+ * exporting instance, so a new instance takes them up from the consumer group's committed offsets.
+ */
+@Service
+public class SnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotService.class);
+
+    static final int FORMAT_VERSION = 1;
+    // Parents before children so foreign keys hold while importing
+    static final List<String> TABLES = List.of("borrowers", "loan_applications", "documents",
+            "status_transitions", "status_rollups", "auto_decision_audit", "outbox_events", "consumer_offsets");
+    // Tables whose generated IDs must continue after the imported rows
+    static final List<String> IDENTITY_TABLES = List.of("status_transitions", "auto_decision_audit", "outbox_events");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate exportTransaction;
+    private final TransactionTemplate importTransaction;
+
+    @Value("${officer.snapshot.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${officer.snapshot.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${kafka.topics.retry-suffix:-retry}")
+    private String retryTopicSuffix;
+
+    @Value("${kafka.topics.dlt-suffix:-dlt}")
+    private String dltTopicSuffix;
+
+    public SnapshotService(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                           PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.exportTransaction = new TransactionTemplate(transactionManager);
+        this.exportTransaction.setReadOnly(true);
+        this.exportTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.importTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Write a snapshot of the projection tables, streaming rows straight from the database cursor.
+     *
+     * @return the number of rows written
+     */
+    public long export(OutputStream out) throws IOException {
+        GZIPOutputStream gzip = new GZIPOutputStream(out, 64 * 1024);
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8));
+        long started = System.currentTimeMillis();
+
+        Long rows;
+        try {
+            rows = exportTransaction.execute(status -> {
+                writeLine(writer, Map.of("type", "header", "formatVersion", FORMAT_VERSION,
+                        "createdAt", LocalDateTime.now().toString()));
+                long written = 0;
+                for (String table : TABLES) {
+                    written += exportTable(writer, table);
+                }
+                writeLine(writer, Map.of("type", "end", "rows", written));
+                return written;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        gzip.finish();
+        log.info("Exported snapshot of {} rows in {} ms", rows, System.currentTimeMillis() - started);
+        return rows != null ? rows : 0;
+    }
+
+    /**
+     * Load a snapshot into empty projection tables in a single transaction, so a failed or
+     * truncated import leaves nothing behind.
+     *
+     * @return the number of rows imported
+     * @throws IllegalStateException if the tables are not empty or the snapshot is invalid
+     */
+    public long importSnapshot(InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(in, 64 * 1024), StandardCharsets.UTF_8));
+        long started = System.currentTimeMillis();
+
+        Long rows;
+        try {
+            rows = importTransaction.execute(status -> {
+                try {
+                    return importTables(reader);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        log.info("Imported snapshot of {} rows in {} ms", rows, System.currentTimeMillis() - started);
+        return rows != null ? rows : 0;
+    }
+
+    public boolean isEmpty() {
+        for (String table : TABLES) {
+            Long count = jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+            if (count != null && count > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long exportTable(BufferedWriter writer, String table) {
+        String sql = "select * from " + table;
+        jdbcTemplate.query(sql + " where 1 = 0", (ResultSetExtractor<Void>) rs -> {
+            writeTableHeader(writer, table, rs.getMetaData());
+            return null;
+        });
+
+        boolean offsets = table.equals("consumer_offsets");
+        long[] written = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(offsets
+                    ? sql + " where topic not like ? and topic not like ?" : sql);
+            if (offsets) {
+                statement.setString(1, "%" + retryTopicSuffix + "%");
+                statement.setString(2, "%" + dltTopicSuffix);
+            }
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            int columnCount = rs.getMetaData().getColumnCount();
+            List<Object> values = new ArrayList<>(columnCount);
+            for (int i = 1; i <= columnCount; i++) {
+                values.add(toJsonValue(rs.getObject(i)));
+            }
+            writeLine(writer, Map.of("type", "row", "values", values));
+            written[0]++;
+        });
+        log.debug("Exported {} rows from {}", written[0], table);
+        return written[0];
+    }
+
+    private void writeTableHeader(BufferedWriter writer, String table, ResultSetMetaData metaData) throws SQLException {
+        List<Map<String, Object>> columns = new ArrayList<>();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            columns.add(Map.of("name", metaData.getColumnName(i).toLowerCase(), "sqlType", metaData.getColumnType(i)));
+        }
+        writeLine(writer, Map.of("type", "table", "name", table, "columns", columns));
+    }
+
+    private long importTables(BufferedReader reader) throws IOException {
+        JsonNode header = readLine(reader);
+        if (header == null || !"header".equals(header.path("type").asText())) {
+            throw new IllegalStateException("Snapshot has no header");
+        }
+        if (header.path("formatVersion").asInt() != FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported snapshot format version " + header.path("formatVersion").asInt());
+        }
+        if (!isEmpty()) {
+            throw new IllegalStateException("Projection tables are not empty, refusing to import a snapshot");
+        }
+
+        long imported = 0;
+        String table = null;
+        String insertSql = null;
+        int[] sqlTypes = null;
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        JsonNode line;
+        while ((line = readLine(reader)) != null) {
+            switch (line.path("type").asText()) {
+                case "table" -> {
+                    flush(insertSql, sqlTypes, batch);
+                    table = line.path("name").asText();
+                    if (!TABLES.contains(table)) {
+                        throw new IllegalStateException("Unexpected table in snapshot: " + table);
+                    }
+                    List<String> names = new ArrayList<>();
+                    sqlTypes = new int[line.path("columns").size()];
+                    for (int i = 0; i < sqlTypes.length; i++) {
+                        JsonNode column = line.path("columns").get(i);
+                        names.add(column.path("name").asText());
+                        sqlTypes[i] = column.path("sqlType").asInt();
+                    }
+                    insertSql = "insert into " + table + " (" + String.join(", ", names) + ") values ("
+                            + String.join(", ", Collections.nCopies(names.size(), "?")) + ")";
+                }
+                case "row" -> {
+                    if (insertSql == null) {
+                        throw new IllegalStateException("Snapshot row before any table");
+                    }
+                    JsonNode values = line.path("values");
+                    Object[] args = new Object[sqlTypes.length];
+                    for (int i = 0; i < args.length; i++) {
+                        args[i] = fromJsonValue(values.get(i), sqlTypes[i]);
+                    }
+                    batch.add(args);
+                    imported++;
+                    if (batch.size() >= batchSize) {
+                        flush(insertSql, sqlTypes, batch);
+                    }
+                }
+                case "end" -> {
+                    flush(insertSql, sqlTypes, batch);
+                    if (line.path("rows").asLong() != imported) {
+                        throw new IllegalStateException("Snapshot declares " + line.path("rows").asLong()
+                                + " rows but contains " + imported);
+                    }
+                    restartIdentities();
+                    return imported;
+                }
+                default -> throw new IllegalStateException("Unknown snapshot line type: " + line.path("type").asText());
+            }
+        }
+        throw new IllegalStateException("Snapshot is truncated, no end marker after " + imported + " rows");
+    }
+
+    // Imported rows carry their IDs, so the identity sequences would otherwise hand them out again
+    private void restartIdentities() {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equals(database)) {
+            return;
+        }
+        for (String table : IDENTITY_TABLES) {
+            jdbcTemplate.queryForObject("select setval(pg_get_serial_sequence(?, 'id'), coalesce(max(id), 0) + 1, false) from "
+                    + table, Long.class, table);
+        }
+    }
+
+    private void flush(String insertSql, int[] sqlTypes, List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(insertSql, batch, sqlTypes);
+        batch.clear();
+    }
+
+    private void writeLine(BufferedWriter writer, Map<String, ?> value) {
+        try {
+            writer.write(objectMapper.writeValueAsString(new LinkedHashMap<>(value)));
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private JsonNode readLine(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        return line == null ? null : objectMapper.readTree(line);
+    }
+
+    private static Object toJsonValue(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toString();
+        }
+        if (value instanceof Date date) {
+            return date.toLocalDate().toString();
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        if (value instanceof byte[] bytes) {
+            return Base64.getEncoder().encodeToString(bytes);
+        }
+        return value;
+    }
+
+    private static Object fromJsonValue(JsonNode value, int sqlType) {
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        return switch (sqlType) {
+            case Types.TIMESTAMP -> Timestamp.valueOf(LocalDateTime.parse(value.asText()));
+            case Types.DATE -> Date.valueOf(LocalDate.parse(value.asText()));
+            case Types.NUMERIC, Types.DECIMAL -> new BigDecimal(value.asText());
+            case Types.BIGINT -> value.asLong();
+            case Types.INTEGER, Types.SMALLINT, Types.TINYINT -> value.asInt();
+            case Types.DOUBLE, Types.FLOAT, Types.REAL -> value.asDouble();
+            case Types.BOOLEAN, Types.BIT -> value.asBoolean();
+            case Types.BINARY, Types.VARBINARY, Types.LONGVARBINARY, Types.BLOB -> Base64.getDecoder().decode(value.asText());
+            default -> value.asText();
+        };
+    }
+}
@@ -0,0 +1,269 @@
+package com.pm.officerservice.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.pm.officerservice.dto.StatusHistoryResponse;
+import com.pm.officerservice.model.LoanApplication;
+import com.pm.officerservice.model.LoanApplicationStatus;
+import com.pm.officerservice.model.RollupGranularity;
+import com.pm.officerservice.model.StatusRollup;
+import com.pm.officerservice.model.StatusTransition;
+import com.pm.officerservice.repository.LoanApplicationRepository;
+import com.pm.officerservice.repository.StatusRollupRepository;
+import com.pm.officerservice.repository.StatusTransitionRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Keeps the status transition log and its hourly and daily rollups.
+ * <p>
+ * Every status change appends a {@link StatusTransition} in its own transaction. A scheduled job
+ * recomputes the rollup rows of every bucket that received transitions since its last run, found
+ * by the time each transition was logged rather than the time of the change, so late arrivals
+ * (consumer lag, DLT replays, backfills) land in their past buckets too. The window reaches back
+ * {@code officer.status-history.rollup.overlap-ms} before the last run to catch transactions that
+ * committed after it read the log. Each bucket is rebuilt from an index range scan of the log in
+ * its own transaction, so analytics queries read only the rollups and are at most one rollup
+ * interval behind. The rollup and the backfill each run on one instance at a time.
+ */
+@Service
+@RequiredArgsConstructor
+public class StatusHistoryService {
+
+    private static final Logger log = LoggerFactory.getLogger(StatusHistoryService.class);
+
+    static final long ROLLUP_LOCK_KEY = 0x726f6c6c7570L; // "rollup"
+    static final long BACKFILL_LOCK_KEY = 0x6261636b66696c6cL; // "backfill"
+
+    static final Set<String> DECISION_STATUSES = Set.of(
+            LoanApplicationStatus.APPROVED.name(), LoanApplicationStatus.REJECTED.name());
+
+    private final StatusTransitionRepository statusTransitionRepository;
+    private final StatusRollupRepository statusRollupRepository;
+    private final LoanApplicationRepository loanApplicationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ClusterLock clusterLock;
+
+    @Value("${officer.status-history.backfill-batch-size:500}")
+    private int backfillBatchSize;
+
+    @Value("${officer.status-history.rollup.overlap-ms:300000}")
+    private long rollupOverlapMs;
+
+    /**
+     * Appends a transition. Must be called from the transaction that changes the status.
+     *
+     * @param fromStatus null when the application is created
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Long applicationId, String fromStatus, String toStatus, String changedBy,
+                       LocalDateTime changedAt, LocalDateTime appliedAt) {
+        statusTransitionRepository.save(StatusTransition.builder()
+                .applicationId(applicationId)
+                .fromStatus(fromStatus)
+                .toStatus(toStatus)
+                .changedBy(changedBy)
+                .changedAt(changedAt)
+                .decisionSeconds(DECISION_STATUSES.contains(toStatus) && appliedAt != null
+                        ? Math.max(0, Duration.between(appliedAt, changedAt).getSeconds())
+                        : null)
+                .build());
+    }
+
+    @Scheduled(initialDelayString = "${officer.status-history.rollup.initial-delay-ms:60000}",
+               fixedDelayString = "${officer.status-history.rollup.interval-ms:60000}")
+    public void rollup() {
+        try {
+            if (!clusterLock.runExclusively(ROLLUP_LOCK_KEY, this::rollupAll)) {
+                log.debug("Status history rollup is running on another instance");
+            }
+        } catch (Exception e) {
+            log.warn("Status history rollup failed, will retry on the next run: {}", e.getMessage());
+        }
+    }
+
+    private void rollupAll() {
+        LocalDateTime now = LocalDateTime.now();
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            rollup(granularity, now);
+        }
+    }
+
+    /**
+     * @return the number of buckets recomputed
+     */
+    int rollup(RollupGranularity granularity, LocalDateTime now) {
+        SortedSet<LocalDateTime> buckets = changedBuckets(granularity, now);
+        for (LocalDateTime bucket : buckets) {
+            transactionTemplate.executeWithoutResult(status -> rollupBucket(granularity, bucket));
+        }
+        if (buckets.size() > 1) {
+            log.info("Rolled up {} {} buckets of status history from {}", buckets.size(), granularity, buckets.first());
+        }
+        return buckets.size();
+    }
+
+    // Every bucket up to the current one on the first run, afterwards those with newly logged transitions
+    private SortedSet<LocalDateTime> changedBuckets(RollupGranularity granularity, LocalDateTime now) {
+        SortedSet<LocalDateTime> buckets = new TreeSet<>();
+        Optional<LocalDateTime> lastRun = statusRollupRepository.findLastUpdatedAt(granularity);
+        if (lastRun.isPresent()) {
+            for (LocalDateTime changedAt : statusTransitionRepository.findChangedAtRecordedSince(
+                    lastRun.get().minus(Duration.ofMillis(rollupOverlapMs)))) {
+                buckets.add(granularity.bucketStart(changedAt));
+            }
+            return buckets;
+        }
+        Optional<LocalDateTime> earliest = statusTransitionRepository.findEarliestChangedAt();
+        if (earliest.isPresent()) {
+            LocalDateTime current = granularity.bucketStart(now);
+            for (LocalDateTime bucket = granularity.bucketStart(earliest.get()); !bucket.isAfter(current);
+                 bucket = granularity.next(bucket)) {
+                buckets.add(bucket);
+            }
+        }
+        return buckets;
+    }
+
+    void rollupBucket(RollupGranularity granularity, LocalDateTime bucketStart) {
+        LocalDateTime bucketEnd = granularity.next(bucketStart);
+        Map<String, Long> counts = new TreeMap<>();
+        for (Object[] row : statusTransitionRepository.countByStatusBetween(bucketStart, bucketEnd)) {
+            counts.put((String) row[0], (Long) row[1]);
+        }
+        // Sorted ascending by the query, so each list stays sorted
+        Map<String, List<Long>> decisionSeconds = new TreeMap<>();
+        List<Long> allDecisions = new ArrayList<>();
+        for (Object[] row : statusTransitionRepository.findDecisionSecondsBetween(bucketStart, bucketEnd)) {
+            decisionSeconds.computeIfAbsent((String) row[0], status -> new ArrayList<>()).add((Long) row[1]);
+            allDecisions.add((Long) row[1]);
+        }
+        allDecisions.sort(null);
+
+        statusRollupRepository.deleteBucket(granularity, bucketStart);
+        List<StatusRollup> rollups = new ArrayList<>();
+        counts.forEach((status, count) -> rollups.add(rollupRow(granularity, bucketStart, status, count,
+                decisionSeconds.getOrDefault(status, List.of()))));
+        if (!allDecisions.isEmpty()) {
+            rollups.add(rollupRow(granularity, bucketStart, StatusRollup.DECIDED, allDecisions.size(), allDecisions));
+        }
+        statusRollupRepository.saveAll(rollups);
+    }
+
+    @Transactional(readOnly = true)
+    public List<StatusHistoryResponse> getHistory(RollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        Map<LocalDateTime, StatusHistoryResponse> buckets = new LinkedHashMap<>();
+        for (StatusRollup rollup : statusRollupRepository.findBuckets(granularity, granularity.bucketStart(from), to)) {
+            StatusHistoryResponse bucket = buckets.computeIfAbsent(rollup.getBucketStart(), start ->
+                    StatusHistoryResponse.builder()
+                            .granularity(granularity)
+                            .bucketStart(start)
+                            .transitionCounts(new TreeMap<>())
+                            .build());
+            if (StatusRollup.DECIDED.equals(rollup.getStatus())) {
+                bucket.setDecisionCount(rollup.getTransitionCount());
+                bucket.setP50DecisionSeconds(rollup.getP50DecisionSeconds());
+                bucket.setP95DecisionSeconds(rollup.getP95DecisionSeconds());
+            } else {
+                bucket.getTransitionCounts().put(rollup.getStatus(), rollup.getTransitionCount());
+            }
+        }
+        return new ArrayList<>(buckets.values());
+    }
+
+    /**
+     * Seeds the log on the first start after it was introduced, or after a snapshot bootstrap, from
+     * the latest status of each application: its creation as PENDING and, if it has moved on, one
+     * transition to its current status. Intermediate changes before the log existed are unknown.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            if (!clusterLock.runExclusively(BACKFILL_LOCK_KEY, this::backfill)) {
+                log.info("Status transition log is being seeded by another instance");
+            }
+        } catch (Exception e) {
+            log.error("Failed to seed the status transition log", e);
+        }
+    }
+
+    // Checked under the lock, so an instance starting after another one seeded the log leaves it alone
+    void backfill() {
+        if (statusTransitionRepository.count() > 0 || loanApplicationRepository.count() == 0) {
+            return;
+        }
+        log.info("Status transition log is empty, seeding it from the current application statuses");
+        long seeded = 0;
+        Long afterId = Long.MIN_VALUE;
+        List<LoanApplication> batch;
+        do {
+            Long from = afterId;
+            batch = transactionTemplate.execute(status -> backfillBatch(from));
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            seeded += batch.size();
+            afterId = batch.get(batch.size() - 1).getApplicationId();
+        } while (batch.size() == backfillBatchSize);
+        log.info("Seeded status transition log from {} applications", seeded);
+    }
+
+    List<LoanApplication> backfillBatch(Long afterId) {
+        List<LoanApplication> applications = loanApplicationRepository.findPageWithBorrower(
+                afterId, PageRequest.of(0, backfillBatchSize));
+        for (LoanApplication application : applications) {
+            String pending = LoanApplicationStatus.PENDING.name();
+            record(application.getApplicationId(), null, pending, null,
+                    application.getAppliedAtSource(), application.getAppliedAtSource());
+            if (!pending.equals(application.getStatus()) && application.getStatusUpdatedAt() != null) {
+                record(application.getApplicationId(), pending, application.getStatus(), application.getStatusUpdatedBy(),
+                        application.getStatusUpdatedAt(), application.getAppliedAtSource());
+            }
+        }
+        return applications;
+    }
+
+    private static StatusRollup rollupRow(RollupGranularity granularity, LocalDateTime bucketStart, String status,
+                                          long count, List<Long> sortedDecisionSeconds) {
+        return StatusRollup.builder()
+                .rollupKey(StatusRollup.rollupKey(granularity, bucketStart, status))
+                .granularity(granularity)
+                .bucketStart(bucketStart)
+                .status(status)
+                .transitionCount(count)
+                .p50DecisionSeconds(percentile(sortedDecisionSeconds, 50))
+                .p95DecisionSeconds(percentile(sortedDecisionSeconds, 95))
+                .build();
+    }
+
+    // Nearest-rank percentile of an ascending list
+    static Long percentile(List<Long> sorted, int percentile) {
+        if (sorted.isEmpty()) {
+            return null;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+        return sorted.get(Math.max(rank, 1) - 1);
+    }
+}
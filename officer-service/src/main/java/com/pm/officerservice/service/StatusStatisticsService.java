@@ -0,0 +1,291 @@
+package com.pm.officerservice.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.pm.officerservice.dto.StatusStatisticsResponse;
+import com.pm.officerservice.model.DocumentStatus;
+import com.pm.officerservice.model.LoanApplicationStatus;
+import com.pm.officerservice.model.PendingAgeBucket;
+import com.pm.officerservice.model.StatsCategory;
+import com.pm.officerservice.model.StatusCounter;
+import com.pm.officerservice.repository.DocumentRepository;
+import com.pm.officerservice.repository.LoanApplicationRepository;
+import com.pm.officerservice.repository.PendingAgeBucketRepository;
+import com.pm.officerservice.repository.StatusCounterRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Maintains per-status counters and an hourly histogram of when pending items started waiting.
+ * Ingestion and status updates upsert the rows inside their own transaction, so the dashboard
+ * never has to scan the loan application or document tables. A scheduled reconcile recomputes
+ * everything from the source tables to repair any drift.
+ */
+@Service
+@RequiredArgsConstructor
+public class StatusStatisticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(StatusStatisticsService.class);
+
+    static final String PENDING = "PENDING";
+    static final long RECONCILE_LOCK_KEY = 0x7374617473L; // "stats"
+
+    private static final List<AgeRange> AGE_RANGES = List.of(
+            new AgeRange("0-1h", Duration.ofHours(1)),
+            new AgeRange("1-4h", Duration.ofHours(4)),
+            new AgeRange("4-24h", Duration.ofHours(24)),
+            new AgeRange("1-3d", Duration.ofDays(3)),
+            new AgeRange("3-7d", Duration.ofDays(7)),
+            new AgeRange("7d+", null));
+
+    private final StatusCounterRepository statusCounterRepository;
+    private final PendingAgeBucketRepository pendingAgeBucketRepository;
+    private final LoanApplicationRepository loanApplicationRepository;
+    private final DocumentRepository documentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ClusterLock clusterLock;
+
+    private volatile LocalDateTime lastReconciledAt;
+    private volatile Boolean onConflictSupported;
+
+    /**
+     * Counts a newly ingested item. Must be called from the transaction that saves the item.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(StatsCategory category, String status, LocalDateTime waitingSince) {
+        Map<String, Long> counterDeltas = new TreeMap<>();
+        Map<LocalDateTime, Long> bucketDeltas = new TreeMap<>();
+        collect(counterDeltas, bucketDeltas, category, status, waitingSince, 1);
+        apply(category, counterDeltas, bucketDeltas);
+    }
+
+    /**
+     * Moves an item from one status to another. Must be called from the transaction that updates the item.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransition(StatsCategory category, String oldStatus, LocalDateTime oldWaitingSince,
+                                 String newStatus, LocalDateTime newWaitingSince) {
+        Map<String, Long> counterDeltas = new TreeMap<>();
+        Map<LocalDateTime, Long> bucketDeltas = new TreeMap<>();
+        collect(counterDeltas, bucketDeltas, category, oldStatus, oldWaitingSince, -1);
+        collect(counterDeltas, bucketDeltas, category, newStatus, newWaitingSince, 1);
+        apply(category, counterDeltas, bucketDeltas);
+    }
+
+    @Transactional(readOnly = true)
+    public StatusStatisticsResponse getStatistics() {
+        LocalDateTime now = LocalDateTime.now();
+        return StatusStatisticsResponse.builder()
+                .loanApplicationStatusCounts(statusCounts(StatsCategory.LOAN_APPLICATION))
+                .documentStatusCounts(statusCounts(StatsCategory.DOCUMENT))
+                .pendingLoanApplicationAging(aging(StatsCategory.LOAN_APPLICATION, now))
+                .pendingDocumentAging(aging(StatsCategory.DOCUMENT, now))
+                .lastReconciledAt(lastReconciledAt)
+                .generatedAt(now)
+                .build();
+    }
+
+    /**
+     * Recomputes counters and buckets from the source tables, on one instance at a time. The
+     * category's counter rows are locked first, so status changes committing during the recount
+     * wait instead of being overwritten.
+     */
+    @Scheduled(initialDelayString = "${officer.stats.reconcile.initial-delay-ms:30000}",
+               fixedDelayString = "${officer.stats.reconcile.interval-ms:900000}")
+    public void reconcile() {
+        try {
+            if (!clusterLock.runExclusively(RECONCILE_LOCK_KEY,
+                    () -> transactionTemplate.executeWithoutResult(status -> reconcileAll()))) {
+                log.debug("Status statistics reconcile is running on another instance");
+            }
+        } catch (Exception e) {
+            log.warn("Status statistics reconcile failed, will retry on the next run: {}", e.getMessage());
+        }
+    }
+
+    private void reconcileAll() {
+        log.info("Reconciling status statistics");
+
+        List<StatusCounter> loanCounters = statusCounterRepository.lockByCategory(StatsCategory.LOAN_APPLICATION);
+        rewrite(StatsCategory.LOAN_APPLICATION, loanCounters,
+                statusNames(LoanApplicationStatus.values()),
+                toCounts(loanApplicationRepository.countGroupedByStatus(), status -> (String) status),
+                loanApplicationRepository.findPendingWaitingSince());
+
+        List<StatusCounter> documentCounters = statusCounterRepository.lockByCategory(StatsCategory.DOCUMENT);
+        rewrite(StatsCategory.DOCUMENT, documentCounters,
+                statusNames(DocumentStatus.values()),
+                toCounts(documentRepository.countGroupedByStatus(),
+                        status -> status != null ? ((DocumentStatus) status).name() : PENDING),
+                documentRepository.findPendingWaitingSince());
+
+        lastReconciledAt = LocalDateTime.now();
+        log.info("Status statistics reconciled");
+    }
+
+    public static LocalDateTime waitingSince(LocalDateTime statusUpdatedAt, LocalDateTime sourceTimestamp) {
+        return statusUpdatedAt != null ? statusUpdatedAt : sourceTimestamp;
+    }
+
+    private void collect(Map<String, Long> counterDeltas, Map<LocalDateTime, Long> bucketDeltas,
+                         StatsCategory category, String status, LocalDateTime waitingSince, long delta) {
+        counterDeltas.merge(counterKey(category, status), delta, Long::sum);
+        if (PENDING.equals(status) && waitingSince != null) {
+            bucketDeltas.merge(bucketStart(waitingSince), delta, Long::sum);
+        }
+    }
+
+    // Rows are adjusted in key order so concurrent opposite transitions cannot deadlock on each other
+    private void apply(StatsCategory category, Map<String, Long> counterDeltas, Map<LocalDateTime, Long> bucketDeltas) {
+        boolean onConflict = supportsOnConflict();
+        counterDeltas.forEach((key, delta) -> {
+            if (delta == 0) {
+                return;
+            }
+            String status = key.substring(category.name().length() + 1);
+            if (onConflict) {
+                statusCounterRepository.upsertCount(key, category.name(), status, delta);
+            } else {
+                statusCounterRepository.mergeCount(key, category.name(), status, delta);
+            }
+        });
+        bucketDeltas.forEach((start, delta) -> {
+            if (delta == 0) {
+                return;
+            }
+            String key = bucketKey(category, start);
+            if (onConflict) {
+                pendingAgeBucketRepository.upsertCount(key, category.name(), start, delta);
+            } else {
+                pendingAgeBucketRepository.mergeCount(key, category.name(), start, delta);
+            }
+        });
+    }
+
+    // PostgreSQL upserts with ON CONFLICT, which waits for a concurrent insert of the same key and
+    // then adds to it; the H2 test database only has MERGE
+    private boolean supportsOnConflict() {
+        Boolean supported = onConflictSupported;
+        if (supported == null) {
+            String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            supported = "PostgreSQL".equals(database);
+            onConflictSupported = supported;
+        }
+        return supported;
+    }
+
+    private void rewrite(StatsCategory category, List<StatusCounter> existing, List<String> knownStatuses,
+                         Map<String, Long> actualCounts, List<LocalDateTime> pendingWaitingSince) {
+        Map<String, StatusCounter> countersByStatus = existing.stream()
+                .collect(Collectors.toMap(StatusCounter::getStatus, Function.identity()));
+
+        List<String> statuses = new ArrayList<>(knownStatuses);
+        actualCounts.keySet().stream().filter(status -> !statuses.contains(status)).forEach(statuses::add);
+        countersByStatus.keySet().stream().filter(status -> !statuses.contains(status)).forEach(statuses::add);
+
+        List<StatusCounter> updated = new ArrayList<>();
+        for (String status : statuses) {
+            long actual = actualCounts.getOrDefault(status, 0L);
+            StatusCounter counter = countersByStatus.get(status);
+            if (counter == null) {
+                counter = StatusCounter.builder()
+                        .counterKey(counterKey(category, status))
+                        .category(category)
+                        .status(status)
+                        .build();
+            } else if (counter.getItemCount() != actual) {
+                log.warn("Status counter {} drifted: recorded {}, actual {}",
+                        counter.getCounterKey(), counter.getItemCount(), actual);
+            }
+            counter.setItemCount(actual);
+            updated.add(counter);
+        }
+        statusCounterRepository.saveAll(updated);
+
+        Map<LocalDateTime, Long> buckets = pendingWaitingSince.stream()
+                .collect(Collectors.groupingBy(this::bucketStart, TreeMap::new, Collectors.counting()));
+        pendingAgeBucketRepository.deleteByCategory(category);
+        pendingAgeBucketRepository.saveAll(buckets.entrySet().stream()
+                .map(bucket -> PendingAgeBucket.builder()
+                        .bucketKey(bucketKey(category, bucket.getKey()))
+                        .category(category)
+                        .bucketStart(bucket.getKey())
+                        .itemCount(bucket.getValue())
+                        .build())
+                .collect(Collectors.toList()));
+    }
+
+    private Map<String, Long> statusCounts(StatsCategory category) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        List<String> knownStatuses = category == StatsCategory.LOAN_APPLICATION
+                ? statusNames(LoanApplicationStatus.values())
+                : statusNames(DocumentStatus.values());
+        knownStatuses.forEach(status -> counts.put(status, 0L));
+        statusCounterRepository.findByCategory(category)
+                .forEach(counter -> counts.put(counter.getStatus(), counter.getItemCount()));
+        return counts;
+    }
+
+    private Map<String, Long> aging(StatsCategory category, LocalDateTime now) {
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        AGE_RANGES.forEach(range -> histogram.put(range.label(), 0L));
+        for (PendingAgeBucket bucket : pendingAgeBucketRepository.findByCategoryAndItemCountGreaterThan(category, 0)) {
+            Duration age = Duration.between(bucket.getBucketStart(), now);
+            AgeRange range = AGE_RANGES.stream()
+                    .filter(candidate -> candidate.upperBound() == null || age.compareTo(candidate.upperBound()) < 0)
+                    .findFirst()
+                    .orElseThrow();
+            histogram.merge(range.label(), bucket.getItemCount(), Long::sum);
+        }
+        return histogram;
+    }
+
+    private Map<String, Long> toCounts(List<Object[]> rows, Function<Object, String> statusName) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            counts.merge(statusName.apply(row[0]), ((Number) row[1]).longValue(), Long::sum);
+        }
+        return counts;
+    }
+
+    private static List<String> statusNames(Enum<?>[] values) {
+        return Arrays.stream(values).map(Enum::name).collect(Collectors.toList());
+    }
+
+    private LocalDateTime bucketStart(LocalDateTime waitingSince) {
+        return waitingSince.truncatedTo(ChronoUnit.HOURS);
+    }
+
+    private static String counterKey(StatsCategory category, String status) {
+        return category.name() + ":" + status;
+    }
+
+    private static String bucketKey(StatsCategory category, LocalDateTime bucketStart) {
+        return category.name() + ":" + bucketStart;
+    }
+
+    private record AgeRange(String label, Duration upperBound) {
+    }
+}
@@ -0,0 +1,83 @@
+package com.pm.officerservice.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.pm.officerservice.dto.LoanApplicationResponse;
+import com.pm.officerservice.dto.QueueClaimResponse;
+import com.pm.officerservice.model.LoanApplication;
+import com.pm.officerservice.repository.LoanApplicationRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Hands out PENDING applications to officers under a time-limited claim, so officers working the
+ * queue concurrently never review the same application.
+ * <p>
+ * Claiming locks the oldest unclaimed applications with SKIP LOCKED, so concurrent claims neither
+ * wait on each other nor return the same rows. A claim lasts {@code officer.queue.lease-seconds}
+ * and can be renewed while working; an abandoned claim simply expires and the application returns
+ * to the queue. While a claim is live only its holder can change the application's status, and a
+ * status change clears the claim.
+ */
+@Service
+@RequiredArgsConstructor
+public class WorkQueueService {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkQueueService.class);
+
+    private final LoanApplicationRepository loanApplicationRepository;
+
+    @Value("${officer.queue.lease-seconds:900}")
+    private long leaseSeconds;
+
+    @Transactional
+    public QueueClaimResponse claim(String officer, int count) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusSeconds(leaseSeconds);
+
+        List<LoanApplication> claimed = loanApplicationRepository.lockClaimable(now, count);
+        for (LoanApplication application : claimed) {
+            application.setClaimedBy(officer);
+            application.setClaimExpiresAt(expiresAt);
+        }
+        loanApplicationRepository.saveAll(claimed);
+        log.info("Officer {} claimed {} of {} requested applications until {}", officer, claimed.size(), count, expiresAt);
+
+        return QueueClaimResponse.builder()
+                .claimedBy(officer)
+                .claimExpiresAt(expiresAt)
+                .applications(claimed.stream()
+                        .map(LoanApplicationResponse::fromEntity)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    /**
+     * Extend a live claim by another lease.
+     *
+     * @return false if the officer does not hold a live claim on the application
+     */
+    @Transactional
+    public boolean renew(Long applicationId, String officer) {
+        LocalDateTime now = LocalDateTime.now();
+        return loanApplicationRepository.renewClaim(applicationId, officer, now, now.plusSeconds(leaseSeconds)) == 1;
+    }
+
+    /**
+     * Return a claimed application to the queue without deciding it.
+     *
+     * @return false if the officer does not hold the claim
+     */
+    @Transactional
+    public boolean release(Long applicationId, String officer) {
+        return loanApplicationRepository.releaseClaim(applicationId, officer) == 1;
+    }
+}
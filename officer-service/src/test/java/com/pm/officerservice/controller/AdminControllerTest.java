@@ -1,28 +1,66 @@
 package com.pm.officerservice.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pm.officerservice.dto.AntiEntropyResponse;
+import com.pm.officerservice.dto.ApplicationViewRebuildResponse;
+import com.pm.officerservice.dto.DeadLetterReplayResponse;
+import com.pm.officerservice.dto.DigestEntity;
 import com.pm.officerservice.dto.DocumentResponse;
 import com.pm.officerservice.dto.DocumentStatusUpdateRequest;
+import com.pm.officerservice.dto.LoanApplicationOverviewResponse;
 import com.pm.officerservice.dto.LoanApplicationResponse;
+import com.pm.officerservice.dto.LoanExportFilter;
+import com.pm.officerservice.dto.LoanScoreResponse;
 import com.pm.officerservice.dto.LoanStatusUpdateRequest;
+import com.pm.officerservice.dto.OfficerChangeEvent;
+import com.pm.officerservice.dto.QueueClaimResponse;
+import com.pm.officerservice.dto.StatusHistoryResponse;
+import com.pm.officerservice.dto.StatusStatisticsResponse;
 import com.pm.officerservice.model.*;
+import com.pm.officerservice.repository.ApplicationViewRepository;
+import com.pm.officerservice.repository.AutoDecisionAuditRepository;
 import com.pm.officerservice.repository.DocumentRepository;
-import com.pm.officerservice.repository.LoanApplicationRepository;
+import com.pm.officerservice.service.AntiEntropyService;
+import com.pm.officerservice.service.ApplicationClaimedException;
+import com.pm.officerservice.service.ApplicationOverviewService;
+import com.pm.officerservice.service.ApplicationViewProjector;
+import com.pm.officerservice.service.DeadLetterReplayService;
+import com.pm.officerservice.service.DocumentContentService;
 import com.pm.officerservice.service.DocumentService;
 import com.pm.officerservice.service.LoanApplicationService;
+import com.pm.officerservice.service.LoanExportService;
+import com.pm.officerservice.service.LoanScoreService;
+import com.pm.officerservice.service.OfficerEventStreamService;
+import com.pm.officerservice.service.StatusHistoryService;
+import com.pm.officerservice.service.StatusStatisticsService;
+import com.pm.officerservice.service.WorkQueueService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -42,15 +80,52 @@ class AdminControllerTest {
     private DocumentService documentService;
 
     @MockBean
-    private LoanApplicationRepository loanApplicationRepository;
+    private ApplicationViewRepository applicationViewRepository;
+
+    @MockBean
+    private ApplicationViewProjector applicationViewProjector;
 
     @MockBean
     private DocumentRepository documentRepository;
 
+    @MockBean
+    private LoanScoreService loanScoreService;
+
+    @MockBean
+    private DeadLetterReplayService deadLetterReplayService;
+
+    @MockBean
+    private ApplicationOverviewService applicationOverviewService;
+
+    @MockBean
+    private StatusStatisticsService statusStatisticsService;
+
+    @MockBean
+    private OfficerEventStreamService officerEventStreamService;
+
+    @MockBean
+    private DocumentContentService documentContentService;
+
+    @MockBean
+    private AutoDecisionAuditRepository autoDecisionAuditRepository;
+
+    @MockBean
+    private WorkQueueService workQueueService;
+
+    @MockBean
+    private StatusHistoryService statusHistoryService;
+
+    @MockBean
+    private LoanExportService loanExportService;
+
+    @MockBean
+    private AntiEntropyService antiEntropyService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     private LoanApplication loanApplication;
+    private ApplicationView applicationView;
     private Document document;
     private Borrower borrower;
 
@@ -87,6 +162,22 @@ class AdminControllerTest {
                 .appliedAtSource(LocalDateTime.now())
                 .build();
 
+        applicationView = ApplicationView.builder()
+                .applicationId(1L)
+                .borrowerId(1L)
+                .borrowerName("John Doe")
+                .borrowerAnnualIncome(50000.0)
+                .loanAmount(BigDecimal.valueOf(100000))
+                .loanTermMonths(36)
+                .interestRate(BigDecimal.valueOf(5.5))
+                .status("PENDING")
+                .appliedAtSource(LocalDateTime.now())
+                .pendingDocuments(1)
+                .verifiedDocuments(2)
+                .latestScore(720)
+                .latestScoreGrade("GOOD")
+                .build();
+
         document = Document.builder()
                 .documentId(1L)
                 .borrower(borrower)
@@ -103,51 +194,86 @@ class AdminControllerTest {
 
     @Test
     void getAllLoanApplications_ReturnsListOfApplications() throws Exception {
-        List<LoanApplication> applications = Arrays.asList(loanApplication);
-        when(loanApplicationRepository.findAll()).thenReturn(applications);
+        when(applicationViewRepository.findAll(any(Sort.class))).thenReturn(List.of(applicationView));
 
         mockMvc.perform(get("/loans"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$[0].applicationId").value(1L))
-                .andExpect(jsonPath("$[0].borrowerName").value("John Doe"));
+                .andExpect(jsonPath("$[0].borrowerName").value("John Doe"))
+                .andExpect(jsonPath("$[0].totalDocuments").value(3))
+                .andExpect(jsonPath("$[0].latestScore").value(720));
+
+        verify(applicationViewRepository).findAll(any(Sort.class));
+    }
+
+    @Test
+    void exportLoanApplications_StreamsCsvFromService() throws Exception {
+        when(loanExportService.export(any(LoanExportFilter.class), anyList(), eq(LoanExportService.Format.CSV), any()))
+                .thenAnswer(invocation -> {
+                    invocation.getArgument(3, OutputStream.class).write("applicationId,status\r\n1,APPROVED\r\n".getBytes());
+                    return 1L;
+                });
+
+        MvcResult result = mockMvc.perform(get("/loans/export")
+                        .param("columns", "applicationId,status")
+                        .param("status", "approved")
+                        .param("appliedFrom", "2024-03-01T00:00:00"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"loan-applications.csv\""))
+                .andExpect(content().string("applicationId,status\r\n1,APPROVED\r\n"));
+        verify(loanExportService).export(
+                argThat(filter -> "APPROVED".equals(filter.getStatus())
+                        && LocalDateTime.of(2024, 3, 1, 0, 0).equals(filter.getAppliedFrom())),
+                eq(List.of(LoanExportService.Column.APPLICATION_ID, LoanExportService.Column.STATUS)),
+                eq(LoanExportService.Format.CSV), any());
+    }
 
-        verify(loanApplicationRepository).findAll();
+    @Test
+    void exportLoanApplications_UnknownColumn_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/loans/export").param("columns", "applicationId,ssn"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(loanExportService);
     }
 
     @Test
     void getLoanApplication_ExistingId_ReturnsApplication() throws Exception {
-        when(loanApplicationRepository.findById(1L)).thenReturn(Optional.of(loanApplication));
+        when(applicationViewRepository.findById(1L)).thenReturn(Optional.of(applicationView));
 
         mockMvc.perform(get("/loans/1"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.applicationId").value(1L))
-                .andExpect(jsonPath("$.borrowerName").value("John Doe"));
+                .andExpect(jsonPath("$.borrowerName").value("John Doe"))
+                .andExpect(jsonPath("$.latestScoreGrade").value("GOOD"));
 
-        verify(loanApplicationRepository).findById(1L);
+        verify(applicationViewRepository).findById(1L);
     }
 
     @Test
     void getLoanApplication_NonExistingId_ReturnsNotFound() throws Exception {
-        when(loanApplicationRepository.findById(999L)).thenReturn(Optional.empty());
+        when(applicationViewRepository.findById(999L)).thenReturn(Optional.empty());
 
         mockMvc.perform(get("/loans/999"))
                 .andExpect(status().isNotFound());
 
-        verify(loanApplicationRepository).findById(999L);
+        verify(applicationViewRepository).findById(999L);
     }
 
     @Test
     void getLoanApplicationsByStatus_ValidStatus_ReturnsApplications() throws Exception {
-        List<LoanApplication> applications = Arrays.asList(loanApplication);
-        when(loanApplicationRepository.findByStatus("PENDING")).thenReturn(applications);
+        when(applicationViewRepository.findByStatus(eq("PENDING"), any(Sort.class))).thenReturn(List.of(applicationView));
 
         mockMvc.perform(get("/loans/status/PENDING"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$[0].applicationId").value(1L));
 
-        verify(loanApplicationRepository).findByStatus("PENDING");
+        verify(applicationViewRepository).findByStatus(eq("PENDING"), any(Sort.class));
     }
 
     @Test
@@ -155,7 +281,101 @@ class AdminControllerTest {
         mockMvc.perform(get("/loans/status/INVALID_STATUS"))
                 .andExpect(status().isBadRequest());
 
-        verify(loanApplicationRepository, never()).findByStatus(anyString());
+        verify(applicationViewRepository, never()).findByStatus(anyString(), any(Sort.class));
+    }
+
+    @Test
+    void searchLoanApplications_WithFilters_ReturnsPageAndTotal() throws Exception {
+        when(applicationViewRepository.search(eq("PENDING"), isNull(), eq(700), eq("%doe%"), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(applicationView), PageRequest.of(0, 20), 41));
+
+        mockMvc.perform(get("/loans/search")
+                        .param("status", "pending")
+                        .param("borrowerName", " Doe ")
+                        .param("minScore", "700")
+                        .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "41"))
+                .andExpect(jsonPath("$[0].applicationId").value(1L));
+    }
+
+    @Test
+    void searchLoanApplications_PageTooLarge_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/loans/search").param("size", "10000"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(applicationViewRepository);
+    }
+
+    @Test
+    void rebuildApplicationView_ReturnsResult() throws Exception {
+        when(applicationViewProjector.rebuild()).thenReturn(ApplicationViewRebuildResponse.builder()
+                .rebuiltCount(12)
+                .removedCount(1)
+                .durationMs(30)
+                .build());
+
+        mockMvc.perform(post("/application-view/rebuild"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rebuiltCount").value(12))
+                .andExpect(jsonPath("$.removedCount").value(1));
+    }
+
+    @Test
+    void rebuildApplicationView_AlreadyRunning_ReturnsConflict() throws Exception {
+        when(applicationViewProjector.rebuild()).thenThrow(new IllegalStateException("Application view rebuild is already running"));
+
+        mockMvc.perform(post("/application-view/rebuild"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void runAntiEntropy_ReturnsResult() throws Exception {
+        when(antiEntropyService.run()).thenReturn(AntiEntropyResponse.builder()
+                .entities(List.of(AntiEntropyResponse.EntityResult.builder()
+                        .entity(DigestEntity.LOAN_APPLICATION)
+                        .missing(2)
+                        .republished(2)
+                        .build()))
+                .durationMs(40)
+                .build());
+
+        mockMvc.perform(post("/anti-entropy/run"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.entities[0].entity").value("LOAN_APPLICATION"))
+                .andExpect(jsonPath("$.entities[0].republished").value(2));
+    }
+
+    @Test
+    void runAntiEntropy_AlreadyRunning_ReturnsConflict() throws Exception {
+        when(antiEntropyService.run()).thenThrow(new IllegalStateException("Anti-entropy pass is already running"));
+
+        mockMvc.perform(post("/anti-entropy/run"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void getAutoDecisions_ForApplication_ReturnsAudit() throws Exception {
+        AutoDecisionAudit audit = AutoDecisionAudit.builder()
+                .id(3L)
+                .applicationId(1L)
+                .outcome(AutoDecisionOutcome.APPLIED)
+                .policyName("approve-excellent-low-risk")
+                .previousStatus("PENDING")
+                .targetStatus("APPROVED")
+                .score(92)
+                .scoreGrade("EXCELLENT")
+                .riskAssessment("LOW")
+                .build();
+        when(autoDecisionAuditRepository.findByApplicationIdOrderByIdDesc(1L)).thenReturn(List.of(audit));
+
+        mockMvc.perform(get("/auto-decisions").param("applicationId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].outcome").value("APPLIED"))
+                .andExpect(jsonPath("$[0].policyName").value("approve-excellent-low-risk"))
+                .andExpect(jsonPath("$[0].score").value(92));
+
+        verify(autoDecisionAuditRepository, never()).findAllByOrderByIdDesc(any(Pageable.class));
     }
 
     @Test
@@ -175,6 +395,53 @@ class AdminControllerTest {
         verify(loanApplicationService).updateLoanStatus(eq(1L), any(LoanStatusUpdateRequest.class));
     }
 
+    @Test
+    void updateLoanStatus_ClaimedByAnotherOfficer_ReturnsConflict() throws Exception {
+        LoanStatusUpdateRequest request = LoanStatusUpdateRequest.builder()
+                .newStatus(LoanApplicationStatus.APPROVED)
+                .updatedBy("officer123")
+                .build();
+
+        doThrow(new ApplicationClaimedException(1L, "officer456"))
+                .when(loanApplicationService).updateLoanStatus(eq(1L), any(LoanStatusUpdateRequest.class));
+
+        mockMvc.perform(put("/loans/1/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void claimApplications_ReturnsClaimedApplications() throws Exception {
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(15);
+        when(workQueueService.claim("officer123", 5)).thenReturn(QueueClaimResponse.builder()
+                .claimedBy("officer123")
+                .claimExpiresAt(expiresAt)
+                .applications(List.of(LoanApplicationResponse.fromView(applicationView)))
+                .build());
+
+        mockMvc.perform(post("/queue/claim").param("officer", "officer123").param("n", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.claimedBy").value("officer123"))
+                .andExpect(jsonPath("$.applications[0].applicationId").value(1));
+    }
+
+    @Test
+    void claimApplications_TooMany_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(post("/queue/claim").param("officer", "officer123").param("n", "500"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(workQueueService);
+    }
+
+    @Test
+    void releaseClaim_NotHeld_ReturnsConflict() throws Exception {
+        when(workQueueService.release(1L, "officer123")).thenReturn(false);
+
+        mockMvc.perform(delete("/queue/1/claim").param("officer", "officer123"))
+                .andExpect(status().isConflict());
+    }
+
     @Test
     void updateLoanStatus_InvalidRequest_ReturnsBadRequest() throws Exception {
         LoanStatusUpdateRequest request = LoanStatusUpdateRequest.builder()
@@ -307,4 +574,172 @@ class AdminControllerTest {
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(DocumentStatus.values().length));
     }
+
+    @Test
+    void replayDeadLetters_KnownTopic_ReturnsSummary() throws Exception {
+        DeadLetterReplayResponse response = DeadLetterReplayResponse.builder()
+                .sourceTopic("loan-application")
+                .deadLetterTopic("loan-application-dlt")
+                .replayedCount(3)
+                .drained(true)
+                .build();
+        when(deadLetterReplayService.replay("loan-application", 100, 10)).thenReturn(response);
+
+        mockMvc.perform(post("/dlt/loan-application/replay")
+                .param("maxRecords", "100")
+                .param("recordsPerSecond", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deadLetterTopic").value("loan-application-dlt"))
+                .andExpect(jsonPath("$.replayedCount").value(3))
+                .andExpect(jsonPath("$.drained").value(true));
+    }
+
+    @Test
+    void replayDeadLetters_UnknownTopic_ReturnsBadRequest() throws Exception {
+        when(deadLetterReplayService.replay(eq("unknown"), anyInt(), anyInt()))
+                .thenThrow(new IllegalArgumentException("Unknown source topic: unknown"));
+
+        mockMvc.perform(post("/dlt/unknown/replay"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getLoanApplicationOverview_ExistingId_ReturnsOverview() throws Exception {
+        LoanApplicationOverviewResponse overview = LoanApplicationOverviewResponse.builder()
+                .application(LoanApplicationResponse.fromEntity(loanApplication))
+                .documents(List.of(DocumentResponse.fromEntity(document)))
+                .unavailableParts(List.of("score"))
+                .complete(false)
+                .build();
+        when(applicationOverviewService.getOverview(1L)).thenReturn(Optional.of(overview));
+
+        mockMvc.perform(get("/loans/1/overview"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.application.applicationId").value(1))
+                .andExpect(jsonPath("$.documents.length()").value(1))
+                .andExpect(jsonPath("$.unavailableParts[0]").value("score"))
+                .andExpect(jsonPath("$.complete").value(false));
+    }
+
+    @Test
+    void getLoanApplicationOverview_NonExistingId_ReturnsNotFound() throws Exception {
+        when(applicationOverviewService.getOverview(999L)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/loans/999/overview"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getLoanScore_ReturnsScoreAsynchronously() throws Exception {
+        LoanScoreResponse score = LoanScoreResponse.builder()
+                .loanApplicationId(1L)
+                .totalScore(720)
+                .scoreGrade("GOOD")
+                .build();
+        when(loanScoreService.getLoanScore(1L)).thenReturn(CompletableFuture.completedFuture(Optional.of(score)));
+
+        MvcResult result = mockMvc.perform(get("/loans/1/score"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalScore").value(720))
+                .andExpect(jsonPath("$.scoreGrade").value("GOOD"));
+    }
+
+    @Test
+    void getStatusHistory_ReturnsRollups() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2024, 3, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 3, 2, 0, 0);
+        when(statusHistoryService.getHistory(RollupGranularity.HOUR, from, to)).thenReturn(List.of(
+                StatusHistoryResponse.builder()
+                        .granularity(RollupGranularity.HOUR)
+                        .bucketStart(from)
+                        .transitionCounts(Map.of("APPROVED", 3L, "REJECTED", 1L))
+                        .decisionCount(4)
+                        .p50DecisionSeconds(3600L)
+                        .p95DecisionSeconds(7200L)
+                        .build()));
+
+        mockMvc.perform(get("/stats/history")
+                        .param("granularity", "HOUR")
+                        .param("from", "2024-03-01T00:00:00")
+                        .param("to", "2024-03-02T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].transitionCounts.APPROVED").value(3))
+                .andExpect(jsonPath("$[0].decisionCount").value(4))
+                .andExpect(jsonPath("$[0].p95DecisionSeconds").value(7200));
+    }
+
+    @Test
+    void getStatusHistory_RangeTooLarge_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/stats/history")
+                        .param("granularity", "HOUR")
+                        .param("from", "2020-01-01T00:00:00")
+                        .param("to", "2024-01-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(statusHistoryService);
+    }
+
+    @Test
+    void getStatistics_ReturnsCountersAndAging() throws Exception {
+        StatusStatisticsResponse statistics = StatusStatisticsResponse.builder()
+                .loanApplicationStatusCounts(Map.of("PENDING", 4L, "APPROVED", 1L))
+                .documentStatusCounts(Map.of("PENDING", 2L))
+                .pendingLoanApplicationAging(Map.of("0-1h", 3L, "7d+", 1L))
+                .pendingDocumentAging(Map.of("1-4h", 2L))
+                .generatedAt(LocalDateTime.now())
+                .build();
+        when(statusStatisticsService.getStatistics()).thenReturn(statistics);
+
+        mockMvc.perform(get("/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.loanApplicationStatusCounts.PENDING").value(4))
+                .andExpect(jsonPath("$.pendingLoanApplicationAging['7d+']").value(1))
+                .andExpect(jsonPath("$.pendingDocumentAging['1-4h']").value(2));
+    }
+
+    @Test
+    void streamEvents_PassesFiltersAndLastEventId() throws Exception {
+        when(officerEventStreamService.subscribe(any(), any())).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/events/stream")
+                        .param("types", "LOAN_STATUS_CHANGED,DOCUMENT_CREATED")
+                        .param("borrowerId", "5")
+                        .header("Last-Event-ID", "abc-3"))
+                .andExpect(request().asyncStarted());
+
+        verify(officerEventStreamService).subscribe(new OfficerEventStreamService.Filter(
+                Set.of(OfficerChangeEvent.Type.LOAN_STATUS_CHANGED, OfficerChangeEvent.Type.DOCUMENT_CREATED), 5L, null),
+                "abc-3");
+    }
+
+    @Test
+    void getDocumentContent_StreamsBodyFromService() throws Exception {
+        StreamingResponseBody body = out -> out.write("2345".getBytes());
+        when(documentContentService.getContent(eq(1L), any(HttpHeaders.class))).thenReturn(Optional.of(
+                ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10")
+                        .body(body)));
+
+        MvcResult result = mockMvc.perform(get("/documents/1/content").header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(content().string("2345"));
+        verify(documentContentService).getContent(eq(1L), argThat(headers -> "bytes=2-5".equals(headers.getFirst(HttpHeaders.RANGE))));
+    }
+
+    @Test
+    void getDocumentContent_UnknownDocument_ReturnsNotFound() throws Exception {
+        when(documentContentService.getContent(eq(999L), any(HttpHeaders.class))).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/documents/999/content"))
+                .andExpect(status().isNotFound());
+    }
 }
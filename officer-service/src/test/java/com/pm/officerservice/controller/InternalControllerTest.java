@@ -0,0 +1,117 @@
+package com.pm.officerservice.controller;
+
+import com.pm.officerservice.config.InternalTokenFilter;
+import com.pm.officerservice.dto.DigestEntity;
+import com.pm.officerservice.dto.DigestResponse;
+import com.pm.officerservice.service.DigestService;
+import com.pm.officerservice.service.SnapshotService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = InternalController.class, properties = "officer.internal.token=" + InternalControllerTest.TOKEN)
+class InternalControllerTest {
+
+    static final String TOKEN = "test-token";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SnapshotService snapshotService;
+
+    @MockBean
+    private DigestService digestService;
+
+    @Test
+    void exportSnapshot_StreamsSnapshot() throws Exception {
+        // Given
+        when(snapshotService.export(any(OutputStream.class))).thenAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(0).write(new byte[]{1, 2, 3});
+            return 3L;
+        });
+
+        // When
+        MvcResult result = mockMvc.perform(get("/internal/snapshot").header(InternalTokenFilter.HEADER, TOKEN))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"officer-snapshot.jsonl.gz\""))
+                .andExpect(content().bytes(new byte[]{1, 2, 3}));
+    }
+
+    @Test
+    void getDigest_ReturnsBuckets() throws Exception {
+        // Given
+        when(digestService.digest(DigestEntity.BORROWER, 1L, 100L, 2)).thenReturn(DigestResponse.builder()
+                .entity(DigestEntity.BORROWER)
+                .from(1L)
+                .to(100L)
+                .maxId(60L)
+                .buckets(List.of(
+                        DigestResponse.Bucket.builder().from(1L).to(50L).count(3).digest("ab").build(),
+                        DigestResponse.Bucket.builder().from(51L).to(100L).count(1).digest("cd").build()))
+                .build());
+
+        // When & Then
+        mockMvc.perform(get("/internal/digest")
+                        .header(InternalTokenFilter.HEADER, TOKEN)
+                        .param("entity", "BORROWER")
+                        .param("from", "1")
+                        .param("to", "100")
+                        .param("buckets", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.maxId").value(60))
+                .andExpect(jsonPath("$.buckets[1].digest").value("cd"));
+    }
+
+    @Test
+    void getRowHashes_RangeTooLarge_ReturnsBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/internal/digest/rows")
+                        .header(InternalTokenFilter.HEADER, TOKEN)
+                        .param("entity", "DOCUMENT")
+                        .param("from", "1")
+                        .param("to", "1000000"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(digestService);
+    }
+
+    @Test
+    void exportSnapshot_WithoutToken_Forbidden() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/internal/snapshot"))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(snapshotService);
+    }
+
+    @Test
+    void getDigest_WrongToken_Forbidden() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/internal/digest")
+                        .header(InternalTokenFilter.HEADER, "guess")
+                        .param("entity", "BORROWER")
+                        .param("from", "1")
+                        .param("to", "100"))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(digestService);
+    }
+}
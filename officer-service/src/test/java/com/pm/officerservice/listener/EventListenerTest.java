@@ -5,6 +5,7 @@ import com.pm.borrowerservice.events.BorrowerCreatedEvent;
 import com.pm.borrowerservice.events.DocumentUploadEvent;
 import com.pm.borrowerservice.events.LoanApplicationEvent;
 import com.pm.officerservice.service.BorrowerService;
+import com.pm.officerservice.service.ConsumerOffsetTracker;
 import com.pm.officerservice.service.DocumentService;
 import com.pm.officerservice.service.LoanApplicationService;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,7 +18,8 @@ import org.springframework.kafka.support.Acknowledgment;
 
 import java.time.LocalDateTime;
 
-import static org.mockito.ArgumentMatchers.any;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +34,9 @@ class EventListenerTest {
     @Mock
     private DocumentService documentService;
 
+    @Mock
+    private ConsumerOffsetTracker consumerOffsetTracker;
+
     @Mock
     private Acknowledgment acknowledgment;
 
@@ -98,30 +103,31 @@ class EventListenerTest {
         doNothing().when(borrowerService).processBorrowerCreatedEvent(any(BorrowerCreatedEvent.class));
 
         // When
-        eventListener.handleBorrowerCreatedEvent(eventData, key, topic, acknowledgment);
+        eventListener.handleBorrowerCreatedEvent(eventData, key, topic, 0, 5L, acknowledgment);
 
         // Then
         verify(borrowerService).processBorrowerCreatedEvent(any(BorrowerCreatedEvent.class));
+        verify(consumerOffsetTracker).record(topic, 0, 5L);
         verify(acknowledgment).acknowledge();
     }
 
     @Test
-    void handleBorrowerCreatedEvent_InvalidProtobuf_AcknowledgesWithoutProcessing() {
+    void handleBorrowerCreatedEvent_InvalidProtobuf_ThrowsForDeadLetter() {
         // Given
         byte[] invalidEventData = "invalid protobuf data".getBytes();
         String key = "borrower-1";
         String topic = "borrower-created";
 
-        // When
-        eventListener.handleBorrowerCreatedEvent(invalidEventData, key, topic, acknowledgment);
-
-        // Then
+        // When & Then
+        assertThatThrownBy(() -> eventListener.handleBorrowerCreatedEvent(invalidEventData, key, topic, 0, 5L, acknowledgment))
+                .isInstanceOf(InvalidProtocolBufferException.class);
         verify(borrowerService, never()).processBorrowerCreatedEvent(any());
-        verify(acknowledgment).acknowledge();
+        verify(consumerOffsetTracker, never()).record(anyString(), anyInt(), anyLong());
+        verify(acknowledgment, never()).acknowledge();
     }
 
     @Test
-    void handleBorrowerCreatedEvent_ServiceException_AcknowledgesWithoutRetry() throws Exception {
+    void handleBorrowerCreatedEvent_ServiceException_ThrowsForRetry() throws Exception {
         // Given
         byte[] eventData = borrowerCreatedEvent.toByteArray();
         String key = "borrower-1";
@@ -129,12 +135,13 @@ class EventListenerTest {
 
         doThrow(new RuntimeException("Service error")).when(borrowerService).processBorrowerCreatedEvent(any());
 
-        // When
-        eventListener.handleBorrowerCreatedEvent(eventData, key, topic, acknowledgment);
-
-        // Then
+        // When & Then
+        assertThatThrownBy(() -> eventListener.handleBorrowerCreatedEvent(eventData, key, topic, 0, 5L, acknowledgment))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Service error");
         verify(borrowerService).processBorrowerCreatedEvent(any(BorrowerCreatedEvent.class));
-        verify(acknowledgment).acknowledge();
+        verify(consumerOffsetTracker, never()).record(anyString(), anyInt(), anyLong());
+        verify(acknowledgment, never()).acknowledge();
     }
 
     @Test
@@ -147,30 +154,31 @@ class EventListenerTest {
         doNothing().when(loanApplicationService).processLoanApplicationEvent(any(LoanApplicationEvent.class));
 
         // When
-        eventListener.handleLoanApplicationEvent(eventData, key, topic, acknowledgment);
+        eventListener.handleLoanApplicationEvent(eventData, key, topic, 0, 5L, acknowledgment);
 
         // Then
         verify(loanApplicationService).processLoanApplicationEvent(any(LoanApplicationEvent.class));
+        verify(consumerOffsetTracker).record(topic, 0, 5L);
         verify(acknowledgment).acknowledge();
     }
 
     @Test
-    void handleLoanApplicationEvent_InvalidProtobuf_AcknowledgesWithoutProcessing() {
+    void handleLoanApplicationEvent_InvalidProtobuf_ThrowsForDeadLetter() {
         // Given
         byte[] invalidEventData = "invalid protobuf data".getBytes();
         String key = "loan-1";
         String topic = "loan-application";
 
-        // When
-        eventListener.handleLoanApplicationEvent(invalidEventData, key, topic, acknowledgment);
-
-        // Then
+        // When & Then
+        assertThatThrownBy(() -> eventListener.handleLoanApplicationEvent(invalidEventData, key, topic, 0, 5L, acknowledgment))
+                .isInstanceOf(InvalidProtocolBufferException.class);
         verify(loanApplicationService, never()).processLoanApplicationEvent(any());
-        verify(acknowledgment).acknowledge();
+        verify(consumerOffsetTracker, never()).record(anyString(), anyInt(), anyLong());
+        verify(acknowledgment, never()).acknowledge();
     }
 
     @Test
-    void handleLoanApplicationEvent_ServiceException_AcknowledgesWithoutRetry() throws Exception {
+    void handleLoanApplicationEvent_ServiceException_ThrowsForRetry() throws Exception {
         // Given
         byte[] eventData = loanApplicationEvent.toByteArray();
         String key = "loan-1";
@@ -178,12 +186,13 @@ class EventListenerTest {
 
         doThrow(new RuntimeException("Service error")).when(loanApplicationService).processLoanApplicationEvent(any());
 
-        // When
-        eventListener.handleLoanApplicationEvent(eventData, key, topic, acknowledgment);
-
-        // Then
+        // When & Then
+        assertThatThrownBy(() -> eventListener.handleLoanApplicationEvent(eventData, key, topic, 0, 5L, acknowledgment))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Service error");
         verify(loanApplicationService).processLoanApplicationEvent(any(LoanApplicationEvent.class));
-        verify(acknowledgment).acknowledge();
+        verify(consumerOffsetTracker, never()).record(anyString(), anyInt(), anyLong());
+        verify(acknowledgment, never()).acknowledge();
     }
 
     @Test
@@ -196,30 +205,31 @@ class EventListenerTest {
         doNothing().when(documentService).processDocumentUploadEvent(any(DocumentUploadEvent.class));
 
         // When
-        eventListener.handleDocumentUploadEvent(eventData, key, topic, acknowledgment);
+        eventListener.handleDocumentUploadEvent(eventData, key, topic, 0, 5L, acknowledgment);
 
         // Then
         verify(documentService).processDocumentUploadEvent(any(DocumentUploadEvent.class));
+        verify(consumerOffsetTracker).record(topic, 0, 5L);
         verify(acknowledgment).acknowledge();
     }
 
     @Test
-    void handleDocumentUploadEvent_InvalidProtobuf_AcknowledgesWithoutProcessing() {
+    void handleDocumentUploadEvent_InvalidProtobuf_ThrowsForDeadLetter() {
         // Given
         byte[] invalidEventData = "invalid protobuf data".getBytes();
         String key = "document-1";
         String topic = "documents-upload";
 
-        // When
-        eventListener.handleDocumentUploadEvent(invalidEventData, key, topic, acknowledgment);
-
-        // Then
+        // When & Then
+        assertThatThrownBy(() -> eventListener.handleDocumentUploadEvent(invalidEventData, key, topic, 0, 5L, acknowledgment))
+                .isInstanceOf(InvalidProtocolBufferException.class);
         verify(documentService, never()).processDocumentUploadEvent(any());
-        verify(acknowledgment).acknowledge();
+        verify(consumerOffsetTracker, never()).record(anyString(), anyInt(), anyLong());
+        verify(acknowledgment, never()).acknowledge();
     }
 
     @Test
-    void handleDocumentUploadEvent_ServiceException_AcknowledgesWithoutRetry() throws Exception {
+    void handleDocumentUploadEvent_ServiceException_ThrowsForRetry() throws Exception {
         // Given
         byte[] eventData = documentUploadEvent.toByteArray();
         String key = "document-1";
@@ -227,11 +237,12 @@ class EventListenerTest {
 
         doThrow(new RuntimeException("Service error")).when(documentService).processDocumentUploadEvent(any());
 
-        // When
-        eventListener.handleDocumentUploadEvent(eventData, key, topic, acknowledgment);
-
-        // Then
+        // When & Then
+        assertThatThrownBy(() -> eventListener.handleDocumentUploadEvent(eventData, key, topic, 0, 5L, acknowledgment))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Service error");
         verify(documentService).processDocumentUploadEvent(any(DocumentUploadEvent.class));
-        verify(acknowledgment).acknowledge();
+        verify(consumerOffsetTracker, never()).record(anyString(), anyInt(), anyLong());
+        verify(acknowledgment, never()).acknowledge();
     }
 }
@@ -0,0 +1,95 @@
+package com.pm.officerservice.repository;
+
+import com.pm.officerservice.model.ApplicationView;
+import com.pm.officerservice.model.AutoDecisionAudit;
+import com.pm.officerservice.model.AutoDecisionOutcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class ApplicationViewRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ApplicationViewRepository applicationViewRepository;
+
+    private ApplicationView pending;
+
+    @BeforeEach
+    void setUp() {
+        pending = entityManager.persistFlushFind(ApplicationView.builder()
+                .applicationId(1L)
+                .borrowerId(10L)
+                .loanAmount(new BigDecimal("25000.00"))
+                .loanTermMonths(36)
+                .interestRate(new BigDecimal("5.50"))
+                .status("PENDING")
+                .appliedAtSource(LocalDateTime.now().minusDays(1))
+                .build());
+    }
+
+    @Test
+    void findPendingForAutoDecision_NotEvaluated_Returned() {
+        // When
+        List<ApplicationView> found = applicationViewRepository.findPendingForAutoDecision(false, PageRequest.of(0, 10));
+
+        // Then
+        assertThat(found).extracting(ApplicationView::getApplicationId).containsExactly(1L);
+    }
+
+    @Test
+    void findPendingForAutoDecision_EvaluatedInCurrentState_Skipped() {
+        // Given
+        audit(false, pending.getViewUpdatedAt());
+
+        // When
+        List<ApplicationView> found = applicationViewRepository.findPendingForAutoDecision(false, PageRequest.of(0, 10));
+
+        // Then
+        assertThat(found).isEmpty();
+    }
+
+    @Test
+    void findPendingForAutoDecision_ViewChangedSinceEvaluation_ReturnedAgain() {
+        // Given
+        audit(false, pending.getViewUpdatedAt().minusMinutes(5));
+
+        // When
+        List<ApplicationView> found = applicationViewRepository.findPendingForAutoDecision(false, PageRequest.of(0, 10));
+
+        // Then
+        assertThat(found).extracting(ApplicationView::getApplicationId).containsExactly(1L);
+    }
+
+    @Test
+    void findPendingForAutoDecision_OnlyDryRunEvaluated_ReturnedInLiveMode() {
+        // Given
+        audit(true, pending.getViewUpdatedAt());
+
+        // When & Then
+        assertThat(applicationViewRepository.findPendingForAutoDecision(true, PageRequest.of(0, 10))).isEmpty();
+        assertThat(applicationViewRepository.findPendingForAutoDecision(false, PageRequest.of(0, 10))).hasSize(1);
+    }
+
+    private void audit(boolean dryRun, LocalDateTime viewUpdatedAt) {
+        entityManager.persistAndFlush(AutoDecisionAudit.builder()
+                .applicationId(1L)
+                .outcome(dryRun ? AutoDecisionOutcome.DRY_RUN : AutoDecisionOutcome.NO_MATCH)
+                .dryRun(dryRun)
+                .previousStatus("PENDING")
+                .viewUpdatedAt(viewUpdatedAt)
+                .build());
+    }
+}
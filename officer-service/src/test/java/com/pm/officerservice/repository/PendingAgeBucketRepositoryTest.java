@@ -0,0 +1,39 @@
+package com.pm.officerservice.repository;
+
+import com.pm.officerservice.model.PendingAgeBucket;
+import com.pm.officerservice.model.StatsCategory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class PendingAgeBucketRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PendingAgeBucketRepository pendingAgeBucketRepository;
+
+    @Test
+    void mergeCount_NewKeyThenExisting_InsertsAndAdds() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2024, 5, 1, 10, 0);
+
+        // When
+        pendingAgeBucketRepository.mergeCount("LOAN_APPLICATION:2024-05-01T10:00", "LOAN_APPLICATION", start, 2);
+        pendingAgeBucketRepository.mergeCount("LOAN_APPLICATION:2024-05-01T10:00", "LOAN_APPLICATION", start, -1);
+        entityManager.clear();
+
+        // Then
+        PendingAgeBucket bucket = entityManager.find(PendingAgeBucket.class, "LOAN_APPLICATION:2024-05-01T10:00");
+        assertThat(bucket.getCategory()).isEqualTo(StatsCategory.LOAN_APPLICATION);
+        assertThat(bucket.getBucketStart()).isEqualTo(start);
+        assertThat(bucket.getItemCount()).isEqualTo(1);
+    }
+}
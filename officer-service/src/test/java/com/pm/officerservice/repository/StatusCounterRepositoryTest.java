@@ -0,0 +1,35 @@
+package com.pm.officerservice.repository;
+
+import com.pm.officerservice.model.StatsCategory;
+import com.pm.officerservice.model.StatusCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class StatusCounterRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private StatusCounterRepository statusCounterRepository;
+
+    @Test
+    void mergeCount_NewKeyThenExisting_InsertsAndAdds() {
+        // When
+        statusCounterRepository.mergeCount("DOCUMENT:VERIFIED", "DOCUMENT", "VERIFIED", 1);
+        statusCounterRepository.mergeCount("DOCUMENT:VERIFIED", "DOCUMENT", "VERIFIED", 2);
+        entityManager.clear();
+
+        // Then
+        StatusCounter counter = entityManager.find(StatusCounter.class, "DOCUMENT:VERIFIED");
+        assertThat(counter.getCategory()).isEqualTo(StatsCategory.DOCUMENT);
+        assertThat(counter.getStatus()).isEqualTo("VERIFIED");
+        assertThat(counter.getItemCount()).isEqualTo(3);
+        assertThat(counter.getUpdatedAt()).isNotNull();
+    }
+}
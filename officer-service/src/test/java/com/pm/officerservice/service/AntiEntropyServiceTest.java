@@ -0,0 +1,177 @@
+package com.pm.officerservice.service;
+
+import com.pm.officerservice.client.BorrowerServiceClient;
+import com.pm.officerservice.dto.AntiEntropyResponse;
+import com.pm.officerservice.dto.DigestEntity;
+import com.pm.officerservice.dto.DigestResponse;
+import com.pm.officerservice.dto.RepublishRequest;
+import com.pm.officerservice.dto.RowHashDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AntiEntropyServiceTest {
+
+    @Mock
+    private DigestService digestService;
+
+    @Mock
+    private BorrowerServiceClient borrowerServiceClient;
+
+    @Mock
+    private ClusterLock clusterLock;
+
+    @InjectMocks
+    private AntiEntropyService antiEntropyService;
+
+    private final Map<DigestEntity, NavigableMap<Long, String>> localRows = new EnumMap<>(DigestEntity.class);
+    private final Map<DigestEntity, NavigableMap<Long, String>> remoteRows = new EnumMap<>(DigestEntity.class);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(antiEntropyService, "fanout", 4);
+        ReflectionTestUtils.setField(antiEntropyService, "leafSize", 8L);
+        for (DigestEntity entity : DigestEntity.values()) {
+            localRows.put(entity, new TreeMap<>());
+            remoteRows.put(entity, new TreeMap<>());
+        }
+        for (long id = 1; id <= 200; id++) {
+            String hash = RangeDigest.rowHash(id, "row-" + id);
+            localRows.get(DigestEntity.LOAN_APPLICATION).put(id, hash);
+            remoteRows.get(DigestEntity.LOAN_APPLICATION).put(id, hash);
+        }
+        lenient().when(digestService.digest(any(), anyLong(), anyLong(), anyInt())).thenAnswer(invocation ->
+                digest(localRows, invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+        lenient().when(borrowerServiceClient.getDigest(any(), anyLong(), anyLong(), anyInt())).thenAnswer(invocation ->
+                digest(remoteRows, invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+    }
+
+    @Test
+    void run_InSync_ComparesOnlyRootDigests() {
+        // Given
+        givenLockAcquired();
+
+        // When
+        AntiEntropyResponse response = antiEntropyService.run();
+
+        // Then
+        assertThat(response.getEntities()).extracting(AntiEntropyResponse.EntityResult::isInSync).containsOnly(true);
+        verify(digestService, times(3)).digest(any(), eq(AntiEntropyService.MIN_ID), eq(Long.MAX_VALUE), eq(1));
+        verify(borrowerServiceClient, never()).getRowHashes(any(), anyLong(), anyLong());
+        verify(borrowerServiceClient, never()).republish(any());
+    }
+
+    @Test
+    void reconcile_MissingRows_DrillsIntoMismatchedRangesAndRepublishes() {
+        // Given
+        localRows.get(DigestEntity.LOAN_APPLICATION).remove(17L);
+        localRows.get(DigestEntity.LOAN_APPLICATION).remove(150L);
+        stubRowHashes();
+        when(borrowerServiceClient.republish(any())).thenReturn(Map.of("published", 2));
+
+        // When
+        AntiEntropyResponse.EntityResult result = antiEntropyService.reconcile(DigestEntity.LOAN_APPLICATION);
+
+        // Then
+        ArgumentCaptor<RepublishRequest> request = ArgumentCaptor.forClass(RepublishRequest.class);
+        verify(borrowerServiceClient).republish(request.capture());
+        assertThat(request.getValue().getEntity()).isEqualTo(DigestEntity.LOAN_APPLICATION);
+        assertThat(request.getValue().getIds()).containsExactly(17L, 150L);
+        assertThat(result.isInSync()).isFalse();
+        assertThat(result.getMissing()).isEqualTo(2);
+        assertThat(result.getRepublished()).isEqualTo(2);
+        assertThat(result.getRowsCompared()).isLessThan(50);
+    }
+
+    @Test
+    void reconcile_ConflictingAndOrphanedRows_ReportedNotRepublished() {
+        // Given
+        localRows.get(DigestEntity.LOAN_APPLICATION).put(42L, RangeDigest.rowHash(42L, "changed"));
+        localRows.get(DigestEntity.LOAN_APPLICATION).put(201L, RangeDigest.rowHash(201L, "row-201"));
+        stubRowHashes();
+
+        // When
+        AntiEntropyResponse.EntityResult result = antiEntropyService.reconcile(DigestEntity.LOAN_APPLICATION);
+
+        // Then
+        assertThat(result.getConflicting()).isEqualTo(1);
+        assertThat(result.getOrphaned()).isEqualTo(1);
+        assertThat(result.getMissing()).isZero();
+        verify(borrowerServiceClient, never()).republish(any());
+    }
+
+    @Test
+    void run_AlreadyRunning_Rejected() {
+        // Given
+        givenLockAcquired();
+        when(borrowerServiceClient.getDigest(eq(DigestEntity.BORROWER), anyLong(), anyLong(), anyInt())).thenAnswer(invocation -> {
+            assertThatThrownBy(() -> antiEntropyService.run())
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("already running");
+            return digest(remoteRows, DigestEntity.BORROWER, invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3));
+        });
+
+        // When
+        AntiEntropyResponse response = antiEntropyService.run();
+
+        // Then
+        assertThat(response.getEntities()).hasSize(3);
+    }
+
+    @Test
+    void run_RunningOnAnotherInstance_Rejected() {
+        // Given
+        when(clusterLock.runExclusively(eq(AntiEntropyService.LOCK_KEY), any())).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> antiEntropyService.run())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("another instance");
+        verify(borrowerServiceClient, never()).getDigest(any(), anyLong(), anyLong(), anyInt());
+    }
+
+    private void givenLockAcquired() {
+        when(clusterLock.runExclusively(eq(AntiEntropyService.LOCK_KEY), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+    }
+
+    private void stubRowHashes() {
+        when(digestService.rowHashes(any(), anyLong(), anyLong())).thenAnswer(invocation ->
+                rowHashes(localRows, invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+        when(borrowerServiceClient.getRowHashes(any(), anyLong(), anyLong())).thenAnswer(invocation ->
+                rowHashes(remoteRows, invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+    }
+
+    private static DigestResponse digest(Map<DigestEntity, NavigableMap<Long, String>> rows, DigestEntity entity,
+                                         long from, long to, int buckets) {
+        RangeDigest.Builder builder = new RangeDigest.Builder(from, to, buckets);
+        rows.get(entity).subMap(from, true, to, true).forEach(builder::add);
+        return builder.build(entity);
+    }
+
+    private static List<RowHashDto> rowHashes(Map<DigestEntity, NavigableMap<Long, String>> rows, DigestEntity entity,
+                                              long from, long to) {
+        List<RowHashDto> hashes = new ArrayList<>();
+        rows.get(entity).subMap(from, true, to, true).forEach((id, hash) -> hashes.add(new RowHashDto(id, hash)));
+        return hashes;
+    }
+}
@@ -0,0 +1,161 @@
+package com.pm.officerservice.service;
+
+import com.pm.officerservice.dto.LoanApplicationOverviewResponse;
+import com.pm.officerservice.dto.LoanScoreResponse;
+import com.pm.officerservice.model.Borrower;
+import com.pm.officerservice.model.Document;
+import com.pm.officerservice.model.DocumentStatus;
+import com.pm.officerservice.model.LoanApplication;
+import com.pm.officerservice.repository.DocumentRepository;
+import com.pm.officerservice.repository.LoanApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationOverviewServiceTest {
+
+    @Mock
+    private LoanApplicationRepository loanApplicationRepository;
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private LoanScoreService loanScoreService;
+
+    private ApplicationOverviewService applicationOverviewService;
+
+    private LoanApplication loanApplication;
+    private Document document;
+
+    @BeforeEach
+    void setUp() {
+        applicationOverviewService = new ApplicationOverviewService(
+                loanApplicationRepository, documentRepository, loanScoreService, Executors.newFixedThreadPool(2));
+        ReflectionTestUtils.setField(applicationOverviewService, "applicationTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(applicationOverviewService, "documentsTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(applicationOverviewService, "scoreTimeoutMs", 100L);
+
+        Borrower borrower = Borrower.builder()
+                .borrowerId(1L)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .annualIncome(50000.0)
+                .employmentStatus("EMPLOYED")
+                .build();
+
+        loanApplication = LoanApplication.builder()
+                .applicationId(1L)
+                .borrower(borrower)
+                .loanAmount(BigDecimal.valueOf(100000))
+                .loanTermMonths(36)
+                .interestRate(BigDecimal.valueOf(5.5))
+                .status("PENDING")
+                .appliedAtSource(LocalDateTime.now())
+                .build();
+
+        document = Document.builder()
+                .documentId(10L)
+                .borrower(borrower)
+                .loanApplication(loanApplication)
+                .documentType("INCOME_STATEMENT")
+                .fileName("income.pdf")
+                .status(DocumentStatus.PENDING)
+                .build();
+    }
+
+    @Test
+    void getOverview_AllPartsAvailable_ReturnsCompleteOverview() {
+        // Given
+        LoanScoreResponse score = LoanScoreResponse.builder()
+                .loanApplicationId(1L)
+                .totalScore(720)
+                .scoreGrade("GOOD")
+                .serviceAvailable(true)
+                .build();
+        when(loanApplicationRepository.findWithBorrowerById(1L)).thenReturn(Optional.of(loanApplication));
+        when(documentRepository.findWithBorrowerByLoanApplicationId(1L)).thenReturn(List.of(document));
+        when(loanScoreService.getLoanScore(1L)).thenReturn(CompletableFuture.completedFuture(Optional.of(score)));
+
+        // When
+        Optional<LoanApplicationOverviewResponse> overview = applicationOverviewService.getOverview(1L);
+
+        // Then
+        assertThat(overview).isPresent();
+        assertThat(overview.get().isComplete()).isTrue();
+        assertThat(overview.get().getApplication().getBorrowerName()).isEqualTo("John Doe");
+        assertThat(overview.get().getDocuments()).hasSize(1);
+        assertThat(overview.get().getScore().getScoreGrade()).isEqualTo("GOOD");
+        assertThat(overview.get().getUnavailableParts()).isEmpty();
+    }
+
+    @Test
+    void getOverview_SlowScoreService_ReturnsPartialOverview() {
+        // Given
+        when(loanApplicationRepository.findWithBorrowerById(1L)).thenReturn(Optional.of(loanApplication));
+        when(documentRepository.findWithBorrowerByLoanApplicationId(1L)).thenReturn(List.of(document));
+        when(loanScoreService.getLoanScore(1L)).thenReturn(new CompletableFuture<>()); // Never completes
+
+        // When
+        Optional<LoanApplicationOverviewResponse> overview = applicationOverviewService.getOverview(1L);
+
+        // Then
+        assertThat(overview).isPresent();
+        assertThat(overview.get().isComplete()).isFalse();
+        assertThat(overview.get().getScore()).isNull();
+        assertThat(overview.get().getDocuments()).hasSize(1);
+        assertThat(overview.get().getUnavailableParts()).containsExactly(ApplicationOverviewService.SCORE_PART);
+    }
+
+    @Test
+    void getOverview_ScoreServiceDown_MarksScoreUnavailable() {
+        // Given
+        LoanScoreResponse serviceDown = LoanScoreResponse.builder()
+                .loanApplicationId(1L)
+                .scoreGrade("SERVICE_DOWN")
+                .serviceAvailable(false)
+                .build();
+        when(loanApplicationRepository.findWithBorrowerById(1L)).thenReturn(Optional.of(loanApplication));
+        when(documentRepository.findWithBorrowerByLoanApplicationId(1L)).thenReturn(List.of());
+        when(loanScoreService.getLoanScore(1L)).thenReturn(CompletableFuture.completedFuture(Optional.of(serviceDown)));
+
+        // When
+        Optional<LoanApplicationOverviewResponse> overview = applicationOverviewService.getOverview(1L);
+
+        // Then
+        assertThat(overview).isPresent();
+        assertThat(overview.get().getScore().getScoreGrade()).isEqualTo("SERVICE_DOWN");
+        assertThat(overview.get().getUnavailableParts()).containsExactly(ApplicationOverviewService.SCORE_PART);
+    }
+
+    @Test
+    void getOverview_ApplicationNotFound_ReturnsEmpty() {
+        // Given
+        CompletableFuture<Optional<LoanScoreResponse>> score = new CompletableFuture<>();
+        when(loanApplicationRepository.findWithBorrowerById(99L)).thenReturn(Optional.empty());
+        lenient().when(documentRepository.findWithBorrowerByLoanApplicationId(99L)).thenReturn(List.of());
+        when(loanScoreService.getLoanScore(99L)).thenReturn(score);
+
+        // When
+        Optional<LoanApplicationOverviewResponse> overview = applicationOverviewService.getOverview(99L);
+
+        // Then
+        assertThat(overview).isEmpty();
+        assertThat(score).isCancelled();
+    }
+}
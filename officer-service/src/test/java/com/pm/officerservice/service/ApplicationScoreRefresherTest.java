@@ -0,0 +1,102 @@
+package com.pm.officerservice.service;
+
+import com.pm.officerservice.dto.LoanScoreResponse;
+import com.pm.officerservice.dto.OfficerChangeEvent;
+import com.pm.officerservice.repository.ApplicationViewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationScoreRefresherTest {
+
+    @Mock
+    private LoanScoreService loanScoreService;
+
+    @Mock
+    private ApplicationViewProjector applicationViewProjector;
+
+    @Mock
+    private ApplicationViewRepository applicationViewRepository;
+
+    @Mock
+    private ClusterLock clusterLock;
+
+    private ApplicationScoreRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        refresher = new ApplicationScoreRefresher(loanScoreService, applicationViewProjector,
+                applicationViewRepository, clusterLock, Runnable::run);
+        ReflectionTestUtils.setField(refresher, "windowHours", 24L);
+        ReflectionTestUtils.setField(refresher, "batchSize", 100);
+    }
+
+    @Test
+    void onChange_ApplicationCreated_RecordsBorrowerScores() {
+        // Given
+        LoanScoreResponse score = LoanScoreResponse.builder().loanApplicationId(1L).totalScore(720).build();
+        when(loanScoreService.getBorrowerScores(10L)).thenReturn(List.of(score));
+
+        // When
+        refresher.onChange(OfficerChangeEvent.builder()
+                .type(OfficerChangeEvent.Type.APPLICATION_CREATED)
+                .applicationId(1L)
+                .borrowerId(10L)
+                .build());
+
+        // Then
+        verify(applicationViewProjector).recordScore(score);
+    }
+
+    @Test
+    void onChange_StatusChanged_Ignored() {
+        // When
+        refresher.onChange(OfficerChangeEvent.builder()
+                .type(OfficerChangeEvent.Type.LOAN_STATUS_CHANGED)
+                .applicationId(1L)
+                .borrowerId(10L)
+                .build());
+
+        // Then
+        verifyNoInteractions(loanScoreService);
+    }
+
+    @Test
+    void sweep_LockHeldElsewhere_DoesNothing() {
+        // Given
+        when(clusterLock.runExclusively(eq(ApplicationScoreRefresher.SWEEP_LOCK_KEY), any())).thenReturn(false);
+
+        // When
+        refresher.sweep();
+
+        // Then
+        verifyNoInteractions(applicationViewRepository, loanScoreService);
+    }
+
+    @Test
+    void refreshAwaitingScores_ServiceUnavailable_StopsSweep() {
+        // Given
+        when(applicationViewRepository.findBorrowersAwaitingScore(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(10L, 11L));
+        when(loanScoreService.isLoanScoreServiceAvailable()).thenReturn(true, false);
+        when(loanScoreService.getBorrowerScores(10L)).thenReturn(List.of());
+
+        // When
+        refresher.refreshAwaitingScores();
+
+        // Then
+        verify(loanScoreService).getBorrowerScores(10L);
+        verify(loanScoreService, never()).getBorrowerScores(11L);
+    }
+}
@@ -0,0 +1,232 @@
+package com.pm.officerservice.service;
+
+import com.pm.officerservice.dto.ApplicationViewRebuildResponse;
+import com.pm.officerservice.dto.LoanScoreResponse;
+import com.pm.officerservice.dto.OfficerChangeEvent;
+import com.pm.officerservice.model.ApplicationView;
+import com.pm.officerservice.model.Borrower;
+import com.pm.officerservice.model.DocumentStatus;
+import com.pm.officerservice.model.LoanApplication;
+import com.pm.officerservice.repository.ApplicationViewRepository;
+import com.pm.officerservice.repository.DocumentRepository;
+import com.pm.officerservice.repository.LoanApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationViewProjectorTest {
+
+    @Mock
+    private ApplicationViewRepository applicationViewRepository;
+
+    @Mock
+    private LoanApplicationRepository loanApplicationRepository;
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private ApplicationViewProjector projector;
+
+    private LoanApplication loanApplication;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(projector, "rebuildBatchSize", 2);
+
+        loanApplication = application(1L);
+    }
+
+    @Test
+    void onChange_StatusChanged_UpdatesRowInPlace() {
+        // Given
+        LocalDateTime updatedAt = LocalDateTime.now();
+        when(applicationViewRepository.updateStatus(1L, "APPROVED", "officer1", updatedAt)).thenReturn(1);
+
+        // When
+        projector.onChange(change(OfficerChangeEvent.Type.LOAN_STATUS_CHANGED, 1L, "PENDING", "APPROVED", updatedAt));
+
+        // Then
+        verify(applicationViewRepository).updateStatus(1L, "APPROVED", "officer1", updatedAt);
+        verifyNoInteractions(loanApplicationRepository);
+    }
+
+    @Test
+    void onChange_DocumentStatusChanged_MovesCount() {
+        // Given
+        when(applicationViewRepository.adjustDocumentCounts(1L, -1, 1, 0, 0)).thenReturn(1);
+
+        // When
+        projector.onChange(change(OfficerChangeEvent.Type.DOCUMENT_STATUS_CHANGED, 1L, "PENDING", "VERIFIED", null));
+
+        // Then
+        verify(applicationViewRepository).adjustDocumentCounts(1L, -1, 1, 0, 0);
+        verify(applicationViewRepository, never()).save(any());
+    }
+
+    @Test
+    void onChange_DocumentWithoutApplication_Ignored() {
+        // When
+        projector.onChange(change(OfficerChangeEvent.Type.DOCUMENT_CREATED, null, null, "PENDING", null));
+
+        // Then
+        verifyNoInteractions(applicationViewRepository, loanApplicationRepository);
+    }
+
+    @Test
+    void onChange_ApplicationCreated_ProjectsFromSourceTables() {
+        // Given
+        when(loanApplicationRepository.findWithBorrowerById(1L)).thenReturn(Optional.of(loanApplication));
+        when(documentRepository.countByApplicationAndStatus(List.of(1L))).thenReturn(List.<Object[]>of(
+                new Object[]{1L, DocumentStatus.VERIFIED, 2L},
+                new Object[]{1L, null, 1L}));
+        when(applicationViewRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // When
+        projector.onChange(change(OfficerChangeEvent.Type.APPLICATION_CREATED, 1L, null, "PENDING", null));
+
+        // Then
+        ArgumentCaptor<ApplicationView> captor = ArgumentCaptor.forClass(ApplicationView.class);
+        verify(applicationViewRepository).save(captor.capture());
+        ApplicationView view = captor.getValue();
+        assertThat(view.getBorrowerName()).isEqualTo("John Doe");
+        assertThat(view.getBorrowerAnnualIncome()).isEqualTo(50000.0);
+        assertThat(view.getVerifiedDocuments()).isEqualTo(2);
+        assertThat(view.getPendingDocuments()).isEqualTo(1);
+        assertThat(view.getTotalDocuments()).isEqualTo(3);
+        assertThat(view.getApplicationUpdatedAt()).isEqualTo(loanApplication.getUpdatedAt());
+    }
+
+    @Test
+    void recordScore_ServiceDown_Ignored() {
+        // Given
+        LoanScoreResponse serviceDown = LoanScoreResponse.builder()
+                .loanApplicationId(1L)
+                .totalScore(0)
+                .scoreGrade("SERVICE_DOWN")
+                .build();
+        serviceDown.setServiceAvailable(false);
+
+        // When
+        projector.recordScore(serviceDown);
+
+        // Then
+        verifyNoInteractions(applicationViewRepository);
+    }
+
+    @Test
+    void rebuild_PagesThroughApplicationsAndKeepsScores() {
+        // Given
+        LoanApplication second = application(2L);
+        LoanApplication third = application(3L);
+        ApplicationView scored = ApplicationView.builder()
+                .applicationId(1L)
+                .latestScore(720)
+                .latestScoreGrade("GOOD")
+                .build();
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(loanApplicationRepository.findPageWithBorrower(eq(Long.MIN_VALUE), any(Pageable.class)))
+                .thenReturn(List.of(loanApplication, second));
+        when(loanApplicationRepository.findPageWithBorrower(eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(third));
+        when(documentRepository.countByApplicationAndStatus(anyCollection())).thenReturn(List.of());
+        when(applicationViewRepository.lockAllById(anyCollection())).thenReturn(List.of(scored), List.of());
+        when(applicationViewRepository.deleteOrphans()).thenReturn(0);
+
+        // When
+        ApplicationViewRebuildResponse result = projector.rebuild();
+
+        // Then
+        assertThat(result.getRebuiltCount()).isEqualTo(3);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ApplicationView>> captor = ArgumentCaptor.forClass(List.class);
+        verify(applicationViewRepository, times(2)).saveAll(captor.capture());
+        assertThat(captor.getAllValues().get(0).get(0).getLatestScore()).isEqualTo(720);
+        assertThat(captor.getAllValues().get(1)).extracting(ApplicationView::getApplicationId).containsExactly(3L);
+    }
+
+    @Test
+    void rebuildBatch_LocksRowsBeforeCountingDocuments() {
+        // Given
+        when(loanApplicationRepository.findPageWithBorrower(eq(Long.MIN_VALUE), any(Pageable.class)))
+                .thenReturn(List.of(loanApplication));
+        when(applicationViewRepository.lockAllById(List.of(1L))).thenReturn(List.of());
+        when(documentRepository.countByApplicationAndStatus(List.of(1L))).thenReturn(List.of());
+
+        // When
+        projector.rebuildBatch(Long.MIN_VALUE);
+
+        // Then
+        InOrder inOrder = inOrder(applicationViewRepository, documentRepository);
+        inOrder.verify(applicationViewRepository).lockAllById(List.of(1L));
+        inOrder.verify(documentRepository).countByApplicationAndStatus(List.of(1L));
+        inOrder.verify(applicationViewRepository).saveAll(anyList());
+    }
+
+    @Test
+    void onBorrowerChanged_UpdatesBorrowerColumns() {
+        // Given
+        Borrower borrower = loanApplication.getBorrower();
+
+        // When
+        projector.onBorrowerChanged(borrower);
+
+        // Then
+        verify(applicationViewRepository).updateBorrower(10L, "John Doe", null, null, 50000.0, null);
+    }
+
+    private static LoanApplication application(Long applicationId) {
+        Borrower borrower = Borrower.builder()
+                .borrowerId(10L)
+                .firstName("John")
+                .lastName("Doe")
+                .annualIncome(50000.0)
+                .build();
+        return LoanApplication.builder()
+                .applicationId(applicationId)
+                .borrower(borrower)
+                .loanAmount(BigDecimal.valueOf(100000))
+                .loanTermMonths(36)
+                .interestRate(BigDecimal.valueOf(5.5))
+                .status("PENDING")
+                .appliedAtSource(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static OfficerChangeEvent change(OfficerChangeEvent.Type type, Long applicationId,
+                                             String oldStatus, String newStatus, LocalDateTime occurredAt) {
+        return OfficerChangeEvent.builder()
+                .type(type)
+                .applicationId(applicationId)
+                .borrowerId(10L)
+                .oldStatus(oldStatus)
+                .newStatus(newStatus)
+                .updatedBy("officer1")
+                .occurredAt(occurredAt)
+                .build();
+    }
+}
@@ -0,0 +1,289 @@
+package com.pm.officerservice.service;
+
+import com.pm.officerservice.config.AutoDecisionProperties;
+import com.pm.officerservice.dto.LoanScoreResponse;
+import com.pm.officerservice.dto.LoanStatusUpdateRequest;
+import com.pm.officerservice.model.ApplicationView;
+import com.pm.officerservice.model.AutoDecisionAudit;
+import com.pm.officerservice.model.AutoDecisionOutcome;
+import com.pm.officerservice.model.LoanApplication;
+import com.pm.officerservice.model.LoanApplicationStatus;
+import com.pm.officerservice.repository.ApplicationViewRepository;
+import com.pm.officerservice.repository.AutoDecisionAuditRepository;
+import com.pm.officerservice.repository.LoanApplicationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AutoDecisionServiceTest {
+
+    private static final LocalDateTime VIEW_UPDATED_AT = LocalDateTime.of(2025, 1, 15, 10, 30);
+
+    @Mock
+    private ApplicationViewRepository applicationViewRepository;
+
+    @Mock
+    private LoanApplicationRepository loanApplicationRepository;
+
+    @Mock
+    private AutoDecisionAuditRepository autoDecisionAuditRepository;
+
+    @Mock
+    private LoanApplicationService loanApplicationService;
+
+    @Mock
+    private LoanScoreService loanScoreService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ClusterLock clusterLock;
+
+    private AutoDecisionProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private AutoDecisionService autoDecisionService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AutoDecisionProperties();
+        properties.setEnabled(true);
+        properties.setDryRun(false);
+        meterRegistry = new SimpleMeterRegistry();
+        autoDecisionService = new AutoDecisionService(properties, applicationViewRepository, loanApplicationRepository,
+                autoDecisionAuditRepository, loanApplicationService, loanScoreService, transactionTemplate, clusterLock, meterRegistry);
+        ReflectionTestUtils.setField(autoDecisionService, "scoreTimeoutMs", 1000L);
+    }
+
+    @Test
+    void evaluatePending_ScoreInViewMatchesPolicy_AppliesDecision() {
+        // Given
+        givenPending(view(1L, 92, "EXCELLENT", "LOW"));
+        givenTransactionsRun();
+        when(loanApplicationRepository.lockById(1L)).thenReturn(Optional.of(application(1L, "PENDING")));
+
+        // When
+        int evaluated = autoDecisionService.evaluatePending();
+
+        // Then
+        assertThat(evaluated).isEqualTo(1);
+        ArgumentCaptor<LoanStatusUpdateRequest> request = ArgumentCaptor.forClass(LoanStatusUpdateRequest.class);
+        verify(loanApplicationService).updateLoanStatus(eq(1L), request.capture());
+        assertThat(request.getValue().getNewStatus()).isEqualTo(LoanApplicationStatus.APPROVED);
+        assertThat(request.getValue().getUpdatedBy()).isEqualTo(AutoDecisionService.DECIDED_BY);
+
+        AutoDecisionAudit audit = capturedAudit();
+        assertThat(audit.getOutcome()).isEqualTo(AutoDecisionOutcome.APPLIED);
+        assertThat(audit.getPolicyName()).isEqualTo("approve-excellent-low-risk");
+        assertThat(audit.getScore()).isEqualTo(92);
+        assertThat(audit.getViewUpdatedAt()).isEqualTo(VIEW_UPDATED_AT);
+        assertThat(meterRegistry.counter("officer.auto-decision.evaluations", "outcome", "APPLIED").count()).isEqualTo(1.0);
+        verifyNoInteractions(loanScoreService);
+    }
+
+    @Test
+    void evaluatePending_DryRun_AuditsWithoutChangingStatus() {
+        // Given
+        properties.setDryRun(true);
+        givenPending(view(1L, 25, "POOR", "HIGH"));
+        givenTransactionsRun();
+        when(loanApplicationRepository.lockById(1L)).thenReturn(Optional.of(application(1L, "PENDING")));
+
+        // When
+        autoDecisionService.evaluatePending();
+
+        // Then
+        verify(loanApplicationService, never()).updateLoanStatus(anyLong(), any());
+        AutoDecisionAudit audit = capturedAudit();
+        assertThat(audit.getOutcome()).isEqualTo(AutoDecisionOutcome.DRY_RUN);
+        assertThat(audit.isDryRun()).isTrue();
+        assertThat(audit.getTargetStatus()).isEqualTo("REJECTED");
+    }
+
+    @Test
+    void evaluatePending_NoPolicyMatches_LeftForOfficer() {
+        // Given
+        givenPending(view(1L, 65, "FAIR", "MEDIUM"));
+        givenTransactionsRun();
+        when(loanApplicationRepository.lockById(1L)).thenReturn(Optional.of(application(1L, "PENDING")));
+
+        // When
+        autoDecisionService.evaluatePending();
+
+        // Then
+        verify(loanApplicationService, never()).updateLoanStatus(anyLong(), any());
+        assertThat(capturedAudit().getOutcome()).isEqualTo(AutoDecisionOutcome.NO_MATCH);
+    }
+
+    @Test
+    void evaluatePending_DecidedByOfficerMeanwhile_Skipped() {
+        // Given
+        givenPending(view(1L, 92, "EXCELLENT", "LOW"));
+        givenTransactionsRun();
+        when(loanApplicationRepository.lockById(1L)).thenReturn(Optional.of(application(1L, "UNDER_REVIEW")));
+
+        // When
+        int evaluated = autoDecisionService.evaluatePending();
+
+        // Then
+        assertThat(evaluated).isZero();
+        verify(loanApplicationService, never()).updateLoanStatus(anyLong(), any());
+        verify(autoDecisionAuditRepository, never()).save(any());
+    }
+
+    @Test
+    void evaluatePending_ScoreServiceDown_SkippedUntilNextSweep() {
+        // Given
+        givenPending(view(1L, null, null, null));
+        when(loanScoreService.getLoanScore(1L)).thenReturn(CompletableFuture.completedFuture(Optional.of(
+                LoanScoreResponse.builder().loanApplicationId(1L).scoreGrade("SERVICE_DOWN").serviceAvailable(false).build())));
+
+        // When
+        int evaluated = autoDecisionService.evaluatePending();
+
+        // Then
+        assertThat(evaluated).isZero();
+        verifyNoInteractions(transactionTemplate, loanApplicationService, autoDecisionAuditRepository);
+        assertThat(meterRegistry.counter("officer.auto-decision.score-unavailable").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void evaluatePending_ScoreNotInView_FetchesIt() {
+        // Given
+        givenPending(view(1L, null, null, null));
+        givenTransactionsRun();
+        when(loanScoreService.getLoanScore(1L)).thenReturn(CompletableFuture.completedFuture(Optional.of(
+                LoanScoreResponse.builder().loanApplicationId(1L).totalScore(20).scoreGrade("POOR")
+                        .riskAssessment("HIGH").serviceAvailable(true).build())));
+        when(loanApplicationRepository.lockById(1L)).thenReturn(Optional.of(application(1L, "PENDING")));
+
+        // When
+        autoDecisionService.evaluatePending();
+
+        // Then
+        ArgumentCaptor<LoanStatusUpdateRequest> request = ArgumentCaptor.forClass(LoanStatusUpdateRequest.class);
+        verify(loanApplicationService).updateLoanStatus(eq(1L), request.capture());
+        assertThat(request.getValue().getNewStatus()).isEqualTo(LoanApplicationStatus.REJECTED);
+        assertThat(request.getValue().getRejectionReason()).contains("POOR");
+    }
+
+    @Test
+    void sweep_Disabled_DoesNothing() {
+        // Given
+        properties.setEnabled(false);
+
+        // When
+        autoDecisionService.sweep();
+
+        // Then
+        verifyNoInteractions(applicationViewRepository, loanScoreService, transactionTemplate, clusterLock);
+    }
+
+    @Test
+    void sweep_LockHeldElsewhere_DoesNothing() {
+        // Given
+        when(clusterLock.runExclusively(eq(AutoDecisionService.SWEEP_LOCK_KEY), any())).thenReturn(false);
+
+        // When
+        autoDecisionService.sweep();
+
+        // Then
+        verifyNoInteractions(applicationViewRepository, loanScoreService, transactionTemplate);
+    }
+
+    @Test
+    void sweep_LockAcquired_EvaluatesPending() {
+        // Given
+        when(clusterLock.runExclusively(eq(AutoDecisionService.SWEEP_LOCK_KEY), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+        givenPending();
+
+        // When
+        autoDecisionService.sweep();
+
+        // Then
+        verify(applicationViewRepository).findPendingForAutoDecision(eq(false), any(Pageable.class));
+        assertThat(meterRegistry.timer("officer.auto-decision.sweep").count()).isEqualTo(1);
+    }
+
+    @Test
+    void validatePolicies_PolicyWithoutCriteria_Rejected() {
+        // Given
+        properties.setPolicies(List.of(new AutoDecisionProperties.Policy(
+                "approve-everything", LoanApplicationStatus.APPROVED, Set.of(), null, null, null, null)));
+
+        // When & Then
+        assertThatThrownBy(() -> autoDecisionService.validatePolicies())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("approve-everything");
+    }
+
+    @Test
+    void matches_ScoreRange_InclusiveBounds() {
+        // Given
+        AutoDecisionProperties.Policy policy = new AutoDecisionProperties.Policy(
+                "route-borderline", LoanApplicationStatus.UNDER_REVIEW, null, null, 60, 70, null);
+
+        // When & Then
+        assertThat(AutoDecisionService.matches(policy, LoanScoreResponse.builder().totalScore(60).build())).isTrue();
+        assertThat(AutoDecisionService.matches(policy, LoanScoreResponse.builder().totalScore(70).build())).isTrue();
+        assertThat(AutoDecisionService.matches(policy, LoanScoreResponse.builder().totalScore(71).build())).isFalse();
+        assertThat(AutoDecisionService.matches(policy, LoanScoreResponse.builder().build())).isFalse();
+    }
+
+    private void givenPending(ApplicationView... views) {
+        when(applicationViewRepository.findPendingForAutoDecision(eq(properties.isDryRun()), any(Pageable.class)))
+                .thenReturn(List.of(views));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenTransactionsRun() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    private AutoDecisionAudit capturedAudit() {
+        ArgumentCaptor<AutoDecisionAudit> audit = ArgumentCaptor.forClass(AutoDecisionAudit.class);
+        verify(autoDecisionAuditRepository).save(audit.capture());
+        return audit.getValue();
+    }
+
+    private static ApplicationView view(Long id, Integer score, String grade, String risk) {
+        return ApplicationView.builder()
+                .applicationId(id)
+                .status("PENDING")
+                .latestScore(score)
+                .latestScoreGrade(grade)
+                .latestRiskAssessment(risk)
+                .viewUpdatedAt(VIEW_UPDATED_AT)
+                .build();
+    }
+
+    private static LoanApplication application(Long id, String status) {
+        return LoanApplication.builder()
+                .applicationId(id)
+                .status(status)
+                .build();
+    }
+}
@@ -11,7 +11,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -22,6 +24,9 @@ class BorrowerServiceTest {
     @Mock
     private BorrowerRepository borrowerRepository;
 
+    @Mock
+    private ApplicationViewProjector applicationViewProjector;
+
     @InjectMocks
     private BorrowerService borrowerService;
 
@@ -52,34 +57,49 @@ class BorrowerServiceTest {
     @Test
     void processBorrowerCreatedEvent_NewBorrower_Success() {
         // Given
-        when(borrowerRepository.existsById(1L)).thenReturn(false);
+        when(borrowerRepository.findById(1L)).thenReturn(Optional.empty());
         when(borrowerRepository.save(any(Borrower.class))).thenReturn(new Borrower());
 
         // When
         borrowerService.processBorrowerCreatedEvent(borrowerCreatedEvent);
 
         // Then
-        verify(borrowerRepository).existsById(1L);
         verify(borrowerRepository).save(any(Borrower.class));
+        verify(applicationViewProjector).onBorrowerChanged(any(Borrower.class));
     }
 
     @Test
     void processBorrowerCreatedEvent_ExistingBorrower_Skip() {
         // Given
-        when(borrowerRepository.existsById(1L)).thenReturn(true);
+        when(borrowerRepository.findById(1L)).thenReturn(Optional.of(existingBorrower()));
 
         // When
         borrowerService.processBorrowerCreatedEvent(borrowerCreatedEvent);
 
         // Then
-        verify(borrowerRepository).existsById(1L);
         verify(borrowerRepository, never()).save(any());
+        verifyNoInteractions(applicationViewProjector);
+    }
+
+    @Test
+    void processBorrowerCreatedEvent_ExistingBorrowerChanged_UpdatesBorrowerAndView() {
+        // Given
+        Borrower existing = existingBorrower();
+        existing.setAnnualIncome(40000.0);
+        when(borrowerRepository.findById(1L)).thenReturn(Optional.of(existing));
+
+        // When
+        borrowerService.processBorrowerCreatedEvent(borrowerCreatedEvent);
+
+        // Then
+        assertThat(existing.getAnnualIncome()).isEqualTo(50000.0);
+        verify(applicationViewProjector).onBorrowerChanged(existing);
     }
 
     @Test
     void processBorrowerCreatedEvent_RepositoryException_ThrowsException() {
         // Given
-        when(borrowerRepository.existsById(1L)).thenReturn(false);
+        when(borrowerRepository.findById(1L)).thenReturn(Optional.empty());
         when(borrowerRepository.save(any(Borrower.class))).thenThrow(new RuntimeException("Database error"));
 
         // When & Then
@@ -95,7 +115,7 @@ class BorrowerServiceTest {
                 .setCreatedAt("invalid-timestamp")
                 .build();
         
-        when(borrowerRepository.existsById(1L)).thenReturn(false);
+        when(borrowerRepository.findById(1L)).thenReturn(Optional.empty());
         when(borrowerRepository.save(any(Borrower.class))).thenReturn(new Borrower());
 
         // When
@@ -104,4 +124,24 @@ class BorrowerServiceTest {
         // Then
         verify(borrowerRepository).save(any(Borrower.class));
     }
+
+    private static Borrower existingBorrower() {
+        return Borrower.builder()
+                .borrowerId(1L)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .phoneNumber("1234567890")
+                .dateOfBirth("1990-01-01")
+                .ssn("123-45-6789")
+                .address("123 Main St")
+                .city("New York")
+                .state("NY")
+                .zipCode("10001")
+                .annualIncome(50000.0)
+                .employmentStatus("EMPLOYED")
+                .employerName("ABC Corp")
+                .employmentYears(5)
+                .build();
+    }
 }
@@ -0,0 +1,148 @@
+package com.pm.officerservice.service;
+
+import com.pm.officerservice.dto.DeadLetterReplayResponse;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeadLetterReplayServiceTest {
+
+    private static final String DLT_TOPIC = "loan-application-dlt";
+
+    @Mock
+    private ConsumerFactory<String, byte[]> consumerFactory;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @InjectMocks
+    private DeadLetterReplayService deadLetterReplayService;
+
+    private MockConsumer<String, byte[]> consumer;
+    private final TopicPartition dltPartition = new TopicPartition(DLT_TOPIC, 0);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(deadLetterReplayService, "groupId", "officer-service-test");
+        ReflectionTestUtils.setField(deadLetterReplayService, "borrowerCreatedTopic", "borrower-created");
+        ReflectionTestUtils.setField(deadLetterReplayService, "loanApplicationTopic", "loan-application");
+        ReflectionTestUtils.setField(deadLetterReplayService, "documentsUploadTopic", "documents-upload");
+        ReflectionTestUtils.setField(deadLetterReplayService, "dltTopicSuffix", "-dlt");
+
+        consumer = spy(new MockConsumer<>(OffsetResetStrategy.EARLIEST));
+        consumer.updatePartitions(DLT_TOPIC, List.of(new PartitionInfo(DLT_TOPIC, 0, null, null, null)));
+        consumer.updateBeginningOffsets(Map.of(dltPartition, 0L));
+    }
+
+    @Test
+    void replay_RepublishesRecordsWithoutDeadLetterHeaders() {
+        // Given
+        CompletableFuture<SendResult<String, byte[]>> sent = CompletableFuture.completedFuture(null);
+        when(consumerFactory.createConsumer(anyString(), anyString(), isNull(), any(Properties.class))).thenReturn(consumer);
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(sent);
+        consumer.schedulePollTask(() -> {
+            consumer.addRecord(dltRecord(0));
+            consumer.addRecord(dltRecord(1));
+        });
+
+        // When
+        DeadLetterReplayResponse response = deadLetterReplayService.replay("loan-application", 10, 1000);
+
+        // Then
+        assertThat(response.getReplayedCount()).isEqualTo(2);
+        assertThat(response.getFailedCount()).isZero();
+        assertThat(response.isDrained()).isTrue();
+        assertThat(response.getDeadLetterTopic()).isEqualTo(DLT_TOPIC);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ProducerRecord<String, byte[]>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(2)).send(captor.capture());
+        ProducerRecord<String, byte[]> replayed = captor.getValue();
+        assertThat(replayed.topic()).isEqualTo("loan-application");
+        assertThat(replayed.key()).isEqualTo("loan-1");
+        assertThat(replayed.headers().lastHeader("kafka_dlt-exception-message")).isNull();
+        assertThat(replayed.headers().lastHeader("retry_topic-attempts")).isNull();
+        assertThat(replayed.headers().lastHeader("trace-id")).isNotNull();
+        verify(consumer).commitSync(Map.of(dltPartition, new OffsetAndMetadata(2)));
+    }
+
+    @Test
+    void replay_StopsAtMaxRecords() {
+        // Given
+        CompletableFuture<SendResult<String, byte[]>> sent = CompletableFuture.completedFuture(null);
+        when(consumerFactory.createConsumer(anyString(), anyString(), isNull(), any(Properties.class))).thenReturn(consumer);
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(sent);
+        consumer.schedulePollTask(() -> {
+            consumer.addRecord(dltRecord(0));
+            consumer.addRecord(dltRecord(1));
+            consumer.addRecord(dltRecord(2));
+        });
+
+        // When
+        DeadLetterReplayResponse response = deadLetterReplayService.replay("loan-application", 2, 1000);
+
+        // Then
+        assertThat(response.getReplayedCount()).isEqualTo(2);
+        assertThat(response.isDrained()).isFalse();
+        verify(consumer).commitSync(Map.of(dltPartition, new OffsetAndMetadata(2)));
+    }
+
+    @Test
+    void replay_SendFailure_DoesNotCommitBatch() {
+        // Given
+        CompletableFuture<SendResult<String, byte[]>> failedSend = CompletableFuture.failedFuture(new RuntimeException("Broker down"));
+        when(consumerFactory.createConsumer(anyString(), anyString(), isNull(), any(Properties.class))).thenReturn(consumer);
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(failedSend);
+        consumer.schedulePollTask(() -> consumer.addRecord(dltRecord(0)));
+
+        // When
+        DeadLetterReplayResponse response = deadLetterReplayService.replay("loan-application", 10, 1000);
+
+        // Then
+        assertThat(response.getFailedCount()).isEqualTo(1);
+        verify(consumer, never()).commitSync(anyMap());
+    }
+
+    @Test
+    void replay_UnknownTopic_ThrowsException() {
+        assertThatThrownBy(() -> deadLetterReplayService.replay("unknown", 10, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown source topic");
+        verifyNoInteractions(consumerFactory, kafkaTemplate);
+    }
+
+    private ConsumerRecord<String, byte[]> dltRecord(long offset) {
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>(DLT_TOPIC, 0, offset, "loan-1", new byte[] {1, 2, 3});
+        record.headers().add("kafka_dlt-exception-message", "Borrower not found".getBytes(StandardCharsets.UTF_8));
+        record.headers().add("retry_topic-attempts", new byte[] {0, 0, 0, 4});
+        record.headers().add("trace-id", "abc".getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+}
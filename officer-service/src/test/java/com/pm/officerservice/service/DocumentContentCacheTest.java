@@ -0,0 +1,88 @@
+package com.pm.officerservice.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DocumentContentCacheTest {
+
+    private static final int KB = 1024;
+
+    @TempDir
+    Path cacheDir;
+
+    private DocumentContentCache cache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        cache = new DocumentContentCache();
+        ReflectionTestUtils.setField(cache, "cacheDir", cacheDir.toString());
+        ReflectionTestUtils.setField(cache, "maxSizeMb", 1L);
+        ReflectionTestUtils.setField(cache, "maxEntrySizeMb", 1L);
+        cache.init();
+    }
+
+    @Test
+    void put_ThenGet_ReturnsCachedFile() throws Exception {
+        // When
+        DocumentContentCache.CachedContent content = cache.put(1L, "\"1-3\"", download(new byte[]{1, 2, 3}));
+
+        // Then
+        assertThat(cache.get(1L)).contains(content);
+        assertThat(Files.readAllBytes(content.path())).containsExactly(1, 2, 3);
+        assertThat(cache.getTotalBytes()).isEqualTo(3);
+    }
+
+    @Test
+    void put_OverLimit_EvictsLeastRecentlyUsed() throws Exception {
+        // Given
+        DocumentContentCache.CachedContent first = cache.put(1L, "\"a\"", download(new byte[400 * KB]));
+        DocumentContentCache.CachedContent second = cache.put(2L, "\"b\"", download(new byte[400 * KB]));
+        cache.get(1L); // Document 1 is now the most recently used
+
+        // When
+        cache.put(3L, "\"c\"", download(new byte[400 * KB]));
+
+        // Then
+        assertThat(cache.get(1L)).isPresent();
+        assertThat(cache.get(2L)).isEmpty();
+        assertThat(cache.get(3L)).isPresent();
+        assertThat(Files.exists(second.path())).isFalse();
+        assertThat(Files.exists(first.path())).isTrue();
+        assertThat(cache.getTotalBytes()).isEqualTo(800 * KB);
+    }
+
+    @Test
+    void put_TooLarge_RejectsAndDeletesTempFile() throws Exception {
+        // Given
+        Path temp = download(new byte[1024 * KB + 1]);
+
+        // When & Then
+        assertThatThrownBy(() -> cache.put(1L, "\"big\"", temp))
+                .hasMessageContaining("too large");
+        assertThat(Files.exists(temp)).isFalse();
+        assertThat(cache.get(1L)).isEmpty();
+    }
+
+    @Test
+    void init_RemovesFilesFromPreviousRun() throws Exception {
+        // Given
+        Path leftover = Files.write(cacheDir.resolve("9-abc.bin"), new byte[]{1});
+
+        // When
+        cache.init();
+
+        // Then
+        assertThat(Files.exists(leftover)).isFalse();
+    }
+
+    private Path download(byte[] bytes) throws Exception {
+        return Files.write(cache.createTempFile(), bytes);
+    }
+}
@@ -0,0 +1,250 @@
+package com.pm.officerservice.service;
+
+import com.pm.officerservice.client.BorrowerServiceClient;
+import com.pm.officerservice.model.Borrower;
+import com.pm.officerservice.model.Document;
+import com.pm.officerservice.model.DocumentStatus;
+import com.pm.officerservice.repository.DocumentRepository;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentContentServiceTest {
+
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.UTF_8);
+    private static final String ETAG = "\"1-10\"";
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private BorrowerServiceClient borrowerServiceClient;
+
+    @TempDir
+    Path cacheDir;
+
+    private DocumentContentCache cache;
+    private DocumentContentService documentContentService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        cache = new DocumentContentCache();
+        ReflectionTestUtils.setField(cache, "cacheDir", cacheDir.toString());
+        ReflectionTestUtils.setField(cache, "maxSizeMb", 10L);
+        ReflectionTestUtils.setField(cache, "maxEntrySizeMb", 10L);
+        cache.init();
+        documentContentService = new DocumentContentService(documentRepository, borrowerServiceClient, cache, Runnable::run);
+
+        Document document = Document.builder()
+                .documentId(1L)
+                .borrower(Borrower.builder().borrowerId(7L).build())
+                .documentType("INCOME_STATEMENT")
+                .fileName("income.pdf")
+                .filePath("/documents/income.pdf")
+                .fileSize((long) CONTENT.length)
+                .contentType("application/pdf")
+                .status(DocumentStatus.PENDING)
+                .uploadedAtSource(LocalDateTime.now())
+                .build();
+        when(documentRepository.findById(1L)).thenReturn(Optional.of(document));
+    }
+
+    @Test
+    void getContent_CacheMiss_StreamsUpstreamAndCaches() throws Exception {
+        // Given
+        when(borrowerServiceClient.getDocumentContent(eq(7L), eq(1L), anyMap()))
+                .thenReturn(upstream(200, CONTENT, Map.of(HttpHeaders.ETAG, List.of(ETAG))));
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = documentContentService.getContent(1L, new HttpHeaders()).orElseThrow();
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo(ETAG);
+        assertThat(body(response)).isEqualTo(CONTENT);
+        assertThat(cache.get(1L)).isPresent();
+        assertThat(Files.readAllBytes(cache.get(1L).get().path())).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void getContent_CacheHitWithRange_ServesPartialContentFromDisk() throws Exception {
+        // Given
+        cache.put(1L, ETAG, Files.write(cache.createTempFile(), CONTENT));
+        HttpHeaders request = new HttpHeaders();
+        request.set(HttpHeaders.RANGE, "bytes=2-5");
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = documentContentService.getContent(1L, request).orElseThrow();
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+        assertThat(response.getHeaders().getContentLength()).isEqualTo(4);
+        assertThat(new String(body(response), StandardCharsets.UTF_8)).isEqualTo("2345");
+        verifyNoInteractions(borrowerServiceClient);
+    }
+
+    @Test
+    void getContent_CacheHitWithMatchingIfRange_ServesPartialContent() throws Exception {
+        // Given
+        cache.put(1L, ETAG, Files.write(cache.createTempFile(), CONTENT));
+        HttpHeaders request = new HttpHeaders();
+        request.set(HttpHeaders.RANGE, "bytes=2-5");
+        request.set(HttpHeaders.IF_RANGE, ETAG);
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = documentContentService.getContent(1L, request).orElseThrow();
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(new String(body(response), StandardCharsets.UTF_8)).isEqualTo("2345");
+    }
+
+    @Test
+    void getContent_CacheHitWithWeakIfRange_ServesWholeFile() throws Exception {
+        // Given
+        cache.put(1L, ETAG, Files.write(cache.createTempFile(), CONTENT));
+        HttpHeaders request = new HttpHeaders();
+        request.set(HttpHeaders.RANGE, "bytes=2-5");
+        request.set(HttpHeaders.IF_RANGE, "W/" + ETAG);
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = documentContentService.getContent(1L, request).orElseThrow();
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(body(response)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void getContent_MissingContentType_ServesOctetStream() throws Exception {
+        // Given
+        Document legacy = Document.builder()
+                .documentId(2L)
+                .borrower(Borrower.builder().borrowerId(7L).build())
+                .fileName("legacy.bin")
+                .fileSize((long) CONTENT.length)
+                .status(DocumentStatus.PENDING)
+                .build();
+        when(documentRepository.findById(2L)).thenReturn(Optional.of(legacy));
+        cache.put(2L, ETAG, Files.write(cache.createTempFile(), CONTENT));
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = documentContentService.getContent(2L, new HttpHeaders()).orElseThrow();
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_OCTET_STREAM);
+    }
+
+    @Test
+    void getContent_CacheHitWithMatchingETag_ReturnsNotModified() throws Exception {
+        // Given
+        cache.put(1L, ETAG, Files.write(cache.createTempFile(), CONTENT));
+        HttpHeaders request = new HttpHeaders();
+        request.setIfNoneMatch(ETAG);
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = documentContentService.getContent(1L, request).orElseThrow();
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+    }
+
+    @Test
+    void getContent_CacheHitWithUnsatisfiableRange_ReturnsRangeNotSatisfiable() throws Exception {
+        // Given
+        cache.put(1L, ETAG, Files.write(cache.createTempFile(), CONTENT));
+        HttpHeaders request = new HttpHeaders();
+        request.set(HttpHeaders.RANGE, "bytes=50-60");
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = documentContentService.getContent(1L, request).orElseThrow();
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+    }
+
+    @Test
+    void getContent_RangedCacheMiss_ForwardsRangeAndPrefetchesWholeFile() throws Exception {
+        // Given
+        HttpHeaders request = new HttpHeaders();
+        request.set(HttpHeaders.RANGE, "bytes=0-3");
+        when(borrowerServiceClient.getDocumentContent(7L, 1L, Map.of(HttpHeaders.RANGE, "bytes=0-3")))
+                .thenReturn(upstream(206, "0123".getBytes(StandardCharsets.UTF_8), Map.of(
+                        HttpHeaders.ETAG, List.of(ETAG),
+                        HttpHeaders.CONTENT_RANGE, List.of("bytes 0-3/10"))));
+        when(borrowerServiceClient.getDocumentContent(7L, 1L, Map.of()))
+                .thenReturn(upstream(200, CONTENT, Map.of(HttpHeaders.ETAG, List.of(ETAG))));
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = documentContentService.getContent(1L, request).orElseThrow();
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 0-3/10");
+        assertThat(new String(body(response), StandardCharsets.UTF_8)).isEqualTo("0123");
+        assertThat(cache.get(1L)).isPresent();
+    }
+
+    @Test
+    void getContent_UpstreamError_ReturnsBadGateway() {
+        // Given
+        when(borrowerServiceClient.getDocumentContent(eq(7L), eq(1L), anyMap()))
+                .thenReturn(upstream(500, new byte[0], Map.of()));
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = documentContentService.getContent(1L, new HttpHeaders()).orElseThrow();
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_GATEWAY);
+        assertThat(cache.get(1L)).isEmpty();
+    }
+
+    private static byte[] body(ResponseEntity<StreamingResponseBody> response) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toByteArray();
+    }
+
+    private static Response upstream(int status, byte[] body, Map<String, ? extends Collection<String>> headers) {
+        return Response.builder()
+                .status(status)
+                .reason("test")
+                .headers(new HashMap<>(headers))
+                .body(body)
+                .request(Request.create(Request.HttpMethod.GET, "/api/borrowers/7/documents/1/content",
+                        Map.of(), null, Util.UTF_8, null))
+                .build();
+    }
+}
@@ -3,11 +3,13 @@ package com.pm.officerservice.service;
 import com.pm.borrowerservice.events.DocumentUploadEvent;
 import com.pm.officerservice.dto.DocumentResponse;
 import com.pm.officerservice.dto.DocumentStatusUpdateRequest;
+import com.pm.officerservice.dto.OfficerChangeEvent;
 import com.pm.officerservice.events.DocumentStatusUpdateEvent;
 import com.pm.officerservice.model.Borrower;
 import com.pm.officerservice.model.Document;
 import com.pm.officerservice.model.DocumentStatus;
 import com.pm.officerservice.model.LoanApplication;
+import com.pm.officerservice.model.StatsCategory;
 import com.pm.officerservice.repository.BorrowerRepository;
 import com.pm.officerservice.repository.DocumentRepository;
 import com.pm.officerservice.repository.LoanApplicationRepository;
@@ -17,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -43,6 +46,12 @@ class DocumentServiceTest {
     @Mock
     private KafkaEventProducerService kafkaEventProducerService;
 
+    @Mock
+    private StatusStatisticsService statusStatisticsService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private DocumentService documentService;
 
@@ -126,6 +135,9 @@ class DocumentServiceTest {
         verify(borrowerRepository).findById(1L);
         verify(loanApplicationRepository).findById(1L);
         verify(documentRepository).save(any(Document.class));
+        verify(eventPublisher).publishEvent(argThat((OfficerChangeEvent change) ->
+                change.getType() == OfficerChangeEvent.Type.DOCUMENT_CREATED && change.getBorrowerId() == 1L));
+        verify(statusStatisticsService).recordCreated(eq(StatsCategory.DOCUMENT), eq("PENDING"), any(LocalDateTime.class));
     }
 
     @Test
@@ -209,6 +221,10 @@ class DocumentServiceTest {
         assertThat(document.getStatus()).isEqualTo(DocumentStatus.VERIFIED);
         assertThat(document.getStatusUpdatedBy()).isEqualTo("officer123");
         assertThat(document.getStatusUpdatedAt()).isNotNull();
+        verify(eventPublisher).publishEvent(argThat((OfficerChangeEvent change) ->
+                change.getType() == OfficerChangeEvent.Type.DOCUMENT_STATUS_CHANGED && "PENDING".equals(change.getOldStatus())));
+        verify(statusStatisticsService).recordTransition(StatsCategory.DOCUMENT,
+                "PENDING", document.getUploadedAtSource(), "VERIFIED", document.getStatusUpdatedAt());
     }
 
     @Test
@@ -2,18 +2,17 @@ package com.pm.officerservice.service;
 
 import com.pm.officerservice.events.DocumentStatusUpdateEvent;
 import com.pm.officerservice.events.LoanStatusUpdateEvent;
+import com.pm.officerservice.model.OutboxEvent;
+import com.pm.officerservice.repository.OutboxEventRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.concurrent.CompletableFuture;
-
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
@@ -23,7 +22,7 @@ import static org.mockito.Mockito.*;
 class KafkaEventProducerServiceTest {
 
     @Mock
-    private KafkaTemplate<String, byte[]> kafkaTemplate;
+    private OutboxEventRepository outboxEventRepository;
 
     @InjectMocks
     private KafkaEventProducerService kafkaEventProducerService;
@@ -63,52 +62,55 @@ class KafkaEventProducerServiceTest {
 
     @Test
     void publishLoanStatusUpdateEvent_Success() {
-        // Given
-        CompletableFuture<SendResult<String, byte[]>> future = CompletableFuture.completedFuture(null);
-        when(kafkaTemplate.send(eq("loan-status"), anyString(), any(byte[].class))).thenReturn(future);
-
         // When
         kafkaEventProducerService.publishLoanStatusUpdateEvent(loanStatusUpdateEvent);
 
         // Then
-        verify(kafkaTemplate).send(eq("loan-status"), eq("loan-status-1"), any(byte[].class));
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+        assertThat(captor.getValue().getTopic()).isEqualTo("loan-status");
+        assertThat(captor.getValue().getMessageKey()).isEqualTo("loan-status-1");
+        assertThat(captor.getValue().getEventType()).isEqualTo("LoanStatusUpdateEvent");
+        assertThat(captor.getValue().getEventId()).isEqualTo("event-123");
+        assertThat(captor.getValue().getPayload()).isEqualTo(loanStatusUpdateEvent.toByteArray());
     }
 
     @Test
-    void publishLoanStatusUpdateEvent_KafkaException_ThrowsException() {
+    void publishLoanStatusUpdateEvent_OutboxException_ThrowsException() {
         // Given
-        when(kafkaTemplate.send(anyString(), anyString(), any(byte[].class)))
-                .thenThrow(new RuntimeException("Kafka error"));
+        when(outboxEventRepository.save(any(OutboxEvent.class)))
+                .thenThrow(new RuntimeException("Database error"));
 
         // When & Then
         assertThatThrownBy(() -> kafkaEventProducerService.publishLoanStatusUpdateEvent(loanStatusUpdateEvent))
                 .isInstanceOf(RuntimeException.class)
-                .hasMessageContaining("Kafka error");
+                .hasMessageContaining("Database error");
     }
 
     @Test
     void publishDocumentStatusUpdateEvent_Success() {
-        // Given
-        CompletableFuture<SendResult<String, byte[]>> future = CompletableFuture.completedFuture(null);
-        when(kafkaTemplate.send(eq("document-status"), anyString(), any(byte[].class))).thenReturn(future);
-
         // When
         kafkaEventProducerService.publishDocumentStatusUpdateEvent(documentStatusUpdateEvent);
 
         // Then
-        verify(kafkaTemplate).send(eq("document-status"), eq("document-status-1"), any(byte[].class));
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+        assertThat(captor.getValue().getTopic()).isEqualTo("document-status");
+        assertThat(captor.getValue().getMessageKey()).isEqualTo("document-status-1");
+        assertThat(captor.getValue().getEventType()).isEqualTo("DocumentStatusUpdateEvent");
+        assertThat(captor.getValue().getPayload()).isEqualTo(documentStatusUpdateEvent.toByteArray());
     }
 
     @Test
-    void publishDocumentStatusUpdateEvent_KafkaException_ThrowsException() {
+    void publishDocumentStatusUpdateEvent_OutboxException_ThrowsException() {
         // Given
-        when(kafkaTemplate.send(anyString(), anyString(), any(byte[].class)))
-                .thenThrow(new RuntimeException("Kafka error"));
+        when(outboxEventRepository.save(any(OutboxEvent.class)))
+                .thenThrow(new RuntimeException("Database error"));
 
         // When & Then
         assertThatThrownBy(() -> kafkaEventProducerService.publishDocumentStatusUpdateEvent(documentStatusUpdateEvent))
                 .isInstanceOf(RuntimeException.class)
-                .hasMessageContaining("Kafka error");
+                .hasMessageContaining("Database error");
     }
 
     @Test
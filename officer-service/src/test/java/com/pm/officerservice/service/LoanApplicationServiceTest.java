@@ -3,10 +3,12 @@ package com.pm.officerservice.service;
 import com.pm.borrowerservice.events.LoanApplicationEvent;
 import com.pm.officerservice.dto.LoanApplicationResponse;
 import com.pm.officerservice.dto.LoanStatusUpdateRequest;
+import com.pm.officerservice.dto.OfficerChangeEvent;
 import com.pm.officerservice.events.LoanStatusUpdateEvent;
 import com.pm.officerservice.model.Borrower;
 import com.pm.officerservice.model.LoanApplication;
 import com.pm.officerservice.model.LoanApplicationStatus;
+import com.pm.officerservice.model.StatsCategory;
 import com.pm.officerservice.repository.BorrowerRepository;
 import com.pm.officerservice.repository.LoanApplicationRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -38,6 +41,15 @@ class LoanApplicationServiceTest {
     @Mock
     private KafkaEventProducerService kafkaEventProducerService;
 
+    @Mock
+    private StatusStatisticsService statusStatisticsService;
+
+    @Mock
+    private StatusHistoryService statusHistoryService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private LoanApplicationService loanApplicationService;
 
@@ -105,6 +117,9 @@ class LoanApplicationServiceTest {
         verify(loanApplicationRepository).existsById(1L);
         verify(borrowerRepository).findById(1L);
         verify(loanApplicationRepository).save(any(LoanApplication.class));
+        verify(eventPublisher).publishEvent(argThat((OfficerChangeEvent change) ->
+                change.getType() == OfficerChangeEvent.Type.APPLICATION_CREATED && change.getBorrowerId() == 1L));
+        verify(statusStatisticsService).recordCreated(eq(StatsCategory.LOAN_APPLICATION), eq("PENDING"), any(LocalDateTime.class));
     }
 
     @Test
@@ -119,6 +134,7 @@ class LoanApplicationServiceTest {
         verify(loanApplicationRepository).existsById(1L);
         verify(borrowerRepository, never()).findById(anyLong());
         verify(loanApplicationRepository, never()).save(any());
+        verifyNoInteractions(statusStatisticsService);
     }
 
     @Test
@@ -141,7 +157,7 @@ class LoanApplicationServiceTest {
                 .updatedBy("officer123")
                 .build();
 
-        when(loanApplicationRepository.findById(1L)).thenReturn(Optional.of(loanApplication));
+        when(loanApplicationRepository.lockById(1L)).thenReturn(Optional.of(loanApplication));
         when(loanApplicationRepository.save(any(LoanApplication.class))).thenReturn(loanApplication);
         when(kafkaEventProducerService.generateEventId()).thenReturn("event-123");
 
@@ -149,13 +165,19 @@ class LoanApplicationServiceTest {
         loanApplicationService.updateLoanStatus(1L, request);
 
         // Then
-        verify(loanApplicationRepository).findById(1L);
+        verify(loanApplicationRepository).lockById(1L);
         verify(loanApplicationRepository).save(any(LoanApplication.class));
         verify(kafkaEventProducerService).publishLoanStatusUpdateEvent(any(LoanStatusUpdateEvent.class));
         
         assertThat(loanApplication.getStatus()).isEqualTo("APPROVED");
         assertThat(loanApplication.getStatusUpdatedBy()).isEqualTo("officer123");
         assertThat(loanApplication.getStatusUpdatedAt()).isNotNull();
+        verify(eventPublisher).publishEvent(argThat((OfficerChangeEvent change) ->
+                change.getType() == OfficerChangeEvent.Type.LOAN_STATUS_CHANGED && "PENDING".equals(change.getOldStatus())));
+        verify(statusStatisticsService).recordTransition(StatsCategory.LOAN_APPLICATION,
+                "PENDING", loanApplication.getAppliedAtSource(), "APPROVED", loanApplication.getStatusUpdatedAt());
+        verify(statusHistoryService).record(1L, "PENDING", "APPROVED", "officer123",
+                loanApplication.getStatusUpdatedAt(), loanApplication.getAppliedAtSource());
     }
 
     @Test
@@ -166,7 +188,7 @@ class LoanApplicationServiceTest {
                 .updatedBy("officer123")
                 .build();
 
-        when(loanApplicationRepository.findById(1L)).thenReturn(Optional.empty());
+        when(loanApplicationRepository.lockById(1L)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> loanApplicationService.updateLoanStatus(1L, request))
@@ -183,7 +205,7 @@ class LoanApplicationServiceTest {
                 .updatedBy("officer123")
                 .build();
 
-        when(loanApplicationRepository.findById(1L)).thenReturn(Optional.of(loanApplication));
+        when(loanApplicationRepository.lockById(1L)).thenReturn(Optional.of(loanApplication));
         when(loanApplicationRepository.save(any(LoanApplication.class))).thenReturn(loanApplication);
         when(kafkaEventProducerService.generateEventId()).thenReturn("event-123");
 
@@ -195,6 +217,48 @@ class LoanApplicationServiceTest {
         assertThat(loanApplication.getStatus()).isEqualTo("REJECTED");
     }
 
+    @Test
+    void updateLoanStatus_ClaimedByAnotherOfficer_Rejected() {
+        // Given
+        loanApplication.setClaimedBy("officer456");
+        loanApplication.setClaimExpiresAt(LocalDateTime.now().plusMinutes(10));
+        LoanStatusUpdateRequest request = LoanStatusUpdateRequest.builder()
+                .newStatus(LoanApplicationStatus.APPROVED)
+                .updatedBy("officer123")
+                .build();
+
+        when(loanApplicationRepository.lockById(1L)).thenReturn(Optional.of(loanApplication));
+
+        // When & Then
+        assertThatThrownBy(() -> loanApplicationService.updateLoanStatus(1L, request))
+                .isInstanceOf(ApplicationClaimedException.class)
+                .hasMessageContaining("officer456");
+        verify(loanApplicationRepository, never()).save(any());
+        verifyNoInteractions(kafkaEventProducerService);
+    }
+
+    @Test
+    void updateLoanStatus_ByClaimHolder_ClearsClaim() {
+        // Given
+        loanApplication.setClaimedBy("officer123");
+        loanApplication.setClaimExpiresAt(LocalDateTime.now().plusMinutes(10));
+        LoanStatusUpdateRequest request = LoanStatusUpdateRequest.builder()
+                .newStatus(LoanApplicationStatus.APPROVED)
+                .updatedBy("officer123")
+                .build();
+
+        when(loanApplicationRepository.lockById(1L)).thenReturn(Optional.of(loanApplication));
+        when(kafkaEventProducerService.generateEventId()).thenReturn("event-123");
+
+        // When
+        loanApplicationService.updateLoanStatus(1L, request);
+
+        // Then
+        assertThat(loanApplication.getStatus()).isEqualTo("APPROVED");
+        assertThat(loanApplication.getClaimedBy()).isNull();
+        assertThat(loanApplication.getClaimExpiresAt()).isNull();
+    }
+
     @Test
     void getAllLoanApplications_ReturnsListOfResponses() {
         // Given
@@ -0,0 +1,147 @@
+package com.pm.officerservice.service;
+
+import com.pm.officerservice.dto.LoanExportFilter;
+import com.pm.officerservice.model.ApplicationView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@Import(LoanExportService.class)
+class LoanExportServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private LoanExportService loanExportService;
+
+    private final LocalDateTime appliedAt = LocalDateTime.of(2024, 3, 1, 9, 30);
+
+    @BeforeEach
+    void setUp() {
+        entityManager.persist(view(1L, "Doe, John", "APPROVED", appliedAt));
+        entityManager.persist(view(2L, "=cmd", "PENDING", appliedAt.plusDays(1)));
+        entityManager.persist(view(3L, "Jane \"JJ\" Roe", "APPROVED", appliedAt.plusMonths(1)));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void export_Csv_WritesSelectedColumnsOfMatchingRows() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LoanExportFilter filter = LoanExportFilter.builder()
+                .status("APPROVED")
+                .build();
+
+        // When
+        long rows = loanExportService.export(filter,
+                LoanExportService.Column.parse("applicationId,borrowerName,loanAmount,appliedAt"),
+                LoanExportService.Format.CSV, out);
+
+        // Then
+        assertThat(rows).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "applicationId,borrowerName,loanAmount,appliedAt\r\n"
+                + "1,\"Doe, John\",10000.00,2024-03-01T09:30\r\n"
+                + "3,\"Jane \"\"JJ\"\" Roe\",10000.00,2024-04-01T09:30\r\n");
+    }
+
+    @Test
+    void export_CsvFormulaText_Neutralised() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LoanExportFilter filter = LoanExportFilter.builder()
+                .status("PENDING")
+                .build();
+
+        // When
+        loanExportService.export(filter, LoanExportService.Column.parse("borrowerName"), LoanExportService.Format.CSV, out);
+
+        // Then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("borrowerName\r\n'=cmd\r\n");
+    }
+
+    @Test
+    void export_AppliedRange_FiltersByApplicationTime() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LoanExportFilter filter = LoanExportFilter.builder()
+                .appliedFrom(appliedAt)
+                .appliedTo(appliedAt.plusDays(2))
+                .build();
+
+        // When
+        long rows = loanExportService.export(filter, LoanExportService.Column.parse("applicationId"),
+                LoanExportService.Format.CSV, out);
+
+        // Then
+        assertThat(rows).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("applicationId\r\n1\r\n2\r\n");
+    }
+
+    @Test
+    void export_Xlsx_WritesWorkbookWithSheet() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long rows = loanExportService.export(new LoanExportFilter(),
+                LoanExportService.Column.parse("applicationId,borrowerName"), LoanExportService.Format.XLSX, out);
+
+        // Then
+        assertThat(rows).isEqualTo(3);
+        String sheet = null;
+        List<String> entries = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.add(entry.getName());
+                if (entry.getName().equals("xl/worksheets/sheet1.xml")) {
+                    sheet = new String(zip.readAllBytes(), StandardCharsets.UTF_8);
+                }
+            }
+        }
+        assertThat(entries).contains("[Content_Types].xml", "xl/workbook.xml", "xl/worksheets/sheet1.xml");
+        assertThat(sheet).contains("<row r=\"4\">")
+                .contains("<c><v>3</v></c>")
+                .contains("Jane &quot;JJ&quot; Roe");
+    }
+
+    @Test
+    void parseColumns_UnknownColumn_Rejected() {
+        assertThatThrownBy(() -> LoanExportService.Column.parse("applicationId,ssn"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("ssn");
+        assertThat(LoanExportService.Column.parse(null)).containsExactly(LoanExportService.Column.values());
+    }
+
+    private static ApplicationView view(Long id, String borrowerName, String status, LocalDateTime appliedAt) {
+        return ApplicationView.builder()
+                .applicationId(id)
+                .borrowerId(id)
+                .borrowerName(borrowerName)
+                .loanAmount(new BigDecimal("10000.00"))
+                .loanTermMonths(36)
+                .interestRate(new BigDecimal("5.50"))
+                .status(status)
+                .appliedAtSource(appliedAt)
+                .build();
+    }
+}
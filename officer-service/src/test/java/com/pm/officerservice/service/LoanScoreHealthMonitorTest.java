@@ -0,0 +1,95 @@
+package com.pm.officerservice.service;
+
+import com.pm.officerservice.client.LoanScoreClient;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoanScoreHealthMonitorTest {
+
+    @Mock
+    private LoanScoreClient loanScoreClient;
+
+    private CircuitBreaker circuitBreaker;
+    private LoanScoreHealthMonitor loanScoreHealthMonitor;
+
+    @BeforeEach
+    void setUp() {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.ofDefaults();
+        circuitBreaker = registry.circuitBreaker("loan-score-service");
+        loanScoreHealthMonitor = new LoanScoreHealthMonitor(loanScoreClient, registry);
+    }
+
+    @Test
+    void isAvailable_BeforeFirstProbe_ReturnsFalse() {
+        assertThat(loanScoreHealthMonitor.isAvailable()).isFalse();
+        assertThat(loanScoreHealthMonitor.getLastCheckedAt()).isNull();
+        verifyNoInteractions(loanScoreClient);
+    }
+
+    @Test
+    void refresh_ServiceUp_CachesAvailability() {
+        // Given
+        when(loanScoreClient.getHealth()).thenReturn(Map.of("status", "UP"));
+
+        // When
+        loanScoreHealthMonitor.refresh();
+
+        // Then
+        assertThat(loanScoreHealthMonitor.isAvailable()).isTrue();
+        assertThat(loanScoreHealthMonitor.isAvailable()).isTrue();
+        assertThat(loanScoreHealthMonitor.getLastCheckedAt()).isNotNull();
+        verify(loanScoreClient, times(1)).getHealth();
+    }
+
+    @Test
+    void refresh_ServiceDown_CachesUnavailability() {
+        // Given
+        when(loanScoreClient.getHealth()).thenThrow(new RuntimeException("Connection refused"));
+
+        // When
+        loanScoreHealthMonitor.refresh();
+
+        // Then
+        assertThat(loanScoreHealthMonitor.isAvailable()).isFalse();
+        assertThat(loanScoreHealthMonitor.getLastError()).isEqualTo("Connection refused");
+    }
+
+    @Test
+    void isAvailable_CircuitBreakerOpen_ReturnsFalseEvenIfProbeSucceeded() {
+        // Given
+        when(loanScoreClient.getHealth()).thenReturn(Map.of("status", "UP"));
+        loanScoreHealthMonitor.refresh();
+
+        // When
+        circuitBreaker.transitionToForcedOpenState();
+
+        // Then
+        assertThat(loanScoreHealthMonitor.isAvailable()).isFalse();
+        assertThat(loanScoreHealthMonitor.getCircuitBreakerState()).isEqualTo(CircuitBreaker.State.FORCED_OPEN);
+    }
+
+    @Test
+    void refresh_ServiceUpWhileCircuitOpen_MovesCircuitToHalfOpen() {
+        // Given
+        circuitBreaker.transitionToOpenState();
+        when(loanScoreClient.getHealth()).thenReturn(Map.of("status", "UP"));
+
+        // When
+        loanScoreHealthMonitor.refresh();
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(loanScoreHealthMonitor.isAvailable()).isTrue();
+    }
+}
@@ -0,0 +1,104 @@
+package com.pm.officerservice.service;
+
+import com.pm.officerservice.client.LoanScoreClient;
+import com.pm.officerservice.dto.LoanScoreResponse;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoanScoreServiceTest {
+
+    @Mock
+    private LoanScoreClient loanScoreClient;
+
+    @Mock
+    private LoanScoreHealthMonitor loanScoreHealthMonitor;
+
+    @Mock
+    private ApplicationViewProjector applicationViewProjector;
+
+    @Test
+    void getLoanScore_RunsOnDedicatedExecutor() {
+        // Given
+        Thread[] callingThread = new Thread[1];
+        LoanScoreService loanScoreService = new LoanScoreService(loanScoreClient, task -> {
+            Thread thread = new Thread(task, "loan-score-test");
+            callingThread[0] = thread;
+            thread.start();
+        }, loanScoreHealthMonitor, applicationViewProjector);
+        LoanScoreResponse score = LoanScoreResponse.builder()
+                .loanApplicationId(1L)
+                .totalScore(700)
+                .scoreGrade("GOOD")
+                .build();
+        when(loanScoreClient.getLoanScore(1L)).thenReturn(score);
+
+        // When
+        Optional<LoanScoreResponse> result = loanScoreService.getLoanScore(1L).join();
+
+        // Then
+        assertThat(result).contains(score);
+        assertThat(callingThread[0]).isNotNull();
+        assertThat(callingThread[0].getName()).isEqualTo("loan-score-test");
+        verify(applicationViewProjector).recordScore(score);
+    }
+
+    @Test
+    void getLoanScore_SaturatedExecutor_RejectsWithoutCallingClient() {
+        // Given
+        LoanScoreService loanScoreService = new LoanScoreService(loanScoreClient, task -> {
+            throw new RejectedExecutionException("Loan score executor is saturated");
+        }, loanScoreHealthMonitor, applicationViewProjector);
+
+        // When & Then
+        assertThatThrownBy(() -> loanScoreService.getLoanScore(1L))
+                .isInstanceOf(RejectedExecutionException.class);
+        verifyNoInteractions(loanScoreClient);
+    }
+
+    @Test
+    void getLoanScoreFallback_ReturnsServiceDownResponse() {
+        // Given
+        LoanScoreService loanScoreService = new LoanScoreService(loanScoreClient, Runnable::run, loanScoreHealthMonitor, applicationViewProjector);
+
+        // When
+        Optional<LoanScoreResponse> result = loanScoreService
+                .getLoanScoreFallback(1L, new RejectedExecutionException("saturated"))
+                .join();
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().getScoreGrade()).isEqualTo("SERVICE_DOWN");
+        assertThat(result.get().isServiceAvailable()).isFalse();
+    }
+
+    @Test
+    void getServiceStatus_ReadsCachedProbeWithoutCallingClient() {
+        // Given
+        LoanScoreService loanScoreService = new LoanScoreService(loanScoreClient, Runnable::run, loanScoreHealthMonitor, applicationViewProjector);
+        LocalDateTime checkedAt = LocalDateTime.now();
+        when(loanScoreHealthMonitor.isAvailable()).thenReturn(true);
+        when(loanScoreHealthMonitor.getCircuitBreakerState()).thenReturn(CircuitBreaker.State.CLOSED);
+        when(loanScoreHealthMonitor.getLastCheckedAt()).thenReturn(checkedAt);
+
+        // When
+        LoanScoreService.ServiceStatus status = loanScoreService.getServiceStatus();
+
+        // Then
+        assertThat(status.isAvailable()).isTrue();
+        assertThat(status.getCircuitBreakerState()).isEqualTo("CLOSED");
+        assertThat(status.getLastCheckedAt()).isEqualTo(checkedAt);
+        verifyNoInteractions(loanScoreClient);
+    }
+}
@@ -0,0 +1,165 @@
+package com.pm.officerservice.service;
+
+import com.pm.officerservice.dto.OfficerChangeEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OfficerEventStreamServiceTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\S+)");
+
+    private final List<Runnable> pendingDrains = new ArrayList<>();
+    private boolean runDrainsImmediately = true;
+
+    private OfficerEventStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        Executor executor = task -> {
+            if (runDrainsImmediately) {
+                task.run();
+            } else {
+                pendingDrains.add(task);
+            }
+        };
+        service = spy(new OfficerEventStreamService(executor));
+        ReflectionTestUtils.setField(service, "clientBufferSize", 16);
+        ReflectionTestUtils.setField(service, "historySize", 100);
+    }
+
+    @Test
+    void onChange_MatchingSubscriber_SendsEvent() throws Exception {
+        // Given
+        SseEmitter emitter = subscribe(OfficerEventStreamService.Filter.all(), null);
+
+        // When
+        service.onChange(statusChange(1L, 10L));
+
+        // Then
+        List<String> sent = sentEvents(emitter);
+        assertThat(sent).hasSize(1);
+        assertThat(sent.get(0)).contains("event:LOAN_STATUS_CHANGED").contains("id:");
+    }
+
+    @Test
+    void onChange_FilteredOut_NotSent() throws Exception {
+        // Given
+        SseEmitter byBorrower = subscribe(new OfficerEventStreamService.Filter(null, 99L, null), null);
+        SseEmitter byType = subscribe(new OfficerEventStreamService.Filter(
+                Set.of(OfficerChangeEvent.Type.DOCUMENT_CREATED), null, null), null);
+
+        // When
+        service.onChange(statusChange(1L, 10L));
+
+        // Then
+        verify(byBorrower, never()).send(any(SseEmitter.SseEventBuilder.class));
+        verify(byType, never()).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    void subscribe_WithLastEventId_ReplaysMissedEvents() throws Exception {
+        // Given
+        SseEmitter first = subscribe(OfficerEventStreamService.Filter.all(), null);
+        service.onChange(statusChange(1L, 10L));
+        service.onChange(statusChange(2L, 10L));
+        service.onChange(statusChange(3L, 20L));
+        String firstEventId = idOf(sentEvents(first).get(0));
+
+        // When
+        SseEmitter resumed = subscribe(new OfficerEventStreamService.Filter(null, 10L, null), firstEventId);
+
+        // Then
+        List<String> replayed = sentEvents(resumed);
+        assertThat(replayed).hasSize(1);
+        assertThat(idOf(replayed.get(0))).isEqualTo(idOf(sentEvents(first).get(1)));
+    }
+
+    @Test
+    void subscribe_UnknownLastEventId_SendsReset() throws Exception {
+        // When
+        SseEmitter emitter = subscribe(OfficerEventStreamService.Filter.all(), "previous-process-42");
+
+        // Then
+        List<String> sent = sentEvents(emitter);
+        assertThat(sent).hasSize(1);
+        assertThat(sent.get(0)).contains("event:" + OfficerEventStreamService.RESET_EVENT);
+        assertThat(service.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void onChange_BufferFull_DisconnectsSlowClient() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(service, "clientBufferSize", 1);
+        runDrainsImmediately = false;
+        SseEmitter slow = subscribe(OfficerEventStreamService.Filter.all(), null);
+
+        // When
+        service.onChange(statusChange(1L, 10L));
+        service.onChange(statusChange(2L, 10L));
+
+        // Then
+        verify(slow).complete();
+        assertThat(service.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    void onChange_SendFails_RemovesSubscriber() throws Exception {
+        // Given
+        SseEmitter broken = subscribe(OfficerEventStreamService.Filter.all(), null);
+        doThrow(new IOException("Broken pipe")).when(broken).send(any(SseEmitter.SseEventBuilder.class));
+
+        // When
+        service.onChange(statusChange(1L, 10L));
+
+        // Then
+        assertThat(service.getSubscriberCount()).isZero();
+    }
+
+    private SseEmitter subscribe(OfficerEventStreamService.Filter filter, String lastEventId) {
+        SseEmitter emitter = mock(SseEmitter.class);
+        doReturn(emitter).when(service).createEmitter();
+        return service.subscribe(filter, lastEventId);
+    }
+
+    private static List<String> sentEvents(SseEmitter emitter) throws IOException {
+        ArgumentCaptor<SseEmitter.SseEventBuilder> captor = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        verify(emitter, atLeast(0)).send(captor.capture());
+        return captor.getAllValues().stream()
+                .map(builder -> builder.build().stream()
+                        .map(part -> String.valueOf(part.getData()))
+                        .collect(Collectors.joining()))
+                .collect(Collectors.toList());
+    }
+
+    private static String idOf(String rendered) {
+        Matcher matcher = EVENT_ID.matcher(rendered);
+        assertThat(matcher.find()).isTrue();
+        return matcher.group(1);
+    }
+
+    private static OfficerChangeEvent statusChange(Long applicationId, Long borrowerId) {
+        return OfficerChangeEvent.builder()
+                .type(OfficerChangeEvent.Type.LOAN_STATUS_CHANGED)
+                .applicationId(applicationId)
+                .borrowerId(borrowerId)
+                .oldStatus("PENDING")
+                .newStatus("APPROVED")
+                .build();
+    }
+}
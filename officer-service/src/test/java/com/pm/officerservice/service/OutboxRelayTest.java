@@ -0,0 +1,150 @@
+package com.pm.officerservice.service;
+
+import com.pm.officerservice.model.OutboxEvent;
+import com.pm.officerservice.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private OutboxRelay outboxRelay;
+
+    private OutboxEvent first;
+    private OutboxEvent second;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", 2);
+        ReflectionTestUtils.setField(outboxRelay, "sendTimeoutMs", 1000L);
+
+        first = outboxEvent(1L, "loan-status-1");
+        second = outboxEvent(2L, "loan-status-1");
+    }
+
+    @Test
+    void publishBatch_AllSent_DeletesBatch() {
+        // Given
+        CompletableFuture<SendResult<String, byte[]>> sent = CompletableFuture.completedFuture(null);
+        when(outboxEventRepository.tryAdvisoryLock(OutboxRelay.RELAY_LOCK_KEY)).thenReturn(true);
+        when(outboxEventRepository.findNextBatch(2)).thenReturn(List.of(first, second));
+        when(kafkaTemplate.send(anyString(), anyString(), any(byte[].class))).thenReturn(sent);
+
+        // When
+        int published = outboxRelay.publishBatch();
+
+        // Then
+        assertThat(published).isEqualTo(2);
+        InOrder inOrder = inOrder(kafkaTemplate, outboxEventRepository);
+        inOrder.verify(kafkaTemplate).send("loan-status", "loan-status-1", first.getPayload());
+        inOrder.verify(kafkaTemplate).send("loan-status", "loan-status-1", second.getPayload());
+        inOrder.verify(kafkaTemplate).flush();
+        inOrder.verify(outboxEventRepository).deleteAllInBatch(List.of(first, second));
+    }
+
+    @Test
+    void publishBatch_SendFails_ThrowsAndKeepsBatch() {
+        // Given
+        CompletableFuture<SendResult<String, byte[]>> sent = CompletableFuture.completedFuture(null);
+        CompletableFuture<SendResult<String, byte[]>> failed = CompletableFuture.failedFuture(new RuntimeException("Broker down"));
+        when(outboxEventRepository.tryAdvisoryLock(OutboxRelay.RELAY_LOCK_KEY)).thenReturn(true);
+        when(outboxEventRepository.findNextBatch(2)).thenReturn(List.of(first, second));
+        when(kafkaTemplate.send(anyString(), anyString(), any(byte[].class))).thenReturn(sent, failed);
+
+        // When & Then
+        assertThatThrownBy(() -> outboxRelay.publishBatch())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("starting at id 1");
+        verify(outboxEventRepository, never()).deleteAllInBatch(any());
+    }
+
+    @Test
+    void publishBatch_EmptyOutbox_SendsNothing() {
+        // Given
+        when(outboxEventRepository.tryAdvisoryLock(OutboxRelay.RELAY_LOCK_KEY)).thenReturn(true);
+        when(outboxEventRepository.findNextBatch(2)).thenReturn(List.of());
+
+        // When
+        int published = outboxRelay.publishBatch();
+
+        // Then
+        assertThat(published).isZero();
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    void publishBatch_LockHeldElsewhere_SendsNothing() {
+        // Given
+        when(outboxEventRepository.tryAdvisoryLock(OutboxRelay.RELAY_LOCK_KEY)).thenReturn(false);
+
+        // When
+        int published = outboxRelay.publishBatch();
+
+        // Then
+        assertThat(published).isZero();
+        verify(outboxEventRepository, never()).findNextBatch(anyInt());
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void relay_FullBatches_DrainsUntilPartialBatch() {
+        // Given
+        when(transactionTemplate.execute(any(TransactionCallback.class))).thenReturn(2, 2, 1);
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        verify(transactionTemplate, times(3)).execute(any(TransactionCallback.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void relay_BatchFails_SwallowsException() {
+        // Given
+        when(transactionTemplate.execute(any(TransactionCallback.class)))
+                .thenThrow(new IllegalStateException("Failed to publish outbox batch"));
+
+        // When & Then
+        assertThatCode(() -> outboxRelay.relay()).doesNotThrowAnyException();
+    }
+
+    private static OutboxEvent outboxEvent(Long id, String key) {
+        return OutboxEvent.builder()
+                .id(id)
+                .topic("loan-status")
+                .messageKey(key)
+                .eventType("LoanStatusUpdateEvent")
+                .eventId("event-" + id)
+                .payload(new byte[]{id.byteValue()})
+                .build();
+    }
+}
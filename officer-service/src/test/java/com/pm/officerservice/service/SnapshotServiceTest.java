@@ -0,0 +1,178 @@
+package com.pm.officerservice.service;
+
+import com.pm.officerservice.model.Borrower;
+import com.pm.officerservice.model.ConsumerOffset;
+import com.pm.officerservice.model.Document;
+import com.pm.officerservice.model.DocumentStatus;
+import com.pm.officerservice.model.LoanApplication;
+import com.pm.officerservice.model.StatusTransition;
+import com.pm.officerservice.repository.ConsumerOffsetRepository;
+import com.pm.officerservice.repository.DocumentRepository;
+import com.pm.officerservice.repository.LoanApplicationRepository;
+import com.pm.officerservice.repository.StatusTransitionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@Import({SnapshotService.class, JacksonAutoConfiguration.class})
+class SnapshotServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SnapshotService snapshotService;
+
+    @Autowired
+    private LoanApplicationRepository loanApplicationRepository;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private ConsumerOffsetRepository consumerOffsetRepository;
+
+    @Autowired
+    private StatusTransitionRepository statusTransitionRepository;
+
+    private final LocalDateTime appliedAt = LocalDateTime.of(2024, 3, 1, 9, 30, 15);
+
+    private Long transitionId;
+
+    @BeforeEach
+    void setUp() {
+        Borrower borrower = entityManager.persistAndFlush(Borrower.builder()
+                .borrowerId(1L)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .phoneNumber("1234567890")
+                .dateOfBirth("1990-01-01")
+                .ssn("123-45-6789")
+                .address("123 Main St")
+                .city("New York")
+                .state("NY")
+                .zipCode("10001")
+                .annualIncome(50000.0)
+                .employmentStatus("EMPLOYED")
+                .employmentYears(5)
+                .createdAtSource(appliedAt)
+                .build());
+        LoanApplication application = entityManager.persistAndFlush(LoanApplication.builder()
+                .applicationId(1L)
+                .borrower(borrower)
+                .loanAmount(new BigDecimal("100000.50"))
+                .loanTermMonths(36)
+                .interestRate(new BigDecimal("5.50"))
+                .status("PENDING")
+                .appliedAtSource(appliedAt)
+                .build());
+        entityManager.persistAndFlush(Document.builder()
+                .documentId(1L)
+                .borrower(borrower)
+                .loanApplication(application)
+                .documentType("INCOME_STATEMENT")
+                .fileName("income.pdf")
+                .filePath("/documents/income.pdf")
+                .fileSize(1024L)
+                .contentType("application/pdf")
+                .status(DocumentStatus.VERIFIED)
+                .uploadedAtSource(appliedAt)
+                .build());
+        entityManager.persistAndFlush(ConsumerOffset.builder()
+                .offsetKey("loan-application:0")
+                .topic("loan-application")
+                .partitionId(0)
+                .nextOffset(42L)
+                .build());
+        entityManager.persistAndFlush(ConsumerOffset.builder()
+                .offsetKey("loan-application-retry-0:0")
+                .topic("loan-application-retry-0")
+                .partitionId(0)
+                .nextOffset(7L)
+                .build());
+        transitionId = entityManager.persistAndFlush(StatusTransition.builder()
+                .applicationId(1L)
+                .toStatus("PENDING")
+                .changedAt(appliedAt)
+                .build()).getId();
+    }
+
+    @Test
+    void exportThenImport_RestoresRowsAndOffsets() throws Exception {
+        // Given
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        long exported = snapshotService.export(snapshot);
+        clearTables();
+
+        // When
+        long imported = snapshotService.importSnapshot(new ByteArrayInputStream(snapshot.toByteArray()));
+
+        // Then
+        assertThat(exported).isEqualTo(5);
+        assertThat(imported).isEqualTo(5);
+        LoanApplication application = loanApplicationRepository.findWithBorrowerById(1L).orElseThrow();
+        assertThat(application.getLoanAmount()).isEqualByComparingTo("100000.50");
+        assertThat(application.getAppliedAtSource()).isEqualTo(appliedAt);
+        assertThat(application.getBorrower().getEmail()).isEqualTo("john.doe@example.com");
+        assertThat(documentRepository.findByStatus(DocumentStatus.VERIFIED)).hasSize(1);
+        assertThat(consumerOffsetRepository.findById("loan-application:0"))
+                .get().extracting(ConsumerOffset::getNextOffset).isEqualTo(42L);
+        assertThat(consumerOffsetRepository.findById("loan-application-retry-0:0")).isEmpty();
+        assertThat(statusTransitionRepository.findById(transitionId)).isPresent();
+    }
+
+    @Test
+    void importSnapshot_TablesNotEmpty_Rejected() throws Exception {
+        // Given
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        snapshotService.export(snapshot);
+
+        // When & Then
+        assertThatThrownBy(() -> snapshotService.importSnapshot(new ByteArrayInputStream(snapshot.toByteArray())))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("not empty");
+    }
+
+    @Test
+    void importSnapshot_Truncated_Rejected() throws Exception {
+        // Given
+        clearTables();
+        ByteArrayOutputStream truncated = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(truncated)) {
+            gzip.write("{\"type\":\"header\",\"formatVersion\":1}\n".getBytes(StandardCharsets.UTF_8));
+        }
+
+        // When & Then
+        assertThatThrownBy(() -> snapshotService.importSnapshot(new ByteArrayInputStream(truncated.toByteArray())))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("truncated");
+    }
+
+    private void clearTables() {
+        jdbcTemplate.update("delete from consumer_offsets");
+        jdbcTemplate.update("delete from status_transitions");
+        jdbcTemplate.update("delete from documents");
+        jdbcTemplate.update("delete from loan_applications");
+        jdbcTemplate.update("delete from borrowers");
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,237 @@
+package com.pm.officerservice.service;
+
+import com.pm.officerservice.dto.StatusHistoryResponse;
+import com.pm.officerservice.model.RollupGranularity;
+import com.pm.officerservice.model.StatusRollup;
+import com.pm.officerservice.model.StatusTransition;
+import com.pm.officerservice.repository.LoanApplicationRepository;
+import com.pm.officerservice.repository.StatusRollupRepository;
+import com.pm.officerservice.repository.StatusTransitionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatusHistoryServiceTest {
+
+    @Mock
+    private StatusTransitionRepository statusTransitionRepository;
+
+    @Mock
+    private StatusRollupRepository statusRollupRepository;
+
+    @Mock
+    private LoanApplicationRepository loanApplicationRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ClusterLock clusterLock;
+
+    @InjectMocks
+    private StatusHistoryService statusHistoryService;
+
+    private final LocalDateTime hour = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    @Test
+    void record_Decision_StoresTimeToDecision() {
+        // Given
+        LocalDateTime appliedAt = hour.minusHours(2);
+
+        // When
+        statusHistoryService.record(1L, "PENDING", "APPROVED", "officer1", hour, appliedAt);
+
+        // Then
+        ArgumentCaptor<StatusTransition> transition = ArgumentCaptor.forClass(StatusTransition.class);
+        verify(statusTransitionRepository).save(transition.capture());
+        assertThat(transition.getValue().getDecisionSeconds()).isEqualTo(7200L);
+        assertThat(transition.getValue().getFromStatus()).isEqualTo("PENDING");
+    }
+
+    @Test
+    void record_NotADecision_NoTimeToDecision() {
+        // When
+        statusHistoryService.record(1L, "PENDING", "UNDER_REVIEW", "officer1", hour, hour.minusHours(2));
+
+        // Then
+        ArgumentCaptor<StatusTransition> transition = ArgumentCaptor.forClass(StatusTransition.class);
+        verify(statusTransitionRepository).save(transition.capture());
+        assertThat(transition.getValue().getDecisionSeconds()).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rollupBucket_ComputesCountsAndPercentiles() {
+        // Given
+        when(statusTransitionRepository.countByStatusBetween(hour, hour.plusHours(1))).thenReturn(List.of(
+                new Object[]{"APPROVED", 3L}, new Object[]{"REJECTED", 1L}, new Object[]{"UNDER_REVIEW", 2L}));
+        when(statusTransitionRepository.findDecisionSecondsBetween(hour, hour.plusHours(1))).thenReturn(List.of(
+                new Object[]{"APPROVED", 60L}, new Object[]{"REJECTED", 120L},
+                new Object[]{"APPROVED", 600L}, new Object[]{"APPROVED", 3600L}));
+
+        // When
+        statusHistoryService.rollupBucket(RollupGranularity.HOUR, hour);
+
+        // Then
+        verify(statusRollupRepository).deleteBucket(RollupGranularity.HOUR, hour);
+        ArgumentCaptor<List<StatusRollup>> rollups = ArgumentCaptor.forClass(List.class);
+        verify(statusRollupRepository).saveAll(rollups.capture());
+        assertThat(rollups.getValue()).extracting(StatusRollup::getStatus)
+                .containsExactly("APPROVED", "REJECTED", "UNDER_REVIEW", StatusRollup.DECIDED);
+
+        StatusRollup approved = rollups.getValue().get(0);
+        assertThat(approved.getTransitionCount()).isEqualTo(3);
+        assertThat(approved.getP50DecisionSeconds()).isEqualTo(600L);
+        assertThat(approved.getP95DecisionSeconds()).isEqualTo(3600L);
+        assertThat(approved.getRollupKey()).isEqualTo("HOUR:2024-03-01T09:00:APPROVED");
+
+        StatusRollup decided = rollups.getValue().get(3);
+        assertThat(decided.getTransitionCount()).isEqualTo(4);
+        assertThat(decided.getP50DecisionSeconds()).isEqualTo(120L);
+        assertThat(rollups.getValue().get(2).getP50DecisionSeconds()).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rollup_FirstRun_RollsUpFromEarliestTransitionThroughCurrent() {
+        // Given
+        when(statusRollupRepository.findLastUpdatedAt(RollupGranularity.HOUR)).thenReturn(Optional.empty());
+        when(statusTransitionRepository.findEarliestChangedAt()).thenReturn(Optional.of(hour.plusMinutes(10)));
+        doAnswer(invocation -> null).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+
+        // When
+        int buckets = statusHistoryService.rollup(RollupGranularity.HOUR, hour.plusHours(2).plusMinutes(30));
+
+        // Then
+        assertThat(buckets).isEqualTo(3);
+        verify(statusTransitionRepository, never()).findChangedAtRecordedSince(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rollup_LateTransitionLogged_RecomputesItsPastBucket() {
+        // Given
+        ReflectionTestUtils.setField(statusHistoryService, "rollupOverlapMs", 300_000L);
+        LocalDateTime lastRun = hour.plusDays(3);
+        when(statusRollupRepository.findLastUpdatedAt(RollupGranularity.HOUR)).thenReturn(Optional.of(lastRun));
+        when(statusTransitionRepository.findChangedAtRecordedSince(lastRun.minusMinutes(5)))
+                .thenReturn(List.of(hour.plusMinutes(5), hour.plusMinutes(40), lastRun.plusMinutes(1)));
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+
+        // When
+        int buckets = statusHistoryService.rollup(RollupGranularity.HOUR, lastRun.plusMinutes(2));
+
+        // Then
+        assertThat(buckets).isEqualTo(2);
+        verify(statusRollupRepository).deleteBucket(RollupGranularity.HOUR, hour);
+        verify(statusRollupRepository).deleteBucket(RollupGranularity.HOUR, lastRun);
+        verify(statusTransitionRepository, never()).findEarliestChangedAt();
+    }
+
+    @Test
+    void rollup_LockHeldElsewhere_DoesNothing() {
+        // Given
+        when(clusterLock.runExclusively(eq(StatusHistoryService.ROLLUP_LOCK_KEY), any())).thenReturn(false);
+
+        // When
+        statusHistoryService.rollup();
+
+        // Then
+        verifyNoInteractions(statusRollupRepository, statusTransitionRepository, transactionTemplate);
+    }
+
+    @Test
+    void backfillIfEmpty_LockHeldElsewhere_DoesNotSeed() {
+        // Given
+        when(clusterLock.runExclusively(eq(StatusHistoryService.BACKFILL_LOCK_KEY), any())).thenReturn(false);
+
+        // When
+        statusHistoryService.backfillIfEmpty();
+
+        // Then
+        verifyNoInteractions(statusTransitionRepository, loanApplicationRepository, transactionTemplate);
+    }
+
+    @Test
+    void backfill_LogAlreadySeeded_LeavesItAlone() {
+        // Given
+        when(statusTransitionRepository.count()).thenReturn(10L);
+
+        // When
+        statusHistoryService.backfill();
+
+        // Then
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    @Test
+    void rollup_NoHistory_DoesNothing() {
+        // Given
+        when(statusRollupRepository.findLastUpdatedAt(RollupGranularity.DAY)).thenReturn(Optional.empty());
+        when(statusTransitionRepository.findEarliestChangedAt()).thenReturn(Optional.empty());
+
+        // When
+        int buckets = statusHistoryService.rollup(RollupGranularity.DAY, hour);
+
+        // Then
+        assertThat(buckets).isZero();
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    @Test
+    void getHistory_GroupsRollupsByBucket() {
+        // Given
+        when(statusRollupRepository.findBuckets(RollupGranularity.HOUR, hour, hour.plusHours(2))).thenReturn(List.of(
+                rollup(hour, "APPROVED", 2, 300L, 900L),
+                rollup(hour, StatusRollup.DECIDED, 2, 300L, 900L),
+                rollup(hour.plusHours(1), "UNDER_REVIEW", 5, null, null)));
+
+        // When
+        List<StatusHistoryResponse> history = statusHistoryService.getHistory(RollupGranularity.HOUR, hour, hour.plusHours(2));
+
+        // Then
+        assertThat(history).hasSize(2);
+        assertThat(history.get(0).getTransitionCounts()).containsExactlyEntriesOf(Map.of("APPROVED", 2L));
+        assertThat(history.get(0).getDecisionCount()).isEqualTo(2);
+        assertThat(history.get(0).getP95DecisionSeconds()).isEqualTo(900L);
+        assertThat(history.get(1).getDecisionCount()).isZero();
+    }
+
+    @Test
+    void percentile_NearestRank() {
+        assertThat(StatusHistoryService.percentile(List.of(), 50)).isNull();
+        assertThat(StatusHistoryService.percentile(List.of(7L), 95)).isEqualTo(7L);
+        assertThat(StatusHistoryService.percentile(List.of(1L, 2L, 3L, 4L), 50)).isEqualTo(2L);
+        assertThat(StatusHistoryService.percentile(List.of(1L, 2L, 3L, 4L), 95)).isEqualTo(4L);
+    }
+
+    private static StatusRollup rollup(LocalDateTime bucket, String status, long count, Long p50, Long p95) {
+        return StatusRollup.builder()
+                .granularity(RollupGranularity.HOUR)
+                .bucketStart(bucket)
+                .status(status)
+                .transitionCount(count)
+                .p50DecisionSeconds(p50)
+                .p95DecisionSeconds(p95)
+                .build();
+    }
+}
@@ -0,0 +1,292 @@
+package com.pm.officerservice.service;
+
+import com.pm.officerservice.dto.StatusStatisticsResponse;
+import com.pm.officerservice.model.DocumentStatus;
+import com.pm.officerservice.model.PendingAgeBucket;
+import com.pm.officerservice.model.StatsCategory;
+import com.pm.officerservice.model.StatusCounter;
+import com.pm.officerservice.repository.DocumentRepository;
+import com.pm.officerservice.repository.LoanApplicationRepository;
+import com.pm.officerservice.repository.PendingAgeBucketRepository;
+import com.pm.officerservice.repository.StatusCounterRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatusStatisticsServiceTest {
+
+    @Mock
+    private StatusCounterRepository statusCounterRepository;
+
+    @Mock
+    private PendingAgeBucketRepository pendingAgeBucketRepository;
+
+    @Mock
+    private LoanApplicationRepository loanApplicationRepository;
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ClusterLock clusterLock;
+
+    @InjectMocks
+    private StatusStatisticsService statusStatisticsService;
+
+    @Test
+    void recordCreated_PendingItem_UpsertsCounterAndBucket() {
+        // Given
+        givenDatabase("PostgreSQL");
+        LocalDateTime waitingSince = LocalDateTime.of(2024, 5, 1, 10, 42);
+
+        // When
+        statusStatisticsService.recordCreated(StatsCategory.LOAN_APPLICATION, "PENDING", waitingSince);
+
+        // Then
+        verify(statusCounterRepository).upsertCount("LOAN_APPLICATION:PENDING", "LOAN_APPLICATION", "PENDING", 1);
+        verify(pendingAgeBucketRepository).upsertCount("LOAN_APPLICATION:2024-05-01T10:00", "LOAN_APPLICATION",
+                LocalDateTime.of(2024, 5, 1, 10, 0), 1);
+        verify(statusCounterRepository, never()).save(any());
+        verify(pendingAgeBucketRepository, never()).save(any());
+    }
+
+    @Test
+    void recordCreated_DatabaseWithoutOnConflict_Merges() {
+        // Given
+        givenDatabase("H2");
+
+        // When
+        statusStatisticsService.recordCreated(StatsCategory.DOCUMENT, "VERIFIED", LocalDateTime.now());
+
+        // Then
+        verify(statusCounterRepository).mergeCount("DOCUMENT:VERIFIED", "DOCUMENT", "VERIFIED", 1);
+        verify(statusCounterRepository, never()).upsertCount(anyString(), anyString(), anyString(), anyLong());
+        verifyNoInteractions(pendingAgeBucketRepository);
+    }
+
+    @Test
+    void recordCreated_ConcurrentFirstUseOfKey_BothCountedWithoutInsert() throws Exception {
+        // Given: the upsert adds atomically, as ON CONFLICT does
+        givenDatabase("PostgreSQL");
+        Map<String, Long> counts = new ConcurrentHashMap<>();
+        when(statusCounterRepository.upsertCount(anyString(), anyString(), anyString(), anyLong())).thenAnswer(invocation -> {
+            counts.merge(invocation.getArgument(0), invocation.<Long>getArgument(3), Long::sum);
+            return 1;
+        });
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // When
+        try {
+            List<Future<?>> calls = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                calls.add(executor.submit(() -> {
+                    start.await();
+                    statusStatisticsService.recordCreated(StatsCategory.DOCUMENT, "VERIFIED", LocalDateTime.now());
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> call : calls) {
+                call.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertThat(counts).containsExactly(entry("DOCUMENT:VERIFIED", 2L));
+        verify(statusCounterRepository, never()).save(any());
+    }
+
+    @Test
+    void recordTransition_PendingToApproved_MovesCountsInKeyOrder() {
+        // Given
+        givenDatabase("PostgreSQL");
+        LocalDateTime waitingSince = LocalDateTime.of(2024, 5, 1, 8, 15);
+
+        // When
+        statusStatisticsService.recordTransition(StatsCategory.LOAN_APPLICATION,
+                "PENDING", waitingSince, "APPROVED", LocalDateTime.now());
+
+        // Then
+        InOrder inOrder = inOrder(statusCounterRepository, pendingAgeBucketRepository);
+        inOrder.verify(statusCounterRepository).upsertCount("LOAN_APPLICATION:APPROVED", "LOAN_APPLICATION", "APPROVED", 1);
+        inOrder.verify(statusCounterRepository).upsertCount("LOAN_APPLICATION:PENDING", "LOAN_APPLICATION", "PENDING", -1);
+        inOrder.verify(pendingAgeBucketRepository).upsertCount("LOAN_APPLICATION:2024-05-01T08:00", "LOAN_APPLICATION",
+                LocalDateTime.of(2024, 5, 1, 8, 0), -1);
+    }
+
+    @Test
+    void recordTransition_SameStatusAndBucket_TouchesNothing() {
+        // Given
+        LocalDateTime waitingSince = LocalDateTime.of(2024, 5, 1, 8, 15);
+
+        // When
+        statusStatisticsService.recordTransition(StatsCategory.DOCUMENT,
+                "PENDING", waitingSince, "PENDING", waitingSince.plusMinutes(10));
+
+        // Then
+        verifyNoInteractions(statusCounterRepository, pendingAgeBucketRepository);
+    }
+
+    @Test
+    void getStatistics_FillsMissingStatusesAndGroupsBucketsByAge() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        when(statusCounterRepository.findByCategory(StatsCategory.LOAN_APPLICATION)).thenReturn(List.of(
+                counter(StatsCategory.LOAN_APPLICATION, "PENDING", 5),
+                counter(StatsCategory.LOAN_APPLICATION, "APPROVED", 2)));
+        when(statusCounterRepository.findByCategory(StatsCategory.DOCUMENT)).thenReturn(List.of());
+        when(pendingAgeBucketRepository.findByCategoryAndItemCountGreaterThan(StatsCategory.LOAN_APPLICATION, 0))
+                .thenReturn(List.of(
+                        bucket(StatsCategory.LOAN_APPLICATION, now, 3),
+                        bucket(StatsCategory.LOAN_APPLICATION, now.minusDays(10), 2)));
+        when(pendingAgeBucketRepository.findByCategoryAndItemCountGreaterThan(StatsCategory.DOCUMENT, 0))
+                .thenReturn(List.of());
+
+        // When
+        StatusStatisticsResponse response = statusStatisticsService.getStatistics();
+
+        // Then
+        assertThat(response.getLoanApplicationStatusCounts())
+                .containsEntry("PENDING", 5L)
+                .containsEntry("APPROVED", 2L)
+                .containsEntry("FUNDED", 0L);
+        assertThat(response.getDocumentStatusCounts()).hasSize(DocumentStatus.values().length)
+                .containsEntry("PENDING", 0L);
+        assertThat(response.getPendingLoanApplicationAging())
+                .containsEntry("0-1h", 3L)
+                .containsEntry("1-4h", 0L)
+                .containsEntry("7d+", 2L);
+        assertThat(response.getPendingDocumentAging().values()).containsOnly(0L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reconcile_RewritesCountersAndBucketsFromSourceTables() {
+        // Given
+        LocalDateTime waitingSince = LocalDateTime.of(2024, 5, 1, 9, 5);
+        StatusCounter drifted = counter(StatsCategory.LOAN_APPLICATION, "PENDING", 7);
+        givenReconcileLockAcquired();
+        when(statusCounterRepository.lockByCategory(StatsCategory.LOAN_APPLICATION)).thenReturn(List.of(drifted));
+        when(statusCounterRepository.lockByCategory(StatsCategory.DOCUMENT)).thenReturn(List.of());
+        when(loanApplicationRepository.countGroupedByStatus()).thenReturn(rows(
+                new Object[]{"PENDING", 2L}, new Object[]{"APPROVED", 1L}));
+        when(loanApplicationRepository.findPendingWaitingSince())
+                .thenReturn(List.of(waitingSince, waitingSince.plusMinutes(20)));
+        when(documentRepository.countGroupedByStatus()).thenReturn(rows(
+                new Object[]{DocumentStatus.PENDING, 1L}, new Object[]{null, 1L}));
+        when(documentRepository.findPendingWaitingSince()).thenReturn(List.of(waitingSince, waitingSince));
+
+        // When
+        statusStatisticsService.reconcile();
+
+        // Then
+        assertThat(drifted.getItemCount()).isEqualTo(2);
+
+        ArgumentCaptor<List<StatusCounter>> counters = ArgumentCaptor.forClass(List.class);
+        verify(statusCounterRepository, times(2)).saveAll(counters.capture());
+        assertThat(counters.getAllValues().get(1))
+                .filteredOn(counter -> counter.getStatus().equals("PENDING"))
+                .singleElement()
+                .extracting(StatusCounter::getItemCount)
+                .isEqualTo(2L);
+
+        ArgumentCaptor<List<PendingAgeBucket>> buckets = ArgumentCaptor.forClass(List.class);
+        verify(pendingAgeBucketRepository).deleteByCategory(StatsCategory.LOAN_APPLICATION);
+        verify(pendingAgeBucketRepository).deleteByCategory(StatsCategory.DOCUMENT);
+        verify(pendingAgeBucketRepository, times(2)).saveAll(buckets.capture());
+        assertThat(buckets.getAllValues().get(0)).singleElement().satisfies(bucket -> {
+            assertThat(bucket.getBucketKey()).isEqualTo("LOAN_APPLICATION:2024-05-01T09:00");
+            assertThat(bucket.getItemCount()).isEqualTo(2);
+        });
+        assertThat(statusStatisticsService.getStatistics().getLastReconciledAt()).isNotNull();
+    }
+
+    @Test
+    void reconcile_LockHeldElsewhere_RecountsNothing() {
+        // Given
+        when(clusterLock.runExclusively(eq(StatusStatisticsService.RECONCILE_LOCK_KEY), any())).thenReturn(false);
+
+        // When
+        statusStatisticsService.reconcile();
+
+        // Then
+        verifyNoInteractions(statusCounterRepository, pendingAgeBucketRepository, loanApplicationRepository,
+                documentRepository, transactionTemplate);
+        assertThat(statusStatisticsService.getStatistics().getLastReconciledAt()).isNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenDatabase(String productName) {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(productName);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenReconcileLockAcquired() {
+        when(clusterLock.runExclusively(eq(StatusStatisticsService.RECONCILE_LOCK_KEY), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+    }
+
+    private static StatusCounter counter(StatsCategory category, String status, long count) {
+        return StatusCounter.builder()
+                .counterKey(category.name() + ":" + status)
+                .category(category)
+                .status(status)
+                .itemCount(count)
+                .build();
+    }
+
+    private static PendingAgeBucket bucket(StatsCategory category, LocalDateTime waitingSince, long count) {
+        LocalDateTime start = waitingSince.truncatedTo(ChronoUnit.HOURS);
+        return PendingAgeBucket.builder()
+                .bucketKey(category.name() + ":" + start)
+                .category(category)
+                .bucketStart(start)
+                .itemCount(count)
+                .build();
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
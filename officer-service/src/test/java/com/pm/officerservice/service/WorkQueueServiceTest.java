@@ -0,0 +1,111 @@
+package com.pm.officerservice.service;
+
+import com.pm.officerservice.dto.QueueClaimResponse;
+import com.pm.officerservice.model.Borrower;
+import com.pm.officerservice.model.LoanApplication;
+import com.pm.officerservice.repository.LoanApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WorkQueueServiceTest {
+
+    @Mock
+    private LoanApplicationRepository loanApplicationRepository;
+
+    @InjectMocks
+    private WorkQueueService workQueueService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(workQueueService, "leaseSeconds", 600L);
+    }
+
+    @Test
+    void claim_AssignsLeaseToLockedApplications() {
+        // Given
+        LoanApplication first = application(1L);
+        LoanApplication second = application(2L);
+        when(loanApplicationRepository.lockClaimable(any(LocalDateTime.class), eq(2))).thenReturn(List.of(first, second));
+
+        // When
+        LocalDateTime before = LocalDateTime.now();
+        QueueClaimResponse response = workQueueService.claim("officer123", 2);
+
+        // Then
+        assertThat(response.getApplications()).extracting("applicationId").containsExactly(1L, 2L);
+        assertThat(response.getClaimExpiresAt()).isAfterOrEqualTo(before.plusSeconds(600));
+        assertThat(first.getClaimedBy()).isEqualTo("officer123");
+        assertThat(second.getClaimExpiresAt()).isEqualTo(response.getClaimExpiresAt());
+        verify(loanApplicationRepository).saveAll(List.of(first, second));
+    }
+
+    @Test
+    void claim_QueueEmpty_ReturnsNoApplications() {
+        // Given
+        when(loanApplicationRepository.lockClaimable(any(LocalDateTime.class), eq(5))).thenReturn(List.of());
+
+        // When
+        QueueClaimResponse response = workQueueService.claim("officer123", 5);
+
+        // Then
+        assertThat(response.getApplications()).isEmpty();
+    }
+
+    @Test
+    void renew_ClaimExpired_ReturnsFalse() {
+        // Given
+        when(loanApplicationRepository.renewClaim(eq(1L), eq("officer123"), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(0);
+
+        // When & Then
+        assertThat(workQueueService.renew(1L, "officer123")).isFalse();
+    }
+
+    @Test
+    void isClaimedByOtherThan_ExpiredClaim_NotClaimed() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        LoanApplication application = application(1L);
+        application.setClaimedBy("officer456");
+        application.setClaimExpiresAt(now.minusSeconds(1));
+
+        // When & Then
+        assertThat(application.isClaimedByOtherThan("officer123", now)).isFalse();
+        application.setClaimExpiresAt(now.plusSeconds(60));
+        assertThat(application.isClaimedByOtherThan("officer123", now)).isTrue();
+        assertThat(application.isClaimedByOtherThan("officer456", now)).isFalse();
+    }
+
+    private static LoanApplication application(Long id) {
+        return LoanApplication.builder()
+                .applicationId(id)
+                .borrower(Borrower.builder()
+                        .borrowerId(1L)
+                        .firstName("John")
+                        .lastName("Doe")
+                        .email("john.doe@example.com")
+                        .annualIncome(50000.0)
+                        .employmentStatus("EMPLOYED")
+                        .build())
+                .loanAmount(new BigDecimal("10000.00"))
+                .loanTermMonths(36)
+                .interestRate(new BigDecimal("5.50"))
+                .status("PENDING")
+                .appliedAtSource(LocalDateTime.now())
+                .build();
+    }
+}